@@ -0,0 +1,29 @@
+-- 크롤링 세션 / 체크포인트 테이블 생성 (crawler-service, ddl-auto를 쓰지 않는 환경용)
+
+-- 크롤링 한 번(1~4단계)의 실행 기록
+CREATE TABLE IF NOT EXISTS crawl_session (
+    session_id VARCHAR(36) NOT NULL PRIMARY KEY,
+    file_timestamp VARCHAR(16) NOT NULL,      -- 단계 파일 이름의 타임스탬프 (yyyy-MM-dd-HH-mm)
+    status VARCHAR(20) NOT NULL,              -- RUNNING / DONE / FAILED
+    attempts INT NOT NULL,
+    last_error VARCHAR(500) NULL,
+    created_at DATETIME(6) NOT NULL,
+    heartbeat_at DATETIME(6) NOT NULL,        -- 마지막 진행 기록 시각 (오래되면 중단된 세션으로 보고 재개)
+    finished_at DATETIME(6) NULL,
+
+    UNIQUE KEY uk_crawl_session_file_timestamp (file_timestamp),
+    INDEX idx_crawl_session_status_created (status, created_at)
+);
+
+-- 세션의 카테고리별·단계별 완료 기록
+CREATE TABLE IF NOT EXISTS crawl_checkpoint (
+    session_id VARCHAR(36) NOT NULL,
+    stage VARCHAR(20) NOT NULL,               -- LIST / DETAIL / DEDUP / INGEST
+    category VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL,              -- DONE / FAILED
+    item_count INT NULL,
+    error VARCHAR(500) NULL,
+    updated_at DATETIME(6) NOT NULL,
+
+    PRIMARY KEY (session_id, stage, category)
+);
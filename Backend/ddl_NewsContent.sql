@@ -0,0 +1,20 @@
+-- 기사 본문 파생 데이터 테이블 생성 (news와 1:1, ddl-auto를 쓰지 않는 환경용)
+-- crawler-service가 적재 시 정리된 HTML / 평문 / 요약 / 해시를 넣고,
+-- news-service가 툴팁 마크업과 그때의 사전 버전을 채운다.
+
+CREATE TABLE IF NOT EXISTS news_content (
+    news_id BIGINT NOT NULL PRIMARY KEY,
+    content_html MEDIUMTEXT NULL,            -- 스크립트/광고를 걷어낸 본문 HTML
+    plain_text MEDIUMTEXT NULL,              -- 태그와 사진 설명을 뺀 평문 (문단은 줄바꿈)
+    summary VARCHAR(500) NULL,               -- 평문 앞부분 요약 (문장 경계에서 자름)
+    content_hash VARCHAR(64) NULL,           -- 평문 SHA-256 (hex)
+    tooltip_html MEDIUMTEXT NULL,            -- 툴팁 마크업 적용 본문 (바뀐 내용이 없으면 NULL)
+    tooltip_version VARCHAR(32) NULL,        -- tooltip_html을 만든 툴팁 사전 버전 (NULL이면 마크업 실패, 조회 시 실시간 처리)
+    processed_at DATETIME(6) NULL,           -- 툴팁 사전 계산 시각 (NULL이면 처리 대기)
+    attempts INT NOT NULL DEFAULT 0,         -- 툴팁 서비스가 연속으로 거절한 횟수
+    next_attempt_at DATETIME(6) NULL,        -- 거절된 행을 다시 보낼 시각 (NULL이면 바로)
+    created_at DATETIME(6) NULL,
+    updated_at DATETIME(6) NULL,
+
+    INDEX idx_news_content_processed (processed_at)
+);
@@ -0,0 +1,102 @@
+-- news.published_at(VARCHAR) 대신 정렬/기간 조회에 쓸 DATETIME 컬럼 추가 마이그레이션
+-- 기존 쿼리는 ORDER BY STR_TO_DATE(published_at, ...) 로 인덱스를 쓰지 못하고 매번 전체 filesort 발생
+
+-- 1~2번은 information_schema로 현재 상태를 확인한 뒤 필요한 DDL만 실행하므로 여러 번 실행해도 된다
+-- (MySQL 8은 ADD COLUMN / ADD INDEX / DROP INDEX에 IF [NOT] EXISTS가 없음)
+
+-- 1. 컬럼 추가 (MySQL 8 INSTANT DDL, 테이블 잠금 없음)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'news' AND COLUMN_NAME = 'published_datetime') = 0,
+              'ALTER TABLE news ADD COLUMN published_datetime DATETIME NULL, ALGORITHM=INSTANT',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- 2. 인덱스 추가 (온라인 DDL). 엔티티(News)의 @Table(indexes)와 같은 이름/컬럼을 유지할 것
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'news' AND INDEX_NAME = 'idx_news_cat_pubdt') = 0,
+              'ALTER TABLE news ADD INDEX idx_news_cat_pubdt (category_name, published_datetime), ALGORITHM=INPLACE, LOCK=NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'news' AND INDEX_NAME = 'idx_news_trusted_pubdt') = 0,
+              'ALTER TABLE news ADD INDEX idx_news_trusted_pubdt (trusted, published_datetime), ALGORITHM=INPLACE, LOCK=NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'news' AND INDEX_NAME = 'idx_news_pubdt') = 0,
+              'ALTER TABLE news ADD INDEX idx_news_pubdt (published_datetime), ALGORITHM=INPLACE, LOCK=NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- 언론사별 목록(findByPress, findByPressBefore) 정렬용
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'news' AND INDEX_NAME = 'idx_news_press_pubdt') = 0,
+              'ALTER TABLE news ADD INDEX idx_news_press_pubdt (press, published_datetime), ALGORITHM=INPLACE, LOCK=NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- 문자열 컬럼 기준의 이전 인덱스는 더 이상 사용되지 않음 (있을 때만 삭제)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'news' AND INDEX_NAME = 'idx_news_cat_pub') > 0,
+              'ALTER TABLE news DROP INDEX idx_news_cat_pub, ALGORITHM=INPLACE, LOCK=NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- 3. 백필
+-- news-service의 PublishedAtBackfillJob이 news_id 5000건 단위로 자동 수행한다.
+-- 수동으로 돌릴 경우 아래 UPDATE를 구간을 바꿔가며 반복 실행
+UPDATE news
+SET published_datetime = STR_TO_DATE(LEFT(REPLACE(published_at, 'T', ' '), 19), '%Y-%m-%d %H:%i:%s')
+WHERE news_id BETWEEN 1 AND 5000
+  AND published_datetime IS NULL
+  AND published_at REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}[ T][0-9]{2}:[0-9]{2}:[0-9]{2}';
+
+-- 백필 진행 확인
+SELECT COUNT(*) AS remaining FROM news WHERE published_datetime IS NULL;
+
+-- 4. 실행 계획 비교 (전/후)
+-- 이전: type=ALL, Extra=Using where; Using filesort 가 나와야 함
+EXPLAIN SELECT news_id FROM news WHERE category_name = 'ECONOMY'
+ORDER BY STR_TO_DATE(published_at, '%Y-%m-%d %H:%i:%s') DESC LIMIT 20;
+
+-- 이후: key=idx_news_cat_pubdt, Extra=Backward index scan (filesort 없음)
+EXPLAIN SELECT news_id FROM news WHERE category_name = 'ECONOMY'
+ORDER BY published_datetime DESC, news_id DESC LIMIT 20;
+
+EXPLAIN SELECT news_id FROM news WHERE trusted = 1
+ORDER BY published_datetime DESC, news_id DESC LIMIT 20;
+
+EXPLAIN SELECT news_id FROM news
+ORDER BY published_datetime DESC, news_id DESC LIMIT 20;
+
+-- 5. 성능 측정용 시드 데이터 (스테이징 전용, 운영 DB에서 실행 금지)
+-- 100만 행을 만든 뒤 위 4번 쿼리들을 각각 실행해 전/후 지연 시간을 비교한다.
+-- DROP PROCEDURE IF EXISTS seed_news;
+-- DELIMITER //
+-- CREATE PROCEDURE seed_news(IN total INT)
+-- BEGIN
+--     DECLARE i INT DEFAULT 0;
+--     WHILE i < total DO
+--         INSERT INTO news (title, category_name, content, press, published_at, published_datetime,
+--                           reporter, dedup_state, trusted, oid_aid, link, view_count, created_at)
+--         VALUES (CONCAT('seed title ', i),
+--                 ELT(1 + (i MOD 9), 'POLITICS','ECONOMY','SOCIETY','LIFE','INTERNATIONAL',
+--                     'IT_SCIENCE','VEHICLE','TRAVEL_FOOD','ART'),
+--                 REPEAT('본문 ', 500),
+--                 CONCAT('press', i MOD 50),
+--                 DATE_FORMAT(NOW() - INTERVAL (i MOD 525600) MINUTE, '%Y-%m-%d %H:%i:%s'),
+--                 NOW() - INTERVAL (i MOD 525600) MINUTE,
+--                 'seed', 'KEPT', i MOD 2, CONCAT('seed-', i), CONCAT('https://example.com/', i), 0, NOW(6));
+--         SET i = i + 1;
+--     END WHILE;
+-- END //
+-- DELIMITER ;
+-- CALL seed_news(1000000);
+
+-- 주의사항:
+-- - 1~2번은 온라인 DDL이라 서비스 중에 실행 가능하고, 이미 적용된 단계는 건너뛴다
+-- - published_datetime이 NULL인 행(백필 전/파싱 불가)은 최신순 정렬에서 가장 뒤로 밀린다
+-- - 크롤러는 적재 시 published_datetime을 함께 기록하므로 신규 행은 백필이 필요 없다
+-- - published_at을 파싱할 수 없는 행은 엔티티 저장 시에도 NULL로 다시 계산된다 (두 서비스의 PublishedAtParser 규칙이 같아야 함)
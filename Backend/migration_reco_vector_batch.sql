@@ -0,0 +1,27 @@
+-- 사용자 선호 벡터 배치 재계산(VectorBatchJdbcRepository)용 인덱스 마이그레이션
+-- 청크 단위 그룹 집계는 (user_id, created_at) 범위 스캔, 활동 사용자 조회는 updated_at / created_at 범위 스캔을 사용
+
+-- 1. 조회 기록: 사용자별 최근 7일 집계 + 마지막 실행 이후 활동 사용자
+ALTER TABLE user_read_history
+    ADD INDEX idx_urh_user_created (user_id, created_at),
+    ADD INDEX idx_urh_updated (updated_at),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 2. 스크랩: 저장소별 최근 30일 집계 + 마지막 실행 이후 활동 사용자
+ALTER TABLE news_scrap
+    ADD INDEX idx_ns_storage_created (storage_id, created_at),
+    ADD INDEX idx_ns_created (created_at),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 3. 회원정보 변경 감지
+ALTER TABLE users ADD INDEX idx_users_updated (updated_at), ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 4. 실행 계획 확인 (type=range, key=idx_urh_user_created 기대)
+EXPLAIN
+SELECT user_id, category_name, TIMESTAMPDIFF(DAY, created_at, NOW()) AS days, COUNT(*) AS cnt
+FROM user_read_history
+WHERE user_id IN (1, 2, 3) AND created_at > NOW() - INTERVAL 7 DAY
+GROUP BY user_id, category_name, days;
+
+-- 5. 업서트 확인: user_pref_vector의 PK(user_id, category)로 ON DUPLICATE KEY UPDATE 동작
+SHOW INDEX FROM user_pref_vector WHERE Key_name = 'PRIMARY';
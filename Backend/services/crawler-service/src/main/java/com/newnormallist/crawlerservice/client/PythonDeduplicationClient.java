@@ -66,14 +66,16 @@ public class PythonDeduplicationClient {
     
     /**
      * 단일 카테고리 중복제거 실행 (타임스탬프 지정)
+     * 타임스탬프를 주면 Python 서비스는 그 세션의 detail 파일만 읽고 deduplicated/related도 같은 타임스탬프로 저장한다.
      */
     public DeduplicationResponse runDeduplication(String category, String fileTimestamp) {
         try {
-            log.info("🐍 Python 중복제거 서비스 호출: 카테고리={}", category);
+            log.info("🐍 Python 중복제거 서비스 호출: 카테고리={}, 타임스탬프={}", category, fileTimestamp);
             
             DeduplicationRequest request = DeduplicationRequest.builder()
                 .category(category) // 이미 문자열이어야 함
                 .forceRefresh(false)
+                .fileTimestamp(fileTimestamp)
                 .build();
 
             DeduplicationResponse response = getWebClient()
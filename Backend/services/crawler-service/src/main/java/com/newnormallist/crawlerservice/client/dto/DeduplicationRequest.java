@@ -1,17 +1,20 @@
 package com.newnormallist.crawlerservice.client.dto;
 
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /**
- * Python 중복제거 서비스 요청 DTO
+ * Python 중복제거 서비스 요청 DTO (Python 스키마와 같은 snake_case로 직렬화)
  */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public class DeduplicationRequest {
     
     /**
@@ -25,6 +28,9 @@ public class DeduplicationRequest {
     @Builder.Default
     private boolean forceRefresh = false;
     
-
-
+    /**
+     * 크롤링 세션 타임스탬프 (yyyy-MM-dd-HH-mm)
+     * 지정하면 Python 서비스가 이 세션의 detail 파일만 읽고 결과도 같은 타임스탬프로 저장
+     */
+    private String fileTimestamp;
 }
@@ -1,5 +1,7 @@
 package com.newnormallist.crawlerservice.client.dto;
 
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -8,12 +10,13 @@ import lombok.NoArgsConstructor;
 import java.util.Map;
 
 /**
- * Python 중복제거 서비스 응답 DTO
+ * Python 중복제거 서비스 응답 DTO (Python 응답의 snake_case 필드를 그대로 읽음)
  */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public class DeduplicationResponse {
     
     /**
@@ -1,7 +1,12 @@
 package com.newnormallist.crawlerservice.controller;
 
+import com.newnormallist.crawlerservice.service.ContinuousIngestionService;
+import com.newnormallist.crawlerservice.service.CrawlSessionService;
 import com.newnormallist.crawlerservice.service.DeploymentOptimizedCrawlerService;
 import com.newnormallist.crawlerservice.service.FileServerDatabaseService;
+import com.newnormallist.crawlerservice.service.FileServerService;
+import com.newnormallist.crawlerservice.util.NewsDetailCrawler;
+import com.newnormallist.crawlerservice.util.SeenArticleFilter;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import org.springframework.http.HttpStatus;
@@ -30,6 +36,7 @@ import org.springframework.http.HttpStatus;
  * - POST /api/crawler/start: 크롤링 시작 (비동기)
  * - POST /api/crawler/save-fileserver: 파일서버 데이터 DB 저장
  * - GET /api/crawler/status: 크롤링 상태 확인
+ * - GET /api/crawler/detail/progress: 상세 크롤링 진행 상황
  * - GET /api/crawler/config: 크롤러 설정 조회
  * - GET /api/crawler/health: 헬스체크
  */
@@ -42,6 +49,11 @@ public class CrawlerController {
 
     private final DeploymentOptimizedCrawlerService deploymentOptimizedCrawlerService;
     private final FileServerDatabaseService fileServerDatabaseService;
+    private final NewsDetailCrawler newsDetailCrawler;
+    private final FileServerService fileServerService;
+    private final SeenArticleFilter seenArticleFilter;
+    private final ContinuousIngestionService continuousIngestionService;
+    private final CrawlSessionService crawlSessionService;
 
     @Operation(summary = "크롤링 시작", description = "배포 환경에 최적화된 뉴스 크롤링을 시작합니다.")
     @ApiResponses({
@@ -135,6 +147,100 @@ public class CrawlerController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "상세 크롤링 진행 상황", description = "실행 중이거나 마지막으로 실행된 상세 크롤링의 진행 상황과 처리 속도를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/detail/progress")
+    public ResponseEntity<Map<String, Object>> getDetailProgress() {
+        return ResponseEntity.ok(newsDetailCrawler.getProgress());
+    }
+
+    @Operation(summary = "증분 수집 현황",
+            description = "마지막 크롤링에서 이미 적재한 기사라 건너뛴 목록 항목, 조기 중단한 더보기, 생략한 상세 요청 수와 절약 비율을 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/seen/status")
+    public ResponseEntity<Map<String, Object>> getSeenStatus() {
+        return ResponseEntity.ok(seenArticleFilter.getRunStats());
+    }
+
+    @Operation(summary = "크롤링 세션 목록", description = "최근 크롤링 세션 20개의 상태(진행 중/완료/실패)와 시도 횟수를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/sessions")
+    public ResponseEntity<List<Map<String, Object>>> getCrawlSessions() {
+        return ResponseEntity.ok(crawlSessionService.getRecentSessions());
+    }
+
+    @Operation(summary = "크롤링 세션 상세", description = "세션의 단계별·카테고리별 체크포인트를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "세션 없음")
+    })
+    @GetMapping("/sessions/{sessionId}")
+    public ResponseEntity<Map<String, Object>> getCrawlSession(@PathVariable String sessionId) {
+        return crawlSessionService.getSession(sessionId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "크롤링 세션 재개",
+            description = "실패했거나 중단된 세션에서 완료되지 않은 카테고리·단계만 다시 실행합니다. 완료된 목록/상세 수집은 다시 하지 않습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "재개 시작"),
+            @ApiResponse(responseCode = "404", description = "세션 없음")
+    })
+    @PostMapping("/sessions/{sessionId}/resume")
+    public ResponseEntity<Map<String, Object>> resumeCrawlSession(@PathVariable String sessionId) {
+        if (crawlSessionService.getSession(sessionId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // 비동기로 실행
+        CompletableFuture.runAsync(() -> {
+            try {
+                deploymentOptimizedCrawlerService.resumeSession(sessionId);
+            } catch (Exception e) {
+                log.error("크롤링 세션 재개 실패: {} - {}", sessionId, e.getMessage(), e);
+            }
+        });
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("message", "크롤링 세션 재개를 시작했습니다.");
+        response.put("sessionId", sessionId);
+        response.put("timestamp", LocalDateTime.now());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "연속 수집 시작",
+            description = "몇 분 간격으로 카테고리별 새 기사를 받아 상세 수집 → 중복 제거 → DB 저장을 마이크로 배치로 계속 진행합니다. "
+                    + "실행 중에는 정기 크롤링을 건너뜁니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "시작됨"),
+            @ApiResponse(responseCode = "409", description = "이미 실행 중")
+    })
+    @PostMapping("/continuous/start")
+    public ResponseEntity<Map<String, Object>> startContinuousIngestion() {
+        if (!continuousIngestionService.start()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(continuousIngestionService.getStatus());
+        }
+        return ResponseEntity.ok(continuousIngestionService.getStatus());
+    }
+
+    @Operation(summary = "연속 수집 중지", description = "연속 수집을 중지합니다. 적재 전 대기 중이던 기사는 다음 시작 때 다시 수집됩니다.")
+    @ApiResponse(responseCode = "200", description = "중지됨")
+    @PostMapping("/continuous/stop")
+    public ResponseEntity<Map<String, Object>> stopContinuousIngestion() {
+        continuousIngestionService.stop();
+        return ResponseEntity.ok(continuousIngestionService.getStatus());
+    }
+
+    @Operation(summary = "연속 수집 상태",
+            description = "큐 길이, 단계별 처리 건수와 발견→DB 커밋, 발행→DB 커밋 신선도 지연(p50/p95/max)을 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/continuous/status")
+    public ResponseEntity<Map<String, Object>> getContinuousIngestionStatus() {
+        return ResponseEntity.ok(continuousIngestionService.getStatus());
+    }
+
     @Operation(summary = "크롤러 설정 조회", description = "크롤러의 현재 설정값들을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "설정 조회 성공")
     @GetMapping("/config")
@@ -143,10 +249,8 @@ public class CrawlerController {
         
         response.put("targetCount", 100);
         response.put("batchSize", 10);
-        response.put("maxConcurrentRequests", 5);
-        response.put("retryAttempts", 3);
-        response.put("retryDelay", 3000);
-        response.put("requestDelay", 1000);
+        response.put("detail", newsDetailCrawler.getConfig());
+        response.put("stageFormat", fileServerService.isColumnarFormat() ? "columnar" : "csv");
         response.put("categories", new String[]{"POLITICS", "ECONOMY", "SOCIETY", "LIFE", "INTERNATIONAL", "IT_SCIENCE", "VEHICLE", "TRAVEL_FOOD", "ART"});
         response.put("deployment-optimized", true);
         response.put("fileserver-based-deduplication", true);
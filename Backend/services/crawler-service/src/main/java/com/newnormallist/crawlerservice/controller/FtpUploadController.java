@@ -1,6 +1,7 @@
 package com.newnormallist.crawlerservice.controller;
 
 import com.newnormallist.crawlerservice.config.FtpConfig;
+import com.newnormallist.crawlerservice.util.FtpConnectionPool;
 import com.newnormallist.crawlerservice.util.FtpUploader;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,6 +14,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Map;
+
 
 
 /**
@@ -25,6 +28,7 @@ import org.springframework.web.multipart.MultipartFile;
  * 
  * 기능:
  * - POST /api/ftp/upload: CSV 파일 업로드
+ * - GET /api/ftp/pool: FTP 세션 풀 상태
  * - 디렉터리 자동 생성
  * - 파일 덮어쓰기 지원
  */
@@ -36,6 +40,8 @@ import org.springframework.web.multipart.MultipartFile;
 public class FtpUploadController {
 
     private final FtpConfig ftpConfig;
+    private final FtpUploader ftpUploader;
+    private final FtpConnectionPool connectionPool;
 
     @Operation(summary = "CSV 파일 업로드", description = "JSON 형태로 CSV 파일을 FTP 서버에 업로드합니다.")
     @ApiResponses({
@@ -49,11 +55,7 @@ public class FtpUploadController {
             // FTP 경로 구성: basePath + 상대경로
             String ftpPath = ftpConfig.getBasePath() + "/" + request.getPath();
             
-            boolean result = FtpUploader.uploadCsvFile(
-                ftpConfig.getServer(),    // FTP 서버 (설정파일에서)
-                ftpConfig.getPort(),      // 포트 (설정파일에서)
-                ftpConfig.getUsername(),  // 사용자 (설정파일에서)
-                ftpConfig.getPassword(),  // 비밀번호 (설정파일에서)
+            boolean result = ftpUploader.uploadCsvFile(
                 ftpPath,                  // FTP 경로
                 request.getFilename(),    // 파일명
                 request.getContent()      // CSV 내용
@@ -87,11 +89,7 @@ public class FtpUploadController {
             // FTP 경로 구성: basePath + 상대경로
             String ftpPath = ftpConfig.getBasePath() + "/" + path;
             
-            boolean result = FtpUploader.uploadFile(
-                ftpConfig.getServer(),    // FTP 서버 (설정파일에서)
-                ftpConfig.getPort(),      // 포트 (설정파일에서)
-                ftpConfig.getUsername(),  // 사용자 (설정파일에서)
-                ftpConfig.getPassword(),  // 비밀번호 (설정파일에서)
+            boolean result = ftpUploader.uploadFile(
                 ftpPath,                  // FTP 경로
                 file                      // 파일
             );
@@ -110,6 +108,12 @@ public class FtpUploadController {
         }
     }
 
+    @Operation(summary = "FTP 세션 풀 상태", description = "세션 생성/재사용/폐기 횟수와 현재 사용 중인 세션 수를 조회합니다.")
+    @GetMapping("/pool")
+    public ResponseEntity<Map<String, Object>> getPoolStatus() {
+        return ResponseEntity.ok(connectionPool.getStatus());
+    }
+
     /**
      * CSV 업로드 요청 DTO
      */
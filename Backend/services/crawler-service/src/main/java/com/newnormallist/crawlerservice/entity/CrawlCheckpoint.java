@@ -0,0 +1,60 @@
+package com.newnormallist.crawlerservice.entity;
+
+import com.newnormallist.crawlerservice.enums.CrawlStage;
+import com.newnormallist.crawlerservice.enums.CrawlStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 크롤링 세션의 카테고리별·단계별 진행 기록
+ * 재개 시 DONE인 단위는 건너뛰고 FAILED이거나 기록이 없는 단위만 다시 실행한다.
+ */
+@Entity
+@Table(name = "crawl_checkpoint")
+@IdClass(CrawlCheckpoint.CrawlCheckpointId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrawlCheckpoint {
+
+    @Id
+    @Column(name = "session_id", nullable = false, length = 36)
+    private String sessionId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", nullable = false, length = 20)
+    private CrawlStage stage;
+
+    @Id
+    @Column(name = "category", nullable = false, length = 50)
+    private String category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private CrawlStatus status;
+
+    @Column(name = "item_count")
+    private Integer itemCount;
+
+    @Column(name = "error", length = 500)
+    private String error;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime updatedAt;
+
+    // 복합키 클래스
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CrawlCheckpointId implements Serializable {
+        private String sessionId;
+        private CrawlStage stage;
+        private String category;
+    }
+}
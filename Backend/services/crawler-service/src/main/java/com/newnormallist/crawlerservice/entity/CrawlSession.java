@@ -0,0 +1,49 @@
+package com.newnormallist.crawlerservice.entity;
+
+import com.newnormallist.crawlerservice.enums.CrawlStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 크롤링 세션 (1~4단계 한 번의 실행)
+ *
+ * fileTimestamp는 파일서버 단계 파일 이름에 들어가는 값으로, 세션마다 달라 동시에 실행된 세션의 파일이 섞이지 않는다.
+ * heartbeatAt이 오래된 RUNNING 세션은 프로세스가 중간에 종료된 것으로 보고 다시 이어서 실행할 수 있다.
+ */
+@Entity
+@Table(name = "crawl_session")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrawlSession {
+
+    @Id
+    @Column(name = "session_id", length = 36)
+    private String sessionId;
+
+    @Column(name = "file_timestamp", nullable = false, unique = true, length = 16)
+    private String fileTimestamp;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private CrawlStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime createdAt;
+
+    @Column(name = "heartbeat_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "finished_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime finishedAt;
+}
@@ -37,6 +37,10 @@ public class News {
     @Column(name = "published_at")
     private String publishedAt;
 
+    // 정렬/기간 조회용 DATETIME 컬럼 (news-service의 인덱스 컬럼)
+    @Column(name = "published_datetime", columnDefinition = "DATETIME")
+    private LocalDateTime publishedDateTime;
+
     @Column(name = "reporter", length = 100)
     private String reporter;
 
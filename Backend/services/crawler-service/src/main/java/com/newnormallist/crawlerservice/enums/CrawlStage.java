@@ -0,0 +1,8 @@
+package com.newnormallist.crawlerservice.enums;
+
+public enum CrawlStage {
+    LIST,     // 1단계 목록 크롤링
+    DETAIL,   // 2단계 상세 크롤링
+    DEDUP,    // 3단계 중복 제거
+    INGEST    // 4단계 DB 저장
+}
@@ -0,0 +1,7 @@
+package com.newnormallist.crawlerservice.enums;
+
+public enum CrawlStatus {
+    RUNNING,  // 진행 중 (세션만 사용)
+    DONE,     // 완료
+    FAILED    // 실패 (재개 시 다시 시도)
+}
@@ -0,0 +1,13 @@
+package com.newnormallist.crawlerservice.repository;
+
+import com.newnormallist.crawlerservice.entity.CrawlCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CrawlCheckpointRepository extends JpaRepository<CrawlCheckpoint, CrawlCheckpoint.CrawlCheckpointId> {
+
+    List<CrawlCheckpoint> findBySessionId(String sessionId);
+}
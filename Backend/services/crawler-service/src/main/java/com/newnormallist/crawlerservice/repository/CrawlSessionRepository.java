@@ -0,0 +1,50 @@
+package com.newnormallist.crawlerservice.repository;
+
+import com.newnormallist.crawlerservice.entity.CrawlSession;
+import com.newnormallist.crawlerservice.enums.CrawlStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CrawlSessionRepository extends JpaRepository<CrawlSession, String> {
+
+    boolean existsByFileTimestamp(String fileTimestamp);
+
+    List<CrawlSession> findByStatusInAndCreatedAtAfterOrderByCreatedAtDesc(Collection<CrawlStatus> statuses, LocalDateTime createdAfter);
+
+    List<CrawlSession> findTop20ByOrderByCreatedAtDesc();
+
+    /**
+     * 실패했거나 heartbeat가 끊긴 세션을 RUNNING으로 가져옴 (조건부 UPDATE라 동시에 한 실행만 성공)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE CrawlSession s SET s.status = com.newnormallist.crawlerservice.enums.CrawlStatus.RUNNING, " +
+           "s.heartbeatAt = :now, s.attempts = s.attempts + 1 " +
+           "WHERE s.sessionId = :sessionId AND (s.status = com.newnormallist.crawlerservice.enums.CrawlStatus.FAILED " +
+           "OR (s.status = com.newnormallist.crawlerservice.enums.CrawlStatus.RUNNING AND s.heartbeatAt < :staleBefore))")
+    int claim(@Param("sessionId") String sessionId, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE CrawlSession s SET s.heartbeatAt = :now WHERE s.sessionId = :sessionId")
+    int heartbeat(@Param("sessionId") String sessionId, @Param("now") LocalDateTime now);
+
+    /**
+     * 세션 종료 상태 기록 (RUNNING인 세션만, attempts 등 다른 컬럼은 건드리지 않음)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE CrawlSession s SET s.status = :status, s.lastError = :error, s.heartbeatAt = :now, s.finishedAt = :finishedAt " +
+           "WHERE s.sessionId = :sessionId AND s.status = com.newnormallist.crawlerservice.enums.CrawlStatus.RUNNING")
+    int finish(@Param("sessionId") String sessionId, @Param("status") CrawlStatus status, @Param("error") String error,
+               @Param("now") LocalDateTime now, @Param("finishedAt") LocalDateTime finishedAt);
+}
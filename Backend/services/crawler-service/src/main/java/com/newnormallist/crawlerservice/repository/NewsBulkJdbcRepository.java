@@ -0,0 +1,177 @@
+package com.newnormallist.crawlerservice.repository;
+
+import com.newnormallist.crawlerservice.entity.News;
+import com.newnormallist.crawlerservice.entity.RelatedNews;
+import com.newnormallist.crawlerservice.util.ArticleContentNormalizer.NormalizedContent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * 크롤링 결과 일괄 적재용 JDBC 저장소
+ *
+ * - news는 IDENTITY 키라 Hibernate가 INSERT를 배치로 묶지 못하므로 JDBC 배치로 직접 넣는다
+ * - 중복 확인은 배치 전체의 oid_aid를 IN 조회 한 번으로 처리하고,
+ *   그 사이 다른 적재가 같은 기사를 넣은 경우에 대비해 INSERT도 ON DUPLICATE KEY로 무시한다
+ * - MySQL 드라이버의 rewriteBatchedStatements가 켜져 있어야 배치가 다중 VALUES 한 문장으로 전송된다
+ */
+@Repository
+@RequiredArgsConstructor
+public class NewsBulkJdbcRepository {
+
+    // IN 목록이 너무 길어지지 않도록 나눠서 조회
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private static final String EXISTING_OID_AIDS_SQL =
+            "SELECT oid_aid FROM news WHERE oid_aid IN (:oidAids)";
+
+    private static final String RECENT_OID_AIDS_SQL =
+            "SELECT oid_aid, created_at FROM news WHERE created_at >= :since AND oid_aid IS NOT NULL";
+
+    private static final String INSERT_NEWS_SQL =
+            "INSERT INTO news (title, content, press, published_at, published_datetime, reporter, dedup_state, trusted, " +
+            "image_url, oid_aid, category_name, link, view_count, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE oid_aid = oid_aid";
+
+    private static final String UPSERT_RELATED_SQL =
+            "INSERT INTO related_news (rep_oid_aid, related_oid_aid, similarity, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE similarity = VALUES(similarity), updated_at = VALUES(updated_at)";
+
+    // 새로 들어온 연관뉴스의 대표가 된 기존 기사 (연관 상태인 기사는 그대로 둠)
+    private static final String PROMOTE_REPRESENTATIVE_SQL =
+            "UPDATE news SET dedup_state = 'REPRESENTATIVE', updated_at = :now " +
+            "WHERE oid_aid IN (:oidAids) AND dedup_state = 'KEPT'";
+
+    // news_id는 같은 트랜잭션에서 방금 넣은 news 행을 oid_aid로 찾아 채운다 (이미 있으면 그대로 둠)
+    private static final String INSERT_CONTENT_SQL =
+            "INSERT INTO news_content (news_id, content_html, plain_text, summary, content_hash, created_at, updated_at) " +
+            "SELECT news_id, ?, ?, ?, ?, ?, ? FROM news WHERE oid_aid = ? " +
+            "ON DUPLICATE KEY UPDATE news_id = news_id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 이미 적재된 oid_aid
+     */
+    public Set<String> findExistingOidAids(Collection<String> oidAids) {
+        Set<String> existing = new HashSet<>();
+        List<String> ids = new ArrayList<>(oidAids);
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(ids.size(), from + IN_CHUNK_SIZE));
+            existing.addAll(jdbcTemplate.queryForList(EXISTING_OID_AIDS_SQL,
+                    new MapSqlParameterSource("oidAids", chunk), String.class));
+        }
+        return existing;
+    }
+
+    /**
+     * 특정 시각 이후 적재된 oid_aid와 적재 시각을 한 행씩 넘김 (기적재 기사 필터 초기화용)
+     */
+    public void forEachOidAidCreatedSince(LocalDateTime since, BiConsumer<String, LocalDateTime> consumer) {
+        jdbcTemplate.query(RECENT_OID_AIDS_SQL, new MapSqlParameterSource("since", Timestamp.valueOf(since)),
+                (RowCallbackHandler) rs -> consumer.accept(rs.getString("oid_aid"),
+                        rs.getTimestamp("created_at").toLocalDateTime()));
+    }
+
+    /**
+     * 뉴스 일괄 INSERT (이미 있는 oid_aid는 건너뜀). 실제로 들어간 행 수를 반환한다.
+     */
+    public int insertNews(List<News> newsList, int batchSize) {
+        int[][] results = jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_NEWS_SQL, newsList, batchSize, (ps, news) -> {
+            Timestamp now = Timestamp.valueOf(news.getCreatedAt());
+            ps.setString(1, news.getTitle());
+            ps.setString(2, news.getContent());
+            ps.setString(3, news.getPress());
+            ps.setString(4, news.getPublishedAt());
+            if (news.getPublishedDateTime() != null) {
+                ps.setTimestamp(5, Timestamp.valueOf(news.getPublishedDateTime()));
+            } else {
+                ps.setNull(5, Types.TIMESTAMP);
+            }
+            ps.setString(6, news.getReporter());
+            ps.setString(7, news.getDedupState() != null ? news.getDedupState().name() : null);
+            ps.setBoolean(8, Boolean.TRUE.equals(news.getTrusted()));
+            ps.setString(9, news.getImageUrl());
+            ps.setString(10, news.getOidAid());
+            ps.setString(11, news.getCategory().name());
+            ps.setString(12, news.getLink());
+            ps.setTimestamp(13, now);
+            ps.setTimestamp(14, now);
+        });
+        return countAffected(results);
+    }
+
+    /**
+     * 적재 시 정규화한 본문(정리된 HTML, 평문, 요약) 일괄 INSERT (oid_aid → 정규화 결과)
+     */
+    public void insertNewsContent(Map<String, NormalizedContent> contents, int batchSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_CONTENT_SQL, new ArrayList<>(contents.entrySet()), batchSize,
+                (ps, entry) -> {
+                    NormalizedContent content = entry.getValue();
+                    ps.setString(1, content.html());
+                    ps.setString(2, content.plainText());
+                    ps.setString(3, content.summary());
+                    ps.setString(4, content.contentHash());
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                    ps.setString(7, entry.getKey());
+                });
+    }
+
+    /**
+     * KEPT 상태인 기사를 대표(REPRESENTATIVE)로 변경. 변경한 행 수를 반환한다.
+     */
+    public int promoteToRepresentative(Collection<String> oidAids) {
+        int updated = 0;
+        List<String> ids = new ArrayList<>(oidAids);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(ids.size(), from + IN_CHUNK_SIZE));
+            updated += jdbcTemplate.update(PROMOTE_REPRESENTATIVE_SQL,
+                    new MapSqlParameterSource("oidAids", chunk).addValue("now", now));
+        }
+        return updated;
+    }
+
+    /**
+     * 연관뉴스 일괄 UPSERT (같은 쌍이 다시 들어오면 유사도만 갱신). 처리한 행 수를 반환한다.
+     */
+    public int upsertRelatedNews(List<RelatedNews> relatedNews, int batchSize) {
+        jdbcTemplate.getJdbcTemplate().batchUpdate(UPSERT_RELATED_SQL, relatedNews, batchSize, (ps, related) -> {
+            Timestamp createdAt = Timestamp.valueOf(related.getCreatedAt());
+            ps.setString(1, related.getRepOidAid());
+            ps.setString(2, related.getRelatedOidAid());
+            if (related.getSimilarity() != null) {
+                ps.setFloat(3, related.getSimilarity());
+            } else {
+                ps.setNull(3, Types.FLOAT);
+            }
+            ps.setTimestamp(4, createdAt);
+            ps.setTimestamp(5, createdAt);
+        });
+        return relatedNews.size();
+    }
+
+    // rewriteBatchedStatements 사용 시 드라이버가 SUCCESS_NO_INFO(-2)를 돌려줄 수 있어 그 경우 1건으로 센다
+    private static int countAffected(int[][] results) {
+        int count = 0;
+        for (int[] batch : results) {
+            for (int affected : batch) {
+                count += affected == Statement.SUCCESS_NO_INFO ? 1 : Math.max(0, Math.min(affected, 1));
+            }
+        }
+        return count;
+    }
+}
@@ -1,5 +1,6 @@
 package com.newnormallist.crawlerservice.scheduler;
 
+import com.newnormallist.crawlerservice.service.ContinuousIngestionService;
 import com.newnormallist.crawlerservice.service.DeploymentOptimizedCrawlerService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Component;
 public class CrawlingScheduler {
 
     private final DeploymentOptimizedCrawlerService deploymentOptimizedCrawlerService;
+    private final ContinuousIngestionService continuousIngestionService;
 
     /**
      * 매일 오전 9시, 오후 7시 자동 크롤링
@@ -24,9 +26,15 @@ public class CrawlingScheduler {
      * *: 일 (매일)
      * *: 월 (매월)
      * *: 요일 (매 요일)
+     *
+     * 연속 수집 모드가 실행 중이면 이미 새 기사를 적재하고 있으므로 건너뛴다.
      */
     @Scheduled(cron = "0 0 9,19 * * *", zone = "Asia/Seoul")
     public void scheduledCrawling() {
+        if (continuousIngestionService.isRunning()) {
+            log.info("연속 수집 실행 중이라 스케줄된 크롤링 생략 - {}", java.time.LocalDateTime.now());
+            return;
+        }
         log.info("스케줄된 크롤링 시작 - {}", java.time.LocalDateTime.now());
         
         try {
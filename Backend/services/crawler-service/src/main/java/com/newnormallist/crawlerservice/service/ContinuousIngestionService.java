@@ -0,0 +1,457 @@
+package com.newnormallist.crawlerservice.service;
+
+import com.newnormallist.crawlerservice.dto.NewsDetail;
+import com.newnormallist.crawlerservice.dto.RelatedNewsDetail;
+import com.newnormallist.crawlerservice.enums.DedupState;
+import com.newnormallist.crawlerservice.util.MinHashDeduplicator;
+import com.newnormallist.crawlerservice.util.NaverNewsCrawler;
+import com.newnormallist.crawlerservice.util.NewsDetailCrawler;
+import com.newnormallist.crawlerservice.util.PublishedAtParser;
+import com.newnormallist.crawlerservice.util.SeenArticleFilter;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 연속 수집 서비스 (하루 두 번 전체 크롤링 대신 몇 분 간격 마이크로 배치)
+ *
+ * 역할:
+ * - 카테고리별로 poll-interval마다 목록의 새 기사만 가져와 상세 수집 → 중복 제거 → DB 저장까지 바로 진행
+ * - 단계 사이는 파일서버 왕복 없이 크기가 정해진 큐로 연결
+ *
+ * 흐름:
+ * - 목록 poller: 카테고리별 주기 작업, 이미 적재했거나 처리 중인 기사는 제외하고 목록 큐에 넣음
+ *   (큐가 가득 차면 넣을 수 있을 때까지 대기 → 뒤 단계가 밀리면 목록 수집도 늦춰짐)
+ * - 상세 worker: 목록 큐에서 꺼내 상세 수집 (NewsDetailCrawler의 호스트별 속도 제한 공유), 실패한 기사는 다음 poll에서 다시 시도
+ * - 적재 batcher: batch-size개가 모이거나 max-batch-wait-ms가 지나면 카테고리별로 중복 제거 후 한 트랜잭션으로 저장
+ *   중복 제거는 최근 적재한 기사(카테고리별 window-size개, window-hours 이내)와 함께 비교해 배치 사이 중복도 거른다
+ *
+ * 지표:
+ * - 신선도: 목록에서 발견한 시점 → DB 커밋, 기사 발행 시각 → DB 커밋 지연 (최근 값의 p50/p95/max)
+ * - 큐 길이, 단계별 처리 건수, 목록 수집이 큐 때문에 대기한 시간
+ *
+ * crawler.continuous.enabled=true면 애플리케이션 시작 후 자동으로 시작하고, 실행 중에는 정기 크롤링(CrawlingScheduler)을 건너뛴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContinuousIngestionService {
+
+    private static final String[] CATEGORIES = {"POLITICS", "ECONOMY", "SOCIETY", "LIFE", "INTERNATIONAL",
+            "IT_SCIENCE", "VEHICLE", "TRAVEL_FOOD", "ART"};
+
+    private final NaverNewsCrawler naverNewsCrawler;
+    private final NewsDetailCrawler newsDetailCrawler;
+    private final MinHashDeduplicator deduplicator;
+    private final FileServerDatabaseService fileServerDatabaseService;
+    private final SeenArticleFilter seenArticleFilter;
+
+    @Value("${crawler.continuous.enabled:false}")
+    private boolean enabled;
+
+    @Value("${crawler.continuous.poll-interval-seconds:180}")
+    private long pollIntervalSeconds;
+
+    // 한 번 poll에서 카테고리별로 가져올 최대 기사 수
+    @Value("${crawler.continuous.poll-target:30}")
+    private int pollTarget;
+
+    @Value("${crawler.continuous.poll-threads:2}")
+    private int pollThreads;
+
+    @Value("${crawler.continuous.detail-workers:4}")
+    private int detailWorkers;
+
+    @Value("${crawler.continuous.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${crawler.continuous.batch-size:50}")
+    private int batchSize;
+
+    @Value("${crawler.continuous.max-batch-wait-ms:10000}")
+    private long maxBatchWaitMs;
+
+    @Value("${crawler.continuous.window-size:300}")
+    private int windowSize;
+
+    @Value("${crawler.continuous.window-hours:6}")
+    private int windowHours;
+
+    private volatile boolean running;
+    private ScheduledExecutorService poller;
+    private ExecutorService workers;
+    private BlockingQueue<Pending> listQueue;
+    private BlockingQueue<Pending> detailQueue;
+
+    // 큐에 있거나 처리 중인 기사 (적재 전이라 SeenArticleFilter에 없는 기사를 다시 넣지 않도록)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    // 카테고리별 최근 적재 기사 (배치 사이 중복 비교용, batcher 스레드만 사용)
+    private final Map<String, Deque<NewsDetail>> recentByCategory = new HashMap<>();
+
+    private final AtomicLong polls = new AtomicLong();
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong backpressureWaitMs = new AtomicLong();
+    private final AtomicLong detailed = new AtomicLong();
+    private final AtomicLong detailFailed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong removedDuplicates = new AtomicLong();
+    private final AtomicLong relatedSaved = new AtomicLong();
+    private final AtomicLong batchFailures = new AtomicLong();
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime lastCommitAt;
+
+    private final LatencyWindow discoveryToCommit = new LatencyWindow(1024);
+    private final LatencyWindow publishToCommit = new LatencyWindow(1024);
+
+    @EventListener(ApplicationReadyEvent.class)
+    void startIfEnabled() {
+        if (enabled) {
+            start();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        stop();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 연속 수집 시작 (이미 실행 중이면 false)
+     */
+    public synchronized boolean start() {
+        if (running) {
+            return false;
+        }
+        listQueue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        detailQueue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        inFlight.clear();
+        running = true;
+        startedAt = LocalDateTime.now();
+
+        int workerCount = Math.max(1, detailWorkers);
+        workers = Executors.newFixedThreadPool(workerCount + 1, new CustomizableThreadFactory("continuous-ingest-"));
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::detailLoop);
+        }
+        workers.submit(this::batchLoop);
+
+        // 카테고리마다 주기를 나눠 시작 시점을 분산
+        poller = Executors.newScheduledThreadPool(Math.max(1, pollThreads), new CustomizableThreadFactory("continuous-poll-"));
+        long intervalMs = Math.max(1, pollIntervalSeconds) * 1000L;
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            String category = CATEGORIES[i];
+            poller.scheduleWithFixedDelay(() -> poll(category), intervalMs * i / CATEGORIES.length, intervalMs, TimeUnit.MILLISECONDS);
+        }
+
+        log.info("연속 수집 시작: {}초 간격, 카테고리당 최대 {}개, 상세 worker {}개, 큐 {}개, 배치 {}개/{}ms",
+                pollIntervalSeconds, pollTarget, workerCount, queueCapacity, batchSize, maxBatchWaitMs);
+        return true;
+    }
+
+    /**
+     * 연속 수집 중지. 큐에 남은 기사는 버리며 적재 전이므로 다음 시작 때 다시 수집된다.
+     */
+    public synchronized boolean stop() {
+        if (!running) {
+            return false;
+        }
+        running = false;
+        poller.shutdownNow();
+        workers.shutdownNow();
+        try {
+            workers.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int dropped = listQueue.size() + detailQueue.size();
+        listQueue.clear();
+        detailQueue.clear();
+        inFlight.clear();
+        log.info("연속 수집 중지 (대기 중이던 기사 {}개 버림)", dropped);
+        return true;
+    }
+
+    // ===== 목록 poller =====
+
+    private void poll(String category) {
+        if (!running) {
+            return;
+        }
+        try {
+            List<NewsDetail> newsList = naverNewsCrawler.crawlCategoryList(category, pollTarget);
+            polls.incrementAndGet();
+            long discoveredAt = System.currentTimeMillis();
+            int added = 0;
+            for (NewsDetail news : newsList) {
+                String oidAid = NewsDetailCrawler.extractOidAidFromUrl(news.getLink());
+                if (!inFlight.add(oidAid)) {
+                    continue;
+                }
+                long waitStart = System.currentTimeMillis();
+                listQueue.put(new Pending(news, discoveredAt));
+                backpressureWaitMs.addAndGet(System.currentTimeMillis() - waitStart);
+                added++;
+            }
+            enqueued.addAndGet(added);
+            log.debug("{} 카테고리 poll: 새 기사 {}개 (목록 큐 {}개)", category, added, listQueue.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("{} 카테고리 poll 실패: {}", category, e.getMessage());
+        }
+    }
+
+    // ===== 상세 worker =====
+
+    private void detailLoop() {
+        while (running) {
+            Pending pending = null;
+            try {
+                pending = listQueue.poll(1, TimeUnit.SECONDS);
+                if (pending == null) {
+                    continue;
+                }
+                NewsDetail detail = newsDetailCrawler.crawlDetail(pending.news());
+                if (NewsDetailCrawler.FAILED_CONTENT.equals(detail.getContent())) {
+                    // 적재하지 않았으므로 다음 poll에서 다시 발견됨
+                    detailFailed.incrementAndGet();
+                    inFlight.remove(detail.getOidAid());
+                    continue;
+                }
+                detailed.incrementAndGet();
+                detailQueue.put(new Pending(detail, pending.discoveredAt()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 적재하지 않았으므로 다음 poll에서 다시 발견되도록 풀어 둠
+                detailFailed.incrementAndGet();
+                if (pending != null) {
+                    inFlight.remove(NewsDetailCrawler.extractOidAidFromUrl(pending.news().getLink()));
+                }
+                log.warn("연속 수집 상세 처리 오류: {}", e.getMessage());
+            }
+        }
+    }
+
+    // ===== 적재 batcher =====
+
+    private void batchLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Pending first = detailQueue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.currentTimeMillis() + maxBatchWaitMs;
+                while (batch.size() < batchSize) {
+                    detailQueue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    Pending next = detailQueue.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                commitBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("연속 수집 배치 처리 오류: {}", e.getMessage(), e);
+            } finally {
+                batch.forEach(pending -> inFlight.remove(pending.news().getOidAid()));
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 카테고리별로 최근 적재 기사와 함께 중복 제거 후 이번 배치 기사만 저장.
+     * 이미 적재한 기사는 중복 제거에서 고정(pinned)해 제거되거나 대표 자리를 빼앗기지 않고,
+     * 새 기사가 기존 기사의 연관뉴스가 되면 그 기존 기사를 DB에서도 대표(REPRESENTATIVE)로 올린다.
+     */
+    private void commitBatch(List<Pending> batch) {
+        Map<String, List<Pending>> byCategory = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            byCategory.computeIfAbsent(pending.news().getCategoryName(), c -> new ArrayList<>()).add(pending);
+        }
+
+        for (Map.Entry<String, List<Pending>> entry : byCategory.entrySet()) {
+            String category = entry.getKey();
+            List<Pending> items = entry.getValue();
+            Deque<NewsDetail> recent = recentByCategory.computeIfAbsent(category, c -> new ArrayDeque<>());
+            evictOld(recent);
+
+            Set<String> batchOidAids = new HashSet<>();
+            Set<String> committedOidAids = new HashSet<>();
+            List<NewsDetail> candidates = new ArrayList<>(recent.size() + items.size());
+            for (NewsDetail committed : recent) {
+                committedOidAids.add(committed.getOidAid());
+                candidates.add(committed);
+            }
+            for (Pending pending : items) {
+                batchOidAids.add(pending.news().getOidAid());
+                candidates.add(pending.news());
+            }
+
+            MinHashDeduplicator.Result result = deduplicator.deduplicate(category, candidates, committedOidAids);
+            List<NewsDetail> toInsert = result.deduplicated().stream()
+                    .filter(news -> batchOidAids.contains(news.getOidAid()))
+                    .toList();
+            List<RelatedNewsDetail> related = result.related().stream()
+                    .filter(pair -> batchOidAids.contains(pair.getRelatedOidAid()))
+                    .toList();
+            Set<String> promoted = new HashSet<>();
+            for (RelatedNewsDetail pair : related) {
+                if (committedOidAids.contains(pair.getRepOidAid())) {
+                    promoted.add(pair.getRepOidAid());
+                }
+            }
+
+            int[] counts;
+            try {
+                counts = fileServerDatabaseService.saveBatch(category, toInsert, related, promoted);
+            } catch (Exception e) {
+                // 적재 실패한 기사는 필터에 등록하지 않으므로 다음 poll에서 다시 수집됨
+                batchFailures.incrementAndGet();
+                log.error("연속 수집 {} 카테고리 배치 저장 실패 ({}개): {}", category, items.size(), e.getMessage());
+                continue;
+            }
+
+            for (NewsDetail committed : recent) {
+                if (promoted.contains(committed.getOidAid())) {
+                    committed.setDedupState(DedupState.REPRESENTATIVE.name());
+                }
+            }
+            long committedAt = System.currentTimeMillis();
+            LocalDateTime committedTime = LocalDateTime.now();
+            seenArticleFilter.markAll(batchOidAids);
+            for (Pending pending : items) {
+                discoveryToCommit.add(committedAt - pending.discoveredAt());
+                LocalDateTime publishedAt = PublishedAtParser.parse(pending.news().getDate());
+                if (publishedAt != null) {
+                    publishToCommit.add(Duration.between(publishedAt, committedTime).toMillis());
+                }
+                recent.addLast(windowCopy(pending.news()));
+            }
+            while (recent.size() > windowSize) {
+                recent.removeFirst();
+            }
+
+            batches.incrementAndGet();
+            inserted.addAndGet(counts[0]);
+            skipped.addAndGet(counts[1]);
+            relatedSaved.addAndGet(counts[2]);
+            removedDuplicates.addAndGet(items.size() - toInsert.size());
+            lastCommitAt = committedTime;
+            log.info("연속 수집 {} 카테고리 배치 적재: {}개 중 {}개 저장, 중복 제거 {}개, 연관뉴스 {}개",
+                    category, items.size(), counts[0], items.size() - toInsert.size(), counts[2]);
+        }
+    }
+
+    private void evictOld(Deque<NewsDetail> recent) {
+        LocalDateTime limit = LocalDateTime.now().minusHours(windowHours);
+        while (!recent.isEmpty() && recent.peekFirst().getCreatedAt().isBefore(limit)) {
+            recent.removeFirst();
+        }
+    }
+
+    // 중복 비교에 필요한 필드만 보관 (dedupState는 적재한 값, 이후 비교에서 바뀌지 않음)
+    private static NewsDetail windowCopy(NewsDetail news) {
+        return NewsDetail.builder()
+                .oidAid(news.getOidAid())
+                .title(news.getTitle())
+                .content(news.getContent())
+                .dedupState(news.getDedupState())
+                .categoryName(news.getCategoryName())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 연속 수집 상태와 신선도 지표
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", running);
+        status.put("startedAt", startedAt);
+        status.put("pollIntervalSeconds", pollIntervalSeconds);
+        status.put("listQueue", listQueue != null ? listQueue.size() : 0);
+        status.put("detailQueue", detailQueue != null ? detailQueue.size() : 0);
+        status.put("queueCapacity", queueCapacity);
+        status.put("inFlight", inFlight.size());
+        status.put("polls", polls.get());
+        status.put("enqueued", enqueued.get());
+        status.put("backpressureWaitMs", backpressureWaitMs.get());
+        status.put("detailed", detailed.get());
+        status.put("detailFailed", detailFailed.get());
+        status.put("batches", batches.get());
+        status.put("inserted", inserted.get());
+        status.put("skipped", skipped.get());
+        status.put("removedDuplicates", removedDuplicates.get());
+        status.put("relatedSaved", relatedSaved.get());
+        status.put("batchFailures", batchFailures.get());
+        status.put("lastCommitAt", lastCommitAt);
+        status.put("discoveryToCommitMs", discoveryToCommit.summary());
+        status.put("publishToCommitMs", publishToCommit.summary());
+        return status;
+    }
+
+    private record Pending(NewsDetail news, long discoveredAt) { }
+
+    /**
+     * 최근 지연 시간 (고정 크기 링 버퍼)
+     */
+    private static final class LatencyWindow {
+        private final long[] values;
+        private int next;
+        private int count;
+
+        private LatencyWindow(int capacity) {
+            this.values = new long[capacity];
+        }
+
+        private synchronized void add(long value) {
+            values[next] = value;
+            next = (next + 1) % values.length;
+            count = Math.min(count + 1, values.length);
+        }
+
+        private synchronized Map<String, Object> summary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("samples", count);
+            if (count == 0) {
+                return summary;
+            }
+            long[] sorted = Arrays.copyOf(values, count);
+            Arrays.sort(sorted);
+            summary.put("p50", sorted[(count - 1) / 2]);
+            summary.put("p95", sorted[(int) Math.ceil(count * 0.95) - 1]);
+            summary.put("max", sorted[count - 1]);
+            return summary;
+        }
+    }
+}
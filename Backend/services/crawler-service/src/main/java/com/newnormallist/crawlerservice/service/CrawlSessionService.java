@@ -0,0 +1,243 @@
+package com.newnormallist.crawlerservice.service;
+
+import com.newnormallist.crawlerservice.entity.CrawlCheckpoint;
+import com.newnormallist.crawlerservice.entity.CrawlSession;
+import com.newnormallist.crawlerservice.enums.CrawlStage;
+import com.newnormallist.crawlerservice.enums.CrawlStatus;
+import com.newnormallist.crawlerservice.repository.CrawlCheckpointRepository;
+import com.newnormallist.crawlerservice.repository.CrawlSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * 크롤링 세션 / 체크포인트 관리
+ *
+ * 역할:
+ * - 크롤링 한 번을 세션으로 DB에 기록하고, 카테고리별·단계별 완료 여부를 체크포인트로 남김
+ * - 재시작하거나 3·4단계에서 실패해도 처음부터 다시 받지 않고 완료되지 않은 단위만 이어서 실행
+ *
+ * 기능:
+ * - 시작 시 resume-window-hours 이내의 실패/중단 세션이 있으면 남은 단위를 먼저 마치고, 그 뒤에는 항상 새 세션으로 수집
+ *   (남은 단위 때문에 새 기사 수집을 건너뛰지 않음, 조건부 UPDATE로 한 실행만 가져감)
+ * - 계속 실패하는 세션은 max-resume-attempts번까지만 자동으로 이어서 실행 (그 뒤는 관리자 재개만 가능)
+ * - RUNNING이지만 heartbeat가 stale-after-minutes 이상 끊긴 세션은 중단된 것으로 봄
+ * - 세션마다 파일 타임스탬프가 달라 동시에 실행된 세션의 단계 파일이 섞이지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrawlSessionService {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm");
+
+    public static final List<String> CATEGORIES = List.of("POLITICS", "ECONOMY", "SOCIETY", "LIFE", "INTERNATIONAL",
+            "IT_SCIENCE", "VEHICLE", "TRAVEL_FOOD", "ART");
+
+    private final CrawlSessionRepository crawlSessionRepository;
+    private final CrawlCheckpointRepository crawlCheckpointRepository;
+
+    // 시작 시 이전 세션을 이어서 실행할지
+    @Value("${crawler.session.auto-resume:true}")
+    private boolean autoResume;
+
+    @Value("${crawler.session.resume-window-hours:12}")
+    private int resumeWindowHours;
+
+    @Value("${crawler.session.stale-after-minutes:60}")
+    private int staleAfterMinutes;
+
+    // 자동 재개 시도 한도 (세션 생성 포함 시도 횟수)
+    @Value("${crawler.session.max-resume-attempts:3}")
+    private int maxResumeAttempts;
+
+    /**
+     * 남은 단위를 이어서 실행할 세션 (가장 최근 것 하나). 없으면 empty
+     */
+    public Optional<CrawlSession> claimResumable() {
+        if (!autoResume) {
+            return Optional.empty();
+        }
+        List<CrawlSession> candidates = crawlSessionRepository.findByStatusInAndCreatedAtAfterOrderByCreatedAtDesc(
+                List.of(CrawlStatus.FAILED, CrawlStatus.RUNNING), LocalDateTime.now().minusHours(resumeWindowHours));
+        for (CrawlSession candidate : candidates) {
+            if (candidate.getAttempts() >= maxResumeAttempts) {
+                continue;
+            }
+            Optional<CrawlSession> claimed = claim(candidate.getSessionId());
+            if (claimed.isPresent()) {
+                log.info("크롤링 세션 재개: {} ({}, {}번째 시도)", claimed.get().getSessionId(),
+                        claimed.get().getFileTimestamp(), claimed.get().getAttempts());
+                return claimed;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 실패했거나 중단된 세션을 가져옴. 다른 실행이 진행 중이거나 완료된 세션이면 empty
+     */
+    public Optional<CrawlSession> claim(String sessionId) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = crawlSessionRepository.claim(sessionId, now, now.minusMinutes(staleAfterMinutes));
+        return updated == 1 ? crawlSessionRepository.findById(sessionId) : Optional.empty();
+    }
+
+    /**
+     * 새 세션 생성
+     */
+    public CrawlSession create() {
+        LocalDateTime time = LocalDateTime.now();
+        // 같은 분에 시작한 세션이 있으면 다음 분 타임스탬프 사용 (파일 이름 충돌 방지)
+        for (int attempt = 0; attempt < 10; attempt++, time = time.plusMinutes(1)) {
+            String fileTimestamp = time.format(FILE_TIMESTAMP_FORMAT);
+            if (crawlSessionRepository.existsByFileTimestamp(fileTimestamp)) {
+                continue;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            CrawlSession session = CrawlSession.builder()
+                    .sessionId(UUID.randomUUID().toString())
+                    .fileTimestamp(fileTimestamp)
+                    .status(CrawlStatus.RUNNING)
+                    .attempts(1)
+                    .createdAt(now)
+                    .heartbeatAt(now)
+                    .build();
+            try {
+                crawlSessionRepository.saveAndFlush(session);
+                log.info("크롤링 세션 생성: {} ({})", session.getSessionId(), fileTimestamp);
+                return session;
+            } catch (DataIntegrityViolationException e) {
+                log.debug("세션 타임스탬프 충돌, 다음 분으로 재시도: {}", fileTimestamp);
+            }
+        }
+        throw new IllegalStateException("크롤링 세션 타임스탬프를 정하지 못함");
+    }
+
+    /**
+     * 해당 단계에서 실행할 카테고리: 이 단계가 아직 DONE이 아니고 이전 단계는 DONE인 카테고리 (카테고리 순서 유지)
+     */
+    public List<String> pendingCategories(CrawlSession session, CrawlStage stage) {
+        Map<CrawlStage, Set<String>> done = doneCategories(session);
+        Set<String> doneHere = done.getOrDefault(stage, Set.of());
+        Set<String> donePrevious = stage.ordinal() == 0 ? null
+                : done.getOrDefault(CrawlStage.values()[stage.ordinal() - 1], Set.of());
+        return CATEGORIES.stream()
+                .filter(category -> !doneHere.contains(category))
+                .filter(category -> donePrevious == null || donePrevious.contains(category))
+                .toList();
+    }
+
+    /**
+     * 해당 단계를 완료한 카테고리
+     */
+    public Set<String> completedCategories(CrawlSession session, CrawlStage stage) {
+        return doneCategories(session).getOrDefault(stage, Set.of());
+    }
+
+    private Map<CrawlStage, Set<String>> doneCategories(CrawlSession session) {
+        Map<CrawlStage, Set<String>> done = new EnumMap<>(CrawlStage.class);
+        for (CrawlCheckpoint checkpoint : crawlCheckpointRepository.findBySessionId(session.getSessionId())) {
+            if (checkpoint.getStatus() == CrawlStatus.DONE) {
+                done.computeIfAbsent(checkpoint.getStage(), s -> new HashSet<>()).add(checkpoint.getCategory());
+            }
+        }
+        return done;
+    }
+
+    public void markDone(CrawlSession session, CrawlStage stage, String category, int itemCount) {
+        saveCheckpoint(session, stage, category, CrawlStatus.DONE, itemCount, null);
+    }
+
+    public void markFailed(CrawlSession session, CrawlStage stage, String category, String error) {
+        saveCheckpoint(session, stage, category, CrawlStatus.FAILED, null, error);
+    }
+
+    private void saveCheckpoint(CrawlSession session, CrawlStage stage, String category,
+                                CrawlStatus status, Integer itemCount, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        crawlCheckpointRepository.save(CrawlCheckpoint.builder()
+                .sessionId(session.getSessionId())
+                .stage(stage)
+                .category(category)
+                .status(status)
+                .itemCount(itemCount)
+                .error(truncate(error))
+                .updatedAt(now)
+                .build());
+        crawlSessionRepository.heartbeat(session.getSessionId(), now);
+    }
+
+    public void complete(CrawlSession session) {
+        finish(session, CrawlStatus.DONE, null);
+    }
+
+    public void fail(CrawlSession session, String error) {
+        finish(session, CrawlStatus.FAILED, error);
+    }
+
+    // 들고 있던 엔티티는 claim 이후 오래된 값이라(attempts 등) 상태 컬럼만 UPDATE
+    private void finish(CrawlSession session, CrawlStatus status, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = crawlSessionRepository.finish(session.getSessionId(), status, truncate(error), now,
+                status == CrawlStatus.DONE ? now : null);
+        if (updated == 0) {
+            log.warn("크롤링 세션 {} 종료 기록 실패 (이미 종료됨)", session.getSessionId());
+            return;
+        }
+        session.setStatus(status);
+        log.info("크롤링 세션 {}: {} ({})", status, session.getSessionId(), session.getFileTimestamp());
+    }
+
+    /**
+     * 최근 세션 목록
+     */
+    public List<Map<String, Object>> getRecentSessions() {
+        return crawlSessionRepository.findTop20ByOrderByCreatedAtDesc().stream()
+                .map(this::summarize)
+                .toList();
+    }
+
+    /**
+     * 세션 상세 (단계별 카테고리 체크포인트 포함)
+     */
+    public Optional<Map<String, Object>> getSession(String sessionId) {
+        return crawlSessionRepository.findById(sessionId).map(session -> {
+            Map<String, Object> detail = summarize(session);
+            Map<CrawlStage, Map<String, Object>> stages = new EnumMap<>(CrawlStage.class);
+            for (CrawlCheckpoint checkpoint : crawlCheckpointRepository.findBySessionId(sessionId)) {
+                Map<String, Object> unit = new LinkedHashMap<>();
+                unit.put("status", checkpoint.getStatus());
+                unit.put("itemCount", checkpoint.getItemCount());
+                unit.put("error", checkpoint.getError());
+                unit.put("updatedAt", checkpoint.getUpdatedAt());
+                stages.computeIfAbsent(checkpoint.getStage(), s -> new TreeMap<>()).put(checkpoint.getCategory(), unit);
+            }
+            detail.put("checkpoints", stages);
+            return detail;
+        });
+    }
+
+    private Map<String, Object> summarize(CrawlSession session) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("sessionId", session.getSessionId());
+        summary.put("fileTimestamp", session.getFileTimestamp());
+        summary.put("status", session.getStatus());
+        summary.put("attempts", session.getAttempts());
+        summary.put("createdAt", session.getCreatedAt());
+        summary.put("heartbeatAt", session.getHeartbeatAt());
+        summary.put("finishedAt", session.getFinishedAt());
+        summary.put("lastError", session.getLastError());
+        return summary;
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > 500 ? value.substring(0, 500) : value;
+    }
+}
@@ -1,35 +1,35 @@
 package com.newnormallist.crawlerservice.service;
 
+import com.newnormallist.crawlerservice.client.dto.DeduplicationResponse;
 import com.newnormallist.crawlerservice.dto.NewsDetail;
+import com.newnormallist.crawlerservice.entity.CrawlSession;
+import com.newnormallist.crawlerservice.enums.CrawlStage;
 import com.newnormallist.crawlerservice.util.NaverNewsCrawler;
+import com.newnormallist.crawlerservice.util.NewsDetailCrawler;
+import com.newnormallist.crawlerservice.util.SeenArticleFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.concurrent.*;
-import java.util.stream.Collectors;
 
 /**
  * 배포 환경 최적화 크롤링 서비스
- * 
+ *
  * 역할:
  * - 전체 뉴스 크롤링 프로세스 오케스트레이션
  * - 파일서버 기반 데이터 플로우 관리
  * - Python 중복제거 서비스와 연동
- * 
+ *
  * 기능:
  * - 9개 카테고리별 뉴스 크롤링 (각 100개)
  * - 파일서버에 단계별 데이터 저장 (list → detail → deduplicated → related)
  * - Python 중복제거 서비스 호출 및 결과 처리
  * - 최종 데이터를 MySQL DB에 저장
+ * - DB 저장까지 끝난 기사를 SeenArticleFilter에 등록해 다음 크롤링에서 다시 받지 않음
+ * - 크롤링 세션(CrawlSessionService): 카테고리별·단계별 체크포인트를 DB에 남기고,
+ *   재시작하거나 일부 단계가 실패하면 완료되지 않은 단위만 이어서 실행 (세션 상태는 빈 필드가 아닌 세션 객체로 전달)
  * - 배포 환경에 최적화된 성능 및 안정성 보장
  */
 @Slf4j
@@ -38,22 +38,26 @@ import java.util.stream.Collectors;
 public class DeploymentOptimizedCrawlerService {
 
     private final NaverNewsCrawler naverNewsCrawler;
+    private final NewsDetailCrawler newsDetailCrawler;
     private final FileServerService fileServerService;
     private final PythonDeduplicationIntegrationService pythonDeduplicationIntegrationService;
     private final FileServerDatabaseService fileServerDatabaseService;
+    private final NativeDeduplicationService nativeDeduplicationService;
+    private final SeenArticleFilter seenArticleFilter;
+    private final CrawlSessionService crawlSessionService;
+
+    // 3단계 중복제거 엔진: python(외부 FastAPI 서비스, 기본) 또는 native(크롤러 내 MinHash/LSH)
+    @Value("${crawler.dedup.engine:python}")
+    private String dedupEngine;
 
     // 기본 카테고리용 고정값 (코드에서 각 카테고리별 개수는 하드코딩됨)
     private final int targetCount = 100;
 
-    // 요청 간격 (밀리초) - 서버 부하 방지
-    private final int requestDelay = 1500;
-    
-    // 크롤링 세션 타임스탬프 (1단계와 2단계에서 동일한 타임스탬프 사용)
-    private String sessionTimestamp;
-
 
     /**
      * 배포 환경 최적화된 전체 크롤링 프로세스
+     * 이어서 실행할 세션(실패 또는 중단)이 있으면 그 세션의 남은 단위를 먼저 마치고, 항상 새 세션으로 새 기사를 수집한다.
+     * 남은 단위가 다시 실패해도 새 세션은 실행한다.
      */
     public void runDeploymentOptimizedCrawling() {
         // 🚨 디버깅: 호출자 추적
@@ -62,466 +66,284 @@ public class DeploymentOptimizedCrawlerService {
         for (int i = 2; i < Math.min(stackTrace.length, 7); i++) {
             log.info("  -> {}", stackTrace[i].toString());
         }
-        
+
         log.info("배포 환경 최적화 크롤링 시작");
-        
+        crawlSessionService.claimResumable().ifPresent(leftover -> {
+            try {
+                runSession(leftover);
+            } catch (RuntimeException e) {
+                log.warn("이전 세션 {}의 남은 단위 재실행 실패, 새 세션으로 계속: {}", leftover.getSessionId(), e.getMessage());
+            }
+        });
+        runSession(crawlSessionService.create());
+    }
+
+    /**
+     * 지정한 세션 재개 (실패했거나 중단된 세션만 가능)
+     */
+    public void resumeSession(String sessionId) {
+        CrawlSession session = crawlSessionService.claim(sessionId)
+            .orElseThrow(() -> new IllegalStateException("재개할 수 없는 세션 (진행 중이거나 완료됨): " + sessionId));
+        log.info("크롤링 세션 재개 요청: {}", sessionId);
+        runSession(session);
+    }
+
+    private void runSession(CrawlSession session) {
         try {
-            // 크롤링 세션 시작 시 타임스탬프 설정
-            sessionTimestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm"));
-            log.info("크롤링 세션 타임스탬프: {}", sessionTimestamp);
-            
+            String timestamp = session.getFileTimestamp();
+            log.info("크롤링 세션: {}, 타임스탬프: {}", session.getSessionId(), timestamp);
+            seenArticleFilter.startRun();
+
             // 1단계: 뉴스 목록 크롤링 → 파일서버 저장
             log.info("1단계: 뉴스 목록 크롤링 및 파일서버 저장");
-            crawlAndSaveNewsList();
-            
+            crawlAndSaveNewsList(session);
+
             // 2단계: 파일서버에서 뉴스 목록 조회 → 상세 크롤링 → 파일서버 저장
             log.info("2단계: 뉴스 상세 크롤링 및 파일서버 저장");
-            crawlAndSaveNewsDetails();
-            
-            // 3단계: 파일서버 기반 중복 제거
-            log.info("3단계: 파일서버 기반 중복 제거");
-            runDeduplication();
-            
+            Map<String, List<NewsDetail>> detailedByCategory = crawlAndSaveNewsDetails(session);
+
+            // 3단계: 중복 제거 (결과는 파일서버에 저장)
+            log.info("3단계: 중복 제거 ({})", dedupEngine);
+            runDeduplication(session, detailedByCategory);
+
             // 4단계: JPA 기반 DB 저장
             log.info("4단계: JPA 기반 DB 저장");
-            saveToDatabase();
-            
-            log.info("배포 환경 최적화 크롤링 완료!");
-            
+            List<String> ingested = saveToDatabase(session);
+            markSeen(session, ingested, detailedByCategory);
+
+            Set<String> completed = crawlSessionService.completedCategories(session, CrawlStage.INGEST);
+            if (completed.size() < CrawlSessionService.CATEGORIES.size()) {
+                List<String> incomplete = CrawlSessionService.CATEGORIES.stream()
+                    .filter(category -> !completed.contains(category))
+                    .toList();
+                throw new IllegalStateException("완료되지 않은 카테고리: " + incomplete);
+            }
+
+            crawlSessionService.complete(session);
+            log.info("배포 환경 최적화 크롤링 완료! 증분 수집: {}", seenArticleFilter.getRunStats());
+
         } catch (Exception e) {
-            log.error("배포 환경 크롤링 실패: {}", e.getMessage(), e);
+            crawlSessionService.fail(session, e.getMessage());
+            log.error("배포 환경 크롤링 실패 (세션 {}은 다음 실행에서 이어서 진행): {}", session.getSessionId(), e.getMessage(), e);
             throw new RuntimeException("배포 환경 크롤링 실패", e);
         }
     }
 
     /**
-     * 1단계: 뉴스 목록 크롤링 및 파일서버 저장
+     * 1단계: 뉴스 목록 크롤링 및 파일서버 저장 (목록 파일이 저장되지 않은 카테고리만)
      */
-    private void crawlAndSaveNewsList() {
-        log.info("뉴스 목록 크롤링 시작 - 목표: {}개씩", targetCount);
-        
-        Map<String, List<NewsDetail>> newsList = naverNewsCrawler.crawlAllCategories(targetCount);
-        
+    private void crawlAndSaveNewsList(CrawlSession session) {
+        List<String> pending = crawlSessionService.pendingCategories(session, CrawlStage.LIST);
+        if (pending.isEmpty()) {
+            log.info("뉴스 목록 크롤링 이미 완료됨");
+            return;
+        }
+        log.info("뉴스 목록 크롤링 시작 - 목표: {}개씩, 대상: {}", targetCount, pending);
+
+        Map<String, List<NewsDetail>> newsList = naverNewsCrawler.crawlCategories(pending, targetCount);
+
         int totalCount = newsList.values().stream()
             .mapToInt(List::size)
             .sum();
-        
+
         log.info("뉴스 목록 크롤링 완료 - 총 {}개", totalCount);
-        
-        // 파일서버에 뉴스 목록 저장
-        for (Map.Entry<String, List<NewsDetail>> entry : newsList.entrySet()) {
-            String category = entry.getKey();
-            List<NewsDetail> categoryNews = entry.getValue();
-            
-            try {
-                fileServerService.saveNewsListToCsvWithTimestamp(category, categoryNews, "list", sessionTimestamp);
-                log.info("{} 카테고리 뉴스 목록 파일서버 저장 완료: {}개", category, categoryNews.size());
-            } catch (Exception e) {
-                log.error("{} 카테고리 뉴스 목록 파일서버 저장 실패: {}", category, e.getMessage());
+
+        // 파일서버에 뉴스 목록 저장 (카테고리 파일 동시 업로드)
+        List<String> failed = fileServerService.saveNewsListsToCsvWithTimestamp(newsList, "list", session.getFileTimestamp());
+        for (String category : pending) {
+            if (!newsList.containsKey(category)) {
+                crawlSessionService.markFailed(session, CrawlStage.LIST, category, "목록 크롤링 실패");
+            } else if (failed.contains(category)) {
+                crawlSessionService.markFailed(session, CrawlStage.LIST, category, "목록 파일 저장 실패");
+            } else {
+                crawlSessionService.markDone(session, CrawlStage.LIST, category, newsList.get(category).size());
             }
         }
+        log.info("뉴스 목록 파일서버 저장 완료: {}개 카테고리, 실패 {}", newsList.size() - failed.size(), failed);
     }
 
     /**
      * 2단계: 파일서버에서 뉴스 목록 조회 → 상세 크롤링 → 파일서버 저장
+     * 9개 카테고리의 상세 요청은 NewsDetailCrawler의 공유 풀에서 한꺼번에 처리한다 (요청 속도는 호스트별로 제한).
+     * 이전 시도에서 상세 파일까지 저장한 카테고리는 다시 받지 않고, 3단계가 남아 있으면 저장된 상세 파일을 읽어 반환한다.
      */
-    private void crawlAndSaveNewsDetails() {
-        log.info("뉴스 상세 크롤링 시작");
-        
-        String[] categories = {"POLITICS", "ECONOMY", "SOCIETY", "LIFE", "INTERNATIONAL", "IT_SCIENCE", "VEHICLE", "TRAVEL_FOOD", "ART"};
-        
-        for (String category : categories) {
+    private Map<String, List<NewsDetail>> crawlAndSaveNewsDetails(CrawlSession session) {
+        String timestamp = session.getFileTimestamp();
+        List<String> pending = crawlSessionService.pendingCategories(session, CrawlStage.DETAIL);
+        log.info("뉴스 상세 크롤링 시작 - 대상: {}", pending);
+
+        Map<String, List<NewsDetail>> newsByCategory = new LinkedHashMap<>();
+        for (String category : pending) {
             try {
                 // 파일서버에서 뉴스 목록 조회 (세션 타임스탬프 사용)
-                List<NewsDetail> newsList = fileServerService.getNewsListFromCsvWithTimestamp(category, "list", sessionTimestamp);
+                List<NewsDetail> newsList = fileServerService.getNewsListFromCsvWithTimestamp(category, "list", timestamp);
                 if (newsList.isEmpty()) {
                     log.info("{} 카테고리 뉴스 목록이 비어있음", category);
-                    continue;
                 }
-                
-                // 상세 크롤링
-                List<NewsDetail> detailedNews = crawlCategoryDetails(category, newsList);
-                
-                // 파일서버에 상세 정보 저장 (동일한 세션 타임스탬프 사용)
-                fileServerService.saveNewsListToCsvWithTimestamp(category, detailedNews, "detail", sessionTimestamp);
-                log.info("{} 카테고리 상세 크롤링 완료: {}개", category, detailedNews.size());
-                
+                newsByCategory.put(category, newsList);
             } catch (Exception e) {
-                log.error("{} 카테고리 상세 크롤링 실패: {}", category, e.getMessage());
+                log.error("{} 카테고리 뉴스 목록 조회 실패: {}", category, e.getMessage());
+                crawlSessionService.markFailed(session, CrawlStage.DETAIL, category, "목록 파일 조회 실패: " + e.getMessage());
             }
         }
-        
-        log.info("뉴스 상세 크롤링 완료");
-    }
 
-    /**
-     * 카테고리별 상세 크롤링
-     */
-    private List<NewsDetail> crawlCategoryDetails(String category, List<NewsDetail> newsList) {
-        log.info("{} 카테고리 상세 크롤링 시작: {}개", category, newsList.size());
-        
-        List<NewsDetail> detailedNews = new ArrayList<>();
-        ExecutorService executor = Executors.newFixedThreadPool(3);
-        List<Future<NewsDetail>> futures = new ArrayList<>();
-
-        for (NewsDetail news : newsList) {
-            futures.add(executor.submit(() -> crawlSingleNewsDetail(news)));
+        // 상세 크롤링 (전체 카테고리 동시 진행)
+        Map<String, List<NewsDetail>> detailedByCategory = new LinkedHashMap<>();
+        if (!newsByCategory.isEmpty()) {
+            detailedByCategory.putAll(newsDetailCrawler.crawlDetails(newsByCategory));
         }
 
-        executor.shutdown();
-        try {
-            for (Future<NewsDetail> future : futures) {
-                NewsDetail detailedNewsItem = future.get();
-                if (detailedNewsItem != null) {
-                    detailedNews.add(detailedNewsItem);
-                }
+        // 파일서버에 상세 정보 저장 (동일한 세션 타임스탬프 사용, 카테고리 파일 동시 업로드)
+        List<String> failed = fileServerService.saveNewsListsToCsvWithTimestamp(detailedByCategory, "detail", timestamp);
+        for (String category : newsByCategory.keySet()) {
+            List<NewsDetail> details = detailedByCategory.get(category);
+            if (details == null || failed.contains(category)) {
+                crawlSessionService.markFailed(session, CrawlStage.DETAIL, category, "상세 파일 저장 실패");
+                detailedByCategory.remove(category);
+            } else {
+                crawlSessionService.markDone(session, CrawlStage.DETAIL, category, details.size());
+                log.info("{} 카테고리 상세 크롤링 완료: {}개", category, details.size());
             }
-        } catch (Exception e) {
-            log.error("{} 카테고리 상세 크롤링 실패: {}", category, e.getMessage());
         }
 
-        log.info("{} 카테고리 상세 크롤링 완료: {}개", category, detailedNews.size());
-        return detailedNews;
-    }
-
-    /**
-     * 개별 뉴스 상세 크롤링
-     */
-    private NewsDetail crawlSingleNewsDetail(NewsDetail news) {
-        try {
-            // 요청 간격 조절
-            Thread.sleep(requestDelay);
-            
-            Document doc = Jsoup.connect(news.getLink())
-                .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                .timeout(10000)
-                .get();
-
-            // 제목은 이미 크롤링할 때 받아온 것을 사용 (원래 로직)
-            
-            // 내용 추출
-            String content = extractContent(doc);
-            
-            // 기자명 추출
-            String reporter = extractReporter(doc);
-            
-            // 날짜 추출
-            String date = extractDate(doc);
-            
-            // 이미지 URL 추출
-            String imageUrl = extractImageUrl(doc);
-
-            return NewsDetail.builder()
-                .link(news.getLink())
-                .title(news.getTitle())  // 원래 로직: 이미 크롤링할 때 받아온 제목 사용
-                .press(news.getPress())
-                .content(content)
-                .reporter(reporter)
-                .date(date != null ? date : news.getDate())
-                .categoryName(news.getCategoryName())
-                .imageUrl(imageUrl)
-                .trusted(1)  // trusted 필드 추가
-                .oidAid(extractOidAidFromUrl(news.getLink()))  // oid_aid 추가
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        } catch (Exception e) {
-            log.warn("뉴스 상세 크롤링 실패: {} - {}", news.getLink(), e.getMessage());
-            // 실패 시 기본 정보만 반환
-            return NewsDetail.builder()
-                .link(news.getLink())
-                .title(news.getTitle())
-                .press(news.getPress())
-                .content("상세 내용 크롤링 실패")
-                .reporter("")
-                .date(news.getDate())
-                .categoryName(news.getCategoryName())
-                .imageUrl("")
-                .trusted(1)  // trusted 필드 추가
-                .oidAid(extractOidAidFromUrl(news.getLink()))  // oid_aid 추가
-                .createdAt(LocalDateTime.now())
-                .build();
+        // 이전 시도에서 상세 수집을 마쳤고 중복 제거가 남은 카테고리
+        for (String category : crawlSessionService.pendingCategories(session, CrawlStage.DEDUP)) {
+            if (!detailedByCategory.containsKey(category)) {
+                detailedByCategory.put(category, fileServerService.getNewsListFromCsvWithTimestamp(category, "detail", timestamp));
+            }
         }
-    }
-
 
+        log.info("뉴스 상세 크롤링 완료");
+        return detailedByCategory;
+    }
 
     /**
-     * 내용 추출
+     * 중복 제거 실행 (중복 제거가 끝나지 않은 카테고리만)
+     * native: 2단계 결과를 메모리에서 바로 받아 처리, python: 세션 타임스탬프의 detail 파일을 Python 서비스가 다시 읽어 처리
+     * Python 서비스가 세션 타임스탬프를 지원하지 않으면(재개한 세션의 파일을 찾지 못하고 다른 크롤링 파일을 읽음) Java 엔진으로 처리한다.
      */
-    private String extractContent(Document doc) {
-        try {
-            // VOD 기사 체크 (스킵 대상)
-            if (doc.select("#contents > div._VOD_PLAYER_WRAP").size() > 0) {
-                log.debug("VOD 기사로 스킵");
-                return null;
-            }
-
-            // 네이버 뉴스 본문 추출 (정확한 선택자)
-            Element contentElement = doc.selectFirst("#dic_area");
-            if (contentElement != null) {
-
-                // 기사만 가져올 경우
-//                String content = contentElement.text().trim();
-                String content = contentElement.outerHtml();
+    private void runDeduplication(CrawlSession session, Map<String, List<NewsDetail>> detailedByCategory) {
+        List<String> pending = crawlSessionService.pendingCategories(session, CrawlStage.DEDUP);
+        if (pending.isEmpty()) {
+            log.info("중복 제거 대상 없음");
+            return;
+        }
 
-                
-                // 본문이 너무 짧으면 제외
-                if (content.length() < 120) {   
-                    log.debug("본문이 너무 짧아서 제외: {}자", content.length());
-                    return null;
-                }
-                
-                return content;
-            }
-            
-            return "내용을 추출할 수 없습니다.";
-            
-        } catch (Exception e) {
-            return "내용 추출 중 오류가 발생했습니다.";
+        boolean nativeEngine = "native".equalsIgnoreCase(dedupEngine);
+        if (!nativeEngine && fileServerService.isColumnarFormat()) {
+            // Python 서비스는 CSV 단계 파일만 읽을 수 있음
+            log.warn("columnar 단계 파일은 Python 중복제거 서비스가 읽을 수 없어 Java 엔진으로 처리");
+            nativeEngine = true;
+        }
+        if (nativeEngine) {
+            runNativeDeduplication(session, pending, detailedByCategory);
+            return;
         }
-    }
 
-    /**
-     * 기자명 추출
-     */
-    private String extractReporter(Document doc) {
-        try {
-            // 우선순위 1: 일반적인 기자 정보 필드
-            Elements reporterElements = doc.select("#ct > div.media_end_head.go_trans > div.media_end_head_info.nv_notrans > div.media_end_head_journalist > a > em");
-            if (!reporterElements.isEmpty()) {
-                List<String> reporterNames = new ArrayList<>();
-                for (Element element : reporterElements) {
-                    String reporterName = element.text().trim();
-                    if (!reporterName.isEmpty()) {
-                        reporterNames.add(cleanReporterName(reporterName));
-                    }
-                }
-                if (!reporterNames.isEmpty()) {
-                    return String.join(", ", reporterNames);
-                }
-            }
-            
-            // 우선순위 2: 여러 기자인 경우의 선택자
-            Elements multiReporterElements = doc.select("#_JOURNALIST_BUTTON > em");
-            if (!multiReporterElements.isEmpty()) {
-                List<String> reporterNames = new ArrayList<>();
-                for (Element element : multiReporterElements) {
-                    String reporterName = element.text().trim();
-                    if (!reporterName.isEmpty()) {
-                        reporterNames.add(cleanReporterName(reporterName));
-                    }
-                }
-                if (!reporterNames.isEmpty()) {
-                    return String.join(", ", reporterNames);
-                }
-            }
-            
-            // 우선순위 3: 대체 선택자에서 기자 정보 추출
-            Elements bylineSpans = doc.select("#contents > div.byline > p > span");
-            if (!bylineSpans.isEmpty()) {
-                List<String> reporterParts = new ArrayList<>();
-                for (Element span : bylineSpans) {
-                    String spanText = span.text().trim();
-                    if (!spanText.isEmpty()) {
-                        // 첫 번째 띄어쓰기 또는 괄호까지의 글자만 추출
-                        int spaceIndex = spanText.indexOf(' ');
-                        int parenthesisIndex = spanText.indexOf('(');
-                        
-                        int endIndex = -1;
-                        if (spaceIndex > 0 && parenthesisIndex > 0) {
-                            endIndex = Math.min(spaceIndex, parenthesisIndex);
-                        } else if (spaceIndex > 0) {
-                            endIndex = spaceIndex;
-                        } else if (parenthesisIndex > 0) {
-                            endIndex = parenthesisIndex;
-                        }
-                        
-                        if (endIndex > 0) {
-                            reporterParts.add(cleanReporterName(spanText.substring(0, endIndex)));
-                        } else {
-                            reporterParts.add(cleanReporterName(spanText));
-                        }
-                    }
+        log.info("파일서버 기반 중복 제거 시작");
+
+        // Python 기반 중복제거 실행 (세션 타임스탬프의 detail 파일만 읽도록 지정, 카테고리별로 실패한 것만 다시 시도할 수 있도록 나눠서 호출)
+        String timestamp = session.getFileTimestamp();
+        List<String> unsupported = new ArrayList<>();
+        for (String category : pending) {
+            try {
+                DeduplicationResponse response = pythonDeduplicationIntegrationService.runDeduplicationForCategory(category, timestamp);
+                if (!timestamp.equals(responseTimestamp(response))) {
+                    // 타임스탬프를 모르는 서비스는 최근 30분의 최신 detail을 읽고 현재 시각으로 저장하므로 결과를 쓰지 않음
+                    unsupported.add(category);
+                    continue;
                 }
-                if (!reporterParts.isEmpty()) {
-                    return String.join(", ", reporterParts);
+                int detailCount = detailedByCategory.getOrDefault(category, List.of()).size();
+                if (response.getOriginalCount() == 0 && detailCount > 0) {
+                    crawlSessionService.markFailed(session, CrawlStage.DEDUP, category,
+                        "Python 중복제거 서비스가 세션 detail 파일을 읽지 못함: " + response.getMessage());
+                    continue;
                 }
+                crawlSessionService.markDone(session, CrawlStage.DEDUP, category, response.getDeduplicatedCount());
+            } catch (Exception e) {
+                crawlSessionService.markFailed(session, CrawlStage.DEDUP, category, e.getMessage());
             }
-            
-            return "";
-            
-        } catch (Exception e) {
-            return "";
         }
+        if (!unsupported.isEmpty()) {
+            log.warn("Python 중복제거 서비스가 세션 타임스탬프를 지원하지 않아 Java 엔진으로 처리: {}", unsupported);
+            runNativeDeduplication(session, unsupported, detailedByCategory);
+        }
+
+        log.info("파일서버 기반 중복 제거 완료");
     }
 
-    /**
-     * 날짜 추출
-     */
-    private String extractDate(Document doc) {
-        try {
-            // 네이버 뉴스 날짜 정보 추출 (정확한 선택자)
-            Element dateElement = doc.selectFirst("span.media_end_head_info_datestamp_time._ARTICLE_DATE_TIME");
-            if (dateElement != null) {
-                String date = dateElement.attr("data-date-time");
-                if (!date.isEmpty()) {
-                    return date;
-                }
-            }
-            
-            return LocalDateTime.now().toString();
-            
-        } catch (Exception e) {
-            return LocalDateTime.now().toString();
-        }
+    private void runNativeDeduplication(CrawlSession session, List<String> categories, Map<String, List<NewsDetail>> detailedByCategory) {
+        Map<String, List<NewsDetail>> input = new LinkedHashMap<>();
+        categories.forEach(category -> input.put(category, detailedByCategory.getOrDefault(category, List.of())));
+        NativeDeduplicationService.Outcome outcome = nativeDeduplicationService.deduplicateAndSave(input, session.getFileTimestamp());
+        outcome.results().forEach((category, response) ->
+            crawlSessionService.markDone(session, CrawlStage.DEDUP, category, response.getDeduplicatedCount()));
+        outcome.failures().forEach((category, error) ->
+            crawlSessionService.markFailed(session, CrawlStage.DEDUP, category, error));
     }
 
-    /**
-     * 이미지 URL 추출
-     */
-    private String extractImageUrl(Document doc) {
-        try {
-            // 우선순위 1: 메인 이미지
-            Element imageElement = doc.selectFirst("#img1");
-            if (imageElement != null) {
-                String imageUrl = imageElement.attr("src");
-                if (!imageUrl.isEmpty()) {
-                    return imageUrl;
-                }
-            }
-            
-            // 우선순위 2: 대체 이미지 선택자들
-            Element altImageElement = doc.selectFirst("div.end_body_wrp img");
-            if (altImageElement != null) {
-                String imageUrl = altImageElement.attr("src");
-                if (!imageUrl.isEmpty()) {
-                    return imageUrl;
-                }
-            }
-            
-            // 우선순위 3: og:image 메타 태그
-            Element ogImageElement = doc.selectFirst("meta[property=og:image]");
-            if (ogImageElement != null) {
-                String imageUrl = ogImageElement.attr("content");
-                if (!imageUrl.isEmpty()) {
-                    return imageUrl;
-                }
-            }
-            
-            // 우선순위 4: twitter:image 메타 태그
-            Element twitterImageElement = doc.selectFirst("meta[name=twitter:image]");
-            if (twitterImageElement != null) {
-                String imageUrl = twitterImageElement.attr("content");
-                if (!imageUrl.isEmpty()) {
-                    return imageUrl;
-                }
-            }
-            
-            return "";
-            
-        } catch (Exception e) {
-            return "";
-        }
+    // Python 서비스가 실제로 읽고 저장한 세션 타임스탬프 (지원하지 않는 이전 버전이면 null)
+    private static String responseTimestamp(DeduplicationResponse response) {
+        Object value = response.getStatistics() != null ? response.getStatistics().get("file_timestamp") : null;
+        return value != null ? value.toString() : null;
     }
 
     /**
-     * 기자 이름에서 "기자" 텍스트를 안전하게 제거
+     * 파일서버 기반 DB 저장 (이 세션의 단계 파일, DB 저장이 끝나지 않은 카테고리만)
+     *
+     * @return 이번에 저장을 마친 카테고리
      */
-    private String cleanReporterName(String reporterName) {
-        if (reporterName == null || reporterName.trim().isEmpty()) {
-            return "";
+    private List<String> saveToDatabase(CrawlSession session) {
+        List<String> pending = crawlSessionService.pendingCategories(session, CrawlStage.INGEST);
+        if (pending.isEmpty()) {
+            log.info("DB 저장 대상 없음");
+            return List.of();
         }
-        
-        String cleaned = reporterName.trim();
-        
-        // "기자"로 끝나는 경우만 제거 (이름에 "기자"가 포함된 경우는 보존)
-        if (cleaned.endsWith(" 기자")) {
-            cleaned = cleaned.substring(0, cleaned.length() - 3).trim();
-        } else if (cleaned.endsWith("기자")) {
-            cleaned = cleaned.substring(0, cleaned.length() - 2).trim();
-        }
-        
-        // 다른 직책들도 제거
-        String[] titles = {" 특파원", "특파원", " 객원기자", "객원기자", " 통신원", "통신원"};
-        for (String title : titles) {
-            if (cleaned.endsWith(title)) {
-                cleaned = cleaned.substring(0, cleaned.length() - title.length()).trim();
-                break;
+        log.info("파일서버 기반 DB 저장 시작 - 대상: {}", pending);
+
+        Map<String, Object> result = fileServerDatabaseService.saveSessionToDatabase(session.getFileTimestamp(), pending);
+        @SuppressWarnings("unchecked")
+        Map<String, Integer> saved = (Map<String, Integer>) result.get("savedCategories");
+        for (String category : pending) {
+            if (saved.containsKey(category)) {
+                crawlSessionService.markDone(session, CrawlStage.INGEST, category, saved.get(category));
+            } else {
+                crawlSessionService.markFailed(session, CrawlStage.INGEST, category, "DB 저장 실패");
             }
         }
-        
-        return cleaned;
-    }
 
-    /**
-     * URL에서 oid_aid 추출
-     */
-    private String extractOidAidFromUrl(String url) {
         try {
-            // 새로운 URL 패턴: https://n.news.naver.com/mnews/article/{oid}/{aid}
-            if (url.contains("/mnews/article/")) {
-                String[] parts = url.split("/mnews/article/");
-                if (parts.length > 1) {
-                    String[] oidAid = parts[1].split("/");
-                    if (oidAid.length >= 2) {
-                        String oid = oidAid[0];
-                        String aid = oidAid[1].split("\\?")[0]; // 쿼리 파라미터 제거
-                        return oid + "-" + aid;  // 파이썬 코드와 동일하게 "-" 사용
-                    }
-                }
-            }
-            // 기존 URL 패턴: https://news.naver.com/main/read.naver?oid=xxx&aid=xxx
-            else if (url.contains("oid=") && url.contains("aid=")) {
-                String oid = url.split("oid=")[1].split("&")[0];
-                String aid = url.split("aid=")[1].split("&")[0];
-                return oid + "-" + aid;  // 파이썬 코드와 동일하게 "-" 사용
-            }
+            fileServerDatabaseService.summarizeLatestData();
         } catch (Exception e) {
-            log.warn("URL에서 oid_aid 추출 실패: {}", url);
+            log.warn("최신 데이터 현황 요약 실패: {}", e.getMessage());
         }
-        return "extracted_" + Math.abs(url.hashCode());
+        log.info("파일서버 기반 DB 저장 완료");
+        return new ArrayList<>(saved.keySet());
     }
 
-
-
     /**
-     * 중복 제거 실행
+     * 적재까지 끝난 기사를 기적재 기사 필터에 등록
+     * 중복으로 제거된 기사도 이미 처리한 기사이므로 등록하고, 상세 수집에 실패한 기사는 다음 크롤링에서 다시 시도하도록 제외한다.
      */
-    private void runDeduplication() {
-        log.info("파일서버 기반 중복 제거 시작");
-        
-        try {
-            // Python 기반 중복제거 실행 (파일서버 경로 전달)
-            pythonDeduplicationIntegrationService.runFileServerDeduplication();
-            
-            // 중복 제거 완료 로그
-            log.info("파이썬 파일서버 중복 제거 완료");
-            
-            log.info("파일서버 기반 중복 제거 완료");
-            
-        } catch (Exception e) {
-            log.error("파일서버 기반 중복 제거 실패: {}", e.getMessage());
-            throw new RuntimeException("파일서버 기반 중복 제거 실패", e);
+    private void markSeen(CrawlSession session, List<String> ingested, Map<String, List<NewsDetail>> detailedByCategory) {
+        List<String> oidAids = new ArrayList<>();
+        for (String category : ingested) {
+            try {
+                List<NewsDetail> details = detailedByCategory.get(category);
+                if (details == null) {
+                    // 이전 시도에서 중복 제거까지 마친 카테고리
+                    details = fileServerService.getNewsListFromCsvWithTimestamp(category, "detail", session.getFileTimestamp());
                 }
-    }
-    
-    /**
-     * 파일서버 기반 DB 저장
-     */
-    private void saveToDatabase() {
-        log.info("파일서버 기반 DB 저장 시작");
-        
-        try {
-            fileServerDatabaseService.saveLatestDataToDatabase();
-            fileServerDatabaseService.summarizeLatestData();
-            log.info("파일서버 기반 DB 저장 완료");
-            
-        } catch (Exception e) {
-            log.error("파일서버 기반 DB 저장 실패: {}", e.getMessage());
-            throw new RuntimeException("파일서버 기반 DB 저장 실패", e);
+                details.stream()
+                    .filter(news -> !NewsDetailCrawler.FAILED_CONTENT.equals(news.getContent()))
+                    .map(NewsDetail::getOidAid)
+                    .forEach(oidAids::add);
+            } catch (Exception e) {
+                // 한 카테고리를 못 읽어도 나머지는 등록 (빠진 기사는 다음 크롤링에서 DB 중복 검사로 걸러짐)
+                log.warn("기적재 기사 필터 등록 실패: {} - {}", category, e.getMessage());
+            }
         }
+        seenArticleFilter.markAll(oidAids);
+        log.info("기적재 기사 필터 등록: {}개", oidAids.size());
     }
-    
-
 }
@@ -4,20 +4,28 @@ import com.newnormallist.crawlerservice.dto.NewsDetail;
 import com.newnormallist.crawlerservice.dto.RelatedNewsDetail;
 import com.newnormallist.crawlerservice.entity.News;
 import com.newnormallist.crawlerservice.entity.RelatedNews;
-import com.newnormallist.crawlerservice.repository.NewsRepository;
-import com.newnormallist.crawlerservice.repository.RelatedNewsRepository;
+import com.newnormallist.crawlerservice.repository.NewsBulkJdbcRepository;
 import com.newnormallist.crawlerservice.enums.DedupState;
 import com.newnormallist.crawlerservice.enums.Category;
+import com.newnormallist.crawlerservice.util.ArticleContentNormalizer;
+import com.newnormallist.crawlerservice.util.ArticleContentNormalizer.NormalizedContent;
+import com.newnormallist.crawlerservice.util.PublishedAtParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
 import java.time.LocalDateTime;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 
 /**
@@ -25,14 +33,16 @@ import java.util.List;
  * 
  * 역할:
  * - 파일서버에 저장된 중복제거 완료 데이터를 MySQL DB에 저장
- * - JPA 기반 엔티티 변환 및 트랜잭션 관리
+ * - 엔티티 변환 및 카테고리 단위 트랜잭션 관리
  * - 데이터 무결성 및 중복 방지
  * 
  * 기능:
  * - CSV 파싱: 파일서버의 CSV 데이터를 JPA 엔티티로 변환
  * - 뉴스 저장: 중복제거된 뉴스를 news 테이블에 저장
+ * - 본문 정규화: 정리된 HTML / 평문 / 요약을 적재 시 한 번 만들어 news_content 테이블에 저장
  * - 연관뉴스 저장: 유사도 기반 연관뉴스를 related_news 테이블에 저장
- * - 배치 처리: 대량 데이터를 효율적으로 일괄 저장
+ * - 배치 처리: oid_aid 중복은 IN 조회 한 번, INSERT는 JDBC 배치 (crawler.ingest.batch-size 단위)
+ * - 병렬 처리: 카테고리별 트랜잭션을 crawler.ingest.parallelism개까지 동시에 실행, 처리 속도(rows/sec) 보고
  * - 통계 제공: 저장된 데이터의 현황 요약
  */
 @Slf4j
@@ -40,129 +50,226 @@ import java.util.List;
 @RequiredArgsConstructor
 public class FileServerDatabaseService {
 
-    private final NewsRepository newsRepository;
-    private final RelatedNewsRepository relatedNewsRepository;
+    private final NewsBulkJdbcRepository newsBulkJdbcRepository;
     private final FileServerService fileServerService;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleContentNormalizer articleContentNormalizer;
+
+    @Value("${crawler.ingest.batch-size:500}")
+    private int batchSize;
+
+    @Value("${crawler.ingest.parallelism:4}")
+    private int parallelism;
 
     /**
      * 파일서버 최신 데이터를 DB에 저장
+     * 카테고리마다 별도 트랜잭션으로 병렬 처리하며, 실패한 카테고리만 롤백된다.
      */
-    @Transactional
-    public void saveLatestDataToDatabase() {
+    public Map<String, Object> saveLatestDataToDatabase() {
         log.info("📁 파일서버 최신 데이터 DB 저장 시작");
         
+        String latestTimePath = fileServerService.getLatestTimePath();
+        log.info("📁 최신 시간대 경로: {}", latestTimePath);
+        
+        List<String> categories = List.of("POLITICS", "ECONOMY", "SOCIETY", "LIFE", "INTERNATIONAL", 
+                             "IT_SCIENCE", "VEHICLE", "TRAVEL_FOOD", "ART");
+        
+        Map<String, Object> result = saveCategories(categories, category -> saveCategory(category, latestTimePath));
+        log.info("📁 파일서버 최신 데이터 DB 저장 완료: {}", result);
+        
+        List<?> failedCategories = (List<?>) result.get("failedCategories");
+        if (!failedCategories.isEmpty()) {
+            throw new RuntimeException("파일서버 DB 저장 실패 카테고리: " + failedCategories);
+        }
+        return result;
+    }
+    
+    /**
+     * 크롤링 세션의 단계 파일을 지정한 카테고리만 DB에 저장 (실패한 카테고리는 예외 대신 결과의 failedCategories로 반환)
+     * savedCategories에는 성공한 카테고리별 저장 뉴스 수가 들어간다.
+     */
+    public Map<String, Object> saveSessionToDatabase(String timestamp, Collection<String> categories) {
+        log.info("📁 크롤링 세션 DB 저장 시작: {} - {}", timestamp, categories);
+        Map<String, Object> result = saveCategories(categories, category -> {
+            List<NewsDetail> newsDetailList = fileServerService.getSessionNewsList(category, "deduplicated", timestamp);
+            List<RelatedNewsDetail> relatedNewsDetailList = fileServerService.getSessionRelatedNews(category, timestamp);
+            return saveBatch(category, newsDetailList, relatedNewsDetailList);
+        });
+        log.info("📁 크롤링 세션 DB 저장 완료: {}", result);
+        return result;
+    }
+    
+    /**
+     * 카테고리별 저장을 parallelism개까지 동시에 실행하고 결과를 합산
+     */
+    private Map<String, Object> saveCategories(Collection<String> categories, Function<String, int[]> saver) {
+        long startedAt = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, categories.size())),
+                new CustomizableThreadFactory("news-ingest-"));
+        Map<String, Future<int[]>> futures = new LinkedHashMap<>();
         try {
-            String latestTimePath = fileServerService.getLatestTimePath();
-            log.info("📁 최신 시간대 경로: {}", latestTimePath);
-            
-            String[] categories = {"POLITICS", "ECONOMY", "SOCIETY", "LIFE", "INTERNATIONAL", 
-                                 "IT_SCIENCE", "VEHICLE", "TRAVEL_FOOD", "ART"};
-            
             for (String category : categories) {
+                futures.put(category, executor.submit(() -> saver.apply(category)));
+            }
+            
+            int newsInserted = 0;
+            int newsSkipped = 0;
+            int relatedSaved = 0;
+            Map<String, Integer> savedCategories = new LinkedHashMap<>();
+            List<String> failedCategories = new ArrayList<>();
+            for (Map.Entry<String, Future<int[]>> entry : futures.entrySet()) {
                 try {
-                    // 1. 중복제거된 뉴스 저장
-                    saveDeduplicatedNewsFromFile(category, latestTimePath);
-                    
-                    // 2. 연관뉴스 저장
-                    saveRelatedNewsFromFile(category, latestTimePath);
-                    
-                } catch (Exception e) {
-                    log.error("📁 {} 카테고리 DB 저장 실패: {}", category, e.getMessage(), e);
-                    throw new RuntimeException(category + " 카테고리 DB 저장 실패", e);
+                    int[] counts = entry.getValue().get();
+                    newsInserted += counts[0];
+                    newsSkipped += counts[1];
+                    relatedSaved += counts[2];
+                    savedCategories.put(entry.getKey(), counts[0]);
+                } catch (ExecutionException e) {
+                    log.error("📁 {} 카테고리 DB 저장 실패: {}", entry.getKey(), e.getCause().getMessage(), e.getCause());
+                    failedCategories.add(entry.getKey());
                 }
             }
             
-            log.info("📁 파일서버 최신 데이터 DB 저장 완료");
+            long elapsedMs = Math.max(1L, System.currentTimeMillis() - startedAt);
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("newsInserted", newsInserted);
+            result.put("newsSkipped", newsSkipped);
+            result.put("relatedSaved", relatedSaved);
+            result.put("elapsedMs", elapsedMs);
+            result.put("rowsPerSecond", Math.round((newsInserted + relatedSaved) * 10000.0 / elapsedMs) / 10.0);
+            result.put("savedCategories", savedCategories);
+            result.put("failedCategories", failedCategories);
+            return result;
             
-        } catch (Exception e) {
-            log.error("📁 파일서버 DB 저장 전체 프로세스 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("파일서버 DB 저장 실패", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("파일서버 DB 저장 중단", e);
+        } finally {
+            executor.shutdown();
         }
     }
     
     /**
-     * 중복제거된 뉴스를 파일에서 읽어서 DB에 저장
+     * 한 카테고리의 중복제거 뉴스 + 연관뉴스를 하나의 트랜잭션으로 저장
+     * (연관뉴스는 같은 카테고리 뉴스를 참조하므로 뉴스 다음에 넣는다)
+     *
+     * @return {저장한 뉴스 수, 이미 있어 건너뛴 뉴스 수, 저장한 연관뉴스 수}
      */
-    private void saveDeduplicatedNewsFromFile(String category, String timePath) {
-        log.info("📁 {} 카테고리 중복제거된 뉴스 DB 저장 시작", category);
+    private int[] saveCategory(String category, String timePath) {
+        // 파일서버 조회는 트랜잭션 밖에서 (DB 커넥션을 잡고 HTTP를 기다리지 않도록)
+        List<NewsDetail> newsDetailList = fileServerService.getNewsListFromCsv(category, "deduplicated", timePath);
+        List<RelatedNewsDetail> relatedNewsDetailList = fileServerService.getRelatedNewsFromCsv(category, timePath);
         
-        try {
-            // FileServerService의 일관된 방식으로 뉴스 조회
-            List<NewsDetail> newsDetailList = fileServerService.getNewsListFromCsv(category, "deduplicated", timePath);
-            
-            if (newsDetailList.isEmpty()) {
-                log.info("📁 중복제거된 뉴스 데이터가 없음: {}/{}", category, "deduplicated");
-                return;
+        return saveBatch(category, newsDetailList, relatedNewsDetailList);
+    }
+    
+    /**
+     * 메모리에 있는 한 카테고리의 중복제거 뉴스 + 연관뉴스를 하나의 트랜잭션으로 저장 (연속 수집 모드의 마이크로 배치용)
+     *
+     * @return {저장한 뉴스 수, 이미 있어 건너뛴 뉴스 수, 저장한 연관뉴스 수}
+     */
+    public int[] saveBatch(String category, List<NewsDetail> newsDetailList, List<RelatedNewsDetail> relatedNewsDetailList) {
+        return saveBatch(category, newsDetailList, relatedNewsDetailList, Set.of());
+    }
+
+    /**
+     * {@link #saveBatch(String, List, List)}와 같고, 이번 배치 기사의 대표가 된 기존 기사(promoteOidAids)를
+     * 같은 트랜잭션에서 KEPT → REPRESENTATIVE로 올린다.
+     */
+    public int[] saveBatch(String category, List<NewsDetail> newsDetailList, List<RelatedNewsDetail> relatedNewsDetailList,
+                           Collection<String> promoteOidAids) {
+        return transactionTemplate.execute(status -> {
+            int[] newsCounts = saveDeduplicatedNews(category, newsDetailList);
+            int relatedCount = saveRelatedNews(category, relatedNewsDetailList);
+            if (!promoteOidAids.isEmpty()) {
+                newsBulkJdbcRepository.promoteToRepresentative(promoteOidAids);
             }
-            
-            List<News> newsEntities = new ArrayList<>();
-            int savedCount = 0;
-            int skippedCount = 0;
-            
-            for (NewsDetail newsDetail : newsDetailList) {
-                if (newsDetail != null) {
-                    // 중복 체크
-                    if (newsRepository.existsByOidAid(newsDetail.getOidAid())) {
-                        log.debug("📁 중복된 뉴스 건너뜀: {}", newsDetail.getOidAid());
-                        skippedCount++;
-                        continue;
-                    }
-                    
-                    News newsEntity = convertToNewsEntity(newsDetail);
-                    newsEntities.add(newsEntity);
-                }
+            return new int[]{newsCounts[0], newsCounts[1], relatedCount};
+        });
+    }
+    
+    /**
+     * 중복제거된 뉴스 저장: 이미 있는 oid_aid는 IN 조회 한 번으로 걸러내고 나머지를 JDBC 배치로 INSERT
+     */
+    private int[] saveDeduplicatedNews(String category, List<NewsDetail> newsDetailList) {
+        if (newsDetailList.isEmpty()) {
+            log.info("📁 중복제거된 뉴스 데이터가 없음: {}/{}", category, "deduplicated");
+            return new int[]{0, 0};
+        }
+        
+        Set<String> oidAids = new HashSet<>();
+        for (NewsDetail newsDetail : newsDetailList) {
+            if (newsDetail != null && newsDetail.getOidAid() != null) {
+                oidAids.add(newsDetail.getOidAid());
             }
-            
-            if (!newsEntities.isEmpty()) {
-                newsRepository.saveAll(newsEntities);
-                savedCount = newsEntities.size();
-                log.info("📁 {} 카테고리 중복제거된 뉴스 DB 저장 완료: {}개 저장, {}개 건너뜀", category, savedCount, skippedCount);
-            } else {
-                log.info("📁 {} 카테고리 저장할 뉴스 없음 (모두 중복)", category);
+        }
+        Set<String> existing = newsBulkJdbcRepository.findExistingOidAids(oidAids);
+        
+        List<News> newsEntities = new ArrayList<>();
+        Set<String> pending = new HashSet<>();
+        int skippedCount = 0;
+        for (NewsDetail newsDetail : newsDetailList) {
+            if (newsDetail == null) {
+                continue;
             }
-            
-        } catch (Exception e) {
-            log.error("📁 {} 카테고리 중복제거된 뉴스 DB 저장 실패: {}", category, e.getMessage());
-            throw new RuntimeException("중복제거된 뉴스 DB 저장 실패", e);
+            // DB에 이미 있거나 같은 파일 안에서 반복된 기사는 건너뜀
+            if (existing.contains(newsDetail.getOidAid()) || !pending.add(newsDetail.getOidAid())) {
+                skippedCount++;
+                continue;
+            }
+            newsEntities.add(convertToNewsEntity(newsDetail));
+        }
+        
+        int savedCount = newsEntities.isEmpty() ? 0 : newsBulkJdbcRepository.insertNews(newsEntities, batchSize);
+        // IN 조회 이후 다른 적재가 먼저 넣은 기사는 INSERT에서 무시됨
+        skippedCount += newsEntities.size() - savedCount;
+        if (savedCount > 0) {
+            saveNormalizedContent(newsEntities);
         }
+        log.info("📁 {} 카테고리 중복제거된 뉴스 DB 저장 완료: {}개 저장, {}개 건너뜀", category, savedCount, skippedCount);
+        return new int[]{savedCount, skippedCount};
     }
     
     /**
-     * 연관뉴스를 파일에서 읽어서 DB에 저장
+     * 본문 정규화 결과 저장 (정규화 실패한 기사는 건너뛰고, news-service가 원본 본문으로 처리)
      */
-    private void saveRelatedNewsFromFile(String category, String timePath) {
-        log.info("📁 {} 카테고리 연관뉴스 DB 저장 시작", category);
-        
-        try {
-            // FileServerService의 일관된 방식으로 연관뉴스 조회
-            List<RelatedNewsDetail> relatedNewsDetailList = fileServerService.getRelatedNewsFromCsv(category, timePath);
-            
-            if (relatedNewsDetailList.isEmpty()) {
-                log.info("📁 연관뉴스 데이터가 없음: {}/{}", category, "related");
-                return;
-            }
-            
-            List<RelatedNews> relatedEntities = new ArrayList<>();
-            
-            for (RelatedNewsDetail relatedDetail : relatedNewsDetailList) {
-                if (relatedDetail != null) {
-                    RelatedNews relatedNews = convertToRelatedNewsEntity(relatedDetail);
-                    relatedEntities.add(relatedNews);
+    private void saveNormalizedContent(List<News> newsEntities) {
+        Map<String, NormalizedContent> contents = new LinkedHashMap<>();
+        for (News news : newsEntities) {
+            try {
+                NormalizedContent content = articleContentNormalizer.normalize(news.getContent());
+                if (content != null) {
+                    contents.put(news.getOidAid(), content);
                 }
+            } catch (Exception e) {
+                log.warn("📁 본문 정규화 실패: {} - {}", news.getOidAid(), e.getMessage());
             }
-            
-            if (!relatedEntities.isEmpty()) {
-                relatedNewsRepository.saveAll(relatedEntities);
-                log.info("📁 {} 카테고리 연관뉴스 DB 저장 완료: {}개", category, relatedEntities.size());
-            }
-            
-        } catch (Exception e) {
-            log.error("📁 {} 카테고리 연관뉴스 DB 저장 실패: {}", category, e.getMessage());
-            throw new RuntimeException("연관뉴스 DB 저장 실패", e);
+        }
+        if (!contents.isEmpty()) {
+            newsBulkJdbcRepository.insertNewsContent(contents, batchSize);
         }
     }
     
-
+    /**
+     * 연관뉴스 저장 (같은 쌍은 유사도만 갱신)
+     */
+    private int saveRelatedNews(String category, List<RelatedNewsDetail> relatedNewsDetailList) {
+        if (relatedNewsDetailList.isEmpty()) {
+            log.info("📁 연관뉴스 데이터가 없음: {}/{}", category, "related");
+            return 0;
+        }
+        
+        List<RelatedNews> relatedEntities = new ArrayList<>();
+        for (RelatedNewsDetail relatedDetail : relatedNewsDetailList) {
+            if (relatedDetail != null) {
+                relatedEntities.add(convertToRelatedNewsEntity(relatedDetail));
+            }
+        }
+        
+        int savedCount = newsBulkJdbcRepository.upsertRelatedNews(relatedEntities, batchSize);
+        log.info("📁 {} 카테고리 연관뉴스 DB 저장 완료: {}개", category, savedCount);
+        return savedCount;
+    }
     
     /**
      * RelatedNewsDetail을 RelatedNews 엔티티로 변환
@@ -187,6 +294,7 @@ public class FileServerDatabaseService {
             .content(newsDetail.getContent())
             .reporter(newsDetail.getReporter())
             .publishedAt(newsDetail.getDate())
+            .publishedDateTime(PublishedAtParser.parse(newsDetail.getDate()))
             .imageUrl(newsDetail.getImageUrl())
             .link(newsDetail.getLink())
             .press(newsDetail.getPress())
@@ -1,32 +1,43 @@
 package com.newnormallist.crawlerservice.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newnormallist.crawlerservice.config.FtpConfig;
 import com.newnormallist.crawlerservice.dto.NewsDetail;
 import com.newnormallist.crawlerservice.dto.RelatedNewsDetail;
-import lombok.RequiredArgsConstructor;
+import com.newnormallist.crawlerservice.util.ColumnarStageReader;
+import com.newnormallist.crawlerservice.util.ColumnarStageWriter;
+import com.newnormallist.crawlerservice.util.CsvReader;
+import com.newnormallist.crawlerservice.util.CsvWriter;
+import com.newnormallist.crawlerservice.util.FtpUploader;
+import com.newnormallist.crawlerservice.util.StageRow;
+import com.newnormallist.crawlerservice.util.StageRowWriter;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
-import java.io.*;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 /**
  * 파일서버 관리 서비스
@@ -37,341 +48,444 @@ import java.util.Map;
  * - 시간 기반 디렉터리 구조 관리
  * 
  * 기능:
- * - CSV 파일 저장: 크롤링된 뉴스를 단계별로 저장
- * - CSV 파일 조회: 저장된 뉴스 데이터를 읽어서 객체로 변환
+ * - CSV 파일 저장: 크롤링된 뉴스를 행 단위로 FTP 전송 스트림에 바로 기록
+ * - CSV 파일 조회: HTTP 응답 스트림을 행 단위로 파싱해 객체로 변환
  * - 최신 파일 찾기: 타임스탬프 기반으로 가장 최신 파일 자동 탐색
  * - 디렉터리 구조: /am|pm/yyyy-MM-dd_am|pm/stage/category_stage_yyyy-MM-dd-HH-mm.csv
+ * 
+ * 단계 파일 형식 (crawler.stage-format.type):
+ * - csv: RFC-4180 형식(Python csv 모듈과 동일)이라 본문의 줄바꿈·따옴표가 그대로 보존된다.
+ * - columnar: 컬럼별로 압축한 블록 형식(.nsc). 파일이 작고, 필요한 컬럼만 읽을 수 있다.
+ *   Python 중복제거 서비스는 읽지 못하므로 중복제거 엔진이 native일 때만 사용한다.
+ * 설정은 새로 쓰는 파일의 형식만 정한다. 읽을 때는 설정 형식의 확장자부터 찾고 없으면 다른 형식도 찾으며,
+ * 디코더는 찾은 파일의 확장자로 고른다 (형식을 바꾸기 전에 저장된 세션 파일, Python이 쓴 CSV).
  */
 @Slf4j
 @Service
 public class FileServerService {
 
-    private final ObjectMapper objectMapper;
-    // HTTP 클라이언트 (UTF-8 인코딩 설정)
+    private static final String[] NEWS_HEADER = {"title", "press", "reporter", "date", "link", "imageUrl", "oidAid",
+            "trusted", "content", "dedupState", "categoryName", "createdAt"};
+    private static final String[] RELATED_HEADER = {"repOidAid", "relatedOidAid", "similarity", "category", "createdAt"};
+    private static final String COLUMNAR_EXTENSION = ".nsc";
+    private static final String CSV_EXTENSION = ".csv";
+
+    private final FtpConfig ftpConfig;
+    private final FtpUploader ftpUploader;
+    // HTTP 클라이언트 (응답을 스트림으로 직접 읽음)
     private final RestTemplate restTemplate;
+    // 여러 카테고리 파일 동시 업로드용 (동시 FTP 세션 수는 FtpConnectionPool이 제한)
+    private final ExecutorService uploadExecutor;
     
-    public FileServerService(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+    public FileServerService(FtpConfig ftpConfig, FtpUploader ftpUploader,
+                             @Value("${crawler.ftp.pool-size:4}") int uploadConcurrency) {
+        this.ftpConfig = ftpConfig;
+        this.ftpUploader = ftpUploader;
         this.restTemplate = new RestTemplate();
-        // UTF-8 인코딩을 위한 메시지 컨버터 설정
-        this.restTemplate.getMessageConverters().forEach(converter -> {
-            if (converter instanceof org.springframework.http.converter.StringHttpMessageConverter) {
-                ((org.springframework.http.converter.StringHttpMessageConverter) converter).setDefaultCharset(java.nio.charset.StandardCharsets.UTF_8);
-            }
-        });
+        this.uploadExecutor = Executors.newFixedThreadPool(Math.max(1, uploadConcurrency),
+                new CustomizableThreadFactory("file-upload-"));
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        uploadExecutor.shutdownNow();
     }
     
     @Value("${fileserver.base-path:/tmp/news-data}")
     private String basePath;
     
+    // 단계 파일 형식: csv 또는 columnar
+    @Value("${crawler.stage-format.type:csv}")
+    private String stageFormat;
+    
+    // columnar 형식의 블록당 행 수
+    @Value("${crawler.stage-format.block-rows:256}")
+    private int blockRows;
+    
     // 시간 포맷터
     private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("HH");
+    private static final DateTimeFormatter FILE_TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm");
     
     /**
      * 현재 시간 기반 디렉터리 경로 생성
      * 예: /fileserver/am/2025-08-19_am/ 또는 /fileserver/pm/2025-08-19_pm/
      */
     private String getCurrentTimePath() {
-        LocalDateTime now = LocalDateTime.now();
-        String date = now.format(TIME_FORMAT);
-        String period = Integer.parseInt(now.format(HOUR_FORMAT)) < 12 ? "am" : "pm";
+        return getTimePath(LocalDateTime.now());
+    }
+    
+    private String getTimePath(LocalDateTime time) {
+        String date = time.format(TIME_FORMAT);
+        String period = Integer.parseInt(time.format(HOUR_FORMAT)) < 12 ? "am" : "pm";
         return String.format("%s/%s/%s_%s", basePath, period, date, period);
     }
     
+    /**
+     * 타임스탬프가 속한 시간대 경로 (세션을 나중에 재개해도 같은 디렉터리를 사용하도록)
+     * 형식이 다르면 현재 시간 기준 경로
+     */
+    private String getTimePath(String timestamp) {
+        LocalDateTime time = parseFileTimestamp(timestamp);
+        return time != null ? getTimePath(time) : getCurrentTimePath();
+    }
+    
+    private static LocalDateTime parseFileTimestamp(String timestamp) {
+        try {
+            return LocalDateTime.parse(timestamp, FILE_TIMESTAMP_FORMAT);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+    
+    /**
+     * 컬럼 블록 형식 사용 여부
+     */
+    public boolean isColumnarFormat() {
+        return "columnar".equalsIgnoreCase(stageFormat);
+    }
+    
+    // 새로 쓰는 단계 파일 확장자
+    private String extension() {
+        return isColumnarFormat() ? COLUMNAR_EXTENSION : CSV_EXTENSION;
+    }
+    
+    // 읽을 때 찾는 확장자 (설정 형식 먼저)
+    private List<String> readExtensions() {
+        return isColumnarFormat() ? List.of(COLUMNAR_EXTENSION, CSV_EXTENSION) : List.of(CSV_EXTENSION, COLUMNAR_EXTENSION);
+    }
+    
     /**
      * CSV 파일 저장
      */
     public void saveNewsListToCsv(String category, List<NewsDetail> newsList, String stage) {
-        String dirPath = getCurrentTimePath() + "/" + stage;
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm"));
-        String fileName = category.toLowerCase() + "_" + stage + "_" + timestamp + ".csv";
-        String fullPath = dirPath + "/" + fileName;
+        saveNewsListToCsvWithTimestamp(category, newsList, stage, LocalDateTime.now().format(FILE_TIMESTAMP_FORMAT));
+    }
+    
+    /**
+     * CSV 파일 저장 (타임스탬프 지정)
+     */
+    public void saveNewsListToCsvWithTimestamp(String category, List<NewsDetail> newsList, String stage, String timestamp) {
+        String dirPath = getTimePath(timestamp) + "/" + stage;
+        String fileName = category.toLowerCase() + "_" + stage + "_" + timestamp + extension();
         
         try {
-            // CSV 데이터를 메모리에서 생성
-            StringBuilder csvContent = new StringBuilder();
+            uploadStage(dirPath, fileName, NEWS_HEADER, rows -> writeNewsRows(rows, newsList));
             
-            // CSV 헤더
-            csvContent.append("title,press,reporter,date,link,imageUrl,oidAid,trusted,content,dedupState,categoryName,createdAt\n");
+            log.info("📁 파일서버 업로드 완료: {}/{} - 카테고리: {}, 개수: {}", dirPath, fileName, category, newsList.size());
             
-            // 데이터 쓰기
-            for (NewsDetail news : newsList) {
-                            csvContent.append(String.format("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",%d,\"%s\",\"%s\",\"%s\",\"%s\"%n",
-                escapeCSV(news.getTitle()),
-                escapeCSV(news.getPress()),
-                escapeCSV(news.getReporter()),
-                escapeCSV(news.getDate()),
-                escapeCSV(news.getLink()),
-                escapeCSV(news.getImageUrl()),
-                escapeCSV(news.getOidAid()),
+        } catch (Exception e) {
+            log.error("📁 파일서버 업로드 실패: {}/{}, 오류: {}", dirPath, fileName, e.getMessage());
+            throw new RuntimeException("파일서버 업로드 실패", e);
+        }
+    }
+    
+    private static void writeNewsRows(StageRowWriter rows, List<NewsDetail> newsList) throws IOException {
+        for (NewsDetail news : newsList) {
+            rows.writeRow(
+                news.getTitle(),
+                news.getPress(),
+                news.getReporter(),
+                news.getDate(),
+                news.getLink(),
+                news.getImageUrl(),
+                news.getOidAid(),
                 news.getTrusted() != null ? news.getTrusted() : 1,  // 기본값 1 (true)
-                escapeCSV(news.getContent()),
-                escapeCSV(news.getDedupState()),
-                escapeCSV(news.getCategoryName()),  // categoryName 추가
-                escapeCSV(news.getCreatedAt() != null ? news.getCreatedAt().toString() : "")  // createdAt 추가
-            ));
+                news.getContent(),
+                news.getDedupState(),
+                news.getCategoryName(),
+                news.getCreatedAt()
+            );
+        }
+    }
+    
+    /**
+     * 여러 카테고리의 같은 단계 파일을 동시에 저장 (타임스탬프 지정)
+     * 
+     * @return 저장에 실패한 카테고리 목록
+     */
+    public List<String> saveNewsListsToCsvWithTimestamp(Map<String, List<NewsDetail>> newsByCategory, String stage, String timestamp) {
+        Map<String, Future<?>> futures = new LinkedHashMap<>();
+        newsByCategory.forEach((category, newsList) -> futures.put(category,
+                uploadExecutor.submit(() -> saveNewsListToCsvWithTimestamp(category, newsList, stage, timestamp))));
+        
+        List<String> failedCategories = new ArrayList<>();
+        futures.forEach((category, future) -> {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedCategories.add(category);
+            } catch (ExecutionException e) {
+                log.error("📁 {} 카테고리 {} 파일 저장 실패: {}", category, stage, e.getCause().getMessage());
+                failedCategories.add(category);
             }
-            
-            // HTTP 파일서버에 업로드
-            uploadFileToServer(dirPath, fileName, csvContent.toString());
-            
-            log.info("📁 파일서버 업로드 완료: {} - 카테고리: {}, 개수: {}", dirPath + "/" + fileName, category, newsList.size());
-            
+        });
+        return failedCategories;
+    }
+    
+    /**
+     * 연관뉴스 CSV 파일 저장 (타임스탬프 지정, Python 중복제거 서비스와 같은 형식)
+     */
+    public void saveRelatedNewsToCsvWithTimestamp(String category, List<RelatedNewsDetail> relatedNewsList, String timestamp) {
+        String dirPath = getTimePath(timestamp) + "/related";
+        String fileName = category.toLowerCase() + "_related_" + timestamp + extension();
+
+        try {
+            uploadStage(dirPath, fileName, RELATED_HEADER, rows -> {
+                for (RelatedNewsDetail related : relatedNewsList) {
+                    rows.writeRow(
+                        related.getRepOidAid(),
+                        related.getRelatedOidAid(),
+                        related.getSimilarity() != null ? related.getSimilarity() : 0.0f,
+                        category,
+                        related.getCreatedAt()
+                    );
+                }
+            });
+
+            log.info("📁 연관뉴스 파일서버 업로드 완료: {}/{} - 카테고리: {}, 개수: {}", dirPath, fileName, category, relatedNewsList.size());
+
         } catch (Exception e) {
-            log.error("📁 파일서버 업로드 실패: {}, 오류: {}", dirPath + "/" + fileName, e.getMessage());
+            log.error("📁 연관뉴스 파일서버 업로드 실패: {}/{}, 오류: {}", dirPath, fileName, e.getMessage());
             throw new RuntimeException("파일서버 업로드 실패", e);
         }
     }
+
+    @FunctionalInterface
+    private interface StageBody {
+        void write(StageRowWriter rows) throws IOException;
+    }
+
+    /**
+     * FTP로 직접 업로드 (풀의 세션으로 행을 만들 때마다 전송 스트림에 기록)
+     */
+    private void uploadStage(String dirPath, String fileName, String[] header, StageBody body) {
+        // 상대 경로 추출 (basePath 제거) 후 FTP 기본 경로에 붙임
+        String relativePath = dirPath.replace(basePath + "/", "");
+        String ftpPath = ftpConfig.getBasePath() + "/" + relativePath;
+
+        boolean uploaded = ftpUploader.uploadStream(
+            ftpPath,
+            fileName,
+            out -> writeStage(out, isColumnarFormat(), header, body)
+        );
+
+        if (!uploaded) {
+            throw new RuntimeException("FTP 업로드 실패: " + relativePath + "/" + fileName);
+        }
+    }
     
     /**
-     * FTP 업로드 API 호출
+     * 지정 형식으로 단계 파일 기록 (출력 스트림은 닫지 않고 버퍼만 비움)
      */
-    private void uploadFileToServer(String dirPath, String fileName, String content) {
-        try {
-            // 상대 경로 추출 (basePath 제거)
-            String relativePath = dirPath.replace(basePath + "/", "");
-            
-            // FTP 업로드 요청 데이터 생성 (UTF-8 인코딩 명시)
-            Map<String, String> uploadRequest = Map.of(
-                "path", relativePath,
-                "filename", fileName,
-                "content", content  // 이미 UTF-8 String
-            );
-            
-            // HTTP 헤더 설정 (UTF-8 인코딩 명시)
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Accept-Charset", "UTF-8");
-            
-            // 요청 엔티티 생성
-            HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(uploadRequest, headers);
-            
-            // 내부 FTP 업로드 API 호출
-            ResponseEntity<String> response = restTemplate.exchange(
-                "http://localhost:8083/api/ftp/upload", // 크롤러 서비스 FTP API 호출
-                org.springframework.http.HttpMethod.POST, 
-                requestEntity, 
-                String.class
-            );
-            
-            if (response.getStatusCode().is2xxSuccessful()) {
-                log.debug("FTP 업로드 성공: {}/{}", relativePath, fileName);
-            } else {
-                throw new RuntimeException("FTP 업로드 실패: " + response.getStatusCode());
+    private void writeStage(OutputStream out, boolean columnar, String[] header, StageBody body) throws IOException {
+        if (columnar) {
+            ColumnarStageWriter writer = new ColumnarStageWriter(out, header, blockRows);
+            body.write(writer);
+            writer.finish();
+        } else {
+            CsvWriter csv = new CsvWriter(out);
+            csv.writeRow((Object[]) header);
+            body.write(csv);
+            csv.flush();
+        }
+    }
+    
+    /**
+     * 지정 형식의 단계 파일을 한 행씩 읽어 변환
+     * 
+     * @param projection 읽을 컬럼 (null이면 전체, columnar는 나머지 컬럼의 압축 해제를 생략)
+     */
+    private <T> List<T> readStage(InputStream in, boolean columnar, Set<String> projection,
+                                  Function<StageRow, T> rowMapper) throws IOException {
+        List<T> rows = new ArrayList<>();
+        if (columnar) {
+            try (ColumnarStageReader reader = new ColumnarStageReader(in, projection)) {
+                while (reader.next()) {
+                    addIfPresent(rows, rowMapper.apply(reader));
+                }
+            }
+            return rows;
+        }
+        try (CsvReader csv = new CsvReader(in)) {
+            if (!csv.readHeader()) {
+                return rows;
+            }
+            List<String> row;
+            while ((row = csv.readRow()) != null) {
+                List<String> current = row;
+                addIfPresent(rows, rowMapper.apply(column ->
+                        projection == null || projection.contains(column) ? csv.get(current, column) : null));
             }
-            
-        } catch (Exception e) {
-            log.error("FTP 업로드 오류: {}/{}", dirPath, fileName, e);
-            throw new RuntimeException("FTP 업로드 실패", e);
+        }
+        return rows;
+    }
+    
+    private static <T> void addIfPresent(List<T> rows, T item) {
+        if (item != null) {
+            rows.add(item);
         }
     }
     
     /**
-     * HTTP 파일서버에서 파일 다운로드
+     * HTTP 파일서버에서 단계 파일을 스트림으로 읽어 행 단위로 변환 (확장자로 형식 판단)
+     * 
+     * @return 변환된 행 목록, 파일이 없거나 읽지 못하면 null
      */
-    public String downloadFileFromServer(String fileUrl) {
+    private <T> List<T> downloadStage(String fileUrl, Set<String> projection, Function<StageRow, T> rowMapper) {
         try {
-            // UTF-8 인코딩을 위한 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Accept-Charset", "UTF-8");
-            HttpEntity<?> entity = new HttpEntity<>(headers);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                fileUrl, 
-                HttpMethod.GET, 
-                entity, 
-                String.class
+            return restTemplate.execute(
+                fileUrl,
+                HttpMethod.GET,
+                request -> request.getHeaders().set(HttpHeaders.ACCEPT_CHARSET, "UTF-8"),
+                response -> {
+                    List<T> rows = readStage(response.getBody(), fileUrl.endsWith(COLUMNAR_EXTENSION), projection, rowMapper);
+                    log.debug("파일 다운로드 성공: {}", fileUrl);
+                    return rows;
+                }
             );
-            
-            if (response.getStatusCode().is2xxSuccessful()) {
-                log.debug("파일 다운로드 성공: {}", fileUrl);
-                return response.getBody();
-            } else {
-                log.warn("파일 다운로드 실패: {} - 상태코드: {}", fileUrl, response.getStatusCode());
-                return null;
-            }
-            
+        } catch (HttpClientErrorException.NotFound e) {
+            return null;
         } catch (Exception e) {
             log.warn("HTTP 파일 다운로드 오류: {}, 오류: {}", fileUrl, e.getMessage());
             return null;
         }
     }
-    
+
     /**
-     * CSV 파일 저장 (타임스탬프 지정)
+     * 확장자를 뺀 경로로 단계 파일을 찾아 읽는다 ({@link #readExtensions()} 순서)
+     * 
+     * @return 변환된 행 목록, 어느 형식으로도 없으면 null
      */
-    public void saveNewsListToCsvWithTimestamp(String category, List<NewsDetail> newsList, String stage, String timestamp) {
-        String dirPath = getCurrentTimePath() + "/" + stage;
-        String fileName = category.toLowerCase() + "_" + stage + "_" + timestamp + ".csv";
-        
-        try {
-            // CSV 데이터를 메모리에서 생성
-            StringBuilder csvContent = new StringBuilder();
-            
-            // CSV 헤더
-            csvContent.append("title,press,reporter,date,link,imageUrl,oidAid,trusted,content,dedupState,categoryName,createdAt\n");
-            
-            // 데이터 쓰기
-            for (NewsDetail news : newsList) {
-                            csvContent.append(String.format("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",%d,\"%s\",\"%s\",\"%s\",\"%s\"%n",
-                escapeCSV(news.getTitle()),
-                escapeCSV(news.getPress()),
-                escapeCSV(news.getReporter()),
-                escapeCSV(news.getDate()),
-                escapeCSV(news.getLink()),
-                escapeCSV(news.getImageUrl()),
-                escapeCSV(news.getOidAid()),
-                news.getTrusted() != null ? news.getTrusted() : 1,  // 기본값 1 (true)
-                escapeCSV(news.getContent()),
-                escapeCSV(news.getDedupState()),
-                escapeCSV(news.getCategoryName()),  // categoryName 추가
-                escapeCSV(news.getCreatedAt() != null ? news.getCreatedAt().toString() : "")  // createdAt 추가
-            ));
+    private <T> List<T> downloadStageAnyFormat(String pathWithoutExtension, Set<String> projection,
+                                               Function<StageRow, T> rowMapper) {
+        for (String extension : readExtensions()) {
+            List<T> rows = downloadStage(pathWithoutExtension + extension, projection, rowMapper);
+            if (rows != null) {
+                return rows;
             }
-            
-            // HTTP 파일서버에 업로드
-            uploadFileToServer(dirPath, fileName, csvContent.toString());
-            
-            log.info("📁 파일서버 업로드 완료 (지정 타임스탬프): {}/{} - 카테고리: {}, 개수: {}", dirPath, fileName, category, newsList.size());
-            
-        } catch (Exception e) {
-            log.error("📁 파일서버 업로드 실패 (지정 타임스탬프): {}/{}, 오류: {}", dirPath, fileName, e.getMessage());
-            throw new RuntimeException("파일서버 업로드 실패", e);
         }
+        return null;
     }
-    
+
+    /**
+     * latest부터 3시간(180분) 전까지의 타임스탬프를 현재 시간대 → AM 경로 순으로 탐색해 가장 최신 파일을 읽음
+     * 
+     * @return 읽은 행 목록, 찾지 못하면 null
+     */
+    private <T> List<T> downloadRecentStage(String timePath, String stage, String fileNamePrefix,
+                                            Set<String> projection, Function<StageRow, T> rowMapper, LocalDateTime latest) {
+        String amTimePath = timePath.replace("/pm/", "/am/").replace("_pm", "_am");
+        List<String> dirPaths = amTimePath.equals(timePath)
+                ? List.of(timePath + "/" + stage)
+                : List.of(timePath + "/" + stage, amTimePath + "/" + stage);
+
+        for (String dirPath : dirPaths) {
+            for (int i = 0; i < 180; i++) {
+                String tryTimestamp = latest.minusMinutes(i).format(FILE_TIMESTAMP_FORMAT);
+                String tryFullPath = dirPath + "/" + fileNamePrefix + tryTimestamp;
+
+                List<T> rows = downloadStageAnyFormat(tryFullPath, projection, rowMapper);
+                if (rows != null) {
+                    log.info("📁 파일 발견 ({}분 전): {} - 개수: {}", i, tryFullPath, rows.size());
+                    return rows;
+                }
+            }
+            log.info("📁 파일을 찾지 못함: {}/{}*{}", dirPath, fileNamePrefix, readExtensions());
+        }
+        return null;
+    }
+
     /**
      * CSV에서 뉴스 목록 조회 (타임스탬프 지정)
      */
     public List<NewsDetail> getNewsListFromCsvWithTimestamp(String category, String stage, String timestamp) {
-        String timePath = getCurrentTimePath();
-        String dirPath = timePath + "/" + stage;
-        List<NewsDetail> newsList = new ArrayList<>();
-        
-        // 지정된 타임스탬프로 파일명 생성
-        String fileName = category.toLowerCase() + "_" + stage + "_" + timestamp + ".csv";
+        String dirPath = getTimePath(timestamp) + "/" + stage;
+        String fileName = category.toLowerCase() + "_" + stage + "_" + timestamp;
         String fullPath = dirPath + "/" + fileName;
         
-        try {
-            // HTTP 파일서버에서 파일 다운로드
-            String csvContent = downloadFileFromServer(fullPath);
-            if (csvContent == null) {
-                log.info("📁 지정 타임스탬프 파일이 존재하지 않음: {}", fullPath);
-                return newsList;
-            }
-            
-            // CSV 내용 파싱
-            String[] lines = csvContent.split("\n");
-            boolean isFirstLine = true;
-            
-            for (String line : lines) {
-                if (isFirstLine) {
-                    isFirstLine = false; // 헤더 스킵
-                    continue;
-                }
-                
-                if (line.trim().isEmpty()) continue;
-                
-                NewsDetail news = parseCSVLine(line);
-                if (news != null) {
-                    newsList.add(news);
-                }
-            }
-            
-            log.info("📁 파일서버 조회 완료 (지정 타임스탬프): {} - 카테고리: {}, 개수: {}", fullPath, category, newsList.size());
-            
-        } catch (Exception e) {
-            log.error("📁 파일서버 조회 실패 (지정 타임스탬프): {}, 오류: {}", fullPath, e.getMessage());
+        List<NewsDetail> newsList = downloadStageAnyFormat(fullPath, null, this::toNewsDetail);
+        if (newsList == null) {
+            log.info("📁 지정 타임스탬프 파일이 존재하지 않음: {}", fullPath);
+            return new ArrayList<>();
         }
         
+        log.info("📁 파일서버 조회 완료 (지정 타임스탬프): {} - 카테고리: {}, 개수: {}", fullPath, category, newsList.size());
+        return newsList;
+    }
+    
+    /**
+     * 크롤링 세션의 단계 파일 조회
+     * 세션 타임스탬프 파일이 없으면(세션 타임스탬프를 지원하기 전의 Python 중복제거 서비스가 저장한 경우) 세션 시작 후 3시간 이내의 최신 파일을 찾는다.
+     */
+    public List<NewsDetail> getSessionNewsList(String category, String stage, String timestamp) {
+        String dirPath = getTimePath(timestamp) + "/" + stage;
+        List<NewsDetail> newsList = downloadStageAnyFormat(dirPath + "/" + category.toLowerCase() + "_" + stage + "_" + timestamp,
+                null, this::toNewsDetail);
+        if (newsList == null) {
+            newsList = downloadRecentStage(getTimePath(timestamp), stage, category.toLowerCase() + "_" + stage + "_",
+                    null, this::toNewsDetail, sessionSearchLatest(timestamp));
+        }
+        if (newsList == null) {
+            log.info("📁 세션 파일이 존재하지 않음: {}/{} ({})", dirPath, category, timestamp);
+            return new ArrayList<>();
+        }
         return newsList;
     }
     
+    /**
+     * 크롤링 세션의 연관뉴스 파일 조회 (찾는 순서는 getSessionNewsList와 같음)
+     */
+    public List<RelatedNewsDetail> getSessionRelatedNews(String category, String timestamp) {
+        String dirPath = getTimePath(timestamp) + "/related";
+        List<RelatedNewsDetail> relatedNewsList = downloadStageAnyFormat(dirPath + "/" + category.toLowerCase() + "_related_" + timestamp,
+                null, this::toRelatedNewsDetail);
+        if (relatedNewsList == null) {
+            relatedNewsList = downloadRecentStage(getTimePath(timestamp), "related", category.toLowerCase() + "_related_",
+                    null, this::toRelatedNewsDetail, sessionSearchLatest(timestamp));
+        }
+        if (relatedNewsList == null) {
+            log.info("📁 세션 연관뉴스 파일이 존재하지 않음: {}/{} ({})", dirPath, category, timestamp);
+            return new ArrayList<>();
+        }
+        return relatedNewsList;
+    }
+    
+    // 세션 파일 탐색 기준: 세션 시작 3시간 후와 현재 중 이른 시각
+    private static LocalDateTime sessionSearchLatest(String timestamp) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = parseFileTimestamp(timestamp);
+        if (start == null) {
+            return now;
+        }
+        LocalDateTime limit = start.plusMinutes(179);
+        return limit.isBefore(now) ? limit : now;
+    }
+    
     /**
      * CSV에서 뉴스 목록 조회
      */
     public List<NewsDetail> getNewsListFromCsv(String category, String stage, String timePath) {
+        return getNewsListFromCsv(category, stage, timePath, null);
+    }
+    
+    /**
+     * CSV에서 뉴스 목록 조회 (필요한 컬럼만, 나머지 필드는 null)
+     */
+    public List<NewsDetail> getNewsListFromCsv(String category, String stage, String timePath, Set<String> columns) {
         if (timePath == null) {
             timePath = getCurrentTimePath();
         }
         
-        String dirPath = timePath + "/" + stage;
-        List<NewsDetail> newsList = new ArrayList<>();
-        
-        // HTTP 파일서버에서는 최신 파일 찾기 대신 현재 시간 기반으로 파일명 생성
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm"));
-        String fileName = category.toLowerCase() + "_" + stage + "_" + timestamp + ".csv";
-        String fullPath = dirPath + "/" + fileName;
-        
-        // 만약 해당 시간의 파일이 없다면, 몇 분 전의 파일들을 시도
-        String csvContent = null;
-        for (int i = 0; i < 180; i++) { // 최대 3시간 전까지 시도 (180분)
-            String tryTimestamp = LocalDateTime.now().minusMinutes(i).format(DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm"));
-            String tryFileName = category.toLowerCase() + "_" + stage + "_" + tryTimestamp + ".csv";
-            String tryFullPath = dirPath + "/" + tryFileName;
-            
-            csvContent = downloadFileFromServer(tryFullPath);
-            if (csvContent != null) {
-                fullPath = tryFullPath;
-                log.info("📁 파일 발견 ({}분 전): {}", i, fullPath);
-                break;
-            }
-        }
-        
-        // PM 경로에서 찾지 못했다면 AM 경로도 시도
-        if (csvContent == null) {
-            log.info("📁 PM 경로에서 파일을 찾지 못함, AM 경로 시도: {}", dirPath);
-            String amTimePath = timePath.replace("/pm/", "/am/").replace("_pm", "_am");
-            String amDirPath = amTimePath + "/" + stage;
-            
-            for (int i = 0; i < 180; i++) { // 최대 3시간 전까지 시도 (180분)
-                String tryTimestamp = LocalDateTime.now().minusMinutes(i).format(DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm"));
-                String tryFileName = category.toLowerCase() + "_" + stage + "_" + tryTimestamp + ".csv";
-                String tryFullPath = amDirPath + "/" + tryFileName;
-                
-                csvContent = downloadFileFromServer(tryFullPath);
-                if (csvContent != null) {
-                    fullPath = tryFullPath;
-                    dirPath = amDirPath;
-                    log.info("📁 AM 경로에서 파일 발견 ({}분 전): {}", i, fullPath);
-                    break;
-                }
-            }
-        }
-        
-        if (csvContent == null) {
-            log.info("📁 해당 카테고리의 파일이 존재하지 않음: {}/{}", dirPath, category);
-            return newsList;
-        }
-        
-        try {
-            
-            // CSV 내용 파싱
-            String[] lines = csvContent.split("\n");
-            boolean isFirstLine = true;
-            
-            for (String line : lines) {
-                if (isFirstLine) {
-                    isFirstLine = false; // 헤더 스킵
-                    continue;
-                }
-                
-                if (line.trim().isEmpty()) continue;
-                
-                NewsDetail news = parseCSVLine(line);
-                if (news != null) {
-                    newsList.add(news);
-                }
-            }
-            
-            log.info("📁 파일서버 조회 완료: {} - 카테고리: {}, 개수: {}", fullPath, category, newsList.size());
-            
-        } catch (Exception e) {
-            log.error("📁 파일서버 조회 실패: {}, 오류: {}", fullPath, e.getMessage());
-            throw new RuntimeException("파일서버 조회 실패", e);
+        // HTTP 파일서버에서는 최신 파일 찾기 대신 현재 시간부터 몇 분 전까지의 파일명을 시도
+        List<NewsDetail> newsList = downloadRecentStage(timePath, stage, category.toLowerCase() + "_" + stage + "_", columns, this::toNewsDetail, LocalDateTime.now());
+        if (newsList == null) {
+            log.info("📁 해당 카테고리의 파일이 존재하지 않음: {}/{}/{}", timePath, stage, category);
+            return new ArrayList<>();
         }
         
+        log.info("📁 파일서버 조회 완료: {}/{} - 카테고리: {}, 개수: {}", timePath, stage, category, newsList.size());
         return newsList;
     }
     
@@ -419,110 +533,6 @@ public class FileServerService {
         }
     }
     
-    /**
-     * CSV 필드 이스케이프
-     */
-    private String escapeCSV(String value) {
-        if (value == null) return "";
-        return value.replace("\"", "\"\"").replace("\n", "\\n").replace("\r", "\\r");
-    }
-    
-    /**
-     * CSV 라인 파싱 (견고한 파싱 로직)
-     */
-    private NewsDetail parseCSVLine(String line) {
-        try {
-            if (line == null || line.trim().isEmpty()) {
-                return null;
-            }
-            
-            // CSV 필드 파싱 (따옴표 처리 개선)
-            List<String> fields = parseCSVFields(line);
-            
-                    if (fields.size() < 12) { // 중복제거 파일은 12개 필드 (title,press,reporter,date,link,imageUrl,oidAid,trusted,content,dedupState,categoryName,createdAt)
-            log.debug("CSV 필드 개수 부족: {} (필요: 12개, 실제: {}개)", line.substring(0, Math.min(50, line.length())), fields.size());
-            return null;
-        }
-            
-            // trusted 필드 안전하게 파싱
-            Integer trusted = 0;
-            try {
-                String trustedStr = fields.get(7).trim();
-                if (!trustedStr.isEmpty()) {
-                    trusted = Integer.parseInt(trustedStr);
-                }
-            } catch (NumberFormatException e) {
-                log.debug("trusted 값 파싱 실패, 기본값 사용: {}", fields.get(7));
-            }
-            
-            // createdAt 필드 안전하게 파싱
-            LocalDateTime createdAt = null;
-            try {
-                String createdAtStr = unescapeCSV(fields.get(11));
-                if (createdAtStr != null && !createdAtStr.trim().isEmpty()) {
-                    createdAt = LocalDateTime.parse(createdAtStr);
-                }
-            } catch (Exception e) {
-                log.debug("createdAt 파싱 실패, 현재 시간 사용: {}", fields.get(11));
-                createdAt = LocalDateTime.now();
-            }
-
-            return NewsDetail.builder()
-                .title(unescapeCSV(fields.get(0)))
-                .press(unescapeCSV(fields.get(1)))
-                .reporter(unescapeCSV(fields.get(2)))
-                .date(unescapeCSV(fields.get(3)))
-                .link(unescapeCSV(fields.get(4)))
-                .imageUrl(unescapeCSV(fields.get(5)))
-                .oidAid(unescapeCSV(fields.get(6)))
-                .trusted(trusted)
-                .content(unescapeCSV(fields.get(8)))
-                .dedupState(unescapeCSV(fields.get(9)))
-                .categoryName(unescapeCSV(fields.get(10))) // categoryName 파싱
-                .createdAt(createdAt) // 안전하게 파싱된 createdAt
-                .build();
-                
-        } catch (Exception e) {
-            log.warn("CSV 라인 파싱 실패: {} - 오류: {}", line.substring(0, Math.min(100, line.length())), e.getMessage());
-            return null;
-        }
-    }
-    
-    /**
-     * CSV 필드를 정확하게 파싱 (따옴표와 쉼표 처리)
-     */
-    private List<String> parseCSVFields(String line) {
-        List<String> fields = new ArrayList<>();
-        StringBuilder currentField = new StringBuilder();
-        boolean inQuotes = false;
-        
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-            
-            if (c == '"') {
-                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
-                    // 연속된 따옴표는 이스케이프된 따옴표
-                    currentField.append('"');
-                    i++; // 다음 따옴표 스킵
-                } else {
-                    // 따옴표 상태 토글
-                    inQuotes = !inQuotes;
-                }
-            } else if (c == ',' && !inQuotes) {
-                // 따옴표 밖의 쉼표는 필드 구분자
-                fields.add(currentField.toString());
-                currentField.setLength(0);
-            } else {
-                currentField.append(c);
-            }
-        }
-        
-        // 마지막 필드 추가
-        fields.add(currentField.toString());
-        
-        return fields;
-    }
-    
     /**
      * 디렉터리에서 가장 최신 파일 찾기
      */
@@ -576,170 +586,124 @@ public class FileServerService {
     }
     
     /**
-     * CSV 필드 언이스케이프
+     * 단계 파일 행 → NewsDetail (컬럼명 기준)
      */
-    private String unescapeCSV(String value) {
-        if (value == null) return null;
-        return value.replace("\"\"", "\"").replace("\\n", "\n").replace("\\r", "\r");
+    private NewsDetail toNewsDetail(StageRow row) {
+        String oidAid = row.get("oidAid");
+        String link = row.get("link");
+        String title = row.get("title");
+        if (oidAid == null && link == null && title == null) {
+            log.debug("단계 파일 행에 식별 필드 없음 (oidAid/link/title)");
+            return null;
+        }
+        
+        // trusted 필드 안전하게 파싱
+        Integer trusted = 0;
+        String trustedStr = row.get("trusted");
+        try {
+            if (trustedStr != null && !trustedStr.trim().isEmpty()) {
+                trusted = Integer.parseInt(trustedStr.trim());
+            }
+        } catch (NumberFormatException e) {
+            log.debug("trusted 값 파싱 실패, 기본값 사용: {}", trustedStr);
+        }
+        
+        return NewsDetail.builder()
+            .title(title)
+            .press(row.get("press"))
+            .reporter(row.get("reporter"))
+            .date(row.get("date"))
+            .link(link)
+            .imageUrl(row.get("imageUrl"))
+            .oidAid(oidAid)
+            .trusted(trusted)
+            .content(row.get("content"))
+            .dedupState(row.get("dedupState"))
+            .categoryName(row.get("categoryName"))
+            .createdAt(parseCreatedAt(row.get("createdAt"), null))
+            .build();
     }
     
     /**
-     * 연관뉴스 CSV 파일에서 데이터 조회 (타임스탬프 지정)
+     * 단계 파일 행 → RelatedNewsDetail (컬럼명 기준)
      */
-    public List<RelatedNewsDetail> getRelatedNewsFromCsvWithTimestamp(String category, String timestamp) {
-        String timePath = getCurrentTimePath();
-        String dirPath = timePath + "/related";
-        List<RelatedNewsDetail> relatedNewsList = new ArrayList<>();
+    private RelatedNewsDetail toRelatedNewsDetail(StageRow row) {
+        String repOidAid = row.get("repOidAid");
+        String relatedOidAid = row.get("relatedOidAid");
+        if (repOidAid == null || relatedOidAid == null) {
+            log.debug("연관뉴스 행에 oidAid 없음");
+            return null;
+        }
         
+        Float similarity = 0.0f;
+        String similarityStr = row.get("similarity");
         try {
-            String fileName = category.toLowerCase() + "_related_" + timestamp + ".csv";
-            String fullPath = basePath + "/" + dirPath + "/" + fileName;
-            
-            log.debug("📁 연관뉴스 파일서버 조회 시도: {}", fullPath);
-            
-            String csvContent = downloadFileFromServer(fullPath);
-            if (csvContent != null) {
-                relatedNewsList = parseRelatedNewsCsv(csvContent);
-                log.info("📁 파일서버 조회 완료 (지정 타임스탬프): {} - 카테고리: {}, 개수: {}", fullPath, category, relatedNewsList.size());
-            } else {
-                log.info("📁 지정 타임스탬프 파일이 존재하지 않음: {}", fullPath);
+            if (similarityStr != null && !similarityStr.trim().isEmpty()) {
+                similarity = Float.parseFloat(similarityStr.trim());
             }
-            
-        } catch (Exception e) {
-            log.error("📁 연관뉴스 파일서버 조회 실패 (지정 타임스탬프): {}/{} - 오류: {}", category, timestamp, e.getMessage());
+        } catch (NumberFormatException e) {
+            log.debug("similarity 값 파싱 실패, 기본값 사용: {}", similarityStr);
         }
         
-        return relatedNewsList;
+        return RelatedNewsDetail.builder()
+            .repOidAid(repOidAid)
+            .relatedOidAid(relatedOidAid)
+            .similarity(similarity)
+            .category(row.get("category"))
+            .createdAt(parseCreatedAt(row.get("createdAt"), LocalDateTime.now())) // CSV에 createdAt이 없으면 현재 시간
+            .build();
     }
     
     /**
-     * 연관뉴스 CSV 파일에서 데이터 조회 (최신 파일 자동 검색)
+     * createdAt 안전하게 파싱 (비어 있으면 기본값, 형식 오류면 현재 시간)
      */
-    public List<RelatedNewsDetail> getRelatedNewsFromCsv(String category, String timePath) {
-        if (timePath == null) {
-            timePath = getCurrentTimePath();
+    private LocalDateTime parseCreatedAt(String value, LocalDateTime defaultValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
         }
-        
-        String dirPath = timePath + "/related";
-        List<RelatedNewsDetail> relatedNewsList = new ArrayList<>();
-        
         try {
-            // 최근 3시간간의 파일을 시도
-            for (int i = 0; i < 180; i++) {
-                String tryTimestamp = LocalDateTime.now().minusMinutes(i).format(DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm"));
-                String fileName = category.toLowerCase() + "_related_" + tryTimestamp + ".csv";
-                String tryFullPath = dirPath + "/" + fileName; // basePath 중복 제거
-                
-                log.debug("📁 연관뉴스 파일서버 조회 시도: {}", tryFullPath);
-                
-                String csvContent = downloadFileFromServer(tryFullPath);
-                if (csvContent != null) {
-                    relatedNewsList = parseRelatedNewsCsv(csvContent);
-                    log.info("📁 연관뉴스 파일서버 조회 완료 ({}분 전): {} - 카테고리: {}, 개수: {}", i, tryFullPath, category, relatedNewsList.size());
-                    break;
-                }
-            }
-            
-            // PM 경로에서 찾지 못했다면 AM 경로도 시도
-            if (relatedNewsList.isEmpty()) {
-                log.info("📁 PM 경로에서 연관뉴스 파일을 찾지 못함, AM 경로 시도: {}", dirPath);
-                String amTimePath = timePath.replace("/pm/", "/am/").replace("_pm", "_am");
-                String amDirPath = amTimePath + "/related";
-                
-                for (int i = 0; i < 180; i++) {
-                    String tryTimestamp = LocalDateTime.now().minusMinutes(i).format(DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm"));
-                    String fileName = category.toLowerCase() + "_related_" + tryTimestamp + ".csv";
-                    String tryFullPath = amDirPath + "/" + fileName;
-                    
-                    log.debug("📁 연관뉴스 AM 경로 조회 시도: {}", tryFullPath);
-                    
-                    String csvContent = downloadFileFromServer(tryFullPath);
-                    if (csvContent != null) {
-                        relatedNewsList = parseRelatedNewsCsv(csvContent);
-                        log.info("📁 연관뉴스 AM 경로에서 파일 발견 ({}분 전): {} - 카테고리: {}, 개수: {}", i, tryFullPath, category, relatedNewsList.size());
-                        break;
-                    }
-                }
-            }
-            
-            if (relatedNewsList.isEmpty()) {
-                log.info("📁 연관뉴스 최신 파일을 찾을 수 없음: {}/{}_related_*.csv", dirPath, category.toLowerCase());
-            }
-            
+            return LocalDateTime.parse(value.trim());
         } catch (Exception e) {
-            log.error("📁 연관뉴스 파일서버 조회 실패: {}/{} - 오류: {}", category, timePath, e.getMessage());
+            log.debug("createdAt 파싱 실패, 현재 시간 사용: {}", value);
+            return LocalDateTime.now();
         }
-        
-        return relatedNewsList;
     }
     
     /**
-     * 연관뉴스 CSV 내용 파싱
+     * 연관뉴스 CSV 파일에서 데이터 조회 (타임스탬프 지정)
      */
-    private List<RelatedNewsDetail> parseRelatedNewsCsv(String csvContent) {
-        List<RelatedNewsDetail> relatedNewsList = new ArrayList<>();
+    public List<RelatedNewsDetail> getRelatedNewsFromCsvWithTimestamp(String category, String timestamp) {
+        String dirPath = getTimePath(timestamp) + "/related";
+        String fileName = category.toLowerCase() + "_related_" + timestamp;
+        String fullPath = dirPath + "/" + fileName;
         
-        try {
-            String[] lines = csvContent.split("\n");
-            boolean isFirstLine = true;
-            
-            for (String line : lines) {
-                if (isFirstLine) {
-                    isFirstLine = false; // 헤더 스킵
-                    continue;
-                }
-                
-                if (line.trim().isEmpty()) continue;
-                
-                RelatedNewsDetail relatedNews = parseRelatedNewsCsvLine(line);
-                if (relatedNews != null) {
-                    relatedNewsList.add(relatedNews);
-                }
-            }
-            
-        } catch (Exception e) {
-            log.error("📁 연관뉴스 CSV 파싱 실패: {}", e.getMessage());
+        log.debug("📁 연관뉴스 파일서버 조회 시도: {}", fullPath);
+        
+        List<RelatedNewsDetail> relatedNewsList = downloadStageAnyFormat(fullPath, null, this::toRelatedNewsDetail);
+        if (relatedNewsList == null) {
+            log.info("📁 지정 타임스탬프 파일이 존재하지 않음: {}", fullPath);
+            return new ArrayList<>();
         }
         
+        log.info("📁 파일서버 조회 완료 (지정 타임스탬프): {} - 카테고리: {}, 개수: {}", fullPath, category, relatedNewsList.size());
         return relatedNewsList;
     }
     
     /**
-     * 연관뉴스 CSV 라인 파싱
+     * 연관뉴스 CSV 파일에서 데이터 조회 (최신 파일 자동 검색)
      */
-    private RelatedNewsDetail parseRelatedNewsCsvLine(String line) {
-        try {
-            if (line == null || line.trim().isEmpty()) {
-                return null;
-            }
-            
-            List<String> fields = parseCSVFields(line);
-            if (fields.size() < 4) { // repOidAid, relatedOidAid, similarity, category 최소 4개
-                log.debug("연관뉴스 CSV 필드 개수 부족: {} (필요: 4개, 실제: {}개)", line.substring(0, Math.min(50, line.length())), fields.size());
-                return null;
-            }
-            
-            Float similarity = 0.0f;
-            try {
-                String similarityStr = fields.get(2).trim();
-                if (!similarityStr.isEmpty()) {
-                    similarity = Float.parseFloat(similarityStr);
-                }
-            } catch (NumberFormatException e) {
-                log.debug("similarity 값 파싱 실패, 기본값 사용: {}", fields.get(2));
-            }
-            
-            return RelatedNewsDetail.builder()
-                .repOidAid(unescapeCSV(fields.get(0)))
-                .relatedOidAid(unescapeCSV(fields.get(1)))
-                .similarity(similarity)
-                .category(unescapeCSV(fields.get(3)))
-                .createdAt(LocalDateTime.now()) // CSV에 createdAt이 없으면 현재 시간
-                .build();
-                
-        } catch (Exception e) {
-            log.warn("연관뉴스 CSV 라인 파싱 실패: {} - 오류: {}", line.substring(0, Math.min(100, line.length())), e.getMessage());
-            return null;
+    public List<RelatedNewsDetail> getRelatedNewsFromCsv(String category, String timePath) {
+        if (timePath == null) {
+            timePath = getCurrentTimePath();
         }
+        
+        List<RelatedNewsDetail> relatedNewsList = downloadRecentStage(timePath, "related", category.toLowerCase() + "_related_", null, this::toRelatedNewsDetail, LocalDateTime.now());
+        if (relatedNewsList == null) {
+            log.info("📁 연관뉴스 최신 파일을 찾을 수 없음: {}/related/{}_related_*{}", timePath, category.toLowerCase(), readExtensions());
+            return new ArrayList<>();
+        }
+        
+        log.info("📁 연관뉴스 파일서버 조회 완료: {}/related - 카테고리: {}, 개수: {}", timePath, category, relatedNewsList.size());
+        return relatedNewsList;
     }
 }
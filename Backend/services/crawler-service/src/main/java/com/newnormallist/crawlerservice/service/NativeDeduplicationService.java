@@ -0,0 +1,121 @@
+package com.newnormallist.crawlerservice.service;
+
+import com.newnormallist.crawlerservice.client.dto.DeduplicationResponse;
+import com.newnormallist.crawlerservice.dto.NewsDetail;
+import com.newnormallist.crawlerservice.util.MinHashDeduplicator;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 프로세스 내 중복제거 서비스
+ *
+ * 역할:
+ * - Python 중복제거 서비스 호출(HTTP + 파일서버 재다운로드) 없이 크롤러 안에서 중복 제거 수행
+ * - 2단계에서 수집한 상세 뉴스를 메모리에서 바로 받아 카테고리별로 병렬 처리
+ *
+ * 기능:
+ * - 카테고리별 MinHash/LSH 중복 제거 후 deduplicated / related 파일을 Python과 같은 형식으로 저장
+ *   (4단계 DB 저장은 기존과 동일하게 파일서버에서 읽음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NativeDeduplicationService {
+
+    private static final String[] CATEGORIES = {"POLITICS", "ECONOMY", "SOCIETY", "LIFE", "INTERNATIONAL",
+            "IT_SCIENCE", "VEHICLE", "TRAVEL_FOOD", "ART"};
+
+    private final MinHashDeduplicator deduplicator;
+    private final FileServerService fileServerService;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(CATEGORIES.length, Math.max(1, Runtime.getRuntime().availableProcessors())),
+            new CustomizableThreadFactory("dedup-"));
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 카테고리별 상세 뉴스를 병렬로 중복 제거하고 결과 파일을 저장한다.
+     * 한 카테고리가 실패해도 나머지는 계속 처리하고, 실패한 카테고리와 원인은 결과의 failures로 돌려준다.
+     */
+    public Outcome deduplicateAndSave(Map<String, List<NewsDetail>> newsByCategory, String timestamp) {
+        log.info("Java 중복제거 시작: {}개 카테고리", newsByCategory.size());
+
+        Map<String, CompletableFuture<DeduplicationResponse>> futures = new LinkedHashMap<>();
+        newsByCategory.forEach((category, newsList) -> futures.put(category,
+                CompletableFuture.supplyAsync(() -> deduplicateCategory(category, newsList, timestamp), executor)));
+
+        Map<String, DeduplicationResponse> results = new LinkedHashMap<>();
+        Map<String, String> failures = new LinkedHashMap<>();
+        futures.forEach((category, future) -> {
+            try {
+                results.put(category, future.join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.error("{} 카테고리 중복제거 실패", category, cause);
+                failures.put(category, cause.getClass().getSimpleName() + ": " + cause.getMessage());
+            }
+        });
+
+        int original = results.values().stream().mapToInt(DeduplicationResponse::getOriginalCount).sum();
+        int deduplicated = results.values().stream().mapToInt(DeduplicationResponse::getDeduplicatedCount).sum();
+        int related = results.values().stream().mapToInt(DeduplicationResponse::getRelatedCount).sum();
+        if (failures.isEmpty()) {
+            log.info("Java 중복제거 완료: 원본 {}개 → {}개, 연관뉴스 {}개", original, deduplicated, related);
+        } else {
+            log.error("Java 중복제거 일부 실패: 원본 {}개 → {}개, 연관뉴스 {}개, 실패 카테고리 {}",
+                    original, deduplicated, related, failures.keySet());
+        }
+        return new Outcome(results, failures);
+    }
+
+    private DeduplicationResponse deduplicateCategory(String category, List<NewsDetail> newsList, String timestamp) {
+        long start = System.nanoTime();
+        MinHashDeduplicator.Result result = deduplicator.deduplicate(category, newsList);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        fileServerService.saveNewsListToCsvWithTimestamp(category, result.deduplicated(), "deduplicated", timestamp);
+        fileServerService.saveRelatedNewsToCsvWithTimestamp(category, result.related(), timestamp);
+
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("original", newsList.size());
+        statistics.put("deduplicated", result.deduplicated().size());
+        statistics.put("related", result.related().size());
+        statistics.put("removed", result.removedCount());
+        statistics.put("title_groups", result.titleGroups());
+
+        log.info("{} 카테고리 중복제거 완료: {}개 → {}개, 연관뉴스 {}개, 제거 {}개 ({}ms)", category, newsList.size(),
+                result.deduplicated().size(), result.related().size(), result.removedCount(), Math.round(seconds * 1000));
+
+        return DeduplicationResponse.builder()
+                .category(category)
+                .originalCount(newsList.size())
+                .deduplicatedCount(result.deduplicated().size())
+                .relatedCount(result.related().size())
+                .removedCount(result.removedCount())
+                .processingTimeSeconds(seconds)
+                .statistics(statistics)
+                .message("중복제거 완료")
+                .build();
+    }
+
+    /**
+     * 카테고리별 중복제거 결과
+     *
+     * @param results  성공한 카테고리의 결과
+     * @param failures 실패한 카테고리 → 원인
+     */
+    public record Outcome(Map<String, DeduplicationResponse> results, Map<String, String> failures) { }
+}
@@ -108,10 +108,17 @@ public class PythonDeduplicationIntegrationService {
      * 단일 카테고리 중복제거
      */
     public DeduplicationResponse runDeduplicationForCategory(String category) {
+        return runDeduplicationForCategory(category, null);
+    }
+
+    /**
+     * 크롤링 세션의 단계 파일(타임스탬프 지정)로 특정 카테고리 중복제거 실행
+     */
+    public DeduplicationResponse runDeduplicationForCategory(String category, String fileTimestamp) {
         try {
             log.info("🔍 {} 카테고리 중복제거 시작", category);
             
-            DeduplicationResponse response = pythonClient.runDeduplication(category);
+            DeduplicationResponse response = pythonClient.runDeduplication(category, fileTimestamp);
             
             log.info("✅ {} 카테고리 중복제거 완료: {}개 → {}개", 
                 category, response.getOriginalCount(), response.getDeduplicatedCount());
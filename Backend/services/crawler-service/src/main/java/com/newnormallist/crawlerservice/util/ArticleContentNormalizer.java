@@ -0,0 +1,128 @@
+package com.newnormallist.crawlerservice.util;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Entities;
+import org.jsoup.safety.Cleaner;
+import org.jsoup.safety.Safelist;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 기사 본문 정규화 (적재 시 한 번만 수행)
+ *
+ * 역할:
+ * - 크롤링한 #dic_area 원본 HTML을 적재 시점에 한 번 정리해 news_content 테이블에 함께 저장
+ * - news-service는 조회할 때마다 본문을 다시 파싱하지 않고 저장된 값을 그대로 내려줌
+ *
+ * 기능:
+ * - 정리된 HTML: 스크립트/스타일/광고 영역 제거 후 허용 태그(문단, 강조, 이미지, 표 등)만 남김
+ * - 평문: 태그와 사진 설명을 뺀 본문 (문단/줄바꿈은 줄 단위로 유지)
+ * - 요약: 평문 앞부분을 문장 경계에서 summary-length자 이내로 자른 것
+ * - 본문 해시: 평문 SHA-256 (같은 본문인지 비교용)
+ */
+@Component
+public class ArticleContentNormalizer {
+
+    // 본문 영역 안에 섞여 들어오는 스크립트, 광고, 숨김 요소
+    private static final String NOISE_SELECTOR =
+            "script, style, noscript, iframe, button, .ad, .ad_wrap, .vod_player_wrap";
+
+    // 평문/요약에서는 빼는 사진 설명
+    private static final String CAPTION_SELECTOR = ".img_desc, .end_photo_org em, figcaption";
+
+    private static final Safelist SAFELIST = Safelist.basicWithImages()
+            .addTags("h2", "h3", "h4", "table", "thead", "tbody", "tr", "th", "td", "figure", "figcaption", "div", "span")
+            .removeTags("a")
+            .addAttributes("td", "colspan", "rowspan")
+            .addAttributes("th", "colspan", "rowspan");
+
+    @Value("${crawler.content.summary-length:200}")
+    private int summaryLength;
+
+    /**
+     * 원본 HTML 정규화. 본문이 비어 있으면 null
+     */
+    public NormalizedContent normalize(String rawHtml) {
+        if (rawHtml == null || rawHtml.isBlank()) {
+            return null;
+        }
+
+        Document source = Jsoup.parseBodyFragment(rawHtml);
+        source.select(NOISE_SELECTOR).remove();
+        // 지연 로딩 이미지는 data-src에 실제 주소가 있음
+        for (Element img : source.select("img[data-src]")) {
+            if (img.attr("src").isBlank()) {
+                img.attr("src", img.attr("data-src"));
+            }
+        }
+
+        Document cleaned = new Cleaner(SAFELIST).clean(source);
+        cleaned.outputSettings()
+                .prettyPrint(false)
+                .escapeMode(Entities.EscapeMode.base)
+                .charset(StandardCharsets.UTF_8);
+        String html = cleaned.body().html().trim();
+
+        source.select(CAPTION_SELECTOR).remove();
+        String plainText = toPlainText(new Cleaner(SAFELIST).clean(source));
+        if (plainText.isEmpty()) {
+            return null;
+        }
+        return new NormalizedContent(html, plainText, summarize(plainText), sha256(plainText));
+    }
+
+    // <br>, 문단 경계는 줄바꿈으로 남기고 연속 공백은 하나로
+    private static String toPlainText(Document document) {
+        document.select("br").after("\\n");
+        document.select("p, div, h2, h3, h4, tr, figure").after("\\n");
+        String text = document.body().text().replace("\\n", "\n");
+
+        StringBuilder result = new StringBuilder(text.length());
+        for (String line : text.split("\n")) {
+            String trimmed = line.replaceAll("\\s+", " ").trim();
+            if (!trimmed.isEmpty()) {
+                if (!result.isEmpty()) {
+                    result.append('\n');
+                }
+                result.append(trimmed);
+            }
+        }
+        return result.toString();
+    }
+
+    // 요약 길이 안의 마지막 문장 끝(. ! ?)에서 자르고, 문장 끝이 없으면 글자 수로 자름
+    private String summarize(String plainText) {
+        String flat = plainText.replace('\n', ' ');
+        if (flat.length() <= summaryLength) {
+            return flat;
+        }
+        String head = flat.substring(0, summaryLength);
+        int cut = Math.max(Math.max(head.lastIndexOf(". "), head.lastIndexOf("! ")), head.lastIndexOf("? "));
+        if (cut >= summaryLength / 2) {
+            return head.substring(0, cut + 1);
+        }
+        return head.trim() + "...";
+    }
+
+    private static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없음", e);
+        }
+    }
+
+    /**
+     * 정규화 결과
+     */
+    public record NormalizedContent(String html, String plainText, String summary, String contentHash) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.newnormallist.crawlerservice.util;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 컬럼 블록 형식 단계 파일 파서 (형식은 ColumnarStageWriter 참고)
+ *
+ * 기능:
+ * - 블록 단위로 읽고 한 행씩 반환
+ * - 컬럼 지정 시 그 컬럼만 압축 해제하고 나머지는 바이트 길이만큼 건너뜀
+ *   (예: 중복제거 비교는 oidAid만, 본문이 필요 없는 단계는 content 생략)
+ */
+public class ColumnarStageReader implements StageRow, Closeable {
+
+    private final DataInputStream in;
+    private final Map<String, Integer> columnIndex = new HashMap<>();
+    private final boolean[] projected;
+    private String[][] block;
+    private int blockSize;
+    private int cursor;
+    private boolean ended;
+
+    /**
+     * @param projection 읽을 컬럼 (null이면 전체)
+     */
+    public ColumnarStageReader(InputStream in, Set<String> projection) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+        if (this.in.readInt() != ColumnarStageWriter.MAGIC) {
+            throw new IOException("컬럼 블록 단계 파일이 아님");
+        }
+        int columnCount = this.in.readInt();
+        projected = new boolean[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            String column = this.in.readUTF();
+            columnIndex.put(column, i);
+            projected[i] = projection == null || projection.contains(column);
+        }
+        block = new String[columnCount][];
+    }
+
+    /**
+     * 다음 행으로 이동. 끝이면 false
+     */
+    public boolean next() throws IOException {
+        while (cursor + 1 >= blockSize) {
+            if (ended || !readBlock()) {
+                return false;
+            }
+        }
+        cursor++;
+        return true;
+    }
+
+    @Override
+    public String get(String column) {
+        Integer index = columnIndex.get(column);
+        if (index == null || block[index] == null || cursor < 0) {
+            return null;
+        }
+        return block[index][cursor];
+    }
+
+    private boolean readBlock() throws IOException {
+        int rows = in.readInt();
+        if (rows == 0) {
+            ended = true;
+            return false;
+        }
+        for (int i = 0; i < projected.length; i++) {
+            int compressedLength = in.readInt();
+            if (!projected[i]) {
+                in.skipNBytes(compressedLength);
+                block[i] = null;
+                continue;
+            }
+            byte[] compressed = in.readNBytes(compressedLength);
+            block[i] = decodeColumn(compressed, rows);
+        }
+        blockSize = rows;
+        cursor = -1;
+        return true;
+    }
+
+    private static String[] decodeColumn(byte[] compressed, int rows) throws IOException {
+        String[] values = new String[rows];
+        try (DataInputStream column = new DataInputStream(new BufferedInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(compressed))))) {
+            for (int r = 0; r < rows; r++) {
+                int length = column.readInt();
+                values[r] = length < 0 ? null : new String(column.readNBytes(length), StandardCharsets.UTF_8);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,116 @@
+package com.newnormallist.crawlerservice.util;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * 컬럼 블록 형식 단계 파일 작성기
+ *
+ * 형식:
+ * - "NSC1" + 컬럼 수(int) + 컬럼명(UTF)
+ * - 블록 반복: 행 수(int) + 컬럼마다 [압축 길이(int) + Deflate 압축된 값 목록]
+ *   값은 길이(int, null은 -1) + UTF-8 바이트
+ * - 행 수 0인 블록으로 끝
+ *
+ * 컬럼마다 따로 압축하므로 읽는 쪽은 필요 없는 컬럼(대부분 본문)을 압축 해제 없이 건너뛸 수 있다.
+ * 한 블록만 메모리에 두고 꽉 차면 바로 출력 스트림에 기록한다.
+ */
+public class ColumnarStageWriter implements StageRowWriter, Closeable, Flushable {
+
+    static final int MAGIC = 0x4E534331; // "NSC1"
+
+    private final DataOutputStream out;
+    private final int columnCount;
+    private final int blockRows;
+    private final ByteArrayOutputStream[] columnBuffers;
+    private final DataOutputStream[] columnData;
+    private int rowsInBlock;
+    private boolean finished;
+
+    public ColumnarStageWriter(OutputStream out, String[] columns, int blockRows) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.columnCount = columns.length;
+        this.blockRows = Math.max(1, blockRows);
+        this.columnBuffers = new ByteArrayOutputStream[columnCount];
+        this.columnData = new DataOutputStream[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnBuffers[i] = new ByteArrayOutputStream();
+            columnData[i] = new DataOutputStream(columnBuffers[i]);
+        }
+
+        this.out.writeInt(MAGIC);
+        this.out.writeInt(columnCount);
+        for (String column : columns) {
+            this.out.writeUTF(column);
+        }
+    }
+
+    @Override
+    public void writeRow(Object... fields) throws IOException {
+        if (fields.length != columnCount) {
+            throw new IllegalArgumentException("컬럼 수 불일치: 필요 " + columnCount + "개, 실제 " + fields.length + "개");
+        }
+        for (int i = 0; i < columnCount; i++) {
+            if (fields[i] == null) {
+                columnData[i].writeInt(-1);
+            } else {
+                byte[] bytes = fields[i].toString().getBytes(StandardCharsets.UTF_8);
+                columnData[i].writeInt(bytes.length);
+                columnData[i].write(bytes);
+            }
+        }
+        if (++rowsInBlock >= blockRows) {
+            writeBlock();
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        if (rowsInBlock == 0) {
+            return;
+        }
+        out.writeInt(rowsInBlock);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            for (int i = 0; i < columnCount; i++) {
+                compressed.reset();
+                deflater.reset();
+                try (DeflaterOutputStream deflate = new DeflaterOutputStream(compressed, deflater)) {
+                    columnBuffers[i].writeTo(deflate);
+                }
+                out.writeInt(compressed.size());
+                compressed.writeTo(out);
+                columnBuffers[i].reset();
+            }
+        } finally {
+            deflater.end();
+        }
+        rowsInBlock = 0;
+    }
+
+    /**
+     * 남은 블록과 종료 표시를 기록 (출력 스트림은 닫지 않음)
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        writeBlock();
+        out.writeInt(0);
+        out.flush();
+        finished = true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+        out.close();
+    }
+}
@@ -0,0 +1,150 @@
+package com.newnormallist.crawlerservice.util;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RFC-4180 CSV 스트리밍 파서
+ *
+ * 역할:
+ * - 입력 스트림에서 한 행씩 읽어 필드 목록으로 반환 (파일 전체를 문자열로 읽지 않음)
+ *
+ * 기능:
+ * - 따옴표 안의 쉼표, 두 번 쓴 따옴표, 줄바꿈(CR/LF/CRLF) 처리
+ * - 행 구분자는 LF, CRLF 모두 허용
+ * - 첫 행을 헤더로 읽어 컬럼명으로 필드를 찾을 수 있음 (Python csv.DictReader와 같은 방식)
+ */
+public class CsvReader implements Closeable {
+
+    private final Reader in;
+    private final StringBuilder field = new StringBuilder();
+    private Map<String, Integer> header;
+    private int pending = -2; // 미리 읽은 문자 (-2: 없음)
+
+    public CsvReader(InputStream in) {
+        this(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+    }
+
+    public CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * 첫 행을 헤더로 읽음. 파일이 비어 있으면 false
+     */
+    public boolean readHeader() throws IOException {
+        List<String> names = readRow();
+        if (names == null) {
+            return false;
+        }
+        header = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            // UTF-8 BOM이 붙은 파일 대비
+            header.put(names.get(i).replace("\uFEFF", "").trim(), i);
+        }
+        return true;
+    }
+
+    /**
+     * 헤더 기준으로 필드 조회 (컬럼이 없거나 행이 짧으면 null)
+     */
+    public String get(List<String> row, String column) {
+        Integer index = header != null ? header.get(column) : null;
+        return index != null && index < row.size() ? row.get(index) : null;
+    }
+
+    /**
+     * 다음 행. 빈 줄은 건너뛰고, 끝이면 null
+     */
+    public List<String> readRow() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            if (c == '\n') {
+                continue;
+            }
+            if (c == '\r') {
+                skipLf();
+                continue;
+            }
+            unread(c);
+            return parseRow();
+        }
+    }
+
+    private List<String> parseRow() throws IOException {
+        List<String> row = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+
+        while (true) {
+            int c = read();
+            if (quoted) {
+                if (c == -1) {
+                    // 닫히지 않은 따옴표는 파일 끝에서 필드를 마감
+                    row.add(field.toString());
+                    return row;
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(next);
+                    }
+                } else {
+                    field.append((char) c);
+                }
+                continue;
+            }
+
+            if (c == -1 || c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    skipLf();
+                }
+                row.add(field.toString());
+                return row;
+            }
+            if (c == ',') {
+                row.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private void skipLf() throws IOException {
+        int next = read();
+        if (next != '\n') {
+            unread(next);
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return in.read();
+    }
+
+    private void unread(int c) {
+        pending = c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
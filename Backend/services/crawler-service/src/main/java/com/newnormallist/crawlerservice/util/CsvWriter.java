@@ -0,0 +1,75 @@
+package com.newnormallist.crawlerservice.util;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RFC-4180 CSV 스트리밍 작성기
+ *
+ * 역할:
+ * - 행 단위로 바로 출력 스트림에 기록 (파일 전체를 메모리에 만들지 않음)
+ * - Python csv.DictWriter와 같은 규칙으로 기록해 중복제거 서비스와 파일을 그대로 주고받음
+ *
+ * 기능:
+ * - 쉼표, 따옴표, 줄바꿈이 들어간 필드만 따옴표로 감싸고 내부 따옴표는 두 번 씀
+ * - 본문 줄바꿈은 이스케이프 없이 원문 그대로 기록 (HTML 본문 손실 없음)
+ * - 행 구분자는 CRLF
+ */
+public class CsvWriter implements StageRowWriter, Closeable, Flushable {
+
+    private static final String LINE_END = "\r\n";
+
+    private final Writer out;
+
+    public CsvWriter(OutputStream out) {
+        this(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+    }
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * 한 행 기록 (null 필드는 빈 값)
+     */
+    @Override
+    public void writeRow(Object... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeField(fields[i] != null ? fields[i].toString() : "");
+        }
+        out.write(LINE_END);
+    }
+
+    private void writeField(String value) throws IOException {
+        if (!needsQuote(value)) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    private static boolean needsQuote(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
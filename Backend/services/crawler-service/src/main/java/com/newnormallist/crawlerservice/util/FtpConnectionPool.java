@@ -0,0 +1,302 @@
+package com.newnormallist.crawlerservice.util;
+
+import com.newnormallist.crawlerservice.config.FtpConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.net.ftp.FTP;
+import org.apache.commons.net.ftp.FTPClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인된 FTP 세션 풀
+ *
+ * 역할:
+ * - 파일마다 접속/로그인/종료하던 비용을 없애고 세션을 재사용
+ * - 동시에 열 수 있는 세션 수를 제한 (FTP 서버 접속 수 보호)
+ *
+ * 기능:
+ * - 대여 시 오래 쉬었던 세션은 NOOP으로 상태 확인, 끊긴 세션은 버리고 새로 접속
+ * - 유휴 시간이 지난 세션은 주기적으로 정리
+ * - 이미 만든 원격 디렉터리를 기억해 다음 업로드부터 MKD/CWD 생략 (업로드가 실패한 경로는 다시 확인)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FtpConnectionPool {
+
+    private final FtpConfig ftpConfig;
+
+    @Value("${crawler.ftp.pool-size:4}")
+    private int poolSize;
+
+    @Value("${crawler.ftp.connect-timeout-ms:10000}")
+    private int connectTimeoutMs;
+
+    @Value("${crawler.ftp.borrow-timeout-ms:30000}")
+    private long borrowTimeoutMs;
+
+    @Value("${crawler.ftp.validate-after-ms:5000}")
+    private long validateAfterMs;
+
+    @Value("${crawler.ftp.idle-timeout-ms:60000}")
+    private long idleTimeoutMs;
+
+    private Semaphore permits;
+    private final Deque<Session> idle = new ConcurrentLinkedDeque<>();
+    private final Set<String> knownDirectories = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService evictor;
+    private volatile boolean closed;
+
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        poolSize = Math.max(1, poolSize);
+        permits = new Semaphore(poolSize, true);
+        evictor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("ftp-evictor-"));
+        long period = Math.max(1000, idleTimeoutMs / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+        log.info("📁 FTP 세션 풀 초기화: 최대 {}개, 유휴 {}ms 후 정리", poolSize, idleTimeoutMs);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        closed = true;
+        evictor.shutdownNow();
+        Session session;
+        while ((session = idle.pollFirst()) != null) {
+            session.close();
+        }
+    }
+
+    /**
+     * 세션 작업
+     */
+    @FunctionalInterface
+    public interface SessionCallback<T> {
+        T doWithSession(Session session) throws IOException;
+    }
+
+    /**
+     * 세션을 빌려 작업을 실행하고 반납한다. 작업 중 IOException이 나면 세션은 버린다.
+     */
+    public <T> T execute(SessionCallback<T> callback) throws IOException {
+        Session session = borrow();
+        boolean healthy = false;
+        try {
+            T result = callback.doWithSession(session);
+            healthy = true;
+            return result;
+        } finally {
+            release(session, healthy);
+        }
+    }
+
+    private Session borrow() throws IOException {
+        if (closed) {
+            throw new IOException("FTP 세션 풀이 종료됨");
+        }
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new IOException("FTP 세션 대기 시간 초과 (" + borrowTimeoutMs + "ms)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("FTP 세션 대기 중 인터럽트", e);
+        }
+
+        try {
+            Session session;
+            while ((session = idle.pollFirst()) != null) {
+                if (session.isUsable(validateAfterMs)) {
+                    reused.incrementAndGet();
+                    return session;
+                }
+                discarded.incrementAndGet();
+                session.close();
+            }
+            return connect();
+        } catch (IOException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(Session session, boolean healthy) {
+        try {
+            if (healthy && !closed && session.client.isConnected()) {
+                session.lastUsedAt = System.currentTimeMillis();
+                idle.offerFirst(session);
+            } else {
+                discarded.incrementAndGet();
+                session.close();
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Session connect() throws IOException {
+        FTPClient client = new FTPClient();
+        client.setConnectTimeout(connectTimeoutMs);
+        client.setDefaultTimeout(connectTimeoutMs);
+        try {
+            client.connect(ftpConfig.getServer(), ftpConfig.getPort());
+            if (!client.login(ftpConfig.getUsername(), ftpConfig.getPassword())) {
+                throw new IOException("FTP 로그인 실패: " + ftpConfig.getUsername());
+            }
+            client.enterLocalPassiveMode();
+            client.setFileType(FTP.BINARY_FILE_TYPE);
+            String home = client.printWorkingDirectory();
+            created.incrementAndGet();
+            log.debug("FTP 세션 생성: {}:{} (home={})", ftpConfig.getServer(), ftpConfig.getPort(), home);
+            return new Session(client, home != null ? home : "/");
+        } catch (IOException e) {
+            if (client.isConnected()) {
+                try {
+                    client.disconnect();
+                } catch (IOException ignored) {
+                    // 접속 실패 정리 중 오류는 무시
+                }
+            }
+            throw e;
+        }
+    }
+
+    // 가장 오래 쉰 세션부터 확인 (반납은 앞쪽에 하므로 뒤쪽이 오래된 세션)
+    private void evictIdle() {
+        long now = System.currentTimeMillis();
+        Iterator<Session> it = idle.descendingIterator();
+        while (it.hasNext()) {
+            Session session = it.next();
+            if (now - session.lastUsedAt >= idleTimeoutMs && idle.removeFirstOccurrence(session)) {
+                evicted.incrementAndGet();
+                session.close();
+            }
+        }
+    }
+
+    /**
+     * 기억해 둔 디렉터리에서 remoteDir과 그 상위 경로를 뺀다.
+     * 서버에서 디렉터리가 지워졌을 수 있으므로, 업로드가 실패하면 다음 업로드는 MKD/CWD부터 다시 확인한다.
+     */
+    public void forgetDirectory(String remoteDir) {
+        knownDirectories.removeIf(dir -> remoteDir.equals(dir) || remoteDir.startsWith(dir + "/"));
+    }
+
+    /**
+     * 풀 상태
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("poolSize", poolSize);
+        status.put("inUse", poolSize - permits.availablePermits());
+        status.put("idle", idle.size());
+        status.put("created", created.get());
+        status.put("reused", reused.get());
+        status.put("discarded", discarded.get());
+        status.put("evicted", evicted.get());
+        status.put("knownDirectories", knownDirectories.size());
+        status.put("idleTimeoutMs", idleTimeoutMs);
+        return status;
+    }
+
+    /**
+     * 풀에서 빌린 FTP 세션
+     * 작업 디렉터리는 항상 로그인 직후 위치로 두고 경로로만 접근한다 (세션마다 상태가 달라지지 않도록).
+     */
+    public class Session {
+
+        private final FTPClient client;
+        private final String home;
+        private volatile long lastUsedAt = System.currentTimeMillis();
+
+        private Session(FTPClient client, String home) {
+            this.client = client;
+            this.home = home;
+        }
+
+        public FTPClient client() {
+            return client;
+        }
+
+        /**
+         * 원격 디렉터리를 만들어 둔다 (이미 확인한 경로는 생략)
+         */
+        public void ensureDirectory(String remoteDir) throws IOException {
+            if (knownDirectories.contains(remoteDir)) {
+                return;
+            }
+            StringBuilder path = new StringBuilder(remoteDir.startsWith("/") ? "/" : "");
+            for (String dir : remoteDir.split("/")) {
+                if (dir.isEmpty()) continue;
+                path.append(dir);
+                String current = path.toString();
+                if (!knownDirectories.contains(current)) {
+                    if (!client.makeDirectory(current) && !exists(current)) {
+                        throw new IOException("디렉터리 생성 실패: " + current + " - " + client.getReplyString().trim());
+                    }
+                    knownDirectories.add(current);
+                }
+                path.append('/');
+            }
+            knownDirectories.add(remoteDir);
+        }
+
+        private boolean exists(String dir) throws IOException {
+            boolean changed = client.changeWorkingDirectory(dir);
+            if (changed) {
+                client.changeWorkingDirectory(home);
+            }
+            return changed;
+        }
+
+        private boolean isUsable(long validateAfter) {
+            if (!client.isConnected()) {
+                return false;
+            }
+            if (System.currentTimeMillis() - lastUsedAt < validateAfter) {
+                return true;
+            }
+            try {
+                return client.sendNoOp();
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        private void close() {
+            try {
+                if (client.isConnected()) {
+                    client.logout();
+                }
+            } catch (IOException e) {
+                log.debug("FTP 로그아웃 오류: {}", e.getMessage());
+            } finally {
+                try {
+                    if (client.isConnected()) {
+                        client.disconnect();
+                    }
+                } catch (IOException e) {
+                    log.warn("FTP 연결 종료 오류: {}", e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.newnormallist.crawlerservice.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 호스트별 토큰 버킷 요청 속도 제한기
+ *
+ * 역할:
+ * - 같은 호스트로 나가는 요청을 초당 permits-per-second 이하로 맞춤 (서버 부하 방지)
+ * - 작업마다 고정 sleep을 두는 대신, 토큰이 남아 있으면 바로 보내고 없을 때만 다음 토큰까지 대기
+ *
+ * 동작:
+ * - 버킷마다 "다음 토큰이 생기는 시각"만 들고, 호출자는 자기 차례를 예약한 뒤 락 밖에서 대기
+ * - 쉬고 있던 호스트는 burst개까지 연달아 보낼 수 있음
+ */
+@Slf4j
+@Component
+public class HostRateLimiter {
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+
+    @Value("${crawler.detail.permits-per-second:2.0}")
+    private double permitsPerSecond;
+
+    @Value("${crawler.detail.burst:2}")
+    private int burst;
+
+    /**
+     * url의 호스트에 대한 토큰 하나를 얻을 때까지 대기한다.
+     */
+    public void acquire(String url) throws InterruptedException {
+        String host = hostOf(url);
+        long waitNanos = buckets.computeIfAbsent(host, h -> new Bucket(permitsPerSecond, burst)).reserve();
+        if (waitNanos > 0) {
+            totalWaitNanos.addAndGet(waitNanos);
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 지금까지 토큰을 기다린 시간 합계 (밀리초)
+     */
+    public long getTotalWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get());
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host : url;
+        } catch (Exception e) {
+            return url;
+        }
+    }
+
+    private static final class Bucket {
+
+        private final long intervalNanos;
+        private final long burstNanos;
+
+        // 다음 토큰을 쓸 수 있는 시각 (System.nanoTime 기준)
+        private long nextFreeAt;
+
+        Bucket(double permitsPerSecond, int burst) {
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / Math.max(0.01, permitsPerSecond));
+            this.burstNanos = intervalNanos * Math.max(0, burst - 1);
+            this.nextFreeAt = System.nanoTime() - burstNanos;
+        }
+
+        /**
+         * 토큰 하나를 예약하고, 그 토큰을 쓸 수 있을 때까지 기다려야 하는 시간을 반환한다.
+         */
+        synchronized long reserve() {
+            long now = System.nanoTime();
+            // 오래 쉬었더라도 burst개를 넘게 쌓아 두지 않음
+            long slot = Math.max(nextFreeAt, now - burstNanos);
+            nextFreeAt = slot + intervalNanos;
+            return slot - now;
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.newnormallist.crawlerservice.util;
+
+import com.newnormallist.crawlerservice.dto.NewsDetail;
+import com.newnormallist.crawlerservice.dto.RelatedNewsDetail;
+import com.newnormallist.crawlerservice.enums.DedupState;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * MinHash + LSH 기반 뉴스 중복 제거기 (Python 중복제거 서비스의 Java 구현)
+ *
+ * 역할:
+ * - 한 카테고리의 상세 뉴스 목록을 받아 중복/연관 관계를 판정
+ * - Python 서비스와 같은 흐름 유지: 제목 유사 그룹 → 그룹별 본문 비교로 대표 선정 → 제거/연관/유지 분류
+ *
+ * 알고리즘:
+ * - 전처리: 특수문자/숫자 제거, 공백 정리 (본문은 HTML 태그 제거 후 동일 처리)
+ * - 슁글: 공백을 뺀 문자 n-gram (형태소 분석기 없이 한국어에 잘 맞음)
+ * - MinHash: 슁글 해시에 num-hashes개의 시드를 섞어 최소값 서명 생성, 일치 비율 = 자카드 유사도 추정치
+ * - LSH: 서명을 bands개 구간으로 나눠 같은 버킷에 들어온 쌍만 후보로 비교 (전체 쌍 비교 없음)
+ * - 그룹: 제목 유사도가 title-threshold 이상인 후보 쌍을 Union-Find로 묶음
+ * - 대표: 그룹 내 본문 유사도 평균이 가장 높은 기사 → 대표와 content-threshold 이상이면 제거,
+ *   related-threshold 이상이면 연관뉴스(RELATED + 유사도 행), 그 외는 KEPT
+ *
+ * 이미 적재한 기사와 함께 비교할 때는 그 기사를 pinned로 넘긴다. 그룹에 연관(RELATED) 상태가 아닌 pinned 기사가
+ * 있으면 그중에서 대표를 고르고, pinned 기사는 제거하거나 상태를 바꾸지 않는다.
+ * 새 기사만 기존 기사에 대해 제거/연관/유지로 분류되는 한 방향 비교다.
+ *
+ * 상세 수집에 실패한 기사(본문이 FAILED_CONTENT)는 본문 서명을 만들지 않아 본문 유사도로 제거/연관되지 않는다.
+ *
+ * 임계값은 TF-IDF/SBERT 코사인이 아니라 자카드 기준이므로 Python 설정값과 그대로 대응하지 않는다.
+ * 아직 보정 전이라 운영 기본 엔진은 python이며, 저장된 크롤링 결과로 MinHashDeduplicatorTest의 비교 테스트
+ * (-Dcrawler.dedup.compare-base-path=파일서버 경로)를 돌려 정밀도/재현율을 확인한 뒤 crawler.dedup.engine=native로 바꾼다.
+ */
+@Slf4j
+@Component
+public class MinHashDeduplicator {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}_\\s]");
+    private static final Pattern DIGITS = Pattern.compile("\\d+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private static final Set<String> STOPWORDS = Set.of("기자", "속보", "단독", "포토", "영상");
+
+    @Value("${crawler.dedup.num-hashes:128}")
+    private int numHashes;
+
+    @Value("${crawler.dedup.bands:64}")
+    private int bands;
+
+    @Value("${crawler.dedup.title-shingle:2}")
+    private int titleShingle;
+
+    @Value("${crawler.dedup.content-shingle:5}")
+    private int contentShingle;
+
+    @Value("${crawler.dedup.title-threshold:0.3}")
+    private double titleThreshold;
+
+    @Value("${crawler.dedup.content-threshold:0.6}")
+    private double contentThreshold;
+
+    @Value("${crawler.dedup.related-threshold:0.15}")
+    private double relatedThreshold;
+
+    private long[] seeds;
+
+    @PostConstruct
+    void init() {
+        // 밴드당 행 수가 나누어떨어지도록 해시 개수를 맞춤
+        bands = Math.max(1, bands);
+        int rows = Math.max(1, numHashes / bands);
+        numHashes = rows * bands;
+        seeds = new long[numHashes];
+        SplittableRandom random = new SplittableRandom(0x5DEECE66DL);
+        for (int i = 0; i < numHashes; i++) {
+            seeds[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * 한 카테고리의 뉴스를 중복 제거한다. 입력 객체의 dedupState를 설정하며, 제거된 기사는 결과에서 빠진다.
+     */
+    public Result deduplicate(String category, List<NewsDetail> newsList) {
+        return deduplicate(category, newsList, Set.of());
+    }
+
+    /**
+     * pinnedOidAids(이미 적재한 기사)는 대표 후보로만 쓰고 제거하거나 상태를 바꾸지 않는다.
+     * 결과의 deduplicated에는 pinned 기사도 그대로 포함된다.
+     */
+    public Result deduplicate(String category, List<NewsDetail> newsList, Set<String> pinnedOidAids) {
+        int n = newsList.size();
+        if (n == 0) {
+            return new Result(List.of(), List.of(), 0, 0);
+        }
+
+        // 1. 제목 서명 + LSH 후보 → 제목 유사 그룹
+        long[][] titleSignatures = new long[n][];
+        for (int i = 0; i < n; i++) {
+            titleSignatures[i] = signature(shingles(cleanTitle(newsList.get(i).getTitle()), titleShingle));
+        }
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+        for (long pair : candidatePairs(titleSignatures)) {
+            int a = (int) (pair >>> 32);
+            int b = (int) pair;
+            if (similarity(titleSignatures[a], titleSignatures[b]) >= titleThreshold) {
+                union(parent, a, b);
+            }
+        }
+        Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < n; i++) {
+            groups.computeIfAbsent(find(parent, i), r -> new ArrayList<>()).add(i);
+        }
+
+        // 2. 그룹별 본문 비교
+        DedupState[] states = new DedupState[n];
+        boolean[] removed = new boolean[n];
+        List<RelatedNewsDetail> related = new ArrayList<>();
+        int removedCount = 0;
+        int titleGroups = 0;
+        LocalDateTime now = LocalDateTime.now();
+
+        for (List<Integer> group : groups.values()) {
+            if (group.size() == 1) {
+                states[group.get(0)] = DedupState.KEPT;
+                continue;
+            }
+            titleGroups++;
+
+            long[][] contentSignatures = new long[group.size()][];
+            for (int i = 0; i < group.size(); i++) {
+                contentSignatures[i] = signature(shingles(cleanContent(newsList.get(group.get(i)).getContent()), contentShingle));
+            }
+            // 대표 후보 우선순위: 연관 상태가 아닌 pinned 기사(1) > 나머지(0)
+            boolean[] pinned = new boolean[group.size()];
+            int[] priority = new int[group.size()];
+            for (int i = 0; i < group.size(); i++) {
+                NewsDetail news = newsList.get(group.get(i));
+                pinned[i] = pinnedOidAids.contains(news.getOidAid());
+                if (pinned[i] && !DedupState.RELATED.name().equals(news.getDedupState())) {
+                    priority[i] = 1;
+                }
+            }
+            double[][] sim = new double[group.size()][group.size()];
+            int repPos = 0;
+            double bestAvg = -1.0;
+            for (int i = 0; i < group.size(); i++) {
+                double sum = 0.0;
+                for (int j = 0; j < group.size(); j++) {
+                    sim[i][j] = i == j ? 1.0 : similarity(contentSignatures[i], contentSignatures[j]);
+                    sum += sim[i][j];
+                }
+                double avg = sum / group.size();
+                if (priority[i] > priority[repPos] || (priority[i] == priority[repPos] && avg > bestAvg)) {
+                    bestAvg = avg;
+                    repPos = i;
+                }
+            }
+
+            int rep = group.get(repPos);
+            states[rep] = DedupState.REPRESENTATIVE;
+            for (int i = 0; i < group.size(); i++) {
+                int idx = group.get(i);
+                if (idx == rep) {
+                    continue;
+                }
+                if (pinned[i]) {
+                    // 이미 적재한 기사는 그대로 둠
+                    continue;
+                }
+                double s = sim[i][repPos];
+                if (s >= contentThreshold) {
+                    removed[idx] = true;
+                    removedCount++;
+                } else if (s >= relatedThreshold) {
+                    states[idx] = DedupState.RELATED;
+                    related.add(RelatedNewsDetail.builder()
+                            .repOidAid(newsList.get(rep).getOidAid())
+                            .relatedOidAid(newsList.get(idx).getOidAid())
+                            .similarity((float) (Math.round(s * 10000.0) / 10000.0))
+                            .category(category)
+                            .createdAt(now)
+                            .build());
+                } else {
+                    states[idx] = DedupState.KEPT;
+                }
+            }
+        }
+
+        List<NewsDetail> deduplicated = new ArrayList<>(n - removedCount);
+        for (int i = 0; i < n; i++) {
+            if (!removed[i]) {
+                NewsDetail news = newsList.get(i);
+                if (!pinnedOidAids.contains(news.getOidAid())) {
+                    news.setDedupState(states[i].name());
+                }
+                deduplicated.add(news);
+            }
+        }
+        return new Result(deduplicated, related, removedCount, titleGroups);
+    }
+
+    public Map<String, Object> getConfig() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("numHashes", numHashes);
+        config.put("bands", bands);
+        config.put("titleShingle", titleShingle);
+        config.put("contentShingle", contentShingle);
+        config.put("titleThreshold", titleThreshold);
+        config.put("contentThreshold", contentThreshold);
+        config.put("relatedThreshold", relatedThreshold);
+        return config;
+    }
+
+    /**
+     * 같은 밴드 버킷에 한 번이라도 들어간 (i, j) 쌍. i < j, 상위 32비트 i / 하위 32비트 j
+     */
+    private Set<Long> candidatePairs(long[][] signatures) {
+        int rows = numHashes / bands;
+        Set<Long> pairs = new HashSet<>();
+        Map<Long, List<Integer>> buckets = new HashMap<>();
+        for (int band = 0; band < bands; band++) {
+            buckets.clear();
+            for (int i = 0; i < signatures.length; i++) {
+                if (signatures[i] == null) {
+                    continue;
+                }
+                long key = band;
+                for (int r = band * rows; r < (band + 1) * rows; r++) {
+                    key = mix(key * 31 + signatures[i][r]);
+                }
+                buckets.computeIfAbsent(key, k -> new ArrayList<>(2)).add(i);
+            }
+            for (List<Integer> bucket : buckets.values()) {
+                for (int x = 0; x < bucket.size(); x++) {
+                    for (int y = x + 1; y < bucket.size(); y++) {
+                        pairs.add(((long) bucket.get(x) << 32) | bucket.get(y));
+                    }
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private long[] signature(Set<Long> shingleHashes) {
+        if (shingleHashes.isEmpty()) {
+            // 빈 텍스트끼리 우연히 같다고 판정하지 않도록 서명을 비워 둠 (후보/유사도 계산에서 제외)
+            return null;
+        }
+        long[] signature = new long[numHashes];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (long hash : shingleHashes) {
+            for (int i = 0; i < numHashes; i++) {
+                long h = mix(hash ^ seeds[i]);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static double similarity(long[] a, long[] b) {
+        if (a == null || b == null) {
+            return 0.0;
+        }
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+
+    private static Set<Long> shingles(String text, int size) {
+        String compact = text.replace(" ", "");
+        Set<Long> hashes = new HashSet<>();
+        if (compact.isEmpty()) {
+            return hashes;
+        }
+        if (compact.length() <= size) {
+            hashes.add(fnv1a(compact));
+            return hashes;
+        }
+        for (int i = 0; i + size <= compact.length(); i++) {
+            hashes.add(fnv1a(compact.substring(i, i + size)));
+        }
+        return hashes;
+    }
+
+    private static String cleanTitle(String title) {
+        if (title == null || title.isBlank()) {
+            return "";
+        }
+        String text = normalize(title);
+        StringBuilder sb = new StringBuilder(text.length());
+        for (String token : text.split(" ")) {
+            if (!token.isEmpty() && !STOPWORDS.contains(token)) {
+                sb.append(token).append(' ');
+            }
+        }
+        return sb.toString().trim();
+    }
+
+    // 상세 수집 실패 기사는 모두 같은 본문이라 유사도에서 빠지도록 빈 문자열 처리
+    private static String cleanContent(String content) {
+        if (content == null || content.isBlank() || NewsDetailCrawler.FAILED_CONTENT.equals(content)) {
+            return "";
+        }
+        String text = content.indexOf('<') >= 0 ? Jsoup.parse(content).text() : content;
+        return normalize(text);
+    }
+
+    private static String normalize(String text) {
+        String cleaned = NON_WORD.matcher(text).replaceAll(" ");
+        cleaned = DIGITS.matcher(cleaned).replaceAll("");
+        return SPACES.matcher(cleaned).replaceAll(" ").trim();
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]]; // 경로 압축
+            x = parent[x];
+        }
+        return x;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[rootB] = rootA;
+        }
+    }
+
+    /**
+     * 카테고리 중복 제거 결과
+     *
+     * @param deduplicated 제거되지 않은 기사 (dedupState 설정됨, 입력 순서 유지)
+     * @param related      대표-연관 기사 유사도 행
+     * @param removedCount 대표와 본문이 거의 같아 제거된 기사 수
+     * @param titleGroups  2건 이상으로 묶인 제목 그룹 수
+     */
+    public record Result(List<NewsDetail> deduplicated, List<RelatedNewsDetail> related, int removedCount, int titleGroups) { }
+}
@@ -1,21 +1,27 @@
 package com.newnormallist.crawlerservice.util;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.newnormallist.crawlerservice.dto.NewsDetail;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.*;
 
@@ -24,18 +30,23 @@ import java.util.concurrent.*;
  * 
  * 역할:
  * - 네이버 뉴스 사이트에서 실제 뉴스 데이터 수집
- * - Selenium WebDriver 기반 동적 웹 크롤링
- * - 카테고리별 뉴스 목록 및 상세 정보 추출
+ * - 카테고리별 뉴스 목록 추출 (상세 크롤링은 NewsDetailCrawler)
  * 
  * 기능:
  * - 뉴스 목록 크롤링: 카테고리별 뉴스 링크 및 기본 정보 수집
- * - 뉴스 상세 크롤링: 개별 뉴스의 본문, 이미지, 메타데이터 추출
- * - 더보기 버튼 자동 클릭: 목표 개수(100개)까지 뉴스 수집
+ * - 목록 로딩 방식 (crawler.list.mode)
+ *   - browser: WebDriverPool의 재사용 브라우저로 더보기 버튼 클릭, 목록이 늘어날 때까지만 대기
+ *   - jsoup: 브라우저 없이 섹션 페이지와 더보기가 호출하는 목록 템플릿 API를 커서로 넘겨가며 조회
  * - 언론사 필터링: 신뢰할 수 있는 언론사만 선별
+ * - 증분 수집: 이미 적재한 기사(SeenArticleFilter)는 건너뛰고,
+ *   새로 불러온 목록에 이미 적재한 기사가 연속으로 이어지면 그 뒤는 지난 기사로 보고 더보기 중단
  * - 오류 처리: 네트워크 오류, 페이지 로딩 실패 등 예외 상황 대응
+ * 
+ * crawler.list.base-url을 저장해 둔 페이지 위치(file:// 또는 로컬 HTTP 서버)로 바꾸면 두 방식 모두 로컬 페이지로 확인할 수 있다.
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class NaverNewsCrawler {
 
     private static final Map<Integer, String> CATEGORIES = Map.of(
@@ -54,306 +65,514 @@ public class NaverNewsCrawler {
             "블로터", "전자신문", "지디넷코리아"
     );
 
+    // 기사 항목 선택자 (앞에서부터 항목이 있는 첫 선택자 사용, 더보기 응답 조각은 .sa_item으로 찾음)
+    private static final String[] ARTICLE_SELECTORS = {
+            "#newsct div.section_latest_article ul li",
+            ".sa_item",
+            ".section_latest li"
+    };
+
+    // 더보기 버튼 선택자 (먼저 찾은 것 사용)
+    private static final String[] MORE_BUTTON_SELECTORS = {
+            "#newsct > div.section_latest > div > div.section_more > a",
+            "button.sa_more_btn",
+            ".sa_more_btn",
+            "button[class*='more']",
+            "a[class*='more']",
+            ".more_wrap button",
+            ".sa_more"
+    };
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+
+    private final WebDriverPool webDriverPool;
+    private final HostRateLimiter hostRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final SeenArticleFilter seenArticleFilter;
+
+    // 목록 로딩 방식: browser 또는 jsoup
+    @Value("${crawler.list.mode:browser}")
+    private String listMode;
+
+    @Value("${crawler.list.base-url:https://news.naver.com}")
+    private String baseUrl;
+
+    // 더보기 후 목록이 늘어날 때까지 기다리는 최대 시간
+    @Value("${crawler.list.growth-timeout-ms:5000}")
+    private long growthTimeoutMs;
+
+    @Value("${crawler.list.timeout-ms:10000}")
+    private int timeoutMs;
+
     /**
      * 모든 카테고리 크롤링 실행
      */
     public Map<String, List<NewsDetail>> crawlAllCategories(int targetCount) {
-        log.info("모든 카테고리 크롤링 시작 - 목표: {}개씩", targetCount);
-
-        Map<String, List<NewsDetail>> results = new ConcurrentHashMap<>();
-        ExecutorService executor = Executors.newFixedThreadPool(3);
-        List<Future<?>> futures = new ArrayList<>();
+        List<String> categoryNames = new ArrayList<>(CATEGORIES.values());
+        // 추가 카테고리
+        categoryNames.addAll(List.of("VEHICLE", "LIFE", "TRAVEL_FOOD", "ART"));
+        return crawlCategories(categoryNames, targetCount);
+    }
 
-        // 기본 카테고리 크롤링
-        for (Map.Entry<Integer, String> category : CATEGORIES.entrySet()) {
-            final int categoryCode = category.getKey();
-            final String categoryName = category.getValue();
+    /**
+     * 지정한 카테고리만 크롤링 (세션 재개 시 완료되지 않은 카테고리만 다시 실행)
+     * 크롤링 중 예외가 난 카테고리는 결과에 포함되지 않는다.
+     */
+    public Map<String, List<NewsDetail>> crawlCategories(Collection<String> categoryNames, int targetCount) {
+        log.info("카테고리 크롤링 시작 - {}개 카테고리, 목표: {}개씩 ({} 방식)", categoryNames.size(), targetCount, listMode);
 
-            futures.add(executor.submit(() -> {
-                List<NewsDetail> newsList = crawlCategory(categoryCode, categoryName, targetCount);
-                results.put(categoryName, newsList);
-                log.info("{} 카테고리 크롤링 완료: {}개", categoryName, newsList.size());
-            }));
-        }
+        Map<String, List<NewsDetail>> results = new ConcurrentHashMap<>();
+        // 동시 실행 수는 브라우저 풀 크기에 맞춤
+        ExecutorService executor = Executors.newFixedThreadPool(webDriverPool.getPoolSize());
+        Map<String, Future<?>> futures = new LinkedHashMap<>();
 
-        // 추가 카테고리 크롤링
-        String[] additionalCategories = {"VEHICLE", "LIFE", "TRAVEL_FOOD", "ART"};
-        for (String categoryName : additionalCategories) {
-            futures.add(executor.submit(() -> {
-                List<NewsDetail> newsList = crawlAdditionalCategory(categoryName, targetCount);
+        for (String categoryName : categoryNames) {
+            futures.put(categoryName, executor.submit(() -> {
+                List<NewsDetail> newsList = crawlCategoryList(categoryName, targetCount);
                 results.put(categoryName, newsList);
                 log.info("{} 카테고리 크롤링 완료: {}개", categoryName, newsList.size());
             }));
         }
 
         executor.shutdown();
-        try {
-            for (Future<?> future : futures) {
-                future.get();
+        for (Map.Entry<String, Future<?>> entry : futures.entrySet()) {
+            try {
+                entry.getValue().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("{} 카테고리 크롤링 중 오류 발생: {}", entry.getKey(), e.getMessage(), e);
             }
-        } catch (Exception e) {
-            log.error("크롤링 중 오류 발생: {}", e.getMessage(), e);
         }
 
-        log.info("모든 카테고리 크롤링 완료");
+        log.info("카테고리 크롤링 완료 (브라우저 풀: {})", webDriverPool.getStatus());
         return results;
     }
 
+    /**
+     * 한 카테고리 목록 크롤링 (기본/추가 카테고리 구분 없이 이름으로 호출, 연속 수집 모드에서 사용)
+     */
+    public List<NewsDetail> crawlCategoryList(String categoryName, int targetCount) {
+        Integer categoryCode = CATEGORIES.entrySet().stream()
+                .filter(entry -> entry.getValue().equals(categoryName))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElse(null);
+        return categoryCode != null
+                ? crawlCategory(categoryCode, categoryName, targetCount)
+                : crawlAdditionalCategory(categoryName, targetCount);
+    }
+
     /**
      * 기본 카테고리 크롤링
      */
     private List<NewsDetail> crawlCategory(int categoryCode, String categoryName, int targetCount) {
         log.info("{} 카테고리 크롤링 시작 - 목표: {}개", categoryName, targetCount);
 
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--headless", "--disable-gpu", "--no-sandbox", "--disable-dev-shm-usage");
-
-        WebDriver driver = new ChromeDriver(options);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
         Set<String> collectedLinks = new HashSet<>();
         List<NewsDetail> newsList = new ArrayList<>();
+        String url = baseUrl + "/section/" + categoryCode;
 
         try {
-            String url = "https://news.naver.com/section/" + categoryCode;
-            driver.get(url);
+            // 더보기 최대 10번
+            Elements articles = loadArticles(url, 10);
+            log.info("🔍 {} 카테고리 URL: {}, 찾은 기사 요소 개수: {}", categoryName, url, articles.size());
+            collectArticles(articles, categoryName, targetCount, collectedLinks, newsList);
+        } catch (Exception e) {
+            log.error("❌ {} 카테고리 크롤링 실패: {}", categoryName, e.getMessage(), e);
+        }
 
-            // 더보기 버튼을 여러 번 클릭하여 충분한 기사 로드
-            int clickCount = 0;
-            int maxClicks = 10; // 최대 10번 클릭
+        log.info("📊 {} 카테고리 크롤링 결과: {}개 수집", categoryName, newsList.size());
+        return newsList;
+    }
 
-            while (clickCount < maxClicks) {
-                if (!clickMoreButton(wait)) {
-                    log.info("더보기 버튼 클릭 실패 또는 버튼 없음 ({}번째 시도)", clickCount + 1);
-                    break;
-                }
-                clickCount++;
-                log.info("더보기 버튼 {}번째 클릭 완료", clickCount);
+    /**
+     * 추가 카테고리 크롤링 (자동차, 생활, 여행, 예술)
+     */
+    private List<NewsDetail> crawlAdditionalCategory(String categoryName, int targetCount) {
+        log.info("{} 카테고리 크롤링 시작", categoryName);
 
-                // 클릭 후 잠시 대기
-                try {
-                    Thread.sleep(2000);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
-                }
+        Set<String> collectedLinks = new HashSet<>();
+        List<NewsDetail> newsList = new ArrayList<>();
+
+        try {
+            // 카테고리별 URL과 개수 매핑
+            CategoryCrawlConfig config = getCategoryCrawlConfig(categoryName);
+            if (config == null) {
+                log.error("{} 카테고리 설정을 찾을 수 없습니다", categoryName);
+                return newsList;
             }
 
-            Document doc = Jsoup.parse(driver.getPageSource());
-            Elements articles = doc.select("#newsct div.section_latest_article ul li");
+            for (UrlConfig urlConfig : config.getUrls()) {
+                if (collectedLinks.size() >= config.getTotalTarget()) break;
 
-            // 다른 선택자도 시도
-            if (articles.isEmpty()) {
-                articles = doc.select(".sa_item");
-            }
-            if (articles.isEmpty()) {
-                articles = doc.select(".section_latest li");
+                String url = baseUrl + urlConfig.getPath();
+                log.info("{} 카테고리 {} 크롤링 중: {}개 목표", categoryName, url, urlConfig.getTargetCount());
+
+                // 추가 카테고리는 더보기 최대 5번
+                Elements articles = loadArticles(url, 5);
+                collectArticles(articles, categoryName, urlConfig.getTargetCount(), collectedLinks, newsList);
             }
 
-            log.info("🔍 {} 카테고리 URL: {}", categoryName, url);
-            log.info("🔍 전체 페이지 크기: {} bytes", driver.getPageSource().length());
-            log.info("🔍 찾은 기사 요소 개수: {}", articles.size());
+        } catch (Exception e) {
+            log.error("{} 카테고리 크롤링 실패: {}", categoryName, e.getMessage(), e);
+        }
 
-            // 첫 번째 기사 요소의 HTML 구조 확인 (디버깅용)
-            if (!articles.isEmpty()) {
-                log.info("🔍 첫 번째 기사 요소 HTML: {}", articles.first().outerHtml().substring(0, Math.min(500, articles.first().outerHtml().length())));
-            }
+        log.info("{} 카테고리 크롤링 결과: {}개 수집", categoryName, newsList.size());
+        return newsList;
+    }
 
-            for (Element article : articles) {
-                if (collectedLinks.size() >= targetCount) break;
+    /**
+     * 기사 항목을 필터링해 수집 (수집된 링크 수가 limit에 도달하면 중단)
+     */
+    private void collectArticles(Elements articles, String categoryName, int limit,
+                                 Set<String> collectedLinks, List<NewsDetail> newsList) {
+        for (Element article : articles) {
+            if (collectedLinks.size() >= limit) break;
+
+            try {
+                Element linkElement = article.selectFirst("a");
+                if (linkElement == null) {
+                    log.debug("❌ 링크 요소 없음");
+                    continue;
+                }
+                String link = linkElement.absUrl("href");
+                if (link.isEmpty()) {
+                    link = linkElement.attr("href");
+                }
+                if (link.isEmpty() || collectedLinks.contains(link)) {
+                    log.debug("❌ 빈 링크 또는 중복: {}", link);
+                    continue;
+                }
+                Element titleElement = article.selectFirst("strong");
+                if (titleElement == null) {
+                    log.debug("❌ 제목 요소 없음");
+                    continue;
+                }
+                String title = titleElement.text().trim();
+                if (title.isEmpty()) {
+                    log.debug("❌ 빈 제목");
+                    continue;
+                }
+                
+                // 대괄호 안에 "시사", "칼럼", "컬럼" 등이 포함된 기사 필터링
+                if (containsFilteredKeywords(title)) {
+                    continue;
+                }
 
-                try {
-                    Element linkElement = article.selectFirst("a");
-                    if (linkElement == null) {
-                        log.debug("❌ 링크 요소 없음");
-                        continue;
-                    }
-                    String link = linkElement.attr("href");
-                    if (link.isEmpty() || collectedLinks.contains(link)) {
-                        log.debug("❌ 빈 링크 또는 중복: {}", link);
-                        continue;
-                    }
-                    Element titleElement = article.selectFirst("strong");
-                    if (titleElement == null) {
-                        log.debug("❌ 제목 요소 없음");
-                        continue;
-                    }
-                    String title = titleElement.text().trim();
-                    if (title.isEmpty()) {
-                        log.debug("❌ 빈 제목");
-                        continue;
-                    }
-                    
-                    // 대괄호 안에 "시사", "칼럼", "컬럼" 등이 포함된 기사 필터링
-                    if (containsFilteredKeywords(title)) {
-                        log.info("🚫 필터링된 기사: {}", title);
-                        continue;
-                    }
-                    // 다양한 언론사 선택자 시도
-                    Element pressElement = article.selectFirst("span.press");
-                    if (pressElement == null) {
-                        pressElement = article.selectFirst(".press");
-                    }
-                    if (pressElement == null) {
-                        pressElement = article.selectFirst("em");
-                    }
-                    if (pressElement == null) {
-                        pressElement = article.selectFirst(".sa_text_press");
-                    }
-                    String press = pressElement != null ? pressElement.text().trim() : "알 수 없음";
+                // 다양한 언론사 선택자 시도
+                Element pressElement = article.selectFirst("span.press");
+                if (pressElement == null) {
+                    pressElement = article.selectFirst(".press");
+                }
+                if (pressElement == null) {
+                    pressElement = article.selectFirst("em");
+                }
+                if (pressElement == null) {
+                    pressElement = article.selectFirst(".sa_text_press");
+                }
+                String press = pressElement != null ? pressElement.text().trim() : "알 수 없음";
 
-                    log.info("🔍 발견된 언론사: '{}', 제목: '{}'", press, title.substring(0, Math.min(title.length(), 30)));
+                // 허용된 언론사만 수집
+                if (!ALLOWED_PRESSES.contains(press)) {
+                    log.debug("❌ 허용되지 않은 언론사: '{}'", press);
+                    continue;
+                }
 
-                    // 허용된 언론사만 수집
-                    if (!ALLOWED_PRESSES.contains(press)) {
-                        log.info("❌ 허용되지 않은 언론사: '{}'", press);
-                        continue;
-                    }
+                // 이전 크롤링에서 이미 적재한 기사
+                if (seenArticleFilter.contains(NewsDetailCrawler.extractOidAidFromUrl(link))) {
+                    seenArticleFilter.recordListSkipped();
+                    continue;
+                }
 
-                    collectedLinks.add(link);
+                collectedLinks.add(link);
+                seenArticleFilter.recordListCollected();
 
-                    NewsDetail news = NewsDetail.builder()
-                            .link(link)
-                            .title(title)
-                            .press(press)
-                            .categoryName(categoryName)      // 카테고리명 설정
-                            .createdAt(LocalDateTime.now())
-                            .build();
+                NewsDetail news = NewsDetail.builder()
+                        .link(link)
+                        .title(title)
+                        .press(press)
+                        .categoryName(categoryName)      // 카테고리명 설정
+                        .createdAt(LocalDateTime.now())
+                        .build();
 
-                    newsList.add(news);
+                newsList.add(news);
 
-                } catch (Exception e) {
-                    log.warn("기사 파싱 실패: {}", e.getMessage());
-                }
+            } catch (Exception e) {
+                log.warn("기사 파싱 실패: {}", e.getMessage());
             }
-
-        } catch (Exception e) {
-            log.error("❌ {} 카테고리 크롤링 실패: {}", categoryName, e.getMessage(), e);
-        } finally {
-            driver.quit();
         }
+    }
 
-        log.info("📊 {} 카테고리 크롤링 결과: {}개 수집", categoryName, newsList.size());
-        return newsList;
+    /**
+     * 목록 페이지의 기사 항목 로딩 (설정된 방식 사용)
+     */
+    private Elements loadArticles(String url, int maxMore) throws Exception {
+        if ("jsoup".equalsIgnoreCase(listMode)) {
+            return loadArticlesWithJsoup(url, maxMore);
+        }
+        return loadArticlesWithBrowser(url, maxMore);
     }
 
     /**
-     * 추가 카테고리 크롤링 (자동차, 생활, 여행, 예술)
+     * 새로 불러온 항목에 이미 적재한 기사가 stop-after-known개 이상 연속으로 있는지.
+     * 목록은 최신순이므로 그 이후 항목도 이미 적재한 기사로 본다.
      */
-    private List<NewsDetail> crawlAdditionalCategory(String categoryName, int targetCount) {
-        log.info("{} 카테고리 크롤링 시작", categoryName);
+    private boolean reachedSeenArticles(List<String> links) {
+        int threshold = seenArticleFilter.getStopAfterKnown();
+        if (!seenArticleFilter.isEnabled() || threshold <= 0) {
+            return false;
+        }
+        int run = 0;
+        for (String link : links) {
+            if (link == null || link.isEmpty()) {
+                continue;
+            }
+            run = seenArticleFilter.contains(NewsDetailCrawler.extractOidAidFromUrl(link)) ? run + 1 : 0;
+            if (run >= threshold) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--headless", "--disable-gpu", "--no-sandbox", "--disable-dev-shm-usage");
+    private static List<String> linksOf(Elements articles) {
+        List<String> links = new ArrayList<>(articles.size());
+        for (Element article : articles) {
+            Element linkElement = article.selectFirst("a");
+            if (linkElement != null) {
+                String link = linkElement.absUrl("href");
+                links.add(link.isEmpty() ? linkElement.attr("href") : link);
+            }
+        }
+        return links;
+    }
 
-        WebDriver driver = new ChromeDriver(options);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-        Set<String> collectedLinks = new HashSet<>();
-        List<NewsDetail> newsList = new ArrayList<>();
+    private static Elements selectArticles(Element root) {
+        Elements articles = new Elements();
+        for (String selector : ARTICLE_SELECTORS) {
+            articles = root.select(selector);
+            if (!articles.isEmpty()) {
+                break;
+            }
+        }
+        return articles;
+    }
 
-        try {
-            // 카테고리별 URL과 개수 매핑
-            CategoryCrawlConfig config = getCategoryCrawlConfig(categoryName);
-            if (config == null) {
-                log.error("{} 카테고리 설정을 찾을 수 없습니다", categoryName);
-                return newsList;
+    // ===== browser 방식 =====
+
+    /**
+     * 풀의 브라우저로 페이지를 열고 더보기를 누르며 목록이 늘어날 때까지만 기다린다.
+     */
+    private Elements loadArticlesWithBrowser(String url, int maxClicks) throws Exception {
+        return webDriverPool.execute(driver -> {
+            driver.get(url);
+            WebDriverWait growthWait = new WebDriverWait(driver, Duration.ofMillis(growthTimeoutMs));
+
+            // 첫 목록이 그려질 때까지 대기
+            int count;
+            try {
+                count = growthWait.until(d -> {
+                    int n = countArticles(d);
+                    return n > 0 ? n : null;
+                });
+            } catch (TimeoutException e) {
+                log.info("목록이 비어 있음: {}", url);
+                count = 0;
             }
 
-            for (UrlConfig urlConfig : config.getUrls()) {
-                if (collectedLinks.size() >= config.getTotalTarget()) break;
+            int clickCount = 0;
+            int checkedFrom = 0;
+            while (clickCount < maxClicks && count > 0) {
+                if (reachedSeenArticles(articleLinks(driver, checkedFrom))) {
+                    seenArticleFilter.recordPagingStopped();
+                    log.info("이미 적재한 기사가 이어져 더보기 중단 ({}번 클릭, {}개): {}", clickCount, count, url);
+                    break;
+                }
+                checkedFrom = count;
 
-                log.info("{} 카테고리 {} 크롤링 중: {}개 목표", categoryName, urlConfig.getUrl(), urlConfig.getTargetCount());
+                if (!clickMoreButton(driver)) {
+                    log.info("더보기 버튼 없음 ({}번째 시도)", clickCount + 1);
+                    break;
+                }
+                clickCount++;
+
+                // 고정 대기 대신 항목 수가 늘어나는 시점까지만 대기
+                int before = count;
+                try {
+                    count = growthWait.until(d -> {
+                        int n = countArticles(d);
+                        return n > before ? n : null;
+                    });
+                } catch (TimeoutException e) {
+                    log.info("더보기 {}번째 클릭 후 목록이 늘지 않음 ({}개)", clickCount, before);
+                    break;
+                }
+                log.debug("더보기 {}번째 클릭: {}개 → {}개", clickCount, before, count);
+            }
 
-                driver.get(urlConfig.getUrl());
-                Thread.sleep(2000); // 페이지 로딩 대기
+            Document doc = Jsoup.parse(driver.getPageSource(), url);
+            return selectArticles(doc);
+        });
+    }
 
-                // 더보기 버튼을 여러 번 클릭하여 충분한 기사 로드
-                int clickCount = 0;
-                int maxClicks = 5; // 추가 카테고리는 최대 5번 클릭
+    private static int countArticles(WebDriver driver) {
+        for (String selector : ARTICLE_SELECTORS) {
+            int count = driver.findElements(By.cssSelector(selector)).size();
+            if (count > 0) {
+                return count;
+            }
+        }
+        return 0;
+    }
 
-                while (clickCount < maxClicks) {
-                    if (!clickMoreButton(wait)) {
-                        log.info("더보기 버튼 클릭 실패 또는 버튼 없음 ({}번째 시도)", clickCount + 1);
-                        break;
-                    }
-                    clickCount++;
-                    log.info("더보기 버튼 {}번째 클릭 완료", clickCount);
+    /**
+     * from번째 이후 기사 항목의 링크 (목록을 다시 파싱하지 않고 스크립트 한 번으로 조회)
+     */
+    @SuppressWarnings("unchecked")
+    private static List<String> articleLinks(WebDriver driver, int from) {
+        for (String selector : ARTICLE_SELECTORS) {
+            Object links = ((JavascriptExecutor) driver).executeScript(
+                    "var items = document.querySelectorAll(arguments[0]);" +
+                    "if (items.length === 0) return null;" +
+                    "return Array.prototype.slice.call(items, arguments[1]).map(function (item) {" +
+                    "  var a = item.querySelector('a'); return a ? a.href : ''; });",
+                    selector, from);
+            if (links instanceof List<?>) {
+                return (List<String>) links;
+            }
+        }
+        return List.of();
+    }
 
-                    // 클릭 후 잠시 대기
+    /**
+     * 더보기 버튼 클릭 (선택자마다 기다리지 않고 현재 보이는 버튼을 바로 찾음)
+     */
+    private boolean clickMoreButton(WebDriver driver) {
+        for (String selector : MORE_BUTTON_SELECTORS) {
+            for (WebElement button : driver.findElements(By.cssSelector(selector))) {
+                try {
+                    if (!button.isDisplayed() || !button.isEnabled()) {
+                        continue;
+                    }
                     try {
-                        Thread.sleep(2000);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        break;
+                        button.click();
+                    } catch (ElementClickInterceptedException e) {
+                        // 고정 배너 등에 가려진 경우 스크립트로 클릭
+                        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", button);
                     }
+                    log.debug("더보기 버튼 클릭 성공: {}", selector);
+                    return true;
+                } catch (StaleElementReferenceException e) {
+                    log.debug("더보기 버튼이 다시 그려짐: {}", selector);
                 }
+            }
+        }
+        return false;
+    }
 
-                Document doc = Jsoup.parse(driver.getPageSource());
-                Elements articles = doc.select("#newsct div.section_latest_article ul li");
+    // ===== jsoup 방식 =====
 
-                for (Element article : articles) {
-                    if (collectedLinks.size() >= urlConfig.getTargetCount()) break;
+    /**
+     * 브라우저 없이 섹션 페이지를 받고, 더보기 버튼이 호출하는 목록 템플릿 API를 커서로 이어서 조회한다.
+     * 목록 컨테이너의 data-template-id / data-cursor-name / data-cursor / data-page-no 속성을 그대로 사용하며,
+     * 속성이 없거나 응답을 해석하지 못하면 그때까지 모은 항목만 반환한다.
+     */
+    private Elements loadArticlesWithJsoup(String url, int maxMore) throws IOException, InterruptedException {
+        Document doc = fetchDocument(url);
+        Elements articles = selectArticles(doc);
+
+        Element container = doc.selectFirst("[data-template-id][data-cursor-name]");
+        if (container == null) {
+            log.info("목록 템플릿 정보 없음, 첫 페이지만 사용: {}", url);
+            return articles;
+        }
+        String templateId = container.attr("data-template-id");
+        String cursorName = container.attr("data-cursor-name");
+        String cursor = container.attr("data-cursor");
+        int pageNo = parsePageNo(container.attr("data-page-no"));
+        String[] sectionIds = sectionIds(url);
+
+        Elements latest = articles;
+        for (int more = 0; more < maxMore && !cursor.isEmpty(); more++) {
+            if (reachedSeenArticles(linksOf(latest))) {
+                seenArticleFilter.recordPagingStopped();
+                log.info("이미 적재한 기사가 이어져 목록 추가 조회 중단 ({}번 조회, {}개): {}", more, articles.size(), url);
+                break;
+            }
+            pageNo++;
+            String moreUrl = baseUrl + "/section/template/" + templateId
+                    + "?sid=" + sectionIds[0] + "&sid2=" + sectionIds[1]
+                    + "&pageNo=" + pageNo + "&" + cursorName + "=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8);
+            JsonNode response;
+            try {
+                response = objectMapper.readTree(fetchBody(moreUrl));
+            } catch (IOException e) {
+                log.info("목록 추가 조회 실패 ({}번째): {} - {}", more + 1, moreUrl, e.getMessage());
+                break;
+            }
 
-                    try {
-                        Element linkElement = article.selectFirst("a");
-                        if (linkElement == null) continue;
-
-                        String link = linkElement.attr("href");
-                        if (link.isEmpty() || collectedLinks.contains(link)) continue;
-
-                        Element titleElement = article.selectFirst("strong");
-                        if (titleElement == null) continue;
-
-                        String title = titleElement.text().trim();
-                        if (title.isEmpty()) continue;
-                        
-                        // 대괄호 안에 "시사", "칼럼", "컬럼" 등이 포함된 기사 필터링
-                        if (containsFilteredKeywords(title)) {
-                            log.info("🚫 필터링된 기사: {}", title);
-                            continue;
-                        }
-
-                        // 다양한 언론사 선택자 시도
-                        Element pressElement = article.selectFirst("span.press");
-                        if (pressElement == null) {
-                            pressElement = article.selectFirst(".press");
-                        }
-                        if (pressElement == null) {
-                            pressElement = article.selectFirst("em");
-                        }
-                        if (pressElement == null) {
-                            pressElement = article.selectFirst(".sa_text_press");
-                        }
-                        String press = pressElement != null ? pressElement.text().trim() : "알 수 없음";
-
-                        // 허용된 언론사만 수집
-                        if (!ALLOWED_PRESSES.contains(press)) continue;
-
-                        collectedLinks.add(link);
-
-                        NewsDetail news = NewsDetail.builder()
-                                .link(link)
-                                .title(title)
-                                .press(press)
-                                .categoryName(categoryName)      // 카테고리명 설정
-                                .createdAt(LocalDateTime.now())
-                                .build();
-
-                        newsList.add(news);
-
-                    } catch (Exception e) {
-                        log.warn("기사 파싱 실패: {}", e.getMessage());
-                    }
-                }
+            JsonNode rendered = response.path("renderedComponent").path(templateId);
+            if (!rendered.isTextual()) {
+                log.info("목록 추가 응답 형식이 다름 ({}번째): {}", more + 1, moreUrl);
+                break;
+            }
+            Document fragment = Jsoup.parseBodyFragment(rendered.asText(), url);
+            Elements page = selectArticles(fragment);
+            if (page.isEmpty()) {
+                break;
+            }
+            articles.addAll(page);
+            latest = page;
+
+            // 다음 커서: 응답 조각의 목록 속성 → JSON 필드 순으로 확인
+            Element next = fragment.selectFirst("[data-cursor]");
+            String nextCursor = next != null ? next.attr("data-cursor") : response.path(cursorName).asText("");
+            if (nextCursor.equals(cursor)) {
+                break;
             }
+            cursor = nextCursor;
+        }
+        return articles;
+    }
 
-        } catch (Exception e) {
-            log.error("{} 카테고리 크롤링 실패: {}", categoryName, e.getMessage(), e);
-        } finally {
-            driver.quit();
+    private Document fetchDocument(String url) throws IOException, InterruptedException {
+        if (url.startsWith("file:")) {
+            return Jsoup.parse(new File(URI.create(url)), StandardCharsets.UTF_8.name(), url);
         }
+        hostRateLimiter.acquire(url);
+        return Jsoup.connect(url).userAgent(USER_AGENT).timeout(timeoutMs).get();
+    }
 
-        log.info("{} 카테고리 크롤링 결과: {}개 수집", categoryName, newsList.size());
-        return newsList;
+    private String fetchBody(String url) throws IOException, InterruptedException {
+        hostRateLimiter.acquire(url);
+        return Jsoup.connect(url)
+                .userAgent(USER_AGENT)
+                .timeout(timeoutMs)
+                .ignoreContentType(true)
+                .header("Referer", baseUrl)
+                .execute()
+                .body();
+    }
+
+    // /section/100 → {100, ""}, /breakingnews/section/103/239 → {103, 239}
+    private static String[] sectionIds(String url) {
+        String path = url.replaceAll("[?#].*$", "");
+        int index = path.indexOf("/section/");
+        if (index < 0) {
+            return new String[]{"", ""};
+        }
+        String[] parts = path.substring(index + "/section/".length()).split("/");
+        return new String[]{parts[0], parts.length > 1 ? parts[1] : ""};
+    }
+
+    private static int parsePageNo(String value) {
+        try {
+            return value.isEmpty() ? 1 : Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 1;
+        }
     }
 
     /**
@@ -362,22 +581,22 @@ public class NaverNewsCrawler {
     private CategoryCrawlConfig getCategoryCrawlConfig(String categoryName) {
         return switch (categoryName) {
             case "VEHICLE" -> new CategoryCrawlConfig(239, 40, List.of(
-                    new UrlConfig("https://news.naver.com/breakingnews/section/103/239", 35),
-                    new UrlConfig("https://news.naver.com/breakingnews/section/103/240", 5)
+                    new UrlConfig("/breakingnews/section/103/239", 35),
+                    new UrlConfig("/breakingnews/section/103/240", 5)
             ));
             case "LIFE" -> new CategoryCrawlConfig(241, 120, List.of(
-                    new UrlConfig("https://news.naver.com/breakingnews/section/103/241", 30),
-                    new UrlConfig("https://news.naver.com/breakingnews/section/103/248", 40),
-                    new UrlConfig("https://news.naver.com/breakingnews/section/103/245", 50)
+                    new UrlConfig("/breakingnews/section/103/241", 30),
+                    new UrlConfig("/breakingnews/section/103/248", 40),
+                    new UrlConfig("/breakingnews/section/103/245", 50)
             ));
             case "TRAVEL_FOOD" -> new CategoryCrawlConfig(237, 50, List.of(
-                    new UrlConfig("https://news.naver.com/breakingnews/section/103/237", 40),
-                    new UrlConfig("https://news.naver.com/breakingnews/section/103/238", 10)
+                    new UrlConfig("/breakingnews/section/103/237", 40),
+                    new UrlConfig("/breakingnews/section/103/238", 10)
             ));
             case "ART" -> new CategoryCrawlConfig(242, 80, List.of(
-                    new UrlConfig("https://news.naver.com/breakingnews/section/103/242", 45),
-                    new UrlConfig("https://news.naver.com/breakingnews/section/103/243", 20),
-                    new UrlConfig("https://news.naver.com/breakingnews/section/103/376", 15)
+                    new UrlConfig("/breakingnews/section/103/242", 45),
+                    new UrlConfig("/breakingnews/section/103/243", 20),
+                    new UrlConfig("/breakingnews/section/103/376", 15)
             ));
             default -> null;
         };
@@ -400,15 +619,15 @@ public class NaverNewsCrawler {
     }
 
     private static class UrlConfig {
-        private final String url;
+        private final String path; // base-url 기준 경로
         private final int targetCount;
 
-        public UrlConfig(String url, int targetCount) {
-            this.url = url;
+        public UrlConfig(String path, int targetCount) {
+            this.path = path;
             this.targetCount = targetCount;
         }
 
-        public String getUrl() { return url; }
+        public String getPath() { return path; }
         public int getTargetCount() { return targetCount; }
     }
 
@@ -448,43 +667,4 @@ public class NaverNewsCrawler {
         
         return false;
     }
-
-    /**
-     * 더보기 버튼 클릭
-     */
-    private boolean clickMoreButton(WebDriverWait wait) {
-        try {
-            // 여러 가지 더보기 버튼 선택자 시도
-            String[] moreButtonSelectors = {
-                    "#newsct > div.section_latest > div > div.section_more > a",
-                    "button.sa_more_btn",
-                    ".sa_more_btn",
-                    "button[class*='more']",
-                    "a[class*='more']",
-                    ".more_wrap button",
-                    ".sa_more"
-            };
-
-            for (String selector : moreButtonSelectors) {
-                try {
-                    WebElement moreButton = wait.until(ExpectedConditions.elementToBeClickable(
-                            By.cssSelector(selector)
-                    ));
-                    moreButton.click();
-                    log.debug("더보기 버튼 클릭 성공: {}", selector);
-                    Thread.sleep(1000);
-                    return true;
-                } catch (Exception e) {
-                    log.debug("더보기 버튼 선택자 실패: {}", selector);
-                    continue;
-                }
-            }
-
-            log.debug("모든 더보기 버튼 선택자 실패");
-            return false;
-        } catch (Exception e) {
-            log.debug("더보기 버튼 클릭 중 오류: {}", e.getMessage());
-            return false;
-        }
-    }
 }
@@ -0,0 +1,532 @@
+package com.newnormallist.crawlerservice.util;
+
+import com.newnormallist.crawlerservice.dto.NewsDetail;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.HttpStatusException;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 네이버 뉴스 상세 크롤러
+ *
+ * 역할:
+ * - 뉴스 목록(링크/제목/언론사)을 받아 기사 상세 페이지를 Jsoup으로 수집
+ * - 모든 카테고리의 상세 요청을 하나의 공유 풀에서 동시에 처리
+ *
+ * 기능:
+ * - 요청 간격: 작업마다 고정 sleep 대신 호스트별 토큰 버킷(HostRateLimiter)으로 전체 요청 속도 제한
+ * - 동시성: crawler.detail.concurrency 크기의 고정 풀 하나 (카테고리마다 풀을 만들지 않음)
+ * - 재시도: 네트워크 오류, 429, 5xx는 지수 백오프 + 지터로 max-attempts까지 재시도 (404 등은 바로 실패 처리)
+ * - 진행 상황: 전체/완료/실패/재시도 건수, 카테고리별 완료 수, 처리 속도를 getProgress()로 제공
+ * - 이미 적재한 기사(SeenArticleFilter)는 상세 요청 없이 결과에서 제외
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsDetailCrawler {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+
+    // 상세 수집 실패 시 본문 대신 넣는 값
+    public static final String FAILED_CONTENT = "상세 내용 크롤링 실패";
+
+    private final HostRateLimiter hostRateLimiter;
+    private final SeenArticleFilter seenArticleFilter;
+
+    @Value("${crawler.detail.concurrency:16}")
+    private int concurrency;
+
+    @Value("${crawler.detail.timeout-ms:10000}")
+    private int timeoutMs;
+
+    @Value("${crawler.detail.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${crawler.detail.backoff-base-ms:500}")
+    private long backoffBaseMs;
+
+    @Value("${crawler.detail.backoff-max-ms:8000}")
+    private long backoffMaxMs;
+
+    private ExecutorService executor;
+
+    // 진행 상황 (마지막 실행 기준)
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger skippedKnown = new AtomicInteger();
+    private final AtomicLong retries = new AtomicLong();
+    private final Map<String, AtomicInteger> completedByCategory = new ConcurrentHashMap<>();
+    private volatile long startedAt;
+    private volatile long finishedAt;
+    private volatile boolean running;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newFixedThreadPool(Math.max(1, concurrency), new CustomizableThreadFactory("news-detail-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 카테고리별 뉴스 목록의 상세 정보를 한꺼번에 수집한다.
+     * 결과는 카테고리별로 입력 순서를 유지한다.
+     */
+    public synchronized Map<String, List<NewsDetail>> crawlDetails(Map<String, List<NewsDetail>> newsByCategory) {
+        Map<String, List<NewsDetail>> unseenByCategory = excludeSeen(newsByCategory);
+        int count = unseenByCategory.values().stream().mapToInt(List::size).sum();
+        resetProgress(count);
+        skippedKnown.set(newsByCategory.values().stream().mapToInt(List::size).sum() - count);
+        log.info("뉴스 상세 크롤링 시작: {}개 카테고리, {}개 기사, 기적재 {}개 생략 (동시 {}개, 호스트당 초당 {}건)",
+                unseenByCategory.size(), count, skippedKnown.get(), concurrency, hostRateLimiter.getPermitsPerSecond());
+
+        Map<String, List<Future<NewsDetail>>> futures = new LinkedHashMap<>();
+        for (Map.Entry<String, List<NewsDetail>> entry : unseenByCategory.entrySet()) {
+            String category = entry.getKey();
+            AtomicInteger categoryDone = completedByCategory.computeIfAbsent(category, c -> new AtomicInteger());
+            List<Future<NewsDetail>> categoryFutures = new ArrayList<>(entry.getValue().size());
+            for (NewsDetail news : entry.getValue()) {
+                categoryFutures.add(executor.submit(() -> {
+                    try {
+                        return crawlDetail(news);
+                    } finally {
+                        categoryDone.incrementAndGet();
+                        completed.incrementAndGet();
+                    }
+                }));
+            }
+            futures.put(category, categoryFutures);
+        }
+
+        Map<String, List<NewsDetail>> results = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, List<Future<NewsDetail>>> entry : futures.entrySet()) {
+                List<NewsDetail> detailed = new ArrayList<>(entry.getValue().size());
+                for (Future<NewsDetail> future : entry.getValue()) {
+                    try {
+                        detailed.add(future.get());
+                    } catch (ExecutionException e) {
+                        log.warn("{} 카테고리 상세 크롤링 작업 실패: {}", entry.getKey(), e.getCause().getMessage());
+                    }
+                }
+                results.put(entry.getKey(), detailed);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.values().forEach(list -> list.forEach(f -> f.cancel(true)));
+            log.warn("뉴스 상세 크롤링 중단됨");
+        } finally {
+            finishedAt = System.currentTimeMillis();
+            running = false;
+        }
+
+        log.info("뉴스 상세 크롤링 완료: {}", getProgress());
+        return results;
+    }
+
+    /**
+     * 이미 적재한 기사를 뺀 목록 (카테고리와 순서 유지)
+     */
+    private Map<String, List<NewsDetail>> excludeSeen(Map<String, List<NewsDetail>> newsByCategory) {
+        Map<String, List<NewsDetail>> unseen = new LinkedHashMap<>();
+        for (Map.Entry<String, List<NewsDetail>> entry : newsByCategory.entrySet()) {
+            List<NewsDetail> remaining = new ArrayList<>(entry.getValue().size());
+            for (NewsDetail news : entry.getValue()) {
+                boolean known = seenArticleFilter.contains(extractOidAidFromUrl(news.getLink()));
+                seenArticleFilter.recordDetail(known);
+                if (!known) {
+                    remaining.add(news);
+                }
+            }
+            unseen.put(entry.getKey(), remaining);
+        }
+        return unseen;
+    }
+
+    /**
+     * 개별 뉴스 상세 크롤링. 재시도 후에도 실패하면 기본 정보만 담아 반환한다.
+     */
+    public NewsDetail crawlDetail(NewsDetail news) {
+        try {
+            Document doc = fetchWithRetry(news.getLink());
+
+            // 제목은 이미 크롤링할 때 받아온 것을 사용 (원래 로직)
+            String date = extractDate(doc);
+
+            return NewsDetail.builder()
+                .link(news.getLink())
+                .title(news.getTitle())
+                .press(news.getPress())
+                .content(extractContent(doc))
+                .reporter(extractReporter(doc))
+                .date(date != null ? date : news.getDate())
+                .categoryName(news.getCategoryName())
+                .imageUrl(extractImageUrl(doc))
+                .trusted(1)
+                .oidAid(extractOidAidFromUrl(news.getLink()))
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            failed.incrementAndGet();
+            log.warn("뉴스 상세 크롤링 실패: {} - {}", news.getLink(), e.getMessage());
+            // 실패 시 기본 정보만 반환
+            return NewsDetail.builder()
+                .link(news.getLink())
+                .title(news.getTitle())
+                .press(news.getPress())
+                .content(FAILED_CONTENT)
+                .reporter("")
+                .date(news.getDate())
+                .categoryName(news.getCategoryName())
+                .imageUrl("")
+                .trusted(1)
+                .oidAid(extractOidAidFromUrl(news.getLink()))
+                .createdAt(LocalDateTime.now())
+                .build();
+        }
+    }
+
+    /**
+     * 진행 상황 (마지막 실행 또는 실행 중인 작업 기준)
+     */
+    public Map<String, Object> getProgress() {
+        long end = running ? System.currentTimeMillis() : finishedAt;
+        long elapsedMs = startedAt > 0 ? Math.max(1L, end - startedAt) : 0L;
+        int done = completed.get();
+
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("running", running);
+        progress.put("total", total.get());
+        progress.put("completed", done);
+        progress.put("failed", failed.get());
+        progress.put("skippedKnown", skippedKnown.get());
+        progress.put("retries", retries.get());
+        progress.put("elapsedMs", elapsedMs);
+        progress.put("pagesPerSecond", elapsedMs > 0 ? Math.round(done * 10000.0 / elapsedMs) / 10.0 : 0.0);
+        progress.put("rateLimitWaitMs", hostRateLimiter.getTotalWaitMillis());
+        Map<String, Integer> byCategory = new LinkedHashMap<>();
+        completedByCategory.forEach((category, value) -> byCategory.put(category, value.get()));
+        progress.put("completedByCategory", byCategory);
+        return progress;
+    }
+
+    public Map<String, Object> getConfig() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("concurrency", concurrency);
+        config.put("permitsPerSecondPerHost", hostRateLimiter.getPermitsPerSecond());
+        config.put("burst", hostRateLimiter.getBurst());
+        config.put("timeoutMs", timeoutMs);
+        config.put("maxAttempts", maxAttempts);
+        config.put("backoffBaseMs", backoffBaseMs);
+        config.put("backoffMaxMs", backoffMaxMs);
+        return config;
+    }
+
+    private void resetProgress(int count) {
+        total.set(count);
+        completed.set(0);
+        failed.set(0);
+        retries.set(0);
+        completedByCategory.clear();
+        startedAt = System.currentTimeMillis();
+        finishedAt = 0L;
+        running = true;
+    }
+
+    private Document fetchWithRetry(String url) throws IOException, InterruptedException {
+        int attempt = 1;
+        while (true) {
+            hostRateLimiter.acquire(url);
+            try {
+                return Jsoup.connect(url)
+                    .userAgent(USER_AGENT)
+                    .timeout(timeoutMs)
+                    .get();
+            } catch (IOException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+                long backoff = backoffMillis(attempt);
+                retries.incrementAndGet();
+                log.debug("상세 페이지 재시도 {}/{} ({}ms 후): {} - {}", attempt + 1, maxAttempts, backoff, url, e.getMessage());
+                Thread.sleep(backoff);
+                attempt++;
+            }
+        }
+    }
+
+    private static boolean isRetryable(IOException e) {
+        if (e instanceof HttpStatusException statusException) {
+            int status = statusException.getStatusCode();
+            return status == 429 || status >= 500;
+        }
+        return true;
+    }
+
+    /**
+     * 지수 백오프 + 전체 지터: [0, min(max, base * 2^(attempt-1))] 구간에서 균등 분포
+     */
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(backoffMaxMs, backoffBaseMs << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * 내용 추출
+     */
+    private String extractContent(Document doc) {
+        try {
+            // VOD 기사 체크 (스킵 대상)
+            if (doc.select("#contents > div._VOD_PLAYER_WRAP").size() > 0) {
+                log.debug("VOD 기사로 스킵");
+                return null;
+            }
+
+            // 네이버 뉴스 본문 추출 (정확한 선택자)
+            Element contentElement = doc.selectFirst("#dic_area");
+            if (contentElement != null) {
+
+                // 기사만 가져올 경우
+//                String content = contentElement.text().trim();
+                String content = contentElement.outerHtml();
+
+
+                // 본문이 너무 짧으면 제외
+                if (content.length() < 120) {
+                    log.debug("본문이 너무 짧아서 제외: {}자", content.length());
+                    return null;
+                }
+
+                return content;
+            }
+
+            return "내용을 추출할 수 없습니다.";
+
+        } catch (Exception e) {
+            return "내용 추출 중 오류가 발생했습니다.";
+        }
+    }
+
+    /**
+     * 기자명 추출
+     */
+    private String extractReporter(Document doc) {
+        try {
+            // 우선순위 1: 일반적인 기자 정보 필드
+            Elements reporterElements = doc.select("#ct > div.media_end_head.go_trans > div.media_end_head_info.nv_notrans > div.media_end_head_journalist > a > em");
+            if (!reporterElements.isEmpty()) {
+                List<String> reporterNames = new ArrayList<>();
+                for (Element element : reporterElements) {
+                    String reporterName = element.text().trim();
+                    if (!reporterName.isEmpty()) {
+                        reporterNames.add(cleanReporterName(reporterName));
+                    }
+                }
+                if (!reporterNames.isEmpty()) {
+                    return String.join(", ", reporterNames);
+                }
+            }
+
+            // 우선순위 2: 여러 기자인 경우의 선택자
+            Elements multiReporterElements = doc.select("#_JOURNALIST_BUTTON > em");
+            if (!multiReporterElements.isEmpty()) {
+                List<String> reporterNames = new ArrayList<>();
+                for (Element element : multiReporterElements) {
+                    String reporterName = element.text().trim();
+                    if (!reporterName.isEmpty()) {
+                        reporterNames.add(cleanReporterName(reporterName));
+                    }
+                }
+                if (!reporterNames.isEmpty()) {
+                    return String.join(", ", reporterNames);
+                }
+            }
+
+            // 우선순위 3: 대체 선택자에서 기자 정보 추출
+            Elements bylineSpans = doc.select("#contents > div.byline > p > span");
+            if (!bylineSpans.isEmpty()) {
+                List<String> reporterParts = new ArrayList<>();
+                for (Element span : bylineSpans) {
+                    String spanText = span.text().trim();
+                    if (!spanText.isEmpty()) {
+                        // 첫 번째 띄어쓰기 또는 괄호까지의 글자만 추출
+                        int spaceIndex = spanText.indexOf(' ');
+                        int parenthesisIndex = spanText.indexOf('(');
+
+                        int endIndex = -1;
+                        if (spaceIndex > 0 && parenthesisIndex > 0) {
+                            endIndex = Math.min(spaceIndex, parenthesisIndex);
+                        } else if (spaceIndex > 0) {
+                            endIndex = spaceIndex;
+                        } else if (parenthesisIndex > 0) {
+                            endIndex = parenthesisIndex;
+                        }
+
+                        if (endIndex > 0) {
+                            reporterParts.add(cleanReporterName(spanText.substring(0, endIndex)));
+                        } else {
+                            reporterParts.add(cleanReporterName(spanText));
+                        }
+                    }
+                }
+                if (!reporterParts.isEmpty()) {
+                    return String.join(", ", reporterParts);
+                }
+            }
+
+            return "";
+
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+    /**
+     * 날짜 추출
+     */
+    private String extractDate(Document doc) {
+        try {
+            // 네이버 뉴스 날짜 정보 추출 (정확한 선택자)
+            Element dateElement = doc.selectFirst("span.media_end_head_info_datestamp_time._ARTICLE_DATE_TIME");
+            if (dateElement != null) {
+                String date = dateElement.attr("data-date-time");
+                if (!date.isEmpty()) {
+                    return date;
+                }
+            }
+
+            return LocalDateTime.now().toString();
+
+        } catch (Exception e) {
+            return LocalDateTime.now().toString();
+        }
+    }
+
+    /**
+     * 이미지 URL 추출
+     */
+    private String extractImageUrl(Document doc) {
+        try {
+            // 우선순위 1: 메인 이미지
+            Element imageElement = doc.selectFirst("#img1");
+            if (imageElement != null) {
+                String imageUrl = imageElement.attr("src");
+                if (!imageUrl.isEmpty()) {
+                    return imageUrl;
+                }
+            }
+
+            // 우선순위 2: 대체 이미지 선택자들
+            Element altImageElement = doc.selectFirst("div.end_body_wrp img");
+            if (altImageElement != null) {
+                String imageUrl = altImageElement.attr("src");
+                if (!imageUrl.isEmpty()) {
+                    return imageUrl;
+                }
+            }
+
+            // 우선순위 3: og:image 메타 태그
+            Element ogImageElement = doc.selectFirst("meta[property=og:image]");
+            if (ogImageElement != null) {
+                String imageUrl = ogImageElement.attr("content");
+                if (!imageUrl.isEmpty()) {
+                    return imageUrl;
+                }
+            }
+
+            // 우선순위 4: twitter:image 메타 태그
+            Element twitterImageElement = doc.selectFirst("meta[name=twitter:image]");
+            if (twitterImageElement != null) {
+                String imageUrl = twitterImageElement.attr("content");
+                if (!imageUrl.isEmpty()) {
+                    return imageUrl;
+                }
+            }
+
+            return "";
+
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+    /**
+     * 기자 이름에서 "기자" 텍스트를 안전하게 제거
+     */
+    private String cleanReporterName(String reporterName) {
+        if (reporterName == null || reporterName.trim().isEmpty()) {
+            return "";
+        }
+
+        String cleaned = reporterName.trim();
+
+        // "기자"로 끝나는 경우만 제거 (이름에 "기자"가 포함된 경우는 보존)
+        if (cleaned.endsWith(" 기자")) {
+            cleaned = cleaned.substring(0, cleaned.length() - 3).trim();
+        } else if (cleaned.endsWith("기자")) {
+            cleaned = cleaned.substring(0, cleaned.length() - 2).trim();
+        }
+
+        // 다른 직책들도 제거
+        String[] titles = {" 특파원", "특파원", " 객원기자", "객원기자", " 통신원", "통신원"};
+        for (String title : titles) {
+            if (cleaned.endsWith(title)) {
+                cleaned = cleaned.substring(0, cleaned.length() - title.length()).trim();
+                break;
+            }
+        }
+
+        return cleaned;
+    }
+
+    /**
+     * URL에서 oid_aid 추출
+     */
+    public static String extractOidAidFromUrl(String url) {
+        try {
+            // 새로운 URL 패턴: https://n.news.naver.com/mnews/article/{oid}/{aid}
+            if (url.contains("/mnews/article/")) {
+                String[] parts = url.split("/mnews/article/");
+                if (parts.length > 1) {
+                    String[] oidAid = parts[1].split("/");
+                    if (oidAid.length >= 2) {
+                        String oid = oidAid[0];
+                        String aid = oidAid[1].split("\\?")[0]; // 쿼리 파라미터 제거
+                        return oid + "-" + aid;  // 파이썬 코드와 동일하게 "-" 사용
+                    }
+                }
+            }
+            // 기존 URL 패턴: https://news.naver.com/main/read.naver?oid=xxx&aid=xxx
+            else if (url.contains("oid=") && url.contains("aid=")) {
+                String oid = url.split("oid=")[1].split("&")[0];
+                String aid = url.split("aid=")[1].split("&")[0];
+                return oid + "-" + aid;  // 파이썬 코드와 동일하게 "-" 사용
+            }
+        } catch (Exception e) {
+            log.warn("URL에서 oid_aid 추출 실패: {}", url);
+        }
+        return "extracted_" + Math.abs(url.hashCode());
+    }
+}
@@ -0,0 +1,343 @@
+package com.newnormallist.crawlerservice.util;
+
+import com.newnormallist.crawlerservice.repository.NewsBulkJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이미 적재한 기사(oid_aid) 필터
+ *
+ * 역할:
+ * - 이전 크롤링에서 적재한 기사를 다시 목록에 담거나 상세 페이지를 다시 받지 않도록 함
+ *
+ * 기능:
+ * - 시간 감쇠 Bloom 필터: window-hours를 generations개 세대로 나눠 세대마다 Bloom 필터를 두고,
+ *   가장 오래된 세대를 통째로 버리는 방식으로 오래된 기사를 잊음
+ * - 로컬 파일에 저장해 재시작 후에도 유지, 파일이 없으면 DB의 최근 기사로 채움
+ * - 실행별 절약 통계: 목록에서 건너뛴 기사, 조기 중단한 더보기, 생략한 상세 요청
+ *
+ * Bloom 필터 특성상 새 기사를 이미 본 기사로 잘못 판단할 수 있다 (false-positive-rate 설정값 수준).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeenArticleFilter {
+
+    private static final int FILE_MAGIC = 0x53454E31; // "SEN1"
+
+    private final NewsBulkJdbcRepository newsBulkJdbcRepository;
+
+    @Value("${crawler.seen.enabled:true}")
+    private boolean enabled;
+
+    @Value("${crawler.seen.window-hours:72}")
+    private int windowHours;
+
+    @Value("${crawler.seen.generations:4}")
+    private int generations;
+
+    // 세대당 예상 기사 수
+    @Value("${crawler.seen.expected-per-generation:5000}")
+    private int expectedPerGeneration;
+
+    @Value("${crawler.seen.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    // 목록에서 이미 본 기사가 이만큼 연속으로 나오면 더보기 중단
+    @Value("${crawler.seen.stop-after-known:10}")
+    private int stopAfterKnown;
+
+    @Value("${crawler.seen.path:./data/crawler-seen-articles.bin}")
+    private String path;
+
+    private int numBits;
+    private int numHashes;
+    private long generationMillis;
+    private final Deque<Generation> filters = new ArrayDeque<>();
+
+    // 실행별 통계 (startRun에서 초기화)
+    private final AtomicLong listSkipped = new AtomicLong();
+    private final AtomicLong listCollected = new AtomicLong();
+    private final AtomicLong pagingStopped = new AtomicLong();
+    private final AtomicLong detailSkipped = new AtomicLong();
+    private final AtomicLong detailRequested = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        generations = Math.max(1, generations);
+        generationMillis = Math.max(1, windowHours) * 3_600_000L / generations;
+        double ln2 = Math.log(2);
+        numBits = (int) Math.ceil(-Math.max(1, expectedPerGeneration) * Math.log(falsePositiveRate) / (ln2 * ln2));
+        numBits = (numBits + 63) / 64 * 64;
+        numHashes = Math.max(1, (int) Math.round((double) numBits / Math.max(1, expectedPerGeneration) * ln2));
+
+        if (!enabled) {
+            log.info("기적재 기사 필터 비활성화");
+            return;
+        }
+        if (!load()) {
+            seedFromDatabase();
+        }
+        log.info("기적재 기사 필터 준비: {}시간 / {}세대, 세대당 {}bit, 해시 {}개",
+                windowHours, generations, numBits, numHashes);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이미 적재한 기사인지 (비활성화 상태면 항상 false)
+     */
+    public synchronized boolean contains(String oidAid) {
+        if (!enabled || oidAid == null || oidAid.isEmpty()) {
+            return false;
+        }
+        rotateIfNeeded();
+        long[] hashes = hash(oidAid);
+        for (Generation generation : filters) {
+            if (generation.mightContain(hashes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 적재 완료한 기사 등록 후 파일에 저장
+     */
+    public void markAll(Collection<String> oidAids) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            rotateIfNeeded();
+            Generation current = filters.peekFirst();
+            for (String oidAid : oidAids) {
+                if (oidAid != null && !oidAid.isEmpty()) {
+                    current.put(hash(oidAid));
+                }
+            }
+        }
+        save();
+    }
+
+    /**
+     * 목록 더보기 중단 기준 (연속으로 나온 기적재 기사 수)
+     */
+    public int getStopAfterKnown() {
+        return stopAfterKnown;
+    }
+
+    // ===== 실행별 통계 =====
+
+    public void startRun() {
+        listSkipped.set(0);
+        listCollected.set(0);
+        pagingStopped.set(0);
+        detailSkipped.set(0);
+        detailRequested.set(0);
+    }
+
+    public void recordListSkipped() {
+        listSkipped.incrementAndGet();
+    }
+
+    public void recordListCollected() {
+        listCollected.incrementAndGet();
+    }
+
+    public void recordPagingStopped() {
+        pagingStopped.incrementAndGet();
+    }
+
+    public void recordDetail(boolean skipped) {
+        (skipped ? detailSkipped : detailRequested).incrementAndGet();
+    }
+
+    /**
+     * 마지막 실행의 절약 통계
+     * savedRequestRatio: 이미 본 기사라 생략한 상세 요청 비율 (목록 단계에서 걸러진 기사 포함)
+     */
+    public Map<String, Object> getRunStats() {
+        long skipped = listSkipped.get() + detailSkipped.get();
+        long requested = detailRequested.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("listCollected", listCollected.get());
+        stats.put("listSkippedKnown", listSkipped.get());
+        stats.put("pagingStoppedEarly", pagingStopped.get());
+        stats.put("detailSkippedKnown", detailSkipped.get());
+        stats.put("detailRequested", requested);
+        stats.put("savedRequestRatio", skipped + requested > 0
+                ? Math.round(skipped * 1000.0 / (skipped + requested)) / 1000.0 : 0.0);
+        stats.put("generations", filters.size());
+        stats.put("windowHours", windowHours);
+        return stats;
+    }
+
+    // ===== 내부 =====
+
+    private void rotateIfNeeded() {
+        long now = System.currentTimeMillis();
+        Generation current = filters.peekFirst();
+        if (current != null && now - current.createdAt < generationMillis) {
+            return;
+        }
+        filters.addFirst(new Generation(now, new long[numBits / 64]));
+        while (filters.size() > generations) {
+            filters.removeLast();
+        }
+    }
+
+    // 두 해시로 k개 위치를 만드는 이중 해싱 (Kirsch-Mitzenmacher)
+    private long[] hash(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        long h1 = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h1 ^= (b & 0xff);
+            h1 *= 0x100000001b3L;
+        }
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L);
+        h1 = mix(h1);
+        long[] positions = new long[numHashes];
+        for (int i = 0; i < numHashes; i++) {
+            positions[i] = Math.floorMod(h1 + i * h2, (long) numBits);
+        }
+        return positions;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    // 세대를 지금부터 generationMillis 간격으로 거슬러 만들고, 기사는 적재 시각이 속한 세대에 넣음
+    // (모두 현재 세대에 넣으면 윈도우 전체가 한 세대 주기 만에 한꺼번에 잊힘)
+    private synchronized void seedFromDatabase() {
+        long nowMillis = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        Generation[] seeded = new Generation[generations];
+        for (int g = 0; g < generations; g++) {
+            seeded[g] = new Generation(nowMillis - g * generationMillis, new long[numBits / 64]);
+        }
+        AtomicLong count = new AtomicLong();
+        try {
+            newsBulkJdbcRepository.forEachOidAidCreatedSince(now.minusHours(windowHours), (oidAid, createdAt) -> {
+                long age = Math.max(0, Duration.between(createdAt, now).toMillis());
+                seeded[(int) Math.min(generations - 1, age / generationMillis)].put(hash(oidAid));
+                count.incrementAndGet();
+            });
+            log.info("기적재 기사 필터를 DB 최근 {}시간 기사 {}개로 초기화", windowHours, count.get());
+        } catch (Exception e) {
+            log.warn("기적재 기사 필터 DB 초기화 실패 (읽은 {}개로 시작): {}", count.get(), e.getMessage());
+        }
+        filters.clear();
+        filters.addAll(Arrays.asList(seeded));
+    }
+
+    private boolean load() {
+        Path file = Paths.get(path);
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != numBits || in.readInt() != numHashes) {
+                log.info("기적재 기사 필터 파일 설정이 달라 새로 만듦: {}", path);
+                return false;
+            }
+            int count = in.readInt();
+            long now = System.currentTimeMillis();
+            synchronized (this) {
+                filters.clear();
+                for (int g = 0; g < count; g++) {
+                    long createdAt = in.readLong();
+                    long[] bits = new long[numBits / 64];
+                    for (int i = 0; i < bits.length; i++) {
+                        bits[i] = in.readLong();
+                    }
+                    // 보관 기간이 지난 세대는 버림
+                    if (now - createdAt < generationMillis * generations && filters.size() < generations) {
+                        filters.addLast(new Generation(createdAt, bits));
+                    }
+                }
+            }
+            log.info("기적재 기사 필터 파일 로드: {} ({}세대)", path, filters.size());
+            return true;
+        } catch (IOException e) {
+            log.warn("기적재 기사 필터 파일 로드 실패: {} - {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 교체 (쓰는 도중 종료돼도 기존 파일 유지)
+    private synchronized void save() {
+        Path file = Paths.get(path);
+        Path temp = Paths.get(path + ".tmp");
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(numBits);
+                out.writeInt(numHashes);
+                out.writeInt(filters.size());
+                for (Generation generation : filters) {
+                    out.writeLong(generation.createdAt);
+                    for (long word : generation.bits) {
+                        out.writeLong(word);
+                    }
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("기적재 기사 필터 저장 실패: {} - {}", path, e.getMessage());
+        }
+    }
+
+    private static final class Generation {
+        private final long createdAt;
+        private final long[] bits;
+
+        private Generation(long createdAt, long[] bits) {
+            this.createdAt = createdAt;
+            this.bits = bits;
+        }
+
+        private void put(long[] positions) {
+            for (long position : positions) {
+                bits[(int) (position >>> 6)] |= 1L << (position & 63);
+            }
+        }
+
+        private boolean mightContain(long[] positions) {
+            for (long position : positions) {
+                if ((bits[(int) (position >>> 6)] & (1L << (position & 63))) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.newnormallist.crawlerservice.util;
+
+/**
+ * 단계 파일에서 읽은 한 행 (CSV / 컬럼 블록 형식 공통)
+ */
+@FunctionalInterface
+public interface StageRow {
+
+    /**
+     * 컬럼명으로 값 조회 (없는 컬럼이거나 읽지 않은 컬럼이면 null)
+     */
+    String get(String column);
+}
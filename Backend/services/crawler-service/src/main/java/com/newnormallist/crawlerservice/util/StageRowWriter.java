@@ -0,0 +1,14 @@
+package com.newnormallist.crawlerservice.util;
+
+import java.io.IOException;
+
+/**
+ * 단계 파일 행 작성기 (CSV / 컬럼 블록 형식 공통)
+ */
+public interface StageRowWriter {
+
+    /**
+     * 헤더 순서대로 한 행 기록 (null 필드는 빈 값)
+     */
+    void writeRow(Object... fields) throws IOException;
+}
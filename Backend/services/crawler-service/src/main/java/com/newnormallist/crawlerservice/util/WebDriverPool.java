@@ -0,0 +1,200 @@
+package com.newnormallist.crawlerservice.util;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 헤드리스 Chrome 세션 풀
+ *
+ * 역할:
+ * - 카테고리마다 ChromeDriver를 새로 띄우고 종료하던 비용을 없애고 세션을 재사용
+ * - 동시에 띄우는 브라우저 수 제한 (메모리 보호)
+ *
+ * 기능:
+ * - 처음 필요할 때 생성하고 크롤링이 끝나도 종료하지 않음 (다음 크롤링까지 재사용)
+ * - 대여 시 응답 없는 세션은 버리고 새로 생성
+ * - 페이지를 max-uses번 연 세션은 반납 시 종료 (장시간 사용에 따른 메모리 증가 방지)
+ */
+@Slf4j
+@Component
+public class WebDriverPool {
+
+    @Value("${crawler.list.browser.pool-size:3}")
+    private int poolSize;
+
+    @Value("${crawler.list.browser.max-uses:50}")
+    private int maxUses;
+
+    @Value("${crawler.list.browser.borrow-timeout-ms:300000}")
+    private long borrowTimeoutMs;
+
+    @Value("${crawler.list.browser.page-load-timeout-ms:30000}")
+    private long pageLoadTimeoutMs;
+
+    private Semaphore permits;
+    private final Deque<PooledDriver> idle = new ConcurrentLinkedDeque<>();
+    private volatile boolean closed;
+
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+    private final AtomicLong retired = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        poolSize = Math.max(1, poolSize);
+        permits = new Semaphore(poolSize, true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        closed = true;
+        PooledDriver pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            quit(pooled);
+        }
+    }
+
+    /**
+     * 브라우저 작업
+     */
+    @FunctionalInterface
+    public interface DriverCallback<T> {
+        T doWithDriver(WebDriver driver) throws Exception;
+    }
+
+    /**
+     * 브라우저를 빌려 작업을 실행하고 반납한다. 작업이 WebDriver 오류로 끝나면 세션은 버린다.
+     */
+    public <T> T execute(DriverCallback<T> callback) throws Exception {
+        PooledDriver pooled = borrow();
+        boolean healthy = false;
+        try {
+            T result = callback.doWithDriver(pooled.driver);
+            healthy = true;
+            return result;
+        } catch (WebDriverException e) {
+            throw e;
+        } catch (Exception e) {
+            // 파싱 등 브라우저와 무관한 오류는 세션을 계속 사용
+            healthy = true;
+            throw e;
+        } finally {
+            release(pooled, healthy);
+        }
+    }
+
+    private PooledDriver borrow() throws InterruptedException {
+        if (closed) {
+            throw new IllegalStateException("브라우저 풀이 종료됨");
+        }
+        if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("브라우저 대기 시간 초과 (" + borrowTimeoutMs + "ms)");
+        }
+        try {
+            PooledDriver pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                if (isAlive(pooled.driver)) {
+                    reused.incrementAndGet();
+                    pooled.uses++;
+                    return pooled;
+                }
+                retired.incrementAndGet();
+                quit(pooled);
+            }
+            PooledDriver fresh = new PooledDriver(createDriver());
+            fresh.uses++;
+            return fresh;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(PooledDriver pooled, boolean healthy) {
+        try {
+            if (healthy && !closed && pooled.uses < maxUses) {
+                idle.offerFirst(pooled);
+            } else {
+                retired.incrementAndGet();
+                quit(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private WebDriver createDriver() {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless", "--disable-gpu", "--no-sandbox", "--disable-dev-shm-usage");
+        // 목록 페이지는 텍스트만 필요하므로 이미지 로딩 생략
+        options.addArguments("--blink-settings=imagesEnabled=false");
+
+        long start = System.currentTimeMillis();
+        WebDriver driver = new ChromeDriver(options);
+        driver.manage().timeouts().pageLoadTimeout(Duration.ofMillis(pageLoadTimeoutMs));
+        created.incrementAndGet();
+        log.info("브라우저 세션 생성 ({}ms, 누적 {}개)", System.currentTimeMillis() - start, created.get());
+        return driver;
+    }
+
+    private static boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void quit(PooledDriver pooled) {
+        try {
+            pooled.driver.quit();
+        } catch (Exception e) {
+            log.debug("브라우저 종료 오류: {}", e.getMessage());
+        }
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * 풀 상태
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("poolSize", poolSize);
+        status.put("inUse", poolSize - permits.availablePermits());
+        status.put("idle", idle.size());
+        status.put("created", created.get());
+        status.put("reused", reused.get());
+        status.put("retired", retired.get());
+        status.put("maxUses", maxUses);
+        return status;
+    }
+
+    private static class PooledDriver {
+        private final WebDriver driver;
+        private int uses;
+
+        private PooledDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+}
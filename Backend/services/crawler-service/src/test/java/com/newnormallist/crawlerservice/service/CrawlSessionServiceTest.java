@@ -0,0 +1,244 @@
+package com.newnormallist.crawlerservice.service;
+
+import com.newnormallist.crawlerservice.entity.CrawlCheckpoint;
+import com.newnormallist.crawlerservice.entity.CrawlSession;
+import com.newnormallist.crawlerservice.enums.CrawlStage;
+import com.newnormallist.crawlerservice.enums.CrawlStatus;
+import com.newnormallist.crawlerservice.repository.CrawlCheckpointRepository;
+import com.newnormallist.crawlerservice.repository.CrawlSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 세션/체크포인트 테이블 대신 메모리 맵으로 답하는 mock 리포지토리로 세션 가져오기(claim), 종료, 단계별 대상 카테고리를 확인한다.
+ * claim/finish mock은 리포지토리 조건부 UPDATE의 WHERE 조건을 그대로 따른다.
+ */
+class CrawlSessionServiceTest {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm");
+
+    // crawl_session, crawl_checkpoint 테이블 대신 쓰는 행 (checkpoint 키: 세션|단계|카테고리)
+    private final Map<String, CrawlSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, CrawlCheckpoint> checkpoints = new ConcurrentHashMap<>();
+    private final List<String> savedTimestamps = new ArrayList<>();
+    private final AtomicBoolean collideOnNextSave = new AtomicBoolean();
+
+    private CrawlSessionService service;
+
+    @BeforeEach
+    void setUp() {
+        CrawlSessionRepository sessionRepository = mock(CrawlSessionRepository.class);
+        when(sessionRepository.findById(anyString())).thenAnswer(invocation ->
+                Optional.ofNullable(sessions.get(invocation.<String>getArgument(0))));
+        when(sessionRepository.existsByFileTimestamp(anyString())).thenAnswer(invocation ->
+                sessions.values().stream().anyMatch(s -> s.getFileTimestamp().equals(invocation.getArgument(0))));
+        when(sessionRepository.findByStatusInAndCreatedAtAfterOrderByCreatedAtDesc(any(), any())).thenAnswer(invocation -> {
+            Collection<CrawlStatus> statuses = invocation.getArgument(0);
+            LocalDateTime after = invocation.getArgument(1);
+            return sessions.values().stream()
+                    .filter(s -> statuses.contains(s.getStatus()) && s.getCreatedAt().isAfter(after))
+                    .sorted(Comparator.comparing(CrawlSession::getCreatedAt).reversed())
+                    .toList();
+        });
+        when(sessionRepository.saveAndFlush(any(CrawlSession.class))).thenAnswer(invocation -> {
+            CrawlSession session = invocation.getArgument(0);
+            savedTimestamps.add(session.getFileTimestamp());
+            // 다른 인스턴스가 같은 분에 먼저 저장한 경우 (existsByFileTimestamp 확인 뒤의 경합)
+            if (collideOnNextSave.getAndSet(false)) {
+                throw new DataIntegrityViolationException("uk_crawl_session_file_timestamp");
+            }
+            sessions.put(session.getSessionId(), session);
+            return session;
+        });
+        when(sessionRepository.claim(anyString(), any(), any())).thenAnswer(invocation -> {
+            CrawlSession session = sessions.get(invocation.<String>getArgument(0));
+            LocalDateTime now = invocation.getArgument(1);
+            LocalDateTime staleBefore = invocation.getArgument(2);
+            if (session == null || !(session.getStatus() == CrawlStatus.FAILED
+                    || (session.getStatus() == CrawlStatus.RUNNING && session.getHeartbeatAt().isBefore(staleBefore)))) {
+                return 0;
+            }
+            session.setStatus(CrawlStatus.RUNNING);
+            session.setHeartbeatAt(now);
+            session.setAttempts(session.getAttempts() + 1);
+            return 1;
+        });
+        when(sessionRepository.finish(anyString(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            CrawlSession session = sessions.get(invocation.<String>getArgument(0));
+            if (session == null || session.getStatus() != CrawlStatus.RUNNING) {
+                return 0;
+            }
+            session.setStatus(invocation.getArgument(1));
+            session.setLastError(invocation.getArgument(2));
+            session.setHeartbeatAt(invocation.getArgument(3));
+            session.setFinishedAt(invocation.getArgument(4));
+            return 1;
+        });
+
+        CrawlCheckpointRepository checkpointRepository = mock(CrawlCheckpointRepository.class);
+        when(checkpointRepository.save(any(CrawlCheckpoint.class))).thenAnswer(invocation -> {
+            CrawlCheckpoint checkpoint = invocation.getArgument(0);
+            checkpoints.put(checkpoint.getSessionId() + "|" + checkpoint.getStage() + "|" + checkpoint.getCategory(), checkpoint);
+            return checkpoint;
+        });
+        when(checkpointRepository.findBySessionId(anyString())).thenAnswer(invocation -> checkpoints.values().stream()
+                .filter(c -> c.getSessionId().equals(invocation.getArgument(0)))
+                .toList());
+
+        service = new CrawlSessionService(sessionRepository, checkpointRepository);
+        ReflectionTestUtils.setField(service, "autoResume", true);
+        ReflectionTestUtils.setField(service, "resumeWindowHours", 12);
+        ReflectionTestUtils.setField(service, "staleAfterMinutes", 60);
+        ReflectionTestUtils.setField(service, "maxResumeAttempts", 3);
+    }
+
+    @Test
+    void claimsFailedSessionOnlyOnce() {
+        session("failed", CrawlStatus.FAILED, 1, LocalDateTime.now().minusHours(2), LocalDateTime.now().minusHours(1));
+
+        Optional<CrawlSession> first = service.claimResumable();
+        Optional<CrawlSession> second = service.claimResumable();
+
+        assertThat(first).isPresent();
+        assertThat(first.get().getStatus()).isEqualTo(CrawlStatus.RUNNING);
+        assertThat(first.get().getAttempts()).isEqualTo(2);
+        // 다른 실행이 가져간 세션은 heartbeat가 살아 있으므로 다시 가져가지 않음
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    void claimsRunningSessionOnlyAfterHeartbeatGoesStale() {
+        session("alive", CrawlStatus.RUNNING, 1, LocalDateTime.now().minusHours(2), LocalDateTime.now().minusMinutes(10));
+        session("stale", CrawlStatus.RUNNING, 1, LocalDateTime.now().minusHours(3), LocalDateTime.now().minusMinutes(61));
+
+        assertThat(service.claim("alive")).isEmpty();
+        assertThat(service.claimResumable()).map(CrawlSession::getSessionId).contains("stale");
+    }
+
+    @Test
+    void skipsSessionsAtAttemptCapAndFinishedSessions() {
+        session("exhausted", CrawlStatus.FAILED, 3, LocalDateTime.now().minusHours(1), LocalDateTime.now().minusHours(1));
+        session("done", CrawlStatus.DONE, 1, LocalDateTime.now().minusHours(2), LocalDateTime.now().minusHours(2));
+        session("older", CrawlStatus.FAILED, 2, LocalDateTime.now().minusHours(4), LocalDateTime.now().minusHours(4));
+        session("expired", CrawlStatus.FAILED, 1, LocalDateTime.now().minusHours(13), LocalDateTime.now().minusHours(13));
+
+        Optional<CrawlSession> claimed = service.claimResumable();
+
+        // 한도에 닿은 최신 세션은 건너뛰고 그다음 세션을 가져감, 완료/기간이 지난 세션은 후보가 아님
+        assertThat(claimed).map(CrawlSession::getSessionId).contains("older");
+        assertThat(sessions.get("exhausted").getStatus()).isEqualTo(CrawlStatus.FAILED);
+        assertThat(service.claim("done")).isEmpty();
+        assertThat(service.claimResumable()).isEmpty();
+    }
+
+    @Test
+    void doesNotResumeWhenAutoResumeIsOff() {
+        ReflectionTestUtils.setField(service, "autoResume", false);
+        session("failed", CrawlStatus.FAILED, 1, LocalDateTime.now().minusHours(1), LocalDateTime.now().minusHours(1));
+
+        assertThat(service.claimResumable()).isEmpty();
+        assertThat(sessions.get("failed").getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void createMovesToNextMinuteOnTimestampCollision() {
+        collideOnNextSave.set(true);
+
+        CrawlSession created = service.create();
+
+        assertThat(savedTimestamps).hasSize(2);
+        LocalDateTime first = LocalDateTime.parse(savedTimestamps.get(0), FILE_TIMESTAMP_FORMAT);
+        assertThat(created.getFileTimestamp()).isEqualTo(first.plusMinutes(1).format(FILE_TIMESTAMP_FORMAT));
+        assertThat(created.getStatus()).isEqualTo(CrawlStatus.RUNNING);
+        assertThat(created.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void createSkipsTimestampAlreadyTaken() {
+        String taken = LocalDateTime.now().format(FILE_TIMESTAMP_FORMAT);
+        session("earlier", CrawlStatus.DONE, 1, LocalDateTime.parse(taken, FILE_TIMESTAMP_FORMAT), LocalDateTime.now());
+
+        CrawlSession created = service.create();
+
+        // 이미 쓰인 타임스탬프는 저장을 시도하지 않고 건너뜀
+        assertThat(created.getFileTimestamp()).isNotEqualTo(taken);
+        assertThat(savedTimestamps).containsExactly(created.getFileTimestamp());
+    }
+
+    @Test
+    void stageIsPendingOnlyAfterPreviousStageIsDone() {
+        CrawlSession session = service.create();
+        service.markDone(session, CrawlStage.LIST, "POLITICS", 10);
+        service.markDone(session, CrawlStage.LIST, "ECONOMY", 8);
+        service.markDone(session, CrawlStage.DETAIL, "POLITICS", 10);
+        service.markFailed(session, CrawlStage.DETAIL, "ECONOMY", "timeout");
+
+        assertThat(service.pendingCategories(session, CrawlStage.LIST))
+                .doesNotContain("POLITICS", "ECONOMY")
+                .hasSize(CrawlSessionService.CATEGORIES.size() - 2);
+        // 실패한 단위는 다시 대상, 목록을 못 받은 카테고리는 상세 단계 대상이 아님
+        assertThat(service.pendingCategories(session, CrawlStage.DETAIL)).containsExactly("ECONOMY");
+        assertThat(service.pendingCategories(session, CrawlStage.DEDUP)).containsExactly("POLITICS");
+        assertThat(service.pendingCategories(session, CrawlStage.INGEST)).isEmpty();
+
+        service.markDone(session, CrawlStage.DEDUP, "POLITICS", 9);
+        service.markDone(session, CrawlStage.DETAIL, "ECONOMY", 8);
+
+        assertThat(service.pendingCategories(session, CrawlStage.DEDUP)).containsExactly("ECONOMY");
+        assertThat(service.pendingCategories(session, CrawlStage.INGEST)).containsExactly("POLITICS");
+        assertThat(service.completedCategories(session, CrawlStage.DETAIL)).containsExactlyInAnyOrder("POLITICS", "ECONOMY");
+    }
+
+    @Test
+    void finishRecordsOnlyRunningSessionAndKeepsAttempts() {
+        session("resumed", CrawlStatus.FAILED, 1, LocalDateTime.now().minusHours(1), LocalDateTime.now().minusHours(1));
+        CrawlSession claimed = service.claimResumable().orElseThrow();
+
+        service.fail(claimed, "x".repeat(600));
+        CrawlSession failed = sessions.get("resumed");
+        assertThat(failed.getStatus()).isEqualTo(CrawlStatus.FAILED);
+        assertThat(failed.getLastError()).hasSize(500);
+        assertThat(failed.getFinishedAt()).isNull();
+        assertThat(failed.getAttempts()).isEqualTo(2);
+
+        // 이미 종료된 세션은 다시 종료 기록하지 않음
+        service.complete(claimed);
+        assertThat(sessions.get("resumed").getStatus()).isEqualTo(CrawlStatus.FAILED);
+
+        CrawlSession again = service.claim("resumed").orElseThrow();
+        service.complete(again);
+        assertThat(sessions.get("resumed").getStatus()).isEqualTo(CrawlStatus.DONE);
+        assertThat(sessions.get("resumed").getFinishedAt()).isNotNull();
+        assertThat(sessions.get("resumed").getAttempts()).isEqualTo(3);
+    }
+
+    private void session(String sessionId, CrawlStatus status, int attempts, LocalDateTime createdAt, LocalDateTime heartbeatAt) {
+        sessions.put(sessionId, CrawlSession.builder()
+                .sessionId(sessionId)
+                .fileTimestamp(createdAt.format(FILE_TIMESTAMP_FORMAT))
+                .status(status)
+                .attempts(attempts)
+                .createdAt(createdAt)
+                .heartbeatAt(heartbeatAt)
+                .build());
+    }
+}
@@ -0,0 +1,129 @@
+package com.newnormallist.crawlerservice.service;
+
+import com.newnormallist.crawlerservice.config.FtpConfig;
+import com.newnormallist.crawlerservice.dto.NewsDetail;
+import com.newnormallist.crawlerservice.util.ColumnarStageWriter;
+import com.newnormallist.crawlerservice.util.CsvWriter;
+import com.newnormallist.crawlerservice.util.FtpUploader;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 로컬 스텁 파일서버로 단계 파일 형식과 설정 형식이 다를 때도 파일을 찾아 맞는 디코더로 읽는지 확인한다.
+ */
+class FileServerServiceTest {
+
+    private static final String TIMESTAMP = "2025-08-19-14-30";
+    private static final String DIR = "/files/pm/2025-08-19_pm/detail/politics_detail_" + TIMESTAMP;
+    private static final String[] HEADER = {"title", "oidAid", "content"};
+
+    private HttpServer server;
+    // 경로 → 파일 내용
+    private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+    private FileServerService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/files/", exchange -> {
+            byte[] body = files.get(exchange.getRequestURI().getPath());
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        service = new FileServerService(new FtpConfig(), mock(FtpUploader.class), 1);
+        ReflectionTestUtils.setField(service, "basePath", "http://127.0.0.1:" + server.getAddress().getPort() + "/files");
+        ReflectionTestUtils.setField(service, "blockRows", 256);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        service.shutdown();
+    }
+
+    @Test
+    void readsCsvFileWhileConfiguredForColumnar() throws IOException {
+        ReflectionTestUtils.setField(service, "stageFormat", "columnar");
+        files.put(DIR + ".csv", csv());
+
+        List<NewsDetail> news = service.getNewsListFromCsvWithTimestamp("POLITICS", "detail", TIMESTAMP);
+
+        assertThat(news).extracting(NewsDetail::getOidAid).containsExactly("001-1", "001-2");
+        assertThat(news.get(0).getContent()).isEqualTo("본문, \"첫째\"\n둘째 줄");
+    }
+
+    @Test
+    void readsColumnarFileWhileConfiguredForCsv() throws IOException {
+        ReflectionTestUtils.setField(service, "stageFormat", "csv");
+        files.put(DIR + ".nsc", columnar());
+
+        List<NewsDetail> news = service.getSessionNewsList("POLITICS", "detail", TIMESTAMP);
+
+        assertThat(news).extracting(NewsDetail::getOidAid).containsExactly("001-1", "001-2");
+        assertThat(news.get(0).getContent()).isEqualTo("본문, \"첫째\"\n둘째 줄");
+    }
+
+    @Test
+    void prefersConfiguredFormatWhenBothExist() throws IOException {
+        ReflectionTestUtils.setField(service, "stageFormat", "columnar");
+        files.put(DIR + ".csv", csv());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ColumnarStageWriter writer = new ColumnarStageWriter(out, HEADER, 256);
+        writer.writeRow("컬럼 형식", "001-9", "본문");
+        writer.finish();
+        files.put(DIR + ".nsc", out.toByteArray());
+
+        List<NewsDetail> news = service.getNewsListFromCsvWithTimestamp("POLITICS", "detail", TIMESTAMP);
+
+        assertThat(news).extracting(NewsDetail::getOidAid).containsExactly("001-9");
+    }
+
+    private static byte[] csv() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CsvWriter writer = new CsvWriter(out);
+        writer.writeRow((Object[]) HEADER);
+        writeRows(writer::writeRow);
+        writer.flush();
+        return out.toByteArray();
+    }
+
+    private static byte[] columnar() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ColumnarStageWriter writer = new ColumnarStageWriter(out, HEADER, 256);
+        writeRows(writer::writeRow);
+        writer.finish();
+        return out.toByteArray();
+    }
+
+    private static void writeRows(RowSink sink) throws IOException {
+        sink.write("첫 기사", "001-1", "본문, \"첫째\"\n둘째 줄");
+        sink.write("둘째 기사", "001-2", "본문");
+    }
+
+    private interface RowSink {
+        void write(Object... fields) throws IOException;
+    }
+}
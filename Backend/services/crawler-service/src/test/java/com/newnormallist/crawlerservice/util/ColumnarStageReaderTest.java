@@ -0,0 +1,66 @@
+package com.newnormallist.crawlerservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnarStageReaderTest {
+
+    private static final String[] COLUMNS = {"oidAid", "title", "content"};
+
+    @Test
+    void readsBackRowsAcrossBlocks() throws IOException {
+        byte[] file = write(5, 2);
+
+        List<String> titles = new ArrayList<>();
+        try (ColumnarStageReader reader = new ColumnarStageReader(new ByteArrayInputStream(file), null)) {
+            while (reader.next()) {
+                titles.add(reader.get("title"));
+                assertThat(reader.get("content")).startsWith("본문 ");
+            }
+        }
+
+        // 4번째 행은 null로 기록했으므로 null로 돌아와야 함
+        assertThat(titles).containsExactly("제목 0", "제목 1", "제목 2", null, "제목 4");
+    }
+
+    @Test
+    void skipsColumnsOutsideProjection() throws IOException {
+        byte[] file = write(3, 256);
+
+        try (ColumnarStageReader reader = new ColumnarStageReader(new ByteArrayInputStream(file), Set.of("oidAid"))) {
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.get("oidAid")).isEqualTo("001-0");
+            assertThat(reader.get("content")).isNull();
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.next()).isFalse();
+        }
+    }
+
+    @Test
+    void rejectsCsvInput() {
+        byte[] csv = "oidAid,title\r\n001-0,제목\r\n".getBytes();
+
+        assertThatThrownBy(() -> new ColumnarStageReader(new ByteArrayInputStream(csv), null))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static byte[] write(int rows, int blockRows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ColumnarStageWriter writer = new ColumnarStageWriter(out, COLUMNS, blockRows);
+        for (int i = 0; i < rows; i++) {
+            writer.writeRow("001-" + i, i == 3 ? null : "제목 " + i, "본문 " + "가".repeat(i * 10));
+        }
+        writer.finish();
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,55 @@
+package com.newnormallist.crawlerservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvReaderTest {
+
+    @Test
+    void readsBackWhatCsvWriterWrote() throws IOException {
+        String content = "<p>첫 문단, \"인용\"</p>\r\n<p>둘째 문단</p>\n<p>셋째</p>";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CsvWriter writer = new CsvWriter(out);
+        writer.writeRow("oidAid", "title", "content");
+        writer.writeRow("001-0000000001", "제목, 쉼표", content);
+        writer.writeRow("001-0000000002", null, "");
+        writer.flush();
+
+        List<List<String>> rows = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(reader.readHeader()).isTrue();
+            List<String> row;
+            while ((row = reader.readRow()) != null) {
+                rows.add(row);
+                if (rows.size() == 1) {
+                    assertThat(reader.get(row, "content")).isEqualTo(content);
+                    assertThat(reader.get(row, "missing")).isNull();
+                }
+            }
+        }
+
+        assertThat(rows).containsExactly(
+                List.of("001-0000000001", "제목, 쉼표", content),
+                List.of("001-0000000002", "", ""));
+    }
+
+    @Test
+    void acceptsBomAndLfLineEndings() throws IOException {
+        byte[] csv = "\uFEFFoidAid,title\n001-1,제목\n\n001-2,\"두 줄\n제목\"\n".getBytes(StandardCharsets.UTF_8);
+
+        try (CsvReader reader = new CsvReader(new ByteArrayInputStream(csv))) {
+            assertThat(reader.readHeader()).isTrue();
+            assertThat(reader.get(reader.readRow(), "oidAid")).isEqualTo("001-1");
+            assertThat(reader.get(reader.readRow(), "title")).isEqualTo("두 줄\n제목");
+            assertThat(reader.readRow()).isNull();
+        }
+    }
+}
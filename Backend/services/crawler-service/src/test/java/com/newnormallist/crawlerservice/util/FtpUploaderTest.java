@@ -0,0 +1,131 @@
+package com.newnormallist.crawlerservice.util;
+
+import com.newnormallist.crawlerservice.config.FtpConfig;
+import org.apache.ftpserver.FtpServer;
+import org.apache.ftpserver.FtpServerFactory;
+import org.apache.ftpserver.ftplet.Authority;
+import org.apache.ftpserver.ftplet.UserManager;
+import org.apache.ftpserver.listener.ListenerFactory;
+import org.apache.ftpserver.usermanager.PropertiesUserManagerFactory;
+import org.apache.ftpserver.usermanager.impl.BaseUser;
+import org.apache.ftpserver.usermanager.impl.ConcurrentLoginPermission;
+import org.apache.ftpserver.usermanager.impl.WritePermission;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 FTP 서버(Apache FtpServer)로 세션 풀 재사용과 디렉터리 캐시 무효화를 확인한다.
+ */
+class FtpUploaderTest {
+
+    private static final int POOL_SIZE = 4;
+
+    @TempDir
+    Path home;
+
+    private FtpServer server;
+    private FtpConnectionPool pool;
+    private FtpUploader uploader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        BaseUser user = new BaseUser();
+        user.setName("crawler");
+        user.setPassword("secret");
+        user.setHomeDirectory(home.toString());
+        List<Authority> authorities = List.of(new WritePermission(), new ConcurrentLoginPermission(0, 0));
+        user.setAuthorities(authorities);
+        UserManager userManager = new PropertiesUserManagerFactory().createUserManager();
+        userManager.save(user);
+
+        FtpServerFactory serverFactory = new FtpServerFactory();
+        ListenerFactory listenerFactory = new ListenerFactory();
+        listenerFactory.setServerAddress("127.0.0.1");
+        listenerFactory.setPort(0);
+        serverFactory.addListener("default", listenerFactory.createListener());
+        serverFactory.setUserManager(userManager);
+        server = serverFactory.createServer();
+        server.start();
+
+        FtpConfig config = new FtpConfig();
+        config.setServer("127.0.0.1");
+        config.setPort(serverFactory.getListener("default").getPort());
+        config.setUsername("crawler");
+        config.setPassword("secret");
+        config.setBasePath("/1");
+
+        pool = new FtpConnectionPool(config);
+        ReflectionTestUtils.setField(pool, "poolSize", POOL_SIZE);
+        ReflectionTestUtils.setField(pool, "connectTimeoutMs", 5000);
+        ReflectionTestUtils.setField(pool, "borrowTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(pool, "validateAfterMs", 5000L);
+        ReflectionTestUtils.setField(pool, "idleTimeoutMs", 60000L);
+        pool.init();
+        uploader = new FtpUploader(pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+        server.stop();
+    }
+
+    @Test
+    void concurrentUploadsReuseBoundedSessions() throws Exception {
+        int files = 36;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < files; i++) {
+                String name = "file_" + i + ".csv";
+                futures.add(executor.submit(() -> uploader.uploadCsvFile("/1/am/2025-08-19_am/list", name, "a,b\r\n1,2\r\n")));
+            }
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get()).isTrue();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        try (var listed = Files.list(home.resolve("1/am/2025-08-19_am/list"))) {
+            assertThat(listed.count()).isEqualTo(files);
+        }
+        long created = ((Number) pool.getStatus().get("created")).longValue();
+        long reused = ((Number) pool.getStatus().get("reused")).longValue();
+        assertThat(created).isLessThanOrEqualTo(POOL_SIZE);
+        assertThat(created + reused).isEqualTo(files);
+    }
+
+    @Test
+    void recreatesDirectoryRemovedOnServerAfterFailedUpload() throws Exception {
+        String dir = "/1/pm/2025-08-19_pm/detail";
+        assertThat(uploader.uploadStream(dir, "first.csv", out -> out.write(bytes("first")))).isTrue();
+
+        // 풀은 디렉터리를 기억하고 있으므로 서버에서 지우면 다음 업로드는 MKD 없이 시도했다가 실패한다
+        FileSystemUtils.deleteRecursively(home.resolve("1"));
+        assertThat(uploader.uploadStream(dir, "second.csv", out -> out.write(bytes("second")))).isFalse();
+
+        // 실패한 경로는 잊었으므로 다시 만들고 올라간다
+        assertThat(uploader.uploadStream(dir, "third.csv", out -> out.write(bytes("third")))).isTrue();
+        assertThat(Files.readString(home.resolve("1/pm/2025-08-19_pm/detail/third.csv"))).isEqualTo("third");
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,268 @@
+package com.newnormallist.crawlerservice.util;
+
+import com.newnormallist.crawlerservice.config.FtpConfig;
+import com.newnormallist.crawlerservice.dto.NewsDetail;
+import com.newnormallist.crawlerservice.dto.RelatedNewsDetail;
+import com.newnormallist.crawlerservice.enums.DedupState;
+import com.newnormallist.crawlerservice.service.FileServerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * MinHash/LSH 중복 제거의 제거/연관/유지 분류와 pinned 기사, 상세 수집 실패 기사 처리를 확인한다.
+ * Python 엔진과의 비교는 실제 파일서버 경로가 필요하므로 -Dcrawler.dedup.compare-base-path를 줄 때만 실행한다.
+ */
+class MinHashDeduplicatorTest {
+
+    private static final String[] CATEGORIES = {"POLITICS", "ECONOMY", "SOCIETY", "LIFE", "INTERNATIONAL",
+            "IT_SCIENCE", "VEHICLE", "TRAVEL_FOOD", "ART"};
+
+    private static final String TITLE = "한국은행 기준금리 동결 결정";
+
+    // 서로 다른 문장 10개, 연관 기사는 앞 4문장만 공유
+    private static final String[] SENTENCES = {
+            "한국은행 금융통화위원회는 오늘 회의에서 기준금리를 현재 수준으로 유지하기로 했다",
+            "물가 상승률이 목표 수준에 가까워졌지만 가계부채 증가세가 여전히 부담으로 남아 있다",
+            "총재는 기자간담회에서 당분간 긴축 기조를 이어가겠다는 뜻을 분명히 밝혔다",
+            "시장에서는 연내 인하 가능성을 점치는 의견과 동결 장기화 전망이 엇갈리고 있다",
+            "채권시장은 발표 직후 국고채 금리가 소폭 하락하며 안정적인 흐름을 보였다",
+            "원달러 환율은 미국 연준의 정책 방향에 따라 변동성이 커질 수 있다는 관측이 나온다",
+            "부동산 시장에서는 대출 규제와 맞물려 거래 회복이 더딜 것이라는 분석이 우세하다",
+            "수출 기업들은 환율 변동에 대비해 헤지 물량을 늘리는 등 대응에 나서고 있다",
+            "정부는 민생 안정을 위해 하반기 재정 집행 속도를 높이겠다고 설명했다",
+            "전문가들은 내수 회복이 더디다는 점에서 통화정책 전환 시점이 중요하다고 지적했다"
+    };
+
+    private static final String[] OTHER_SENTENCES = {
+            "반도체 업황 개선으로 주요 기업의 실적 전망치가 잇따라 상향 조정되고 있다",
+            "자동차 업계는 전기차 수요 둔화에 맞춰 하이브리드 생산 비중을 늘리는 중이다",
+            "유통 업계는 온라인 할인 행사를 앞당기며 소비 심리 회복을 기대하고 있다",
+            "건설 경기 부진이 이어지면서 중소 건설사의 자금 사정이 악화하고 있다",
+            "청년 고용률은 소폭 올랐지만 취업자 증가 폭은 석 달째 둔화했다",
+            "지방 공항 활성화를 위해 국제선 노선 확대 방안이 논의되고 있다"
+    };
+
+    private MinHashDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        deduplicator = newDeduplicator();
+    }
+
+    @Test
+    void removesNearDuplicateAndKeepsUnrelatedArticle() {
+        NewsDetail first = news("001-1", TITLE, content(SENTENCES));
+        NewsDetail copy = news("002-1", TITLE + " 속보", content(SENTENCES));
+        NewsDetail other = news("003-1", "반도체 수출 석 달째 증가", content(OTHER_SENTENCES));
+
+        MinHashDeduplicator.Result result = deduplicator.deduplicate("ECONOMY", List.of(first, copy, other));
+
+        assertThat(result.deduplicated()).containsExactly(first, other);
+        assertThat(result.removedCount()).isEqualTo(1);
+        assertThat(result.titleGroups()).isEqualTo(1);
+        assertThat(result.related()).isEmpty();
+        assertThat(first.getDedupState()).isEqualTo(DedupState.REPRESENTATIVE.name());
+        assertThat(other.getDedupState()).isEqualTo(DedupState.KEPT.name());
+    }
+
+    @Test
+    void classifiesPartiallyOverlappingArticleAsRelated() {
+        NewsDetail first = news("001-1", TITLE, content(SENTENCES));
+        List<String> mixed = new ArrayList<>(List.of(SENTENCES).subList(0, 4));
+        mixed.addAll(List.of(OTHER_SENTENCES));
+        NewsDetail partial = news("002-1", TITLE + " 배경", content(mixed.toArray(String[]::new)));
+
+        MinHashDeduplicator.Result result = deduplicator.deduplicate("ECONOMY", List.of(first, partial));
+
+        assertThat(result.deduplicated()).containsExactly(first, partial);
+        assertThat(result.removedCount()).isZero();
+        assertThat(partial.getDedupState()).isEqualTo(DedupState.RELATED.name());
+        assertThat(result.related()).hasSize(1);
+        RelatedNewsDetail row = result.related().get(0);
+        assertThat(row.getRepOidAid()).isEqualTo("001-1");
+        assertThat(row.getRelatedOidAid()).isEqualTo("002-1");
+        assertThat(row.getCategory()).isEqualTo("ECONOMY");
+        assertThat(row.getSimilarity()).isBetween(0.15f, 0.6f);
+    }
+
+    @Test
+    void pinnedArticleStaysRepresentativeAndIsNeverRemoved() {
+        NewsDetail fresh = news("001-1", TITLE, content(SENTENCES));
+        NewsDetail stored = news("002-1", TITLE, content(SENTENCES));
+        stored.setDedupState(DedupState.KEPT.name());
+
+        // 새 기사가 앞에 와도 이미 적재한 기사가 대표가 되고, 새 기사만 제거된다
+        MinHashDeduplicator.Result result = deduplicator.deduplicate("ECONOMY", List.of(fresh, stored), Set.of("002-1"));
+
+        assertThat(result.deduplicated()).containsExactly(stored);
+        assertThat(result.removedCount()).isEqualTo(1);
+        assertThat(stored.getDedupState()).isEqualTo(DedupState.KEPT.name());
+    }
+
+    @Test
+    void relatedPinnedArticleIsNotPickedAsRepresentative() {
+        NewsDetail fresh = news("001-1", TITLE, content(SENTENCES));
+        NewsDetail stored = news("002-1", TITLE, content(SENTENCES));
+        stored.setDedupState(DedupState.RELATED.name());
+
+        MinHashDeduplicator.Result result = deduplicator.deduplicate("ECONOMY", List.of(fresh, stored), Set.of("002-1"));
+
+        // 연관 상태인 pinned 기사는 대표 후보가 아니지만 제거되지도 않는다
+        assertThat(result.deduplicated()).containsExactly(fresh, stored);
+        assertThat(result.removedCount()).isZero();
+        assertThat(fresh.getDedupState()).isEqualTo(DedupState.REPRESENTATIVE.name());
+        assertThat(stored.getDedupState()).isEqualTo(DedupState.RELATED.name());
+    }
+
+    @Test
+    void failedContentArticlesAreNeverRemoved() {
+        NewsDetail first = news("001-1", TITLE, NewsDetailCrawler.FAILED_CONTENT);
+        NewsDetail second = news("002-1", TITLE, NewsDetailCrawler.FAILED_CONTENT);
+        NewsDetail withBody = news("003-1", TITLE, content(SENTENCES));
+
+        MinHashDeduplicator.Result result = deduplicator.deduplicate("ECONOMY", List.of(first, second, withBody));
+
+        // 제목이 같아도 본문 유사도는 0이라 모두 남는다
+        assertThat(result.deduplicated()).containsExactly(first, second, withBody);
+        assertThat(result.removedCount()).isZero();
+        assertThat(result.related()).isEmpty();
+        assertThat(result.titleGroups()).isEqualTo(1);
+    }
+
+    @Test
+    void emptyInputGivesEmptyResult() {
+        MinHashDeduplicator.Result result = deduplicator.deduplicate("ECONOMY", List.of());
+
+        assertThat(result.deduplicated()).isEmpty();
+        assertThat(result.removedCount()).isZero();
+    }
+
+    /**
+     * 파일서버의 최신 detail로 Java 엔진을 돌려 같은 크롤링의 Python 결과(deduplicated/related)와 비교한다.
+     * Python 엔진으로 3단계를 실행한 직후(같은 시간대 경로)에
+     * -Dcrawler.dedup.compare-base-path=http://파일서버/경로 로 실행한다. 결과는 저장하지 않는다.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "crawler.dedup.compare-base-path", matches = ".+")
+    void compareWithPythonResults() {
+        FileServerService fileServerService = new FileServerService(new FtpConfig(), mock(FtpUploader.class), 1);
+        ReflectionTestUtils.setField(fileServerService, "basePath", System.getProperty("crawler.dedup.compare-base-path"));
+        ReflectionTestUtils.setField(fileServerService, "blockRows", 256);
+
+        long totalArticles = 0;
+        long totalNanos = 0;
+        long removedMatch = 0, nativeRemoved = 0, pythonRemoved = 0;
+        long pairMatch = 0, nativePairs = 0, pythonPairs = 0;
+        try {
+            for (String category : CATEGORIES) {
+                List<NewsDetail> details = fileServerService.getNewsListFromCsv(category, "detail", null);
+                if (details.isEmpty()) {
+                    continue;
+                }
+                // 남은 기사 판별에는 oidAid만 필요
+                List<NewsDetail> pythonDeduplicated = fileServerService.getNewsListFromCsv(category, "deduplicated", null, Set.of("oidAid"));
+                List<RelatedNewsDetail> pythonRelated = fileServerService.getRelatedNewsFromCsv(category, null);
+
+                long start = System.nanoTime();
+                MinHashDeduplicator.Result result = deduplicator.deduplicate(category, details);
+                long elapsed = System.nanoTime() - start;
+
+                Set<String> all = oidAids(details);
+                Set<String> pythonRemovedSet = new HashSet<>(all);
+                pythonRemovedSet.removeAll(oidAids(pythonDeduplicated));
+                Set<String> nativeRemovedSet = new HashSet<>(all);
+                nativeRemovedSet.removeAll(oidAids(result.deduplicated()));
+                Set<String> pythonPairSet = pairKeys(pythonRelated);
+                Set<String> nativePairSet = pairKeys(result.related());
+
+                long catRemovedMatch = nativeRemovedSet.stream().filter(pythonRemovedSet::contains).count();
+                long catPairMatch = nativePairSet.stream().filter(pythonPairSet::contains).count();
+                System.out.printf("%s: 기사 %d건 %.2fms, 제거 java %d / python %d / 일치 %d, 연관 java %d / python %d / 일치 %d%n",
+                        category, details.size(), elapsed / 1_000_000.0,
+                        nativeRemovedSet.size(), pythonRemovedSet.size(), catRemovedMatch,
+                        nativePairSet.size(), pythonPairSet.size(), catPairMatch);
+
+                totalArticles += details.size();
+                totalNanos += elapsed;
+                removedMatch += catRemovedMatch;
+                nativeRemoved += nativeRemovedSet.size();
+                pythonRemoved += pythonRemovedSet.size();
+                pairMatch += catPairMatch;
+                nativePairs += nativePairSet.size();
+                pythonPairs += pythonPairSet.size();
+            }
+        } finally {
+            ReflectionTestUtils.invokeMethod(fileServerService, "shutdown");
+        }
+
+        System.out.printf("Java/Python 중복제거 비교: 기사 %d건, %d건/초, 제거 정밀도 %.3f 재현율 %.3f, 연관 정밀도 %.3f 재현율 %.3f, 설정 %s%n",
+                totalArticles, totalNanos > 0 ? Math.round(totalArticles * 1e9 / totalNanos) : 0,
+                ratio(removedMatch, nativeRemoved), ratio(removedMatch, pythonRemoved),
+                ratio(pairMatch, nativePairs), ratio(pairMatch, pythonPairs), deduplicator.getConfig());
+        assertThat(totalArticles).isPositive();
+    }
+
+    private static MinHashDeduplicator newDeduplicator() {
+        MinHashDeduplicator deduplicator = new MinHashDeduplicator();
+        ReflectionTestUtils.setField(deduplicator, "numHashes", 128);
+        ReflectionTestUtils.setField(deduplicator, "bands", 64);
+        ReflectionTestUtils.setField(deduplicator, "titleShingle", 2);
+        ReflectionTestUtils.setField(deduplicator, "contentShingle", 5);
+        ReflectionTestUtils.setField(deduplicator, "titleThreshold", 0.3);
+        ReflectionTestUtils.setField(deduplicator, "contentThreshold", 0.6);
+        ReflectionTestUtils.setField(deduplicator, "relatedThreshold", 0.15);
+        deduplicator.init();
+        return deduplicator;
+    }
+
+    private static NewsDetail news(String oidAid, String title, String content) {
+        return NewsDetail.builder()
+                .categoryName("ECONOMY")
+                .oidAid(oidAid)
+                .title(title)
+                .content(content)
+                .build();
+    }
+
+    private static String content(String[] sentences) {
+        return String.join(". ", sentences) + ".";
+    }
+
+    private static Set<String> oidAids(List<NewsDetail> newsList) {
+        Set<String> ids = new HashSet<>();
+        for (NewsDetail news : newsList) {
+            if (news.getOidAid() != null) {
+                ids.add(news.getOidAid());
+            }
+        }
+        return ids;
+    }
+
+    // 대표 선정이 엔진마다 다를 수 있으므로 방향 없는 쌍으로 비교
+    private static Set<String> pairKeys(List<RelatedNewsDetail> related) {
+        Set<String> keys = new HashSet<>();
+        for (RelatedNewsDetail pair : related) {
+            String a = pair.getRepOidAid();
+            String b = pair.getRelatedOidAid();
+            if (a == null || b == null) {
+                continue;
+            }
+            keys.add(a.compareTo(b) <= 0 ? a + "|" + b : b + "|" + a);
+        }
+        return keys;
+    }
+
+    private static double ratio(long numerator, long denominator) {
+        return denominator == 0 ? 1.0 : (double) numerator / denominator;
+    }
+}
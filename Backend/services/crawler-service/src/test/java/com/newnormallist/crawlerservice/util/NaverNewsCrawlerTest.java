@@ -0,0 +1,117 @@
+package com.newnormallist.crawlerservice.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newnormallist.crawlerservice.dto.NewsDetail;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * jsoup 목록 방식을 로컬 스텁 서버(섹션 페이지 + 더보기 템플릿 API)에 붙여 확인한다.
+ * 브라우저나 네이버로는 요청하지 않는다.
+ */
+class NaverNewsCrawlerTest {
+
+    private static final String TEMPLATE_ID = "SECTION_ARTICLE_LIST";
+
+    private HttpServer server;
+    private final AtomicInteger templateRequests = new AtomicInteger();
+    private SeenArticleFilter seenArticleFilter;
+    private NaverNewsCrawler crawler;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/section/100", exchange -> respond(exchange, "text/html",
+                "<html><body><div id=\"newsct\"><ul data-template-id=\"" + TEMPLATE_ID + "\" data-cursor-name=\"next\""
+                        + " data-cursor=\"c1\" data-page-no=\"1\">"
+                        + item(1, "반도체 수출 석 달째 증가", "연합뉴스")
+                        + item(2, "[칼럼] 금리의 향방", "한겨레")
+                        + item(3, "지역 축제 개막", "동네소식")
+                        + "</ul></div></body></html>"));
+        server.createContext("/section/template/" + TEMPLATE_ID, exchange -> {
+            templateRequests.incrementAndGet();
+            String query = exchange.getRequestURI().getQuery();
+            String fragment = query.contains("pageNo=2")
+                    ? item(4, "기준금리 동결", "KBS") + item(5, "환율 하락", "매일경제")
+                    : "";
+            respond(exchange, "application/json", new ObjectMapper().writeValueAsString(
+                    Map.of("renderedComponent", Map.of(TEMPLATE_ID, fragment), "next", "c2")));
+        });
+        server.start();
+
+        seenArticleFilter = mock(SeenArticleFilter.class);
+        when(seenArticleFilter.isEnabled()).thenReturn(true);
+        when(seenArticleFilter.getStopAfterKnown()).thenReturn(2);
+
+        HostRateLimiter hostRateLimiter = new HostRateLimiter();
+        ReflectionTestUtils.setField(hostRateLimiter, "permitsPerSecond", 1000.0);
+        ReflectionTestUtils.setField(hostRateLimiter, "burst", 100);
+
+        crawler = new NaverNewsCrawler(mock(WebDriverPool.class), hostRateLimiter, new ObjectMapper(), seenArticleFilter);
+        ReflectionTestUtils.setField(crawler, "listMode", "jsoup");
+        ReflectionTestUtils.setField(crawler, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(crawler, "timeoutMs", 5000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void followsTemplateCursorAndFiltersArticles() {
+        List<NewsDetail> news = crawler.crawlCategoryList("POLITICS", 100);
+
+        // 칼럼 제목과 허용되지 않은 언론사는 빠지고, 빈 조각이 오면 추가 조회 종료
+        assertThat(news).extracting(NewsDetail::getTitle)
+                .containsExactly("반도체 수출 석 달째 증가", "기준금리 동결", "환율 하락");
+        assertThat(news).allSatisfy(item -> assertThat(item.getCategoryName()).isEqualTo("POLITICS"));
+        assertThat(news.get(1).getLink()).endsWith("/mnews/article/001/0000000004");
+        assertThat(templateRequests).hasValue(2);
+    }
+
+    @Test
+    void stopsPagingWhenSeenArticlesContinue() {
+        Set<String> seen = Set.of("001-0000000001", "001-0000000002", "001-0000000003");
+        when(seenArticleFilter.contains(anyString())).thenAnswer(invocation -> seen.contains(invocation.<String>getArgument(0)));
+
+        List<NewsDetail> news = crawler.crawlCategoryList("POLITICS", 100);
+
+        assertThat(news).isEmpty();
+        assertThat(templateRequests).hasValue(0);
+        verify(seenArticleFilter).recordPagingStopped();
+    }
+
+    private static String item(int aid, String title, String press) {
+        return "<li class=\"sa_item\"><a href=\"/mnews/article/001/" + String.format("%010d", aid) + "\">"
+                + "<strong>" + title + "</strong></a><span class=\"press\">" + press + "</span></li>";
+    }
+
+    private static void respond(HttpExchange exchange, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
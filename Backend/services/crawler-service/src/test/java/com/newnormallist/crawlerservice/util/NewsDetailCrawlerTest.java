@@ -0,0 +1,184 @@
+package com.newnormallist.crawlerservice.util;
+
+import com.newnormallist.crawlerservice.dto.NewsDetail;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 상세 크롤러를 로컬 스텁 서버(/mnews/article/{oid}/{aid})에 붙여 확인한다.
+ * 운영 크롤러나 네이버로는 요청하지 않는다.
+ */
+class NewsDetailCrawlerTest {
+
+    private static final String BODY = "가".repeat(200);
+
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicInteger requests = new AtomicInteger();
+    // 경로별로 남은 503 응답 횟수
+    private final Map<String, AtomicInteger> failuresByPath = new ConcurrentHashMap<>();
+
+    private SeenArticleFilter seenArticleFilter;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/mnews/article/", exchange -> {
+            requests.incrementAndGet();
+            String path = exchange.getRequestURI().getPath();
+            AtomicInteger remaining = failuresByPath.get(path);
+            if (remaining != null && remaining.getAndDecrement() > 0) {
+                exchange.sendResponseHeaders(503, -1);
+                exchange.close();
+                return;
+            }
+            byte[] html = ("<html><body>"
+                    + "<span class=\"media_end_head_info_datestamp_time _ARTICLE_DATE_TIME\" data-date-time=\"2025-08-01 10:00:00\"></span>"
+                    + "<div id=\"dic_area\">" + BODY + "</div>"
+                    + "<img id=\"img1\" src=\"https://img.example/1.jpg\">"
+                    + "</body></html>").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+            exchange.sendResponseHeaders(200, html.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(html);
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        seenArticleFilter = mock(SeenArticleFilter.class);
+        when(seenArticleFilter.contains(anyString())).thenReturn(false);
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    @Test
+    void retriesServerErrorsAndKeepsInputOrder() {
+        failuresByPath.put("/mnews/article/001/0000000002", new AtomicInteger(1));
+        NewsDetailCrawler crawler = crawler(50.0, 4);
+        try {
+            Map<String, List<NewsDetail>> result = crawler.crawlDetails(Map.of("POLITICS", links(3)));
+
+            List<NewsDetail> details = result.get("POLITICS");
+            assertThat(details).extracting(NewsDetail::getOidAid)
+                    .containsExactly("001-0000000001", "001-0000000002", "001-0000000003");
+            assertThat(details).allSatisfy(detail -> {
+                assertThat(detail.getContent()).contains(BODY);
+                assertThat(detail.getDate()).isEqualTo("2025-08-01 10:00:00");
+            });
+            assertThat(crawler.getProgress()).containsEntry("failed", 0).containsEntry("retries", 1L);
+            assertThat(requests.get()).isEqualTo(4);
+        } finally {
+            crawler.shutdown();
+        }
+    }
+
+    @Test
+    void skipsAlreadyIngestedArticlesWithoutRequest() {
+        when(seenArticleFilter.contains("001-0000000001")).thenReturn(true);
+        NewsDetailCrawler crawler = crawler(50.0, 4);
+        try {
+            Map<String, List<NewsDetail>> result = crawler.crawlDetails(Map.of("POLITICS", links(2)));
+
+            assertThat(result.get("POLITICS")).extracting(NewsDetail::getOidAid).containsExactly("001-0000000002");
+            assertThat(crawler.getProgress()).containsEntry("skippedKnown", 1);
+            assertThat(requests.get()).isEqualTo(1);
+        } finally {
+            crawler.shutdown();
+        }
+    }
+
+    @Test
+    void staysWithinHostRateLimit() {
+        int pages = 12;
+        double permitsPerSecond = 20.0;
+        NewsDetailCrawler crawler = crawler(permitsPerSecond, 8);
+        try {
+            long started = System.nanoTime();
+            crawler.crawlDetails(Map.of("POLITICS", links(pages)));
+            long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+            // burst 2개를 뺀 나머지는 1/permitsPerSecond 간격으로 나감
+            long minimumMs = (long) ((pages - 2) * 1000 / permitsPerSecond);
+            assertThat(elapsedMs).isGreaterThanOrEqualTo(minimumMs - 20);
+        } finally {
+            crawler.shutdown();
+        }
+    }
+
+    /**
+     * 설정 기본값(호스트당 초당 2건)으로 카테고리 9개 × 20건을 수집하는 데 걸리는 시간.
+     * 오래 걸리므로 -Dcrawler.benchmark=true 일 때만 실행한다.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "crawler.benchmark", matches = "true")
+    void benchmarkDefaultRate() {
+        NewsDetailCrawler crawler = crawler(2.0, 16);
+        try {
+            Map<String, List<NewsDetail>> byCategory = new LinkedHashMap<>();
+            for (int c = 0; c < 9; c++) {
+                byCategory.put("CATEGORY_" + c, links(c * 100, 20));
+            }
+            crawler.crawlDetails(byCategory);
+            System.out.println("상세 크롤링 벤치마크: " + crawler.getProgress());
+        } finally {
+            crawler.shutdown();
+        }
+    }
+
+    private NewsDetailCrawler crawler(double permitsPerSecond, int concurrency) {
+        HostRateLimiter rateLimiter = new HostRateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "permitsPerSecond", permitsPerSecond);
+        ReflectionTestUtils.setField(rateLimiter, "burst", 2);
+
+        NewsDetailCrawler crawler = new NewsDetailCrawler(rateLimiter, seenArticleFilter);
+        ReflectionTestUtils.setField(crawler, "concurrency", concurrency);
+        ReflectionTestUtils.setField(crawler, "timeoutMs", 2000);
+        ReflectionTestUtils.setField(crawler, "maxAttempts", 3);
+        ReflectionTestUtils.setField(crawler, "backoffBaseMs", 10L);
+        ReflectionTestUtils.setField(crawler, "backoffMaxMs", 50L);
+        crawler.init();
+        return crawler;
+    }
+
+    private List<NewsDetail> links(int count) {
+        return links(0, count);
+    }
+
+    private List<NewsDetail> links(int offset, int count) {
+        List<NewsDetail> links = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            String aid = String.format("%010d", offset + i);
+            links.add(NewsDetail.builder()
+                    .link(baseUrl + "/mnews/article/001/" + aid)
+                    .title("제목 " + aid)
+                    .press("언론사")
+                    .categoryName("POLITICS")
+                    .build());
+        }
+        return links;
+    }
+}
@@ -0,0 +1,99 @@
+package com.newnormallist.crawlerservice.util;
+
+import com.newnormallist.crawlerservice.repository.NewsBulkJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 필터 파일이 없을 때 DB 최근 기사로 채우는 경로와, 세대 단위로 오래된 기사를 잊는 동작을 확인한다.
+ */
+class SeenArticleFilterTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @TempDir
+    Path dir;
+
+    private final NewsBulkJdbcRepository repository = mock(NewsBulkJdbcRepository.class);
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        file = dir.resolve("seen.bin");
+        doAnswer(invocation -> {
+            BiConsumer<String, LocalDateTime> consumer = invocation.getArgument(1);
+            LocalDateTime now = LocalDateTime.now();
+            consumer.accept("001_0000000001", now.minusHours(1));
+            consumer.accept("001_0000000060", now.minusHours(60));
+            return null;
+        }).when(repository).forEachOidAidCreatedSince(any(LocalDateTime.class), any());
+    }
+
+    @Test
+    void seedsRecentArticlesFromDatabase() {
+        SeenArticleFilter filter = newFilter();
+
+        assertThat(filter.contains("001_0000000001")).isTrue();
+        assertThat(filter.contains("001_0000000060")).isTrue();
+        assertThat(filter.contains("001_0000009999")).isFalse();
+        assertThat(filter.getRunStats()).containsEntry("generations", 4);
+    }
+
+    @Test
+    void seededArticlesExpireByTheirOwnAge() throws Exception {
+        SeenArticleFilter filter = newFilter();
+        filter.markAll(List.of("002_0000000001"));
+
+        // 한 세대(18시간)가 지난 것처럼 파일의 세대 생성 시각을 당겨서 다시 읽음
+        shiftGenerations(18 * HOUR);
+        SeenArticleFilter reloaded = newFilter();
+
+        // 60시간 전 기사는 가장 오래된 세대에 있었으므로 잊고, 최근 기사는 유지
+        assertThat(reloaded.contains("001_0000000060")).isFalse();
+        assertThat(reloaded.contains("001_0000000001")).isTrue();
+        assertThat(reloaded.contains("002_0000000001")).isTrue();
+    }
+
+    private SeenArticleFilter newFilter() {
+        SeenArticleFilter filter = new SeenArticleFilter(repository);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "windowHours", 72);
+        ReflectionTestUtils.setField(filter, "generations", 4);
+        ReflectionTestUtils.setField(filter, "expectedPerGeneration", 1000);
+        ReflectionTestUtils.setField(filter, "falsePositiveRate", 0.001);
+        ReflectionTestUtils.setField(filter, "stopAfterKnown", 10);
+        ReflectionTestUtils.setField(filter, "path", file.toString());
+        filter.init();
+        return filter;
+    }
+
+    // 파일 형식: magic, numBits, numHashes, 세대 수, (생성 시각, 비트 배열) × 세대 수
+    private void shiftGenerations(long millis) throws Exception {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.readInt();
+            int numBits = raf.readInt();
+            raf.readInt();
+            int count = raf.readInt();
+            for (int g = 0; g < count; g++) {
+                long offset = 16L + g * (8L + numBits / 8);
+                raf.seek(offset);
+                long createdAt = raf.readLong();
+                raf.seek(offset);
+                raf.writeLong(createdAt - millis);
+            }
+        }
+    }
+}
@@ -146,7 +146,7 @@ async def deduplicate_news(
             logger.info(f"🔍 중복제거 시작: 카테고리={request.category}")
             
             # 중복제거 실행 (타임스탬프 전달)
-            result = await dedup_service.run_deduplication(request.category)
+            result = await dedup_service.run_deduplication(request.category, request.file_timestamp)
             
             REQUEST_COUNT.labels(category=request.category, status="success").inc()
             logger.info(f"✅ 중복제거 완료: 카테고리={request.category}, "
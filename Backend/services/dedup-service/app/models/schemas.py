@@ -59,6 +59,7 @@ class DeduplicationRequest(BaseModel):
     """중복제거 요청"""
     category: str  # 문자열로 변경 (Java에서 문자열로 전달)
     force_refresh: bool = Field(default=False, description="강제 새로고침 여부")
+    file_timestamp: Optional[str] = Field(default=None, description="크롤링 세션 타임스탬프 (yyyy-MM-dd-HH-mm), 지정하면 이 파일만 읽고 같은 타임스탬프로 저장")
 
 
 class DeduplicationResponse(BaseModel):
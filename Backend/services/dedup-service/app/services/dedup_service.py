@@ -142,10 +142,11 @@ class DeduplicationService:
             
             # 1. 파일서버에서 원본 데이터 조회
             logger.info(f"🔍 파일서버에서 detail 데이터 조회 시작: {category}")
-            original_news = self.fileserver_service.get_news_from_csv(category, "detail")
+            original_news = self.fileserver_service.get_news_from_csv(category, "detail", file_timestamp=file_timestamp)
             logger.info(f"🔍 detail 조회 결과: {len(original_news)}개")
             
-            if not original_news:
+            # 세션 타임스탬프를 받았으면 다른 크롤링의 파일로 대체하지 않음
+            if not original_news and not file_timestamp:
                 # list에서도 시도
                 logger.info(f"🔍 파일서버에서 list 데이터 조회 시도: {category}")
                 original_news = self.fileserver_service.get_news_from_csv(category, "list")
@@ -160,7 +161,7 @@ class DeduplicationService:
                     related_count=0,
                     removed_count=0,
                     processing_time_seconds=time.time() - start_time,
-                    statistics={},
+                    statistics={'file_timestamp': file_timestamp},
                     message="원본 데이터 없음"
                 )
             
@@ -173,8 +174,8 @@ class DeduplicationService:
             )
             
             # 4. 파일서버에 결과 저장
-            self.fileserver_service.save_news_to_csv(category, deduplicated_news, "deduplicated")
-            self.fileserver_service.save_related_news_to_csv(category, related_news)
+            self.fileserver_service.save_news_to_csv(category, deduplicated_news, "deduplicated", file_timestamp)
+            self.fileserver_service.save_related_news_to_csv(category, related_news, file_timestamp)
             
             # 5. 통계 계산
             processing_time = time.time() - start_time
@@ -187,7 +188,8 @@ class DeduplicationService:
                 'related': len(related_news),
                 'removed': removed_count,
                 'removal_rate': removed_count / len(original_news) if original_news else 0,
-                'title_groups': len(title_groups)
+                'title_groups': len(title_groups),
+                'file_timestamp': file_timestamp
             }
             
             logger.info(f"✅ {category} 중복제거 완료: {len(original_news)}개 → {len(deduplicated_news)}개, "
@@ -50,10 +50,22 @@ class FileServerService:
         현재 시간 기반 디렉터리 경로 생성
         예: /data/news-fileserver/am/2025-08-19_am/ 또는 /data/news-fileserver/pm/2025-08-19_pm/
         """
-        now = datetime.now()
-        date_str = now.strftime(self.time_format)
-        period = "am" if now.hour < 12 else "pm"
+        return self._get_time_path(datetime.now())
+
+    def _get_time_path(self, time: datetime) -> str:
+        date_str = time.strftime(self.time_format)
+        period = "am" if time.hour < 12 else "pm"
         return f"{self.base_path}/{period}/{date_str}_{period}"
+
+    def _get_timestamp_time_path(self, file_timestamp: str) -> str:
+        """
+        세션 타임스탬프가 속한 시간대 경로 (크롤러가 세션을 나중에 재개해도 같은 디렉터리를 사용하도록)
+        형식이 다르면 현재 시간 기준 경로
+        """
+        try:
+            return self._get_time_path(datetime.strptime(file_timestamp, "%Y-%m-%d-%H-%M"))
+        except (TypeError, ValueError):
+            return self._get_current_time_path()
     
     def _find_latest_file(self, dir_path: str, file_pattern: str) -> Optional[str]:
         """
@@ -168,7 +180,8 @@ class FileServerService:
             logger.error(f"FTP API 업로드 오류: {upload_url}, 오류: {e}")
             raise RuntimeError(f"FTP API 업로드 실패: {e}")
     
-    def save_news_to_csv(self, category: str, news_list: List[NewsDetail], stage: str) -> str:
+    def save_news_to_csv(self, category: str, news_list: List[NewsDetail], stage: str,
+                         file_timestamp: Optional[str] = None) -> str:
         """
         뉴스 데이터를 CSV 파일로 저장
         
@@ -176,15 +189,20 @@ class FileServerService:
             category: 카테고리 (POLITICS, ECONOMY 등)
             news_list: 뉴스 데이터 리스트
             stage: 단계 (list, detail, deduplicated)
+            file_timestamp: 크롤링 세션 타임스탬프 (None이면 현재 시간)
             
         Returns:
             저장된 파일 경로
         """
         try:
-            time_path = self._get_current_time_path()
+            if file_timestamp:
+                time_path = self._get_timestamp_time_path(file_timestamp)
+                timestamp = file_timestamp
+            else:
+                time_path = self._get_current_time_path()
+                timestamp = datetime.now().strftime("%Y-%m-%d-%H-%M")
             dir_path = f"{time_path}/{stage}"
             
-            timestamp = datetime.now().strftime("%Y-%m-%d-%H-%M")
             file_name = f"{category.lower()}_{stage}_{timestamp}.csv"
             
             # CSV 데이터를 메모리에서 생성
@@ -228,7 +246,8 @@ class FileServerService:
             logger.error(f"📁 파일서버 저장 실패: {category}/{stage}, 오류: {e}")
             raise
     
-    def get_news_from_csv(self, category: str, stage: str, time_path: Optional[str] = None) -> List[NewsDetail]:
+    def get_news_from_csv(self, category: str, stage: str, time_path: Optional[str] = None,
+                          file_timestamp: Optional[str] = None) -> List[NewsDetail]:
         """
         CSV 파일에서 뉴스 데이터 조회
         
@@ -236,22 +255,27 @@ class FileServerService:
             category: 카테고리
             stage: 단계
             time_path: 특정 시간 경로 (None이면 최신 사용)
+            file_timestamp: 크롤링 세션 타임스탬프 (지정하면 최신 파일 탐색 없이 그 파일만 읽음)
             
         Returns:
             뉴스 데이터 리스트
         """
         try:
-            if time_path is None:
-                time_path = self._get_latest_time_path()
-            
-            dir_path = f"{time_path}/{stage}"
-            
-            # 최신 파일 찾기 (타임스탬프 기반)
-            file_pattern = f"{category.lower()}_{stage}_*.csv"
-            file_path = self._find_latest_file(dir_path, file_pattern)
+            if file_timestamp:
+                dir_path = f"{self._get_timestamp_time_path(file_timestamp)}/{stage}"
+                file_path = f"{dir_path}/{category.lower()}_{stage}_{file_timestamp}.csv"
+            else:
+                if time_path is None:
+                    time_path = self._get_latest_time_path()
+                
+                dir_path = f"{time_path}/{stage}"
+                
+                # 최신 파일 찾기 (타임스탬프 기반)
+                file_pattern = f"{category.lower()}_{stage}_*.csv"
+                file_path = self._find_latest_file(dir_path, file_pattern)
             
             if not file_path:
-                logger.info(f"📁 파일이 존재하지 않음: {dir_path}/{file_pattern}")
+                logger.info(f"📁 파일이 존재하지 않음: {dir_path}/{category.lower()}_{stage}_*.csv")
                 return []
             
             news_list = []
@@ -299,15 +323,20 @@ class FileServerService:
             logger.error(f"📁 파일서버 조회 실패: {category}/{stage}, 오류: {e}")
             return []
     
-    def save_related_news_to_csv(self, category: str, related_pairs: List[RelatedNewsPair]) -> str:
+    def save_related_news_to_csv(self, category: str, related_pairs: List[RelatedNewsPair],
+                                 file_timestamp: Optional[str] = None) -> str:
         """
-        연관뉴스를 CSV 파일로 저장
+        연관뉴스를 CSV 파일로 저장 (file_timestamp가 있으면 그 세션 경로/파일명으로)
         """
         try:
-            time_path = self._get_current_time_path()
+            if file_timestamp:
+                time_path = self._get_timestamp_time_path(file_timestamp)
+                timestamp = file_timestamp
+            else:
+                time_path = self._get_current_time_path()
+                timestamp = datetime.now().strftime("%Y-%m-%d-%H-%M")
             dir_path = f"{time_path}/related"
             
-            timestamp = datetime.now().strftime("%Y-%m-%d-%H-%M")
             file_name = f"{category.lower()}_related_{timestamp}.csv"
             
             # CSV 데이터를 메모리에서 생성
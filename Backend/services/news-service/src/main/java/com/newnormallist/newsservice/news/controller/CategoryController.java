@@ -1,6 +1,7 @@
 package com.newnormallist.newsservice.news.controller;
 
 import com.newnormallist.newsservice.news.dto.CategoryDto;
+import com.newnormallist.newsservice.news.dto.CursorPageResponse;
 import com.newnormallist.newsservice.news.dto.NewsListResponse;
 import com.newnormallist.newsservice.news.entity.Category;
 import com.newnormallist.newsservice.news.service.NewsService;
@@ -74,6 +75,40 @@ public class CategoryController {
         }
     }
 
+    /**
+     * 카테고리별 뉴스 조회 (커서 기반 무한 스크롤)
+     */
+    @Operation(
+        summary = "카테고리별 뉴스 조회 (커서)",
+        description = "특정 카테고리의 뉴스를 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하세요."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "카테고리별 뉴스 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "지원하지 않는 카테고리 또는 유효하지 않은 커서")
+    })
+    @GetMapping("/{categoryName}/news/cursor")
+    public ResponseEntity<?> getNewsByCategoryByCursor(
+            @Parameter(
+                name = "categoryName", 
+                description = "카테고리", 
+                schema = @Schema(allowableValues = {"POLITICS","ECONOMY","SOCIETY","LIFE","INTERNATIONAL","IT_SCIENCE","VEHICLE","TRAVEL_FOOD","ART"})
+            )
+            @PathVariable String categoryName,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", schema = @Schema(defaultValue = "20"))
+            @RequestParam(defaultValue = "20") int size) {
+        Category category;
+        try {
+            category = Category.valueOf(categoryName.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("지원하지 않는 카테고리입니다: " + categoryName + 
+                ". 사용 가능한 카테고리: POLITICS, ECONOMY, SOCIETY, LIFE, INTERNATIONAL, IT_SCIENCE, VEHICLE, TRAVEL_FOOD, ART");
+        }
+        CursorPageResponse<NewsListResponse> news = newsService.getNewsByCategoryByCursor(category, cursor, size);
+        return ResponseEntity.ok(news);
+    }
+
     /**
      * 카테고리별 뉴스 개수 조회
      */
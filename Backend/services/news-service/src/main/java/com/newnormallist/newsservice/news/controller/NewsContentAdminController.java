@@ -0,0 +1,82 @@
+package com.newnormallist.newsservice.news.controller;
+
+import com.newnormallist.newsservice.news.service.NewsContentBackfill;
+import com.newnormallist.newsservice.news.service.NewsContentPrecomputeJob;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.OptionalInt;
+
+@Tag(name = "Admin", description = "관리자 전용 뉴스 관리")
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/admin/news-content")
+@CrossOrigin(origins = "*")
+public class NewsContentAdminController {
+
+    @Autowired
+    private NewsContentPrecomputeJob newsContentPrecomputeJob;
+
+    @Autowired
+    private NewsContentBackfill newsContentBackfill;
+
+    /**
+     * 관리자용: 처리 대기 기사 사전 계산 즉시 실행
+     */
+    @Operation(
+        summary = "기사 본문 사전 계산 즉시 실행",
+        description = "처리 대기 중인 기사(또는 예전 사전 버전으로 만든 기사) 한 묶음의 툴팁 마크업을 스케줄을 기다리지 않고 바로 계산합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "처리 완료 건수"),
+        @ApiResponse(responseCode = "409", description = "스케줄 실행 또는 백필이 처리 중")
+    })
+    @PostMapping("/precompute")
+    public ResponseEntity<Map<String, Object>> precompute() throws InterruptedException {
+        OptionalInt processed = newsContentPrecomputeJob.precomputeBatch();
+        if (processed.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", "다른 사전 계산 실행이 진행 중입니다."));
+        }
+        return ResponseEntity.ok(Map.of("processed", processed.getAsInt()));
+    }
+
+    /**
+     * 관리자용: 기존 기사 본문 사전 계산 백필
+     */
+    @Operation(
+        summary = "기사 본문 사전 계산 백필",
+        description = "news_content 행이 없는 기존 기사에 행을 만들고, 처리 대기 기사가 없어질 때까지 툴팁 마크업을 백그라운드에서 계산합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "202", description = "백필 시작"),
+        @ApiResponse(responseCode = "409", description = "이미 백필 진행 중")
+    })
+    @PostMapping("/backfill")
+    public ResponseEntity<String> backfill() {
+        if (!newsContentBackfill.startAsync()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("이미 백필이 진행 중입니다.");
+        }
+        return ResponseEntity.accepted().body("기사 본문 백필을 시작했습니다.");
+    }
+
+    /**
+     * 관리자용: 백필 진행 상황 조회
+     */
+    @Operation(
+        summary = "기사 본문 백필 진행 상황",
+        description = "진행 단계, 생성한 행 수, 처리한 기사 수와 진행률, 시작/종료 시각을 조회합니다."
+    )
+    @ApiResponse(responseCode = "200", description = "상태 조회 성공")
+    @GetMapping("/backfill/status")
+    public ResponseEntity<Map<String, Object>> backfillStatus() {
+        return ResponseEntity.ok(newsContentBackfill.getStatus());
+    }
+}
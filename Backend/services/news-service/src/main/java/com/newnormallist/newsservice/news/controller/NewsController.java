@@ -4,6 +4,7 @@ import com.newnormallist.newsservice.news.dto.*;
 import com.newnormallist.newsservice.news.entity.Category;
 import com.newnormallist.newsservice.news.exception.UnauthenticatedUserException;
 import com.newnormallist.newsservice.news.service.NewsService;
+import com.newnormallist.newsservice.recommendation.service.VectorRefreshService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -23,6 +24,9 @@ public class NewsController {
     @Autowired
     private NewsService newsService;
 
+    @Autowired
+    private VectorRefreshService vectorRefreshService;
+
     /**
      * 뉴스 개수 조회 API
      * @return 총 뉴스 개수
@@ -36,11 +40,28 @@ public class NewsController {
      * 뉴스 조회수 증가
      */
     @PostMapping("/{newsId}/view")
-    public ResponseEntity<Void> incrementViewCount(@PathVariable Long newsId) {
+    public ResponseEntity<Void> incrementViewCount(@PathVariable Long newsId, @AuthenticationPrincipal String userIdString) {
         newsService.incrementViewCount(newsId);
+        // 로그인 사용자의 조회는 추천 벡터 활동 카운터에 반영 (임계값 도달 시 백그라운드 갱신)
+        Long userId = parseUserId(userIdString);
+        if (userId != null) {
+            vectorRefreshService.recordRead(userId);
+        }
         return ResponseEntity.ok().build();
     }
 
+    // 비로그인(anonymousUser) 등 숫자가 아닌 principal은 null (조회수 증가는 그대로 성공)
+    private static Long parseUserId(String principal) {
+        if (principal == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(principal);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     /**
      * 뉴스 목록 조회(페이징 지원)
      */
@@ -1,5 +1,6 @@
 package com.newnormallist.newsservice.news.controller;
 
+import com.newnormallist.newsservice.news.dto.CursorPageResponse;
 import com.newnormallist.newsservice.news.dto.NewsListResponse;
 import com.newnormallist.newsservice.news.service.NewsService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -92,6 +93,28 @@ public class SearchController {
         return ResponseEntity.ok(news);
     }
 
+    /**
+     * 언론사별 뉴스 조회 (커서 기반 무한 스크롤)
+     */
+    @Operation(
+        summary = "언론사별 뉴스 (커서)",
+        description = "특정 언론사의 뉴스를 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하세요."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "언론사별 뉴스 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+    })
+    @GetMapping("/press/{press}/cursor")
+    public ResponseEntity<CursorPageResponse<NewsListResponse>> getNewsByPressByCursor(
+            @Parameter(name = "press", description = "언론사명", example = "조선일보") 
+            @PathVariable String press,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", schema = @Schema(defaultValue = "20"))
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(newsService.getNewsByPressByCursor(press, cursor, size));
+    }
+
     /**
      * 기간별 뉴스 조회
      */
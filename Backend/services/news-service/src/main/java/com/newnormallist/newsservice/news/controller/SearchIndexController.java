@@ -0,0 +1,57 @@
+package com.newnormallist.newsservice.news.controller;
+
+import com.newnormallist.newsservice.news.service.NewsSearchIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@Tag(name = "Admin", description = "관리자 전용 뉴스 관리")
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/admin/search-index")
+@CrossOrigin(origins = "*")
+public class SearchIndexController {
+
+    @Autowired
+    private NewsSearchIndex newsSearchIndex;
+
+    /**
+     * 관리자용: 검색 인덱스 전체 재색인
+     */
+    @Operation(
+        summary = "검색 인덱스 재색인",
+        description = "news 테이블 전체로 검색 인덱스를 백그라운드에서 다시 만듭니다. 완료 전까지는 기존 인덱스로 검색합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "202", description = "재색인 시작"),
+        @ApiResponse(responseCode = "409", description = "이미 재색인 진행 중")
+    })
+    @PostMapping("/rebuild")
+    public ResponseEntity<String> rebuild() {
+        if (!newsSearchIndex.rebuildAsync()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("이미 재색인이 진행 중입니다.");
+        }
+        return ResponseEntity.accepted().body("검색 인덱스 재색인을 시작했습니다.");
+    }
+
+    /**
+     * 관리자용: 검색 인덱스 상태 조회
+     */
+    @Operation(
+        summary = "검색 인덱스 상태",
+        description = "색인 문서 수, 마지막 색인 뉴스 ID, 재색인 진행 여부를 조회합니다."
+    )
+    @ApiResponse(responseCode = "200", description = "상태 조회 성공")
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> status() {
+        return ResponseEntity.ok(newsSearchIndex.getStatus());
+    }
+}
@@ -1,5 +1,6 @@
 package com.newnormallist.newsservice.news.controller;
 
+import com.newnormallist.newsservice.news.dto.CursorPageResponse;
 import com.newnormallist.newsservice.news.dto.NewsListResponse;
 import com.newnormallist.newsservice.news.dto.NewsResponse;
 import com.newnormallist.newsservice.news.dto.TrendingKeywordDto;
@@ -50,6 +51,24 @@ public class TrendingController {
         return ResponseEntity.ok(news);
     }
 
+    /**
+     * 트렌딩 뉴스 (커서 기반 무한 스크롤)
+     */
+    @Operation(
+        summary = "트렌딩 뉴스 (커서)",
+        description = "트렌딩 뉴스를 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하세요."
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "트렌딩 뉴스 조회 성공")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<NewsListResponse>> getTrendingNewsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", schema = @Schema(defaultValue = "20"))
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(newsService.getTrendingNewsByCursor(cursor, size));
+    }
+
     /**
      * 트렌딩 뉴스 (리스트)
      */
@@ -121,7 +140,7 @@ public class TrendingController {
             Category category = Category.valueOf(categoryName.toUpperCase());
             log.info("카테고리 변환 성공: {} -> {}", categoryName, category);
             
-            List<TrendingKeywordDto> result = newsService.getTrendingKeywordsByCategory(category, limit);
+            List<TrendingKeywordDto> result = newsService.getTrendingKeywordsByCategory(category, hours, limit);
             log.info("트렌딩 키워드 조회 결과: category={}, resultSize={}", category, result.size());
             
             return ResponseEntity.ok(ApiResponse.success(result));
@@ -175,6 +194,24 @@ public class TrendingController {
         return ResponseEntity.ok(news);
     }
 
+    /**
+     * 최신 뉴스 (커서 기반 무한 스크롤)
+     */
+    @Operation(
+        summary = "최신 뉴스 (커서)",
+        description = "최신 뉴스를 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하세요."
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "최신 뉴스 조회 성공")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+    @GetMapping("/latest/cursor")
+    public ResponseEntity<CursorPageResponse<NewsListResponse>> getLatestNewsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", schema = @Schema(defaultValue = "20"))
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(newsService.getLatestNewsByCursor(cursor, size));
+    }
+
     /**
      * 트렌딩 키워드 조회
      */
@@ -0,0 +1,36 @@
+package com.newnormallist.newsservice.news.controller;
+
+import com.newnormallist.newsservice.news.service.TrendingKeywordEngine;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@Tag(name = "Admin", description = "관리자 전용 뉴스 관리")
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/admin/trending-keywords")
+@CrossOrigin(origins = "*")
+public class TrendingKeywordAdminController {
+
+    @Autowired
+    private TrendingKeywordEngine trendingKeywordEngine;
+
+    /**
+     * 관리자용: 트렌딩 키워드 집계 상태 조회
+     */
+    @Operation(
+        summary = "트렌딩 키워드 집계 상태",
+        description = "집계 엔진 준비 여부, 마지막 반영 뉴스 ID, 집계 구간, 최근 24시간 상위 키워드를 조회합니다."
+    )
+    @ApiResponse(responseCode = "200", description = "상태 조회 성공")
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> status() {
+        return ResponseEntity.ok(trendingKeywordEngine.getStatus());
+    }
+}
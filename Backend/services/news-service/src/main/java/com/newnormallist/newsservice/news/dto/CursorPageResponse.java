@@ -0,0 +1,23 @@
+package com.newnormallist.newsservice.news.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답. 전체 개수(COUNT) 대신 다음 페이지 커서만 내려준다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+}
@@ -0,0 +1,106 @@
+package com.newnormallist.newsservice.news.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 뉴스 목록 커서(키셋) 페이지네이션 토큰.
+ *
+ * 마지막으로 내려준 행의 (published_datetime, news_id)를 담아 다음 페이지를
+ * "이 지점보다 오래된 행"으로 바로 찾는다 (OFFSET / COUNT 없음).
+ * 트렌딩 목록처럼 trusted 구간을 먼저 나누는 정렬은 tier에 현재 구간을 함께 담는다.
+ * 클라이언트에는 Base64 문자열로만 노출하며 내부 형식은 바뀔 수 있다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class NewsCursor {
+
+    private static final String VERSION = "v1";
+    private static final String NULL_VALUE = "-";
+
+    // 첫 페이지 시작점 (MySQL DATETIME 최대값)
+    private static final LocalDateTime MAX_PUBLISHED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final Boolean tier;
+    // null이면 발행일이 없는 행 구간(정렬상 가장 뒤)을 news_id 기준으로 이어서 조회
+    private final LocalDateTime publishedAt;
+    private final Long newsId;
+
+    public static NewsCursor first() {
+        return first(null);
+    }
+
+    public static NewsCursor first(Boolean tier) {
+        return new NewsCursor(tier, MAX_PUBLISHED_AT, Long.MAX_VALUE);
+    }
+
+    public static NewsCursor of(Boolean tier, LocalDateTime publishedAt, Long newsId) {
+        return new NewsCursor(tier, publishedAt, newsId);
+    }
+
+    public String encode() {
+        String raw = String.join("|", VERSION,
+                tier == null ? NULL_VALUE : (tier ? "T" : "F"),
+                publishedAt == null ? NULL_VALUE : publishedAt.toString(),
+                String.valueOf(newsId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰을 해석한다. 비어 있으면 첫 페이지 커서를 반환한다.
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 토큰
+     */
+    public static NewsCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return first();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            Boolean tier = switch (parts[1]) {
+                case "T" -> Boolean.TRUE;
+                case "F" -> Boolean.FALSE;
+                case NULL_VALUE -> null;
+                default -> throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            };
+            LocalDateTime publishedAt = NULL_VALUE.equals(parts[2]) ? null : LocalDateTime.parse(parts[2]);
+            return new NewsCursor(tier, publishedAt, Long.parseLong(parts[3]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * 커서 이후의 행을 최대 limit개 조회한다.
+     * 발행일이 있는 구간을 먼저 읽고, 모자라면 발행일이 없는 구간을 news_id 내림차순으로 이어 붙인다.
+     *
+     * @param dated   (커서, 조회 개수) → 커서보다 오래된 발행일 행
+     * @param undated (news_id, 조회 개수) → 해당 ID보다 작은 발행일 없는 행
+     */
+    public <T> List<T> seek(int limit,
+                            BiFunction<NewsCursor, Integer, List<T>> dated,
+                            BiFunction<Long, Integer, List<T>> undated) {
+        List<T> rows = new ArrayList<>(limit);
+        if (publishedAt != null) {
+            rows.addAll(dated.apply(this, limit));
+        }
+        if (rows.size() < limit) {
+            long beforeId = publishedAt == null ? newsId : Long.MAX_VALUE;
+            rows.addAll(undated.apply(beforeId, limit - rows.size()));
+        }
+        return rows;
+    }
+}
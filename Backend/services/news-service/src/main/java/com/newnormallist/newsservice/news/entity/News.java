@@ -10,7 +10,13 @@ import java.util.Objects;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
-@Table(name = "news")
+@Table(name = "news", indexes = {
+    @Index(name = "idx_news_cat_pubdt", columnList = "category_name, published_datetime"),
+    @Index(name = "idx_news_trusted_pubdt", columnList = "trusted, published_datetime"),
+    @Index(name = "idx_news_pubdt", columnList = "published_datetime"),
+    @Index(name = "idx_news_press_pubdt", columnList = "press, published_datetime"),
+    @Index(name = "idx_news_updated", columnList = "updated_at, news_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -39,6 +45,10 @@ public class News {
     @Column(name = "published_at", length = 100)
     private String publishedAt;
 
+    // 정렬/기간 조회용 DATETIME 컬럼 (published_at 문자열과 같은 값, 인덱스 사용 가능)
+    @Column(name = "published_datetime", columnDefinition = "DATETIME")
+    private LocalDateTime publishedDateTime;
+
     @Column(name = "reporter", nullable = false, length = 500)
     private String reporter;
 
@@ -79,6 +89,13 @@ public class News {
     @Column(name = "updated_at", columnDefinition = "DATETIME(6)")
     private LocalDateTime updatedAt;
 
+    @PrePersist
+    @PreUpdate
+    private void syncPublishedDateTime() {
+        // published_at이 바뀌면 정렬 컬럼도 같이 바뀌어야 하므로 항상 다시 계산
+        publishedDateTime = PublishedAtParser.parse(publishedAt);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,70 @@
+package com.newnormallist.newsservice.news.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 적재 시 한 번 만들어 두는 기사 본문 파생 데이터 (news와 1:1).
+ *
+ * 크롤러가 적재할 때 정리된 HTML / 평문 / 요약 / 본문 해시를 넣고,
+ * {@code NewsContentPrecomputeJob}이 툴팁 마크업과 그때의 사전 버전을 채운다.
+ * 상세 조회는 저장된 마크업의 사전 버전이 툴팁 서비스의 현재 버전과 같을 때만 그대로 내려주고,
+ * 다르거나 없으면 기존처럼 툴팁 서비스를 실시간으로 호출한다.
+ */
+@Entity
+@Table(name = "news_content", indexes = {
+    @Index(name = "idx_news_content_processed", columnList = "processed_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NewsContent {
+
+    @Id
+    @Column(name = "news_id")
+    private Long newsId;
+
+    // 스크립트/광고를 걷어내고 허용 태그만 남긴 본문 HTML
+    @Column(name = "content_html", columnDefinition = "MEDIUMTEXT")
+    private String contentHtml;
+
+    @Column(name = "plain_text", columnDefinition = "MEDIUMTEXT")
+    private String plainText;
+
+    @Column(name = "summary", length = 500)
+    private String summary;
+
+    // 평문 SHA-256 (hex)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 툴팁 마크업이 적용된 본문 (툴팁 서비스가 바꾼 내용이 없으면 NULL)
+    @Column(name = "tooltip_html", columnDefinition = "MEDIUMTEXT")
+    private String tooltipHtml;
+
+    // tooltip_html을 만든 툴팁 사전 버전 (NULL이면 마크업 실패 → 조회 시 실시간 처리)
+    @Column(name = "tooltip_version", length = 32)
+    private String tooltipVersion;
+
+    @Column(name = "processed_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime processedAt;
+
+    // 툴팁 서비스가 연속으로 거절한 횟수 (처리되면 0)
+    @Builder.Default
+    @Column(name = "attempts", nullable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    private int attempts = 0;
+
+    // 거절된 행을 다시 보낼 시각 (NULL이면 바로)
+    @Column(name = "next_attempt_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime updatedAt;
+}
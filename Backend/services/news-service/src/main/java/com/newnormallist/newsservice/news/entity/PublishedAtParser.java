@@ -0,0 +1,33 @@
+package com.newnormallist.newsservice.news.entity;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * published_at 문자열("yyyy-MM-dd HH:mm:ss", 마이크로초/ISO 'T' 구분자 포함 가능)을 LocalDateTime으로 변환.
+ * 파싱할 수 없으면 null을 반환한다. 백필 SQL(PublishedAtBackfillJob)과 같이 날짜만 있는 값도 null이다.
+ */
+public final class PublishedAtParser {
+
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private PublishedAtParser() {
+    }
+
+    public static LocalDateTime parse(String publishedAt) {
+        if (publishedAt == null || publishedAt.isBlank()) {
+            return null;
+        }
+        String value = publishedAt.trim().replace('T', ' ');
+        if (value.length() < 19) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.substring(0, 19), FORMAT);
+        } catch (DateTimeParseException e) {
+            // 형식이 맞지 않는 값은 null (백필 대상에서 제외)
+            return null;
+        }
+    }
+}
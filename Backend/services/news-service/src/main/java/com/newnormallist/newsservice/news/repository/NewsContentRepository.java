@@ -0,0 +1,9 @@
+package com.newnormallist.newsservice.news.repository;
+
+import com.newnormallist.newsservice.news.entity.NewsContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NewsContentRepository extends JpaRepository<NewsContent, Long> {
+}
@@ -16,24 +16,24 @@ import java.util.Optional;
 public interface NewsRepository extends JpaRepository<News, Long> {
 
 
-    Optional<News> findTop1ByImageUrlIsNotNullOrderByPublishedAtDesc();
+    Optional<News> findTop1ByImageUrlIsNotNullOrderByPublishedDateTimeDesc();
 
     List<News> findByTitleContainingAndImageUrlIsNotNull(String keyword);
 
-    @Query("SELECT n FROM News n WHERE STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') > :since")
+    @Query("SELECT n FROM News n WHERE n.publishedDateTime > :since")
     List<News> findByPublishedAtAfter(@Param("since") LocalDateTime since);
 
     // 카테고리별 뉴스 조회 (최신순)
-    @Query("SELECT n FROM News n WHERE n.categoryName = :category ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+    @Query("SELECT n FROM News n WHERE n.categoryName = :category ORDER BY n.publishedDateTime DESC, n.newsId DESC")
     Page<News> findByCategory(@Param("category") Category category, Pageable pageable);
 
     // 키워드 검색 (제목, 내용에서 검색, 최신순)
     @Query("SELECT n FROM News n WHERE " +
-           "n.title LIKE %:keyword% OR n.content LIKE %:keyword% ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+           "n.title LIKE %:keyword% OR n.content LIKE %:keyword% ORDER BY n.publishedDateTime DESC, n.newsId DESC")
     Page<News> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
     // 최신 뉴스 조회 (발행일 기준 내림차순)
-    @Query("SELECT n FROM News n ORDER BY n.publishedAt DESC")
+    @Query("SELECT n FROM News n ORDER BY n.publishedDateTime DESC, n.newsId DESC")
     Page<News> findLatestNews(Pageable pageable);
 
     // 인기 뉴스 조회 (신뢰도 기준 내림차순)
@@ -41,26 +41,26 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     Page<News> findPopularNews(Pageable pageable);
 
     // 트렌딩 뉴스 조회 (신뢰도 + 발행일 기준)
-    @Query("SELECT n FROM News n ORDER BY n.trusted DESC, STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+    @Query("SELECT n FROM News n ORDER BY n.trusted DESC, n.publishedDateTime DESC, n.newsId DESC")
     Page<News> findTrendingNews(Pageable pageable);
 
-    // 특정 기간 내 뉴스 조회 (페이징) - String 비교로 변경
-    @Query("SELECT n FROM News n WHERE n.publishedAt BETWEEN :startDate AND :endDate ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
-    Page<News> findByPublishedAtBetween(@Param("startDate") String startDate,
-                                       @Param("endDate") String endDate,
+    // 특정 기간 내 뉴스 조회 (페이징)
+    @Query("SELECT n FROM News n WHERE n.publishedDateTime BETWEEN :startDate AND :endDate ORDER BY n.publishedDateTime DESC, n.newsId DESC")
+    Page<News> findByPublishedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                       @Param("endDate") LocalDateTime endDate,
                                        Pageable pageable);
 
-    // 특정 기간 내 뉴스 조회 (List 반환) - String 비교로 변경
-    @Query("SELECT n FROM News n WHERE n.publishedAt BETWEEN :startDate AND :endDate ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
-    List<News> findByPublishedAtBetween(@Param("startDate") String startDate,
-                                       @Param("endDate") String endDate);
+    // 특정 기간 내 뉴스 조회 (List 반환)
+    @Query("SELECT n FROM News n WHERE n.publishedDateTime BETWEEN :startDate AND :endDate ORDER BY n.publishedDateTime DESC, n.newsId DESC")
+    List<News> findByPublishedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                       @Param("endDate") LocalDateTime endDate);
 
     // 신뢰도가 높은 뉴스 조회 (최신순)
-    @Query("SELECT n FROM News n WHERE n.trusted = true ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+    @Query("SELECT n FROM News n WHERE n.trusted = true ORDER BY n.publishedDateTime DESC, n.newsId DESC")
     Page<News> findByTrustedTrue(Pageable pageable);
 
     // 특정 언론사 뉴스 조회 (최신순)
-    @Query("SELECT n FROM News n WHERE n.press = :press ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+    @Query("SELECT n FROM News n WHERE n.press = :press ORDER BY n.publishedDateTime DESC, n.newsId DESC")
     Page<News> findByPress(@Param("press") String press, Pageable pageable);
 
     // 카테고리별 뉴스 개수 조회
@@ -71,9 +71,83 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     Page<News> findAll(Pageable pageable);
 
     // 전체 뉴스 조회 (최신순 정렬)
-    @Query("SELECT n FROM News n ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+    @Query("SELECT n FROM News n ORDER BY n.publishedDateTime DESC, n.newsId DESC")
     Page<News> findAllByOrderByPublishedAtDesc(Pageable pageable);
 
+    // 커서(키셋) 페이지네이션: (published_datetime, news_id)보다 오래된 행을 인덱스로 바로 조회 (COUNT 없음)
+    @Query("SELECT n FROM News n WHERE n.publishedDateTime < :publishedAt " +
+           "OR (n.publishedDateTime = :publishedAt AND n.newsId < :newsId) " +
+           "ORDER BY n.publishedDateTime DESC, n.newsId DESC")
+    List<News> findLatestBefore(@Param("publishedAt") LocalDateTime publishedAt,
+                                @Param("newsId") Long newsId,
+                                Pageable pageable);
+
+    // 커서 페이지네이션: 발행일이 없는 행 (정렬상 가장 뒤)
+    @Query("SELECT n FROM News n WHERE n.publishedDateTime IS NULL AND n.newsId < :newsId ORDER BY n.newsId DESC")
+    List<News> findUndatedBefore(@Param("newsId") Long newsId, Pageable pageable);
+
+    @Query("SELECT n FROM News n WHERE n.categoryName = :category AND (n.publishedDateTime < :publishedAt " +
+           "OR (n.publishedDateTime = :publishedAt AND n.newsId < :newsId)) " +
+           "ORDER BY n.publishedDateTime DESC, n.newsId DESC")
+    List<News> findByCategoryBefore(@Param("category") Category category,
+                                    @Param("publishedAt") LocalDateTime publishedAt,
+                                    @Param("newsId") Long newsId,
+                                    Pageable pageable);
+
+    @Query("SELECT n FROM News n WHERE n.categoryName = :category AND n.publishedDateTime IS NULL " +
+           "AND n.newsId < :newsId ORDER BY n.newsId DESC")
+    List<News> findUndatedByCategoryBefore(@Param("category") Category category,
+                                           @Param("newsId") Long newsId,
+                                           Pageable pageable);
+
+    @Query("SELECT n FROM News n WHERE n.press = :press AND (n.publishedDateTime < :publishedAt " +
+           "OR (n.publishedDateTime = :publishedAt AND n.newsId < :newsId)) " +
+           "ORDER BY n.publishedDateTime DESC, n.newsId DESC")
+    List<News> findByPressBefore(@Param("press") String press,
+                                 @Param("publishedAt") LocalDateTime publishedAt,
+                                 @Param("newsId") Long newsId,
+                                 Pageable pageable);
+
+    @Query("SELECT n FROM News n WHERE n.press = :press AND n.publishedDateTime IS NULL " +
+           "AND n.newsId < :newsId ORDER BY n.newsId DESC")
+    List<News> findUndatedByPressBefore(@Param("press") String press,
+                                        @Param("newsId") Long newsId,
+                                        Pageable pageable);
+
+    // 트렌딩 커서 페이지네이션: trusted 구간(true → false)별로 나눠 조회
+    @Query("SELECT n FROM News n WHERE n.trusted = :trusted AND (n.publishedDateTime < :publishedAt " +
+           "OR (n.publishedDateTime = :publishedAt AND n.newsId < :newsId)) " +
+           "ORDER BY n.publishedDateTime DESC, n.newsId DESC")
+    List<News> findByTrustedBefore(@Param("trusted") Boolean trusted,
+                                   @Param("publishedAt") LocalDateTime publishedAt,
+                                   @Param("newsId") Long newsId,
+                                   Pageable pageable);
+
+    @Query("SELECT n FROM News n WHERE n.trusted = :trusted AND n.publishedDateTime IS NULL " +
+           "AND n.newsId < :newsId ORDER BY n.newsId DESC")
+    List<News> findUndatedByTrustedBefore(@Param("trusted") Boolean trusted,
+                                          @Param("newsId") Long newsId,
+                                          Pageable pageable);
+
+    // 트렌딩 키워드 집계용: 본문 없이 필요한 컬럼만 news_id 순으로 조회 [newsId, title, categoryName, publishedDateTime, publishedAt]
+    @Query("SELECT n.newsId, n.title, n.categoryName, n.publishedDateTime, n.publishedAt FROM News n " +
+           "WHERE n.newsId > :newsId ORDER BY n.newsId ASC")
+    List<Object[]> findKeywordSourcesAfter(@Param("newsId") Long newsId, Pageable pageable);
+
+    @Query("SELECT MIN(n.newsId) FROM News n WHERE n.publishedDateTime >= :since")
+    Long findMinNewsIdPublishedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT MAX(n.newsId) FROM News n")
+    Long findMaxNewsId();
+
+    // 검색 인덱스 색인용: news_id 순으로 다음 배치 조회
+    List<News> findByNewsIdGreaterThanOrderByNewsIdAsc(Long newsId, Pageable pageable);
+
+    // 검색 인덱스 증분 색인용: 커서 이후 수정된 뉴스를 (updated_at, news_id) 순으로 다음 배치 조회
+    @Query("SELECT n FROM News n WHERE n.updatedAt > :since OR (n.updatedAt = :since AND n.newsId > :afterId) " +
+           "ORDER BY n.updatedAt ASC, n.newsId ASC")
+    List<News> findUpdatedAfter(@Param("since") LocalDateTime since, @Param("afterId") Long afterId, Pageable pageable);
+
     // 연관뉴스 조회를 위한 메서드들
 
     // oid_aid로 뉴스 조회
@@ -96,10 +170,10 @@ public interface NewsRepository extends JpaRepository<News, Long> {
                                           @Param("excludeNewsId") Long excludeNewsId);
 
     // 특정 기간, 같은 카테고리, 특정 뉴스들 제외
-    @Query("SELECT n FROM News n WHERE n.categoryName = :categoryName AND n.publishedAt BETWEEN :startDate AND :endDate AND n.newsId NOT IN :excludeNewsIds")
+    @Query("SELECT n FROM News n WHERE n.categoryName = :categoryName AND n.publishedDateTime BETWEEN :startDate AND :endDate AND n.newsId NOT IN :excludeNewsIds")
     List<News> findByCategoryNameAndPublishedAtBetweenAndNewsIdNotIn(@Param("categoryName") Category categoryName,
-                                                                     @Param("startDate") String startDate,
-                                                                     @Param("endDate") String endDate,
+                                                                     @Param("startDate") LocalDateTime startDate,
+                                                                     @Param("endDate") LocalDateTime endDate,
                                                                      @Param("excludeNewsIds") List<Long> excludeNewsIds);
 
     // 같은 카테고리, 특정 뉴스들 제외 (페이징)
@@ -110,7 +184,7 @@ public interface NewsRepository extends JpaRepository<News, Long> {
            "n.categoryName IN :categories OR " +
            "n.title LIKE %:keyword% OR " +
            "n.content LIKE %:keyword% " +
-           "ORDER BY n.trusted DESC, STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+           "ORDER BY n.trusted DESC, n.publishedDateTime DESC, n.newsId DESC")
     List<News> findPersonalizedNews(@Param("userId") Long userId,
                                    @Param("categories") List<String> userPreferences,
                                    @Param("keyword") String readingHistory,
@@ -118,12 +192,12 @@ public interface NewsRepository extends JpaRepository<News, Long> {
 
     // 개인화된 뉴스 조회 (카테고리 기반)
     @Query("SELECT n FROM News n WHERE n.categoryName IN :categories " +
-           "ORDER BY n.trusted DESC, STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+           "ORDER BY n.trusted DESC, n.publishedDateTime DESC, n.newsId DESC")
     List<News> findPersonalizedNewsByCategories(@Param("categories") List<Category> categories,
                                                Pageable pageable);
 
     // 카테고리별 신뢰도 높은 뉴스 조회
     @Query("SELECT n FROM News n WHERE n.categoryName = :category AND n.trusted = true " +
-           "ORDER BY STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') DESC")
+           "ORDER BY n.publishedDateTime DESC, n.newsId DESC")
     Page<News> findByCategoryAndTrustedTrue(@Param("category") Category category, Pageable pageable);
 }
\ No newline at end of file
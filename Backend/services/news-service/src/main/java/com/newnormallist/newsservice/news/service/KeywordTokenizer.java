@@ -0,0 +1,147 @@
+package com.newnormallist.newsservice.news.service;
+
+import com.newnormallist.newsservice.news.util.CharAutomaton;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 뉴스 제목/본문용 한국어 키워드 토크나이저 (트렌딩 집계 공용).
+ *
+ * 정규식/split 없이 문자 단위로 한 번 스캔하면서 한글 음절·영문·숫자 연속 구간을 토큰으로 잘라내고,
+ * 길이/숫자/영문/반복 문자 조건은 스캔 중에 계산한다. 불용어(정확 일치)와 의미없는 조합어(부분 일치)는
+ * 미리 만들어 둔 {@link CharAutomaton}으로 원본 문자열 구간을 그대로 검사하므로
+ * 통과한 키워드에 대해서만 String을 만든다. 상태가 없어 여러 스레드에서 공유해도 된다.
+ */
+@Component
+public class KeywordTokenizer {
+
+    // 확장된 불용어 목록 - 의미없는 단어들을 체계적으로 필터링
+    static final Set<String> STOPWORDS = Set.of(
+            // 뉴스 관련 일반 용어
+            "속보", "영상", "단독", "인터뷰", "기자", "사진", "종합", "뉴스", "기사", "외신",
+            "현장", "보도", "취재", "논평", "사설", "칼럼", "특집", "기획", "리포트",
+
+            // 시간 관련
+            "오늘", "내일", "어제", "이번", "지난", "현재", "최근", "곧", "이제",
+            "년", "월", "일", "시", "분", "초", "주", "달", "년도",
+
+            // 일반적인 조사/어미
+            "것", "수", "등", "및", "또는", "그리고", "하지만", "그러나", "따라서",
+            "있다", "없다", "하다", "되다", "이다", "아니다", "같다", "다르다",
+            "위해", "통해", "대해", "관해", "대한", "관련", "위한", "통한",
+
+            // 정부/기관 관련
+            "정부", "대통령", "국회", "한국", "대한민국", "국가", "정부기관", "공공기관",
+            "시청", "구청", "군청", "도청", "청", "부", "처", "원",
+
+            // 일반적인 형용사/부사
+            "최대", "최소", "매우", "정말", "진짜", "완전", "엄청", "너무", "아주",
+            "많이", "조금", "약간", "좀", "더", "가장", "제일", "특히", "특별히",
+
+            // 기타 의미없는 단어들
+            "내용", "정보", "자료", "데이터", "결과", "상황", "문제", "이슈", "사건",
+            "분석", "전망", "동향", "소식", "업데이트", "변화", "발전", "진전",
+            "영향", "효과", "원인", "이유", "목적", "방법", "과정"
+    );
+
+    // 토큰 안에 포함되면 제외하는 의미없는 조합어 패턴
+    static final List<String> MEANINGLESS_PATTERNS = List.of(
+            "영화의", "기사의", "뉴스의", "사진의", "영상의", "내용의", "정보의",
+            "추출할", "분석할", "조사할", "확인할", "검토할", "검증할",
+            "관련된", "대한", "위한", "통한", "통해", "대해", "관해",
+            "있는", "없는", "같은", "다른", "이런", "그런", "저런",
+            "하는", "되는", "이되는"
+    );
+
+    private static final CharAutomaton STOPWORD_TRIE = CharAutomaton.of(STOPWORDS);
+    private static final CharAutomaton MEANINGLESS_MATCHER = CharAutomaton.of(MEANINGLESS_PATTERNS);
+
+    /**
+     * 텍스트에서 유효한 키워드를 등장 순서대로 반환한다.
+     */
+    public List<String> extractKeywords(String text) {
+        List<String> keywords = new ArrayList<>();
+        forEachKeyword(text, keywords::add);
+        return keywords;
+    }
+
+    /**
+     * 텍스트에서 유효한 키워드를 찾을 때마다 sink로 넘긴다 (중간 리스트 없이 바로 집계할 때 사용).
+     *
+     * @return 전달한 키워드 수
+     */
+    public int forEachKeyword(String text, Consumer<String> sink) {
+        if (text == null) {
+            return 0;
+        }
+        int emitted = 0;
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && !isTokenChar(text.charAt(i))) {
+                i++;
+            }
+            if (i >= length) {
+                break;
+            }
+
+            int start = i;
+            char first = text.charAt(i);
+            boolean allDigits = true;
+            boolean allAsciiLetters = true;
+            boolean allSame = true;
+            for (; i < length; i++) {
+                char c = text.charAt(i);
+                if (!isTokenChar(c)) {
+                    break;
+                }
+                boolean digit = c <= '9' && c >= '0';
+                allDigits &= digit;
+                allAsciiLetters &= !digit && c < 0x80;
+                allSame &= c == first;
+            }
+
+            if (isValidKeyword(text, start, i, allDigits, allAsciiLetters, allSame)) {
+                sink.accept(text.substring(start, i));
+                emitted++;
+            }
+        }
+        return emitted;
+    }
+
+    private boolean isValidKeyword(String text, int start, int end,
+                                   boolean allDigits, boolean allAsciiLetters, boolean allSame) {
+        int length = end - start;
+        if (length < 2) {
+            return false;
+        }
+        // 숫자만으로 구성된 단어 (연도, 날짜 등)
+        if (allDigits) {
+            return false;
+        }
+        // 너무 짧은 영문 단어 (2글자 이하)
+        if (allAsciiLetters && length <= 2) {
+            return false;
+        }
+        // 같은 문자 3회 이상 반복 (예: "하하하", "aaa")
+        if (allSame && length >= 3) {
+            return false;
+        }
+        if (STOPWORD_TRIE.matchesExactly(text, start, end)) {
+            return false;
+        }
+        return !MEANINGLESS_MATCHER.containsAny(text, start, end);
+    }
+
+    // 한글 음절, ASCII 영문/숫자만 토큰 문자로 취급 (그 외는 모두 구분자)
+    private static boolean isTokenChar(char c) {
+        if (c < 0x80) {
+            return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+        }
+        return c >= '가' && c <= '힣';
+    }
+}
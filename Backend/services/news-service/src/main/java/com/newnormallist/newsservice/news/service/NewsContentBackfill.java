@@ -0,0 +1,167 @@
+package com.newnormallist.newsservice.news.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 기존 기사 본문 사전 계산 백필 (관리자 실행).
+ *
+ * 1. seed: news_content 행이 없는 기존 기사에 원본 본문으로 행을 만든다 (news_id 구간 단위)
+ * 2. process: 처리 대기 행이 없어질 때까지 {@link NewsContentPrecomputeJob}을 묶음 단위로 반복 실행
+ *
+ * 진행 상황은 {@link #getStatus()}와 로그로 확인한다. 처리한 행은 만들 때의 툴팁 사전 버전이 함께 저장되므로
+ * 사전이 갱신되면 사전 계산 작업이 다시 계산한다. 툴팁 서비스가 계속 거절하면(거절된 행은 재시도 시각까지 미뤄짐)
+ * max-idle-rounds번 재시도 후 멈추고, 남은 행은 스케줄 실행이 이어서 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsContentBackfill {
+
+    private static final String SEED_SQL =
+            "INSERT IGNORE INTO news_content (news_id, content_html, created_at, updated_at) " +
+            "SELECT n.news_id, n.content, ?, ? FROM news n " +
+            "WHERE n.news_id > ? AND n.news_id <= ? " +
+            "AND NOT EXISTS (SELECT 1 FROM news_content c WHERE c.news_id = n.news_id)";
+
+    private static final String MAX_NEWS_ID_SQL = "SELECT COALESCE(MAX(news_id), 0) FROM news";
+
+    private static final String PENDING_COUNT_SQL = "SELECT COUNT(*) FROM news_content WHERE processed_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NewsContentPrecomputeJob precomputeJob;
+
+    @Value("${news.content-backfill.seed-range:5000}")
+    private int seedRange;
+
+    @Value("${news.content-backfill.max-idle-rounds:5}")
+    private int maxIdleRounds;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "news-content-backfill");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile String phase = "idle";
+    private volatile long maxNewsId;
+    private volatile long seedCursor;
+    private volatile long seeded;
+    private volatile long pendingAtStart;
+    private volatile long processed;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String lastError;
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return 이미 실행 중이면 false
+     */
+    public boolean startAsync() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.submit(() -> {
+            try {
+                run();
+            } catch (Exception e) {
+                lastError = e.getMessage();
+                log.error("기사 본문 백필 실패", e);
+            } finally {
+                phase = "idle";
+                finishedAt = LocalDateTime.now();
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    private void run() throws InterruptedException {
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+        lastError = null;
+        seeded = 0;
+        processed = 0;
+
+        phase = "seed";
+        maxNewsId = jdbcTemplate.queryForObject(MAX_NEWS_ID_SQL, Long.class);
+        for (seedCursor = 0; seedCursor < maxNewsId; ) {
+            long to = Math.min(maxNewsId, seedCursor + seedRange);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            seeded += jdbcTemplate.update(SEED_SQL, now, now, seedCursor, to);
+            seedCursor = to;
+        }
+        log.info("기사 본문 백필 행 생성 완료: {}건 (newsId ~{})", seeded, maxNewsId);
+
+        phase = "process";
+        pendingAtStart = pendingCount();
+        long processStartedAt = System.currentTimeMillis();
+        int idleRounds = 0;
+        while (idleRounds < maxIdleRounds) {
+            OptionalInt result = precomputeJob.precomputeBatch();
+            if (result.isEmpty()) {
+                // 스케줄 실행이 처리 중이면 끝날 때까지 기다렸다가 이어서 (유휴로 세지 않음)
+                continue;
+            }
+            int done = result.getAsInt();
+            if (done > 0) {
+                processed += done;
+                idleRounds = 0;
+                double perSec = processed * 1000.0 / Math.max(1, System.currentTimeMillis() - processStartedAt);
+                log.info("기사 본문 백필 진행: {}/{} ({}건/초)", processed, pendingAtStart, String.format("%.1f", perSec));
+                continue;
+            }
+            if (pendingCount() == 0) {
+                break;
+            }
+            // 툴팁 서비스가 모두 거절한 경우 점점 길게 쉬었다가 재시도
+            idleRounds++;
+            Thread.sleep(1000L * idleRounds);
+        }
+        long remaining = pendingCount();
+        if (remaining > 0) {
+            lastError = "처리 대기 " + remaining + "건 남음 (스케줄 실행에서 이어서 처리)";
+        }
+        log.info("기사 본문 백필 종료: 생성 {}건, 처리 {}건, 남은 대기 {}건", seeded, processed, remaining);
+    }
+
+    private long pendingCount() {
+        Long count = jdbcTemplate.queryForObject(PENDING_COUNT_SQL, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", running.get());
+        status.put("phase", phase);
+        status.put("maxNewsId", maxNewsId);
+        status.put("seedCursor", seedCursor);
+        status.put("seeded", seeded);
+        status.put("pendingAtStart", pendingAtStart);
+        status.put("processed", processed);
+        status.put("progress", pendingAtStart > 0 ? Math.min(1.0, (double) processed / pendingAtStart) : 0.0);
+        status.put("startedAt", startedAt);
+        status.put("finishedAt", finishedAt);
+        status.put("lastError", lastError);
+        return status;
+    }
+}
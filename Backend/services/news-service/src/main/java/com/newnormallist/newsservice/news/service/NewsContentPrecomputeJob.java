@@ -0,0 +1,239 @@
+package com.newnormallist.newsservice.news.service;
+
+import com.newnormallist.newsservice.tooltip.client.TooltipBatchClient;
+import com.newnormallist.newsservice.tooltip.client.TooltipDictionaryVersion;
+import com.newnormallist.newsservice.tooltip.client.TooltipServiceClient;
+import com.newnormallist.newsservice.tooltip.dto.BatchProcessResult;
+import com.newnormallist.newsservice.tooltip.dto.ProcessContentRequest;
+import com.newnormallist.newsservice.tooltip.dto.ProcessContentResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 신규 적재 기사의 툴팁 마크업 사전 계산.
+ *
+ * 크롤러가 news_content에 정리된 본문을 넣으면 아직 처리하지 않은 행(processed_at IS NULL)을
+ * news_id 순으로 가져와 툴팁 서비스를 호출하고, 결과 마크업을 만들 때 쓴 사전 버전과 함께 저장한다.
+ * 상세 조회는 저장된 버전이 툴팁 서비스의 현재 버전과 같을 때만 마크업을 그대로 내려주므로
+ * 사전이 갱신된 뒤에도 예전 마크업이 나가지 않는다.
+ *
+ * 처리 대기 행이 묶음을 다 채우지 못하면 남은 자리에 사전 버전이 바뀐 행을 최신 기사부터 채워 다시 계산한다.
+ * 바뀐 버전의 행을 다 돌면 다음 버전 변경 전까지는 다시 찾지 않는다.
+ *
+ * 툴팁 서비스는 묶음 단위 일괄 API로 호출하고, 결과가 스트림으로 오는 대로 한 건씩 저장한다.
+ * 일괄 호출이 실패하면 남은 기사는 기존처럼 단건으로 호출한다.
+ *
+ * 툴팁 서비스가 본문을 바꾸지 않고 돌려준 경우(용어 없음)에는 tooltip_html을 비워 두고 버전만 기록한다.
+ * 장애 시 폴백처럼 버전 없이 원본이 온 경우에는 버전도 비워 두어 조회 시 실시간으로 처리한다.
+ * 분석기 포화로 거절된 기사는 거절 횟수(attempts)를 올리고 next_attempt_at까지 미뤄 두었다가
+ * 다시 보낸다 (대기 시간은 거절될 때마다 두 배, 최대 retry-max-delay-seconds).
+ * 계속 거절되는 기사가 같은 묶음 자리를 차지해 뒤쪽 기사를 막지 않도록 하기 위함이고,
+ * max-attempts번 거절되면 사전 계산을 포기하고 조회 시 실시간으로 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsContentPrecomputeJob {
+
+    private static final String PENDING_SQL =
+            "SELECT c.news_id, c.content_html, c.attempts FROM news_content c " +
+            "JOIN news n ON n.news_id = c.news_id " +
+            "WHERE c.processed_at IS NULL AND (c.next_attempt_at IS NULL OR c.next_attempt_at <= ?) " +
+            "ORDER BY c.news_id LIMIT ?";
+
+    // 예전 사전으로 만든 마크업 (최근 기사부터)
+    private static final String STALE_SQL =
+            "SELECT c.news_id, c.content_html, c.attempts FROM news_content c " +
+            "JOIN news n ON n.news_id = c.news_id " +
+            "WHERE c.processed_at IS NOT NULL AND c.tooltip_version <> ? " +
+            "AND (c.next_attempt_at IS NULL OR c.next_attempt_at <= ?) ORDER BY c.news_id DESC LIMIT ?";
+
+    private static final RowMapper<PendingContent> PENDING_ROW_MAPPER =
+            (rs, rowNum) -> new PendingContent(rs.getLong(1), rs.getString(2), rs.getInt(3));
+
+    private static final String UPDATE_SQL =
+            "UPDATE news_content SET tooltip_html = ?, tooltip_version = ?, processed_at = ?, updated_at = ?, " +
+            "attempts = 0, next_attempt_at = NULL WHERE news_id = ?";
+
+    private static final String DEFER_SQL =
+            "UPDATE news_content SET attempts = attempts + 1, next_attempt_at = ?, updated_at = ? WHERE news_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TooltipServiceClient tooltipServiceClient;
+    private final TooltipBatchClient tooltipBatchClient;
+    private final TooltipDictionaryVersion tooltipDictionaryVersion;
+
+    // 스케줄 실행과 백필이 같은 행을 동시에 처리하지 않도록
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Value("${news.content-precompute.enabled:true}")
+    private boolean enabled;
+
+    @Value("${news.content-precompute.batch-size:100}")
+    private int batchSize;
+
+    // 거절된 기사를 다시 보내기까지의 첫 대기 시간 (거절될 때마다 두 배)
+    @Value("${news.content-precompute.retry-base-delay-seconds:30}")
+    private long retryBaseDelaySeconds;
+
+    @Value("${news.content-precompute.retry-max-delay-seconds:3600}")
+    private long retryMaxDelaySeconds;
+
+    // 이 횟수만큼 거절되면 사전 계산을 포기 (조회 시 실시간 처리)
+    @Value("${news.content-precompute.max-attempts:8}")
+    private int maxAttempts;
+
+    // 관리자/백필 실행이 스케줄 실행이 끝나기를 기다리는 최대 시간
+    @Value("${news.content-precompute.lock-wait-ms:5000}")
+    private long lockWaitMs;
+
+    // 예전 버전 행을 다 다시 계산한 사전 버전 (같은 버전이면 다시 찾지 않음)
+    private volatile String staleDrainedVersion;
+
+    @Scheduled(fixedDelayString = "${news.content-precompute.interval-ms:30000}", initialDelay = 20000)
+    public void precompute() {
+        if (!enabled || !lock.tryLock()) {
+            return;
+        }
+        try {
+            processPending();
+        } catch (Exception e) {
+            log.error("기사 본문 사전 계산 실패", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 처리 대기 행을 한 묶음(batch-size) 처리한다.
+     * 다른 실행이 진행 중이면 lock-wait-ms까지만 기다리고 포기한다 (요청 스레드를 오래 붙잡지 않도록).
+     *
+     * @return 처리 완료로 표시한 행 수 (거절되어 대기로 남은 행은 제외). 다른 실행이 진행 중이면 empty
+     */
+    public OptionalInt precomputeBatch() throws InterruptedException {
+        if (!lock.tryLock(lockWaitMs, TimeUnit.MILLISECONDS)) {
+            return OptionalInt.empty();
+        }
+        try {
+            return OptionalInt.of(processPending());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int processPending() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<PendingContent> pending = new ArrayList<>(jdbcTemplate.query(PENDING_SQL, PENDING_ROW_MAPPER, now, batchSize));
+        String version = tooltipDictionaryVersion.current();
+        if (pending.size() < batchSize && version != null && !version.equals(staleDrainedVersion)) {
+            int limit = batchSize - pending.size();
+            List<PendingContent> stale = jdbcTemplate.query(STALE_SQL, PENDING_ROW_MAPPER, version, now, limit);
+            if (stale.size() < limit) {
+                staleDrainedVersion = version;
+            }
+            pending.addAll(stale);
+        }
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        Map<Long, PendingContent> remaining = new LinkedHashMap<>();
+        int[] counts = new int[3]; // 완료, 툴팁 있음, 거절
+        for (PendingContent content : pending) {
+            if (content.contentHtml() == null || content.contentHtml().isBlank()) {
+                save(content, null, version, counts);
+            } else {
+                remaining.put(content.newsId(), content);
+            }
+        }
+
+        if (!remaining.isEmpty()) {
+            List<ProcessContentRequest> requests = remaining.values().stream()
+                    .map(content -> new ProcessContentRequest(content.newsId(), content.contentHtml()))
+                    .toList();
+            tooltipBatchClient.processBatch(requests, result -> {
+                PendingContent content = remaining.remove(result.newsId());
+                if (content == null) {
+                    return;
+                }
+                if (BatchProcessResult.SHED.equals(result.status())) {
+                    defer(content, counts);
+                    return;
+                }
+                String resultVersion = BatchProcessResult.PROCESSED.equals(result.status()) ? result.dictionaryVersion() : null;
+                save(content, changedContent(content, result.processedContent(), resultVersion), resultVersion, counts);
+            });
+            // 일괄 호출 실패/중단으로 결과를 못 받은 기사는 단건 호출
+            remaining.values().forEach(content -> processTooltip(content, counts));
+        }
+        if (counts[2] > 0) {
+            // 거절된 행 중 예전 버전 행이 있을 수 있으므로 다음 회차에 다시 찾음
+            staleDrainedVersion = null;
+        }
+
+        log.info("기사 본문 사전 계산 완료: processed={}, withTooltip={}, shed={}, version={}, newsId={}~{}, elapsedMs={}",
+                counts[0], counts[1], counts[2], version, pending.get(0).newsId(), pending.get(pending.size() - 1).newsId(),
+                System.currentTimeMillis() - startedAt);
+        return counts[0];
+    }
+
+    private void save(PendingContent content, String tooltipHtml, String tooltipVersion, int[] counts) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(UPDATE_SQL, tooltipHtml, tooltipVersion, now, now, content.newsId());
+        counts[0]++;
+        if (tooltipHtml != null) {
+            counts[1]++;
+        }
+    }
+
+    // 거절된 기사는 다음 시도 시각을 미룸 (max-attempts번째 거절이면 사전 계산 포기)
+    private void defer(PendingContent content, int[] counts) {
+        int attempts = content.attempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.warn("⚠️ 뉴스 ID {} 툴팁 사전 계산 {}회 거절, 조회 시 실시간 처리로 넘김", content.newsId(), attempts);
+            save(content, null, null, counts);
+            return;
+        }
+        counts[2]++;
+        long delaySeconds = Math.min(retryMaxDelaySeconds, retryBaseDelaySeconds << Math.min(attempts - 1, 20));
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(DEFER_SQL, Timestamp.valueOf(now.plusSeconds(delaySeconds)), Timestamp.valueOf(now),
+                content.newsId());
+    }
+
+    // 툴팁 서비스가 본문을 바꾸지 않았거나 사전 버전 없이(폴백) 돌려줬으면 null
+    private static String changedContent(PendingContent content, String processed, String dictionaryVersion) {
+        return dictionaryVersion != null && processed != null && !processed.equals(content.contentHtml()) ? processed : null;
+    }
+
+    private void processTooltip(PendingContent content, int[] counts) {
+        String processed = null;
+        String dictionaryVersion = null;
+        try {
+            ProcessContentResponse response = tooltipServiceClient.processContent(
+                    new ProcessContentRequest(content.newsId(), content.contentHtml()));
+            if (response != null) {
+                processed = response.processedContent();
+                dictionaryVersion = response.dictionaryVersion();
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 뉴스 ID {} 툴팁 사전 계산 실패: {}", content.newsId(), e.getMessage());
+        }
+        save(content, changedContent(content, processed, dictionaryVersion), dictionaryVersion, counts);
+    }
+
+    private record PendingContent(long newsId, String contentHtml, int attempts) {
+    }
+}
@@ -14,7 +14,7 @@ public class NewsImageService {
         private final TrendingService trendingService;
 
         public String getPersonalizedSectionImage() {
-            return newsRepository.findTop1ByImageUrlIsNotNullOrderByPublishedAtDesc()
+            return newsRepository.findTop1ByImageUrlIsNotNullOrderByPublishedDateTimeDesc()
                     .map(News::getImageUrl)
                     .orElse(getDefaultPersonalizedImage());
         }
@@ -36,7 +36,7 @@ public class NewsImageService {
         }
 
         public String getLatestNewsImage() {
-            return newsRepository.findTop1ByImageUrlIsNotNullOrderByPublishedAtDesc()
+            return newsRepository.findTop1ByImageUrlIsNotNullOrderByPublishedDateTimeDesc()
                     .map(News::getImageUrl)
                     .orElse(getDefaultPersonalizedImage());
         }
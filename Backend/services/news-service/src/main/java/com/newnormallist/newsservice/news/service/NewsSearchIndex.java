@@ -0,0 +1,545 @@
+package com.newnormallist.newsservice.news.service;
+
+import com.newnormallist.newsservice.news.entity.Category;
+import com.newnormallist.newsservice.news.entity.News;
+import com.newnormallist.newsservice.news.entity.PublishedAtParser;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.WildcardQuery;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * news 테이블 기반 Lucene 역색인 (Nori 한국어 형태소 분석기 + CJK bigram 보조 필드).
+ *
+ * - 최초 기동 시 인덱스가 비어 있거나 이전 형식이면 전체 재색인
+ * - 크롤러가 적재한 신규 행은 news_id 증가분, 수정/숨김 처리된 행은 (updated_at, news_id) 커서로 주기적으로 폴링해 증분 색인
+ * - DB에서 삭제된 뉴스는 검색 결과를 DB에서 불러올 때 발견되면 {@link #delete(Collection)}로 제거
+ * - 카테고리/언론사/기간 필터와 정렬을 인덱스 쿼리에서 처리하고 정확한 전체 건수를 반환
+ * - 기간 필터와 날짜 정렬은 기존 LIKE 검색과 같이 created_at 기준, 정렬 방향 기본값도 기존과 같이 오름차순
+ *   (정렬 기준이 없을 때만 기존 LIKE 쿼리 순서인 발행일 내림차순)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsSearchIndex {
+
+    private static final String F_ID = "id";
+    private static final String F_NEWS_ID = "newsId";
+    private static final String F_TITLE = "title";
+    private static final String F_CONTENT = "content";
+    private static final String F_TITLE_BIGRAM = "titleBigram";
+    private static final String F_CONTENT_BIGRAM = "contentBigram";
+    private static final String F_CATEGORY = "category";
+    private static final String F_PRESS = "press";
+    private static final String F_PUBLISHED_AT = "publishedAt";
+    private static final String F_CREATED_AT = "createdAt";
+    private static final String F_TITLE_SORT = "titleSort";
+    private static final String F_PRESS_SORT = "pressSort";
+
+    private static final String COMMIT_LAST_NEWS_ID = "lastNewsId";
+    private static final String COMMIT_LAST_UPDATED_AT = "lastUpdatedAt";
+    private static final String COMMIT_LAST_UPDATED_ID = "lastUpdatedId";
+    // 재색인 중 수정된 행과 DB/애플리케이션 시계 차이를 다음 증분 색인에서 다시 확인하기 위한 여유
+    private static final long UPDATED_AT_SLACK_SECONDS = 60;
+    private static final int MAX_RESULT_WINDOW = 10_000;
+
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]+>");
+    private static final Pattern WILDCARD_META = Pattern.compile("[*?\\\\]");
+    private static final Pattern HTML_ENTITY = Pattern.compile("&[a-zA-Z#0-9]+;");
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final NewsRepository newsRepository;
+
+    @Value("${news.search.index-path:./data/news-search-index}")
+    private String indexPath;
+
+    @Value("${news.search.batch-size:500}")
+    private int batchSize;
+
+    @Value("${news.search.max-batches-per-sync:20}")
+    private int maxBatchesPerSync;
+
+    // 형태소 필드는 Nori, 보조 필드는 CJK bigram (Nori가 복합명사를 잘게 쪼갤 때 LIKE와 같은 부분 일치를 보완)
+    private final Analyzer analyzer = new PerFieldAnalyzerWrapper(new KoreanAnalyzer(), Map.of(
+            F_TITLE_BIGRAM, new CJKAnalyzer(),
+            F_CONTENT_BIGRAM, new CJKAnalyzer()));
+    private final ReentrantLock indexLock = new ReentrantLock();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "news-search-rebuild");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private Directory directory;
+    private volatile IndexWriter writer;
+    private volatile SearcherManager searcherManager;
+
+    private volatile long lastIndexedId;
+    private volatile LocalDateTime lastUpdatedAt;
+    private volatile long lastUpdatedId;
+    private volatile boolean ready;
+    private volatile LocalDateTime lastSyncedAt;
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = FSDirectory.open(Path.of(indexPath));
+        openWriter();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        rebuildExecutor.shutdownNow();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!ready) {
+            log.info("검색 인덱스가 비어 있어 전체 재색인을 시작합니다: path={}", indexPath);
+            rebuildAsync();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색 실행. 인덱스가 준비되지 않았거나 검색어가 분석 결과 토큰을 만들지 못하면 empty를 반환한다.
+     * 결과는 정렬된 뉴스 ID 페이지이며, 전체 건수는 필터가 적용된 정확한 값이다.
+     */
+    public Optional<Page<Long>> search(String keyword, Category category, String press,
+                                       LocalDate startDate, LocalDate endDate,
+                                       String sortBy, String sortOrder, Pageable pageable) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        Query keywordQuery = buildKeywordQuery(keyword);
+        if (keywordQuery == null) {
+            return Optional.empty();
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder().add(keywordQuery, Occur.MUST);
+        if (category != null) {
+            query.add(new TermQuery(new Term(F_CATEGORY, category.name())), Occur.FILTER);
+        }
+        if (StringUtils.hasText(press)) {
+            // 기존 필터와 같은 "포함" 매칭 (언론사 term 사전이 작아 wildcard 비용이 낮음)
+            String escaped = WILDCARD_META.matcher(press.trim().toLowerCase(Locale.ROOT)).replaceAll("\\\\$0");
+            query.add(new WildcardQuery(new Term(F_PRESS, "*" + escaped + "*")), Occur.FILTER);
+        }
+        if (startDate != null || endDate != null) {
+            long from = startDate != null ? toEpochMillis(startDate.atStartOfDay()) : Long.MIN_VALUE;
+            long to = endDate != null ? toEpochMillis(endDate.plusDays(1).atStartOfDay()) - 1 : Long.MAX_VALUE;
+            query.add(LongPoint.newRangeQuery(F_CREATED_AT, from, to), Occur.FILTER);
+        }
+        Query finalQuery = query.build();
+
+        int offset = (int) Math.min(pageable.getOffset(), MAX_RESULT_WINDOW);
+        int limit = Math.min(offset + pageable.getPageSize(), MAX_RESULT_WINDOW);
+
+        // 재색인 실패 시 searcherManager가 교체되므로 acquire/release는 같은 인스턴스로 한다
+        SearcherManager manager = searcherManager;
+        IndexSearcher searcher = null;
+        try {
+            searcher = manager.acquire();
+            int total = searcher.count(finalQuery);
+            List<Long> ids = new ArrayList<>(pageable.getPageSize());
+            if (limit > offset && total > offset) {
+                TopDocs topDocs = searcher.search(finalQuery, limit, resolveSort(sortBy, sortOrder));
+                ScoreDoc[] hits = topDocs.scoreDocs;
+                for (int i = offset; i < hits.length; i++) {
+                    ids.add(searcher.storedFields().document(hits[i].doc).getField(F_NEWS_ID).numericValue().longValue());
+                }
+            }
+            return Optional.of(new PageImpl<>(ids, pageable, total));
+        } catch (AlreadyClosedException e) {
+            log.warn("검색 인덱스 교체 중이라 LIKE 검색으로 대체합니다: keyword={}", keyword);
+            return Optional.empty();
+        } catch (IOException e) {
+            log.error("검색 인덱스 조회 실패: keyword={}", keyword, e);
+            return Optional.empty();
+        } finally {
+            releaseQuietly(manager, searcher);
+        }
+    }
+
+    /**
+     * DB에서 삭제된 뉴스를 인덱스에서 제거한다. 증분 색인이나 재색인이 진행 중이면 false (다음 검색에서 다시 시도).
+     */
+    public boolean delete(Collection<Long> newsIds) {
+        if (newsIds.isEmpty() || !ready || !indexLock.tryLock()) {
+            return false;
+        }
+        try {
+            Term[] terms = newsIds.stream()
+                    .map(newsId -> new Term(F_ID, String.valueOf(newsId)))
+                    .toArray(Term[]::new);
+            writer.deleteDocuments(terms);
+            commit(lastIndexedId, lastUpdatedAt, lastUpdatedId);
+            searcherManager.maybeRefreshBlocking();
+            log.info("삭제된 뉴스를 검색 인덱스에서 제거: newsIds={}", newsIds);
+            return true;
+        } catch (IOException e) {
+            log.error("검색 인덱스 삭제 실패: newsIds={}", newsIds, e);
+            return false;
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    /**
+     * 전체 재색인을 백그라운드에서 시작한다. 이미 진행 중이면 false.
+     */
+    public boolean rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        rebuildExecutor.submit(() -> {
+            try {
+                rebuild();
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 신규 적재된 뉴스(news_id > 마지막 색인 ID)와 마지막 커서 이후 수정된 뉴스(updated_at)를 증분 색인한다.
+     */
+    @Scheduled(fixedDelayString = "${news.search.sync-interval-ms:30000}", initialDelayString = "${news.search.sync-interval-ms:30000}")
+    public void syncChanges() {
+        if (!ready || !indexLock.tryLock()) {
+            return;
+        }
+        try {
+            long fromId = lastIndexedId;
+            int added = 0;
+            for (int i = 0; i < maxBatchesPerSync; i++) {
+                List<News> batch = newsRepository.findByNewsIdGreaterThanOrderByNewsIdAsc(fromId, PageRequest.of(0, batchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (News news : batch) {
+                    writer.updateDocument(new Term(F_ID, String.valueOf(news.getNewsId())), toDocument(news));
+                }
+                fromId = batch.get(batch.size() - 1).getNewsId();
+                added += batch.size();
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+
+            LocalDateTime updatedSince = lastUpdatedAt;
+            long updatedAfterId = lastUpdatedId;
+            int updated = 0;
+            for (int i = 0; i < maxBatchesPerSync; i++) {
+                List<News> batch = newsRepository.findUpdatedAfter(updatedSince, updatedAfterId, PageRequest.of(0, batchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (News news : batch) {
+                    writer.updateDocument(new Term(F_ID, String.valueOf(news.getNewsId())), toDocument(news));
+                }
+                News last = batch.get(batch.size() - 1);
+                updatedSince = last.getUpdatedAt();
+                updatedAfterId = last.getNewsId();
+                updated += batch.size();
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+
+            if (added > 0 || updated > 0) {
+                commit(fromId, updatedSince, updatedAfterId);
+                searcherManager.maybeRefresh();
+                log.info("검색 인덱스 증분 색인 완료: added={}, updated={}, lastNewsId={}, lastUpdatedAt={}",
+                        added, updated, fromId, updatedSince);
+            }
+            lastSyncedAt = LocalDateTime.now();
+        } catch (Exception e) {
+            log.error("검색 인덱스 증분 색인 실패: lastNewsId={}, lastUpdatedAt={}", lastIndexedId, lastUpdatedAt, e);
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    public Map<String, Object> getStatus() {
+        int docCount = 0;
+        SearcherManager manager = searcherManager;
+        IndexSearcher searcher = null;
+        try {
+            searcher = manager.acquire();
+            docCount = searcher.getIndexReader().numDocs();
+        } catch (IOException | AlreadyClosedException e) {
+            log.warn("검색 인덱스 상태 조회 실패", e);
+        } finally {
+            releaseQuietly(manager, searcher);
+        }
+        return Map.of(
+                "ready", ready,
+                "rebuilding", rebuilding.get(),
+                "docCount", docCount,
+                "lastIndexedNewsId", lastIndexedId,
+                "lastUpdatedAt", String.valueOf(lastUpdatedAt),
+                "lastSyncedAt", String.valueOf(lastSyncedAt)
+        );
+    }
+
+    private void rebuild() {
+        indexLock.lock();
+        long startedAt = System.currentTimeMillis();
+        // 재색인 도중 수정된 행은 다음 증분 색인에서 다시 반영
+        LocalDateTime updatedSince = LocalDateTime.now().minusSeconds(UPDATED_AT_SLACK_SECONDS);
+        try {
+            writer.deleteAll();
+            long fromId = 0L;
+            int indexed = 0;
+            while (true) {
+                List<News> batch = newsRepository.findByNewsIdGreaterThanOrderByNewsIdAsc(fromId, PageRequest.of(0, batchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (News news : batch) {
+                    writer.addDocument(toDocument(news));
+                }
+                fromId = batch.get(batch.size() - 1).getNewsId();
+                indexed += batch.size();
+            }
+            commit(fromId, updatedSince, 0L);
+            searcherManager.maybeRefreshBlocking();
+            ready = true;
+            lastSyncedAt = LocalDateTime.now();
+            log.info("검색 인덱스 전체 재색인 완료: indexed={}, lastNewsId={}, elapsedMs={}",
+                    indexed, fromId, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("검색 인덱스 전체 재색인 실패, 마지막 커밋 상태로 되돌립니다.", e);
+            // 진행 중인 검색은 이전 searcher를 계속 쓰고, 새 writer/searcherManager로 교체한 뒤에 이전 것을 닫는다
+            SearcherManager previous = searcherManager;
+            try {
+                writer.rollback();
+                openWriter();
+            } catch (IOException reopenError) {
+                log.error("검색 인덱스 재오픈 실패", reopenError);
+                ready = false;
+            } finally {
+                if (previous != searcherManager) {
+                    closeQuietly(previous);
+                }
+            }
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    private void openWriter() throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+
+        Map<String, String> committed = new HashMap<>();
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                committed.put(entry.getKey(), entry.getValue());
+            }
+        }
+        String lastNewsId = committed.get(COMMIT_LAST_NEWS_ID);
+        String updatedAt = committed.get(COMMIT_LAST_UPDATED_AT);
+        lastIndexedId = lastNewsId != null ? Long.parseLong(lastNewsId) : 0L;
+        lastUpdatedAt = updatedAt != null ? LocalDateTime.parse(updatedAt) : null;
+        lastUpdatedId = Long.parseLong(committed.getOrDefault(COMMIT_LAST_UPDATED_ID, "0"));
+        // updated_at 커서가 없는 인덱스는 이전 형식(created_at 필드 없음)이므로 전체 재색인 대상
+        ready = lastNewsId != null && updatedAt != null;
+    }
+
+    private void commit(long lastNewsId, LocalDateTime updatedAt, long updatedId) throws IOException {
+        writer.setLiveCommitData(Map.of(
+                COMMIT_LAST_NEWS_ID, String.valueOf(lastNewsId),
+                COMMIT_LAST_UPDATED_AT, updatedAt.toString(),
+                COMMIT_LAST_UPDATED_ID, String.valueOf(updatedId)).entrySet());
+        writer.commit();
+        lastIndexedId = lastNewsId;
+        lastUpdatedAt = updatedAt;
+        lastUpdatedId = updatedId;
+    }
+
+    private Query buildKeywordQuery(String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return null;
+        }
+        QueryBuilder builder = new QueryBuilder(analyzer);
+        List<Query> titleQueries = new ArrayList<>();
+        List<Query> contentQueries = new ArrayList<>();
+        titleQueries.add(builder.createBooleanQuery(F_TITLE, keyword, Occur.MUST));
+        titleQueries.add(builder.createPhraseQuery(F_TITLE_BIGRAM, keyword));
+        contentQueries.add(builder.createBooleanQuery(F_CONTENT, keyword, Occur.MUST));
+        contentQueries.add(builder.createPhraseQuery(F_CONTENT_BIGRAM, keyword));
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        int clauses = 0;
+        for (Query titleQuery : titleQueries) {
+            if (titleQuery != null) {
+                query.add(new BoostQuery(titleQuery, 2.0f), Occur.SHOULD);
+                clauses++;
+            }
+        }
+        for (Query contentQuery : contentQueries) {
+            if (contentQuery != null) {
+                query.add(contentQuery, Occur.SHOULD);
+                clauses++;
+            }
+        }
+        if (clauses == 0) {
+            return null;
+        }
+        return query.setMinimumNumberShouldMatch(1).build();
+    }
+
+    // 기존 LIKE 검색과 같은 규칙: 정렬 기준이 있으면 "desc"가 아닌 한 오름차순이고 날짜는 created_at 기준,
+    // 정렬 기준이 없거나 인덱스에 없는 값(views 등)이면 LIKE 쿼리 순서인 발행일 내림차순
+    private Sort resolveSort(String sortBy, String sortOrder) {
+        boolean desc = "desc".equalsIgnoreCase(sortOrder);
+        SortField tieBreaker = new SortField(F_NEWS_ID, SortField.Type.LONG, true);
+        String key = sortBy == null ? "" : sortBy.toLowerCase(Locale.ROOT);
+        return switch (key) {
+            case "relevance" -> new Sort(SortField.FIELD_SCORE, tieBreaker);
+            case "title" -> new Sort(new SortField(F_TITLE_SORT, SortField.Type.STRING, desc), tieBreaker);
+            case "press" -> new Sort(new SortField(F_PRESS_SORT, SortField.Type.STRING, desc), tieBreaker);
+            case "date", "publishedat" -> new Sort(new SortField(F_CREATED_AT, SortField.Type.LONG, desc), tieBreaker);
+            default -> new Sort(new SortField(F_PUBLISHED_AT, SortField.Type.LONG, true), tieBreaker);
+        };
+    }
+
+    private Document toDocument(News news) {
+        Document doc = new Document();
+        doc.add(new StringField(F_ID, String.valueOf(news.getNewsId()), Field.Store.NO));
+        doc.add(new StoredField(F_NEWS_ID, news.getNewsId()));
+        doc.add(new NumericDocValuesField(F_NEWS_ID, news.getNewsId()));
+
+        String title = news.getTitle() != null ? news.getTitle() : "";
+        doc.add(new TextField(F_TITLE, title, Field.Store.NO));
+        doc.add(new TextField(F_TITLE_BIGRAM, title, Field.Store.NO));
+        doc.add(new SortedDocValuesField(F_TITLE_SORT, new BytesRef(title)));
+        String content = stripHtml(news.getContent());
+        doc.add(new TextField(F_CONTENT, content, Field.Store.NO));
+        doc.add(new TextField(F_CONTENT_BIGRAM, content, Field.Store.NO));
+
+        if (news.getCategoryName() != null) {
+            doc.add(new StringField(F_CATEGORY, news.getCategoryName().name(), Field.Store.NO));
+        }
+        String press = news.getPress() != null ? news.getPress().trim() : "";
+        doc.add(new StringField(F_PRESS, press.toLowerCase(Locale.ROOT), Field.Store.NO));
+        doc.add(new SortedDocValuesField(F_PRESS_SORT, new BytesRef(press)));
+
+        LocalDateTime publishedDateTime = news.getPublishedDateTime() != null
+                ? news.getPublishedDateTime() : PublishedAtParser.parse(news.getPublishedAt());
+        long publishedAt = publishedDateTime != null ? toEpochMillis(publishedDateTime) : 0L;
+        doc.add(new LongPoint(F_PUBLISHED_AT, publishedAt));
+        doc.add(new NumericDocValuesField(F_PUBLISHED_AT, publishedAt));
+
+        long createdAt = news.getCreatedAt() != null ? toEpochMillis(news.getCreatedAt()) : 0L;
+        doc.add(new LongPoint(F_CREATED_AT, createdAt));
+        doc.add(new NumericDocValuesField(F_CREATED_AT, createdAt));
+        return doc;
+    }
+
+    private String stripHtml(String content) {
+        if (content == null || content.isEmpty()) {
+            return "";
+        }
+        String text = HTML_TAG.matcher(content).replaceAll(" ");
+        return HTML_ENTITY.matcher(text).replaceAll(" ");
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private void releaseQuietly(SearcherManager manager, IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            manager.release(searcher);
+        } catch (IOException e) {
+            log.warn("검색 인덱스 searcher 반환 실패", e);
+        }
+    }
+
+    private void closeQuietly(SearcherManager manager) {
+        try {
+            manager.close();
+        } catch (IOException e) {
+            log.warn("이전 검색 인덱스 searcher 닫기 실패", e);
+        }
+    }
+}
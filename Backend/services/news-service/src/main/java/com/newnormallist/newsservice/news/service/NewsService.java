@@ -1,6 +1,7 @@
 package com.newnormallist.newsservice.news.service;
 
 import com.newnormallist.newsservice.news.dto.CategoryDto;
+import com.newnormallist.newsservice.news.dto.CursorPageResponse;
 import com.newnormallist.newsservice.news.dto.KeywordSubscriptionDto;
 import com.newnormallist.newsservice.news.dto.NewsCrawlDto;
 import com.newnormallist.newsservice.news.dto.NewsListResponse;
@@ -47,6 +48,12 @@ public interface NewsService {
 
     // 새로 추가된 메서드들
     Page<NewsListResponse> getNewsByPress(String press, Pageable pageable);
+
+    // 커서(키셋) 기반 목록 조회 - COUNT 없이 다음 페이지 커서만 반환
+    CursorPageResponse<NewsListResponse> getLatestNewsByCursor(String cursor, int size);
+    CursorPageResponse<NewsListResponse> getNewsByCategoryByCursor(Category category, String cursor, int size);
+    CursorPageResponse<NewsListResponse> getNewsByPressByCursor(String press, String cursor, int size);
+    CursorPageResponse<NewsListResponse> getTrendingNewsByCursor(String cursor, int size);
     List<NewsListResponse> getNewsByDateRange(LocalDateTime startDate, LocalDateTime endDate);
     Long getNewsCount();
     Long getNewsCountByCategory(Category category);
@@ -65,7 +72,7 @@ public interface NewsService {
     // 트렌딩 키워드 관련 메서드들
     List<TrendingKeywordDto> getTrendingKeywords(int limit);
     List<TrendingKeywordDto> getPopularKeywords(int limit);
-    List<TrendingKeywordDto> getTrendingKeywordsByCategory(Category category, int limit);
+    List<TrendingKeywordDto> getTrendingKeywordsByCategory(Category category, int hours, int limit);
 
     // 신고 및 스크랩
     void reportNews(Long newsId, Long userId);
@@ -4,14 +4,17 @@ import com.newnormallist.newsservice.news.dto.*;
 import com.newnormallist.newsservice.news.entity.*;
 import com.newnormallist.newsservice.news.exception.*;
 import com.newnormallist.newsservice.news.repository.*;
+import com.newnormallist.newsservice.tooltip.client.TooltipDictionaryVersion;
 import com.newnormallist.newsservice.tooltip.client.TooltipServiceClient;
 import com.newnormallist.newsservice.tooltip.dto.*;
 import com.newnormallist.newsservice.news.client.UserServiceClient;
+import com.newnormallist.newsservice.recommendation.service.VectorRefreshService;
 import com.newnormallist.newsservice.news.client.dto.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.util.StringUtils;
@@ -26,6 +29,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class NewsServiceImpl implements NewsService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     @Autowired
     private NewsCrawlRepository newsCrawlRepository;
 
@@ -37,12 +42,25 @@ public class NewsServiceImpl implements NewsService {
 
     @Autowired
     private TooltipServiceClient tooltipServiceClient;
+
+    @Autowired
+    private NewsContentRepository newsContentRepository;
+
+    @Autowired
+    private TooltipDictionaryVersion tooltipDictionaryVersion;
     
     @Autowired
     private RedisTemplate<String, String> redisTemplate;
-    
-    // 비동기 처리를 위한 Executor (커넥션 풀과 균형 맞춤)
-    private final Executor asyncExecutor = Executors.newFixedThreadPool(3); // 5 → 3으로 감소
+
+    // 조회수 DB 반영은 write-behind 집계기가 주기적으로 일괄 처리
+    @Autowired
+    private ViewCountAggregator viewCountAggregator;
+
+    @Autowired
+    private NewsSearchIndex newsSearchIndex;
+
+    @Autowired
+    private TrendingService trendingService;
 
     @Autowired
     private KeywordSubscriptionRepository keywordSubscriptionRepository;
@@ -56,6 +74,10 @@ public class NewsServiceImpl implements NewsService {
     @Autowired
     private NewsComplaintRepository newsComplaintRepository;
 
+    // 스크랩 시 추천 벡터 갱신 예약
+    @Autowired
+    private VectorRefreshService vectorRefreshService;
+
 
 
     // 크롤링 관련 메서드들
@@ -121,10 +143,19 @@ public class NewsServiceImpl implements NewsService {
         }
 
         // ----- 툴팁 기능을 위한 코드 시작 -----
-        // 툴팁 서비스를 호출하여 마크업된 본문 가져오기
-        String processedContent = getProcessedContent(newsId, news.getContent());
+        // 적재 시 미리 만들어 둔 툴팁 마크업이 현재 사전 버전으로 만든 것이면 그대로 사용하고
+        // (tooltip_html이 비어 있으면 바꿀 단어가 없었던 것이므로 정리된 본문),
+        // 아니면 정리된 본문(없으면 원본)으로 툴팁 서비스를 호출
+        NewsContent stored = newsContentRepository.findById(newsId).orElse(null);
+        String content = stored != null && stored.getContentHtml() != null ? stored.getContentHtml() : news.getContent();
+        String processedContent;
+        if (stored != null && tooltipDictionaryVersion.isCurrent(stored.getTooltipVersion())) {
+            processedContent = stored.getTooltipHtml() != null ? stored.getTooltipHtml() : content;
+        } else {
+            processedContent = getProcessedContent(newsId, content);
+        }
 
-        return convertToNewsResponseWithTooltip(news, processedContent);
+        return convertToNewsResponseWithTooltip(news, processedContent, stored != null ? stored.getSummary() : null);
     }
 
     /**
@@ -147,11 +178,12 @@ public class NewsServiceImpl implements NewsService {
     /**
      * 툴팁이 적용된 NewsResponse 생성
      */
-    private NewsResponse convertToNewsResponseWithTooltip(News news, String processedContent) {
+    private NewsResponse convertToNewsResponseWithTooltip(News news, String processedContent, String summary) {
         return NewsResponse.builder()
                 .newsId(news.getNewsId())
                 .title(news.getTitle())
                 .content(processedContent) 
+                .summary(summary)
                 .press(news.getPress())
                 .link(news.getLink())
                 .publishedAt(parsePublishedAt(news.getPublishedAt()))
@@ -243,7 +275,7 @@ public class NewsServiceImpl implements NewsService {
     }
 
     @Override
-    @Transactional(readOnly = false)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void incrementViewCount(Long newsId) {
         try {
             String key = "news:viewcount:" + newsId;
@@ -256,8 +288,8 @@ public class NewsServiceImpl implements NewsService {
             // 일일 조회수는 자정에 만료
             redisTemplate.expire(dailyKey, Duration.ofDays(1));
             
-            // 비동기로 DB 업데이트 (배치 처리)
-            CompletableFuture.runAsync(() -> updateViewCountInDB(newsId), asyncExecutor);
+            // DB 반영은 집계기에 증분만 기록 (주기적 배치 UPDATE)
+            viewCountAggregator.record(newsId);
             
             log.debug("뉴스 조회수 증가: newsId={}", newsId);
             
@@ -323,6 +355,64 @@ public class NewsServiceImpl implements NewsService {
     public Page<NewsListResponse> searchNewsWithFilters(String query, String sortBy, String sortOrder,
             String category, String press, String startDate,
             String endDate, Pageable pageable) {
+        // 카테고리/언론사/기간/정렬을 검색 인덱스 쿼리에서 처리 (전체 건수와 페이징이 정확함)
+        Category categoryEnum = null;
+        if (category != null && !category.isEmpty()) {
+            categoryEnum = stringToCategory(category);
+            if (categoryEnum == null) {
+                return Page.empty(pageable);
+            }
+        }
+        LocalDate start = parseSearchDate(startDate);
+        LocalDate end = parseSearchDate(endDate);
+        Optional<Page<Long>> hits = newsSearchIndex.search(query, categoryEnum, press, start, end, sortBy, sortOrder, pageable);
+        if (hits.isPresent()) {
+            Page<Long> idPage = hits.get();
+            Map<Long, News> newsById = findNewsById(idPage.getContent());
+            List<Long> missingIds = idPage.getContent().stream()
+                    .filter(newsId -> !newsById.containsKey(newsId))
+                    .collect(Collectors.toList());
+            // DB에서 삭제된 뉴스가 인덱스에 남아 있으면 제거하고 다시 검색 (전체 건수와 페이지 크기 보정)
+            if (!missingIds.isEmpty() && newsSearchIndex.delete(missingIds)) {
+                Optional<Page<Long>> retried = newsSearchIndex.search(query, categoryEnum, press, start, end, sortBy, sortOrder, pageable);
+                if (retried.isPresent()) {
+                    idPage = retried.get();
+                    newsById.putAll(findNewsById(idPage.getContent()));
+                }
+            }
+            List<NewsListResponse> content = idPage.getContent().stream()
+                    .map(newsById::get)
+                    .filter(Objects::nonNull)
+                    .map(this::convertToNewsListResponse)
+                    .collect(Collectors.toList());
+            return new PageImpl<>(content, pageable, idPage.getTotalElements());
+        }
+
+        // 인덱스 준비 전에는 기존 LIKE 검색으로 폴백
+        return searchNewsWithFiltersByLike(query, sortBy, sortOrder, category, press, startDate, endDate, pageable);
+    }
+
+    private Map<Long, News> findNewsById(List<Long> newsIds) {
+        return newsRepository.findAllById(newsIds).stream()
+                .collect(Collectors.toMap(News::getNewsId, news -> news));
+    }
+
+    // 검색 필터 날짜 파라미터 (YYYY-MM-DD, 또는 앞 10자리가 날짜인 문자열)
+    private LocalDate parseSearchDate(String date) {
+        if (date == null || date.trim().length() < 10) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date.trim().substring(0, 10));
+        } catch (Exception e) {
+            log.warn("검색 날짜 파싱 실패: {}", date);
+            return null;
+        }
+    }
+
+    private Page<NewsListResponse> searchNewsWithFiltersByLike(String query, String sortBy, String sortOrder,
+            String category, String press, String startDate,
+            String endDate, Pageable pageable) {
         // 기본 검색 결과 가져오기
         Page<News> newsPage = newsRepository.searchByKeyword(query, pageable);
 
@@ -452,12 +542,87 @@ public class NewsServiceImpl implements NewsService {
                 .map(this::convertToNewsListResponse);
     }
 
+    @Override
+    public CursorPageResponse<NewsListResponse> getLatestNewsByCursor(String cursor, int size) {
+        int limit = clampCursorPageSize(size);
+        List<News> rows = NewsCursor.decode(cursor).seek(limit + 1,
+                (c, n) -> newsRepository.findLatestBefore(c.getPublishedAt(), c.getNewsId(), PageRequest.of(0, n)),
+                (id, n) -> newsRepository.findUndatedBefore(id, PageRequest.of(0, n)));
+        return toCursorPage(rows, limit, false);
+    }
+
+    @Override
+    public CursorPageResponse<NewsListResponse> getNewsByCategoryByCursor(Category category, String cursor, int size) {
+        int limit = clampCursorPageSize(size);
+        List<News> rows = NewsCursor.decode(cursor).seek(limit + 1,
+                (c, n) -> newsRepository.findByCategoryBefore(category, c.getPublishedAt(), c.getNewsId(), PageRequest.of(0, n)),
+                (id, n) -> newsRepository.findUndatedByCategoryBefore(category, id, PageRequest.of(0, n)));
+        return toCursorPage(rows, limit, false);
+    }
+
+    @Override
+    public CursorPageResponse<NewsListResponse> getNewsByPressByCursor(String press, String cursor, int size) {
+        int limit = clampCursorPageSize(size);
+        List<News> rows = NewsCursor.decode(cursor).seek(limit + 1,
+                (c, n) -> newsRepository.findByPressBefore(press, c.getPublishedAt(), c.getNewsId(), PageRequest.of(0, n)),
+                (id, n) -> newsRepository.findUndatedByPressBefore(press, id, PageRequest.of(0, n)));
+        return toCursorPage(rows, limit, false);
+    }
+
+    /**
+     * 트렌딩(신뢰도 → 최신순) 커서 조회.
+     * trusted=true 구간을 끝까지 읽은 뒤 trusted=false 구간을 처음부터 이어서 읽는다.
+     * 크롤러가 trusted를 항상 채우므로 NULL 구간은 대상에서 제외한다.
+     */
+    @Override
+    public CursorPageResponse<NewsListResponse> getTrendingNewsByCursor(String cursor, int size) {
+        int limit = clampCursorPageSize(size);
+        NewsCursor from = NewsCursor.decode(cursor);
+        boolean startWithTrusted = from.getTier() == null || from.getTier();
+        if (from.getTier() == null) {
+            from = NewsCursor.first(Boolean.TRUE);
+        }
+
+        List<News> rows = new ArrayList<>(limit + 1);
+        for (Boolean tier : startWithTrusted ? List.of(Boolean.TRUE, Boolean.FALSE) : List.of(Boolean.FALSE)) {
+            NewsCursor tierCursor = tier.equals(from.getTier()) ? from : NewsCursor.first(tier);
+            rows.addAll(tierCursor.seek(limit + 1 - rows.size(),
+                    (c, n) -> newsRepository.findByTrustedBefore(tier, c.getPublishedAt(), c.getNewsId(), PageRequest.of(0, n)),
+                    (id, n) -> newsRepository.findUndatedByTrustedBefore(tier, id, PageRequest.of(0, n))));
+            if (rows.size() > limit) {
+                break;
+            }
+        }
+        return toCursorPage(rows, limit, true);
+    }
+
+    private int clampCursorPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
+    // limit + 1개를 조회해 다음 페이지 존재 여부를 COUNT 없이 판단
+    private CursorPageResponse<NewsListResponse> toCursorPage(List<News> rows, int limit, boolean withTier) {
+        boolean hasNext = rows.size() > limit;
+        List<News> page = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            News last = page.get(page.size() - 1);
+            nextCursor = NewsCursor.of(withTier ? last.getTrusted() : null,
+                    last.getPublishedDateTime(), last.getNewsId()).encode();
+        }
+
+        return CursorPageResponse.<NewsListResponse>builder()
+                .content(page.stream().map(this::convertToNewsListResponse).collect(Collectors.toList()))
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     @Override
     public List<NewsListResponse> getNewsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        // LocalDateTime을 String으로 변환하여 전달
-        String startDateStr = startDate.toString();
-        String endDateStr = endDate.toString();
-        return newsRepository.findByPublishedAtBetween(startDateStr, endDateStr)
+        return newsRepository.findByPublishedAtBetween(startDate, endDate)
                 .stream()
                 .map(this::convertToNewsListResponse)
                 .collect(Collectors.toList());
@@ -555,14 +720,6 @@ public class NewsServiceImpl implements NewsService {
                 .build();
     }
 
-    // 요약 생성 메서드 (간단한 구현)
-    private String generateSummary(String content) {
-        if (content == null || content.length() <= 200) {
-            return content;
-        }
-        return content.substring(0, 200) + "...";
-    }
-
     // 신뢰도 계산 메서드 (간단한 구현)
     private Boolean calculateTrusted(NewsCrawl newsCrawl) {
         int trusted = 50; // 기본값
@@ -678,69 +835,14 @@ public class NewsServiceImpl implements NewsService {
     }
 
     @Override
-    public List<TrendingKeywordDto> getTrendingKeywordsByCategory(Category category, int limit) {
-        log.info("카테고리별 트렌딩 키워드 조회 시작: category={}, limit={}", category, limit);
-        
-        // 해당 카테고리의 최근 뉴스에서 키워드 추출 (기간을 30일로 확장)
-        LocalDateTime monthAgo = LocalDateTime.now().minusDays(30);
-        log.info("조회 기간: {} ~ {}", monthAgo, LocalDateTime.now());
-        
-        try {
-            // 해당 카테고리의 최근 뉴스 조회 (개수를 500개로 증가)
-            Page<News> categoryNews = newsRepository.findByCategory(category, Pageable.ofSize(500));
-            log.info("카테고리 {} 전체 뉴스 수: {}", category, categoryNews.getTotalElements());
-            
-            List<News> recentNews = categoryNews.getContent().stream()
-                    .filter(news -> {
-                        try {
-                            LocalDateTime publishedAt = LocalDateTime.parse(news.getPublishedAt());
-                            return publishedAt.isAfter(monthAgo);
-                        } catch (Exception e) {
-                            log.debug("날짜 파싱 실패: newsId={}, publishedAt={}", news.getNewsId(), news.getPublishedAt());
-                            return false;
-                        }
-                    })
-                    .collect(Collectors.toList());
-
-            log.info("카테고리 {}의 최근 뉴스 수: {}", category, recentNews.size());
-            
-            if (recentNews.isEmpty()) {
-                log.warn("최근 뉴스가 없어 기본 키워드를 반환합니다: category={}", category);
-                return getDefaultKeywordsByCategory(category, limit);
-            }
-
-            // 키워드 추출 및 빈도 계산
-            Map<String, Long> keywordCounts = recentNews.stream()
-                    .flatMap(news -> extractKeywordsFromNews(news).stream())
-                    .collect(Collectors.groupingBy(keyword -> keyword, Collectors.counting()));
-
-            log.info("추출된 키워드 수: {}", keywordCounts.size());
-            log.debug("키워드 빈도: {}", keywordCounts);
-            
-            List<TrendingKeywordDto> result = keywordCounts.entrySet().stream()
-                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                    .limit(limit)
-                    .map(entry -> TrendingKeywordDto.builder()
-                            .keyword(entry.getKey())
-                            .count(entry.getValue())
-                            .trendScore(entry.getValue().doubleValue())
-                            .build())
-                    .collect(Collectors.toList());
-
-            log.info("카테고리별 트렌드 키워드 결과: category={}, resultSize={}", category, result.size());
-            
-            // 결과가 비어있으면 기본 키워드 반환
-            if (result.isEmpty()) {
-                log.info("추출된 키워드가 없어 기본 키워드를 반환합니다: category={}", category);
-                return getDefaultKeywordsByCategory(category, limit);
-            }
-            
-            return result;
-                    
-        } catch (Exception e) {
-            log.error("카테고리별 트렌딩 키워드 조회 실패: category={}, error={}", category, e.getMessage(), e);
+    public List<TrendingKeywordDto> getTrendingKeywordsByCategory(Category category, int hours, int limit) {
+        // 적재 시점에 집계해 둔 시간 버킷에서 바로 조회 (요청마다 기사 재조회/토큰화 없음)
+        List<TrendingKeywordDto> result = trendingService.getTrendingKeywords(category, hours, limit);
+        if (result.isEmpty()) {
+            log.info("집계된 키워드가 없어 기본 키워드를 반환합니다: category={}, hours={}", category, hours);
             return getDefaultKeywordsByCategory(category, limit);
         }
+        return result;
     }
 
     @Override
@@ -792,6 +894,7 @@ public class NewsServiceImpl implements NewsService {
                 .build();
 
         newsScrapRepository.save(newsScrap);
+        vectorRefreshService.recordScrap(userId);
         log.info("뉴스 스크랩 완료 (임시 저장): userId={}, newsId={}", userId, newsId);
     }
 
@@ -895,6 +998,7 @@ public class NewsServiceImpl implements NewsService {
                     .build();
 
             newsScrapRepository.save(newScrap);
+            vectorRefreshService.recordScrap(userId);
             log.info("새로운 스크랩을 생성하여 컬렉션에 추가: userId={}, newsId={}, collectionId={}", userId, newsId, collectionId);
         }
     }
@@ -994,129 +1098,6 @@ public class NewsServiceImpl implements NewsService {
         log.info("컬렉션에서 뉴스 삭제 완료: userId={}, collectionId={}, newsId={}", userId, collectionId, newsId);
     }
 
-    /**
-     * 뉴스에서 키워드 추출
-     */
-    private List<String> extractKeywordsFromNews(News news) {
-        List<String> keywords = new ArrayList<>();
-        
-        // 제목에서 키워드 추출
-        if (news.getTitle() != null) {
-            List<String> titleKeywords = extractKeywordsFromText(news.getTitle());
-            log.debug("제목에서 추출된 키워드: {}", titleKeywords);
-            keywords.addAll(titleKeywords);
-        }
-        
-        // 내용에서 키워드 추출 (내용이 너무 길면 앞부분만 사용, 길이를 1000자로 증가)
-        if (news.getContent() != null) {
-            String content = news.getContent();
-            if (content.length() > 1000) {
-                content = content.substring(0, 1000);
-            }
-            List<String> contentKeywords = extractKeywordsFromText(content);
-            log.debug("내용에서 추출된 키워드 수: {}", contentKeywords.size());
-            keywords.addAll(contentKeywords);
-        }
-        
-        log.debug("전체 추출된 키워드: {}", keywords);
-        return keywords;
-    }
-    
-    /**
-     * 텍스트에서 키워드 추출 - 개선된 필터링 로직
-     */
-    private List<String> extractKeywordsFromText(String text) {
-        if (text == null || text.trim().isEmpty()) {
-            return new ArrayList<>();
-        }
-        
-        List<String> keywords = new ArrayList<>();
-        
-        // 1. 공백으로 분할
-        String[] words = text.split("\\s+");
-        
-        for (String word : words) {
-            if (word == null || word.trim().isEmpty()) {
-                continue;
-            }
-            
-            // 2. 특수문자 제거 (한글, 영문, 숫자만 남김)
-            String cleanedWord = word.replaceAll("[^가-힣0-9A-Za-z]", "");
-            
-            // 3. 개선된 키워드 필터링 조건
-            if (isValidKeyword(cleanedWord)) {
-                keywords.add(cleanedWord);
-                log.debug("추출된 키워드: '{}' (원본: '{}')", cleanedWord, word);
-            }
-        }
-        
-        log.debug("텍스트에서 추출된 키워드 수: {}", keywords.size());
-        return keywords;
-    }
-    
-    /**
-     * 키워드 유효성 검사 - 체계적인 필터링
-     */
-    private boolean isValidKeyword(String word) {
-        if (word == null || word.length() < 2) {
-            return false;
-        }
-        
-        // 1. 불용어 목록에 포함된 단어 제외
-        if (STOPWORDS.contains(word)) {
-            return false;
-        }
-        
-        // 2. 숫자만으로 구성된 단어 제외 (연도, 날짜 등)
-        if (word.matches("^\\d+$")) {
-            return false;
-        }
-        
-        // 3. 특수 패턴 제외
-        if (word.matches(".*[#@$%^&*()].*")) {
-            return false;
-        }
-        
-        // 4. 너무 짧은 영문 단어 제외 (2글자 이하)
-        if (word.matches("^[A-Za-z]{1,2}$")) {
-            return false;
-        }
-        
-        // 5. 반복 문자 패턴 제외 (예: "ㅋㅋㅋ", "ㅎㅎㅎ")
-        if (word.matches("(.)\\1{2,}")) {
-            return false;
-        }
-        
-        // 6. 의미없는 조합어 제외
-        if (isMeaninglessCombination(word)) {
-            return false;
-        }
-        
-        return true;
-    }
-    
-    /**
-     * 의미없는 조합어 판별
-     */
-    private boolean isMeaninglessCombination(String word) {
-        // 의미없는 조합어 패턴들
-        String[] meaninglessPatterns = {
-            "영화의", "기사의", "뉴스의", "사진의", "영상의", "내용의", "정보의",
-            "추출할", "분석할", "조사할", "확인할", "검토할", "검증할",
-            "관련된", "대한", "위한", "통한", "통해", "대해", "관해",
-            "있는", "없는", "같은", "다른", "이런", "그런", "저런",
-            "하는", "되는", "되는", "이되는", "되는", "되는", "되는"
-        };
-        
-        for (String pattern : meaninglessPatterns) {
-            if (word.contains(pattern)) {
-                return true;
-            }
-        }
-        
-        return false;
-    }
-    
     /**
      * 기본 키워드 반환
      */
@@ -1182,35 +1163,6 @@ public class NewsServiceImpl implements NewsService {
                 .collect(Collectors.toList());
     }
     
-    // 확장된 불용어 목록 - 의미없는 단어들을 체계적으로 필터링
-    private static final Set<String> STOPWORDS = Set.of(
-            // 뉴스 관련 일반 용어
-            "속보", "영상", "단독", "인터뷰", "기자", "사진", "종합", "뉴스", "기사", "외신",
-            "현장", "보도", "취재", "논평", "사설", "칼럼", "특집", "기획", "리포트",
-            
-            // 시간 관련
-            "오늘", "내일", "어제", "이번", "지난", "현재", "최근", "곧", "이제",
-            "년", "월", "일", "시", "분", "초", "주", "달", "년도",
-            
-            // 일반적인 조사/어미
-            "것", "수", "등", "및", "또는", "그리고", "하지만", "그러나", "따라서",
-            "있다", "없다", "하다", "되다", "이다", "아니다", "같다", "다르다",
-            "위해", "통해", "대해", "관해", "대한", "관련", "위한", "통한",
-            
-            // 정부/기관 관련
-            "정부", "대통령", "국회", "한국", "대한민국", "국가", "정부기관", "공공기관",
-            "시청", "구청", "군청", "도청", "청", "부", "처", "원",
-            
-            // 일반적인 형용사/부사
-            "최대", "최소", "매우", "정말", "진짜", "완전", "엄청", "너무", "아주",
-            "많이", "조금", "약간", "좀", "더", "가장", "제일", "특히", "특별히",
-            
-            // 기타 의미없는 단어들
-            "내용", "정보", "자료", "데이터", "결과", "상황", "문제", "이슈", "사건",
-            "분석", "전망", "동향", "소식", "업데이트", "변화", "발전", "진전",
-            "영향", "효과", "원인", "이유", "목적", "방법", "과정"
-    );
-    
     private KeywordSubscriptionDto convertToKeywordSubscriptionDto(KeywordSubscription subscription) {
         return KeywordSubscriptionDto.builder()
                 .subscriptionId(subscription.getSubscriptionId())
@@ -1277,33 +1229,6 @@ public class NewsServiceImpl implements NewsService {
     // 조회수 관련 헬퍼 메서드들
     // ========================================
 
-    /**
-     * 비동기로 DB의 조회수 업데이트
-     */
-    private void updateViewCountInDB(Long newsId) {
-        try {
-            // Redis에서 현재 조회수 조회
-            String key = "news:viewcount:" + newsId;
-            String viewCountStr = redisTemplate.opsForValue().get(key);
-            
-            if (viewCountStr != null) {
-                Long viewCount = Long.parseLong(viewCountStr);
-                
-                // DB 업데이트
-                newsRepository.findById(newsId).ifPresent(news -> {
-                    news.setViewCount(viewCount);
-                    newsRepository.save(news);
-                });
-                
-                log.debug("DB 조회수 업데이트 완료: newsId={}, viewCount={}", newsId, viewCount);
-            }
-            
-        } catch (Exception e) {
-            log.error("DB 조회수 업데이트 실패: newsId={}", newsId, e);
-        }
-    }
-
-
     /**
      * 일일 조회수 조회 (Redis에서)
      */
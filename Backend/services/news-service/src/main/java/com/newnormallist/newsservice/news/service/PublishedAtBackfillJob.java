@@ -0,0 +1,68 @@
+package com.newnormallist.newsservice.news.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * published_at(문자열) → published_datetime(DATETIME) 온라인 백필.
+ *
+ * news_id 구간 단위의 짧은 UPDATE로 나눠 실행해 긴 락 없이 서비스 중에 채운다.
+ * 크롤러가 published_datetime을 직접 쓰기 전에 적재된 행과, 구버전 크롤러가 적재한 행이 대상이다.
+ * 형식이 맞지 않는 published_at은 건너뛰고 NULL로 남긴다 (정렬 시 가장 뒤).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublishedAtBackfillJob {
+
+    private static final String RANGE_SQL =
+            "SELECT MIN(news_id), MAX(news_id) FROM news WHERE published_datetime IS NULL AND news_id > ?";
+
+    private static final String BACKFILL_SQL =
+            "UPDATE news SET published_datetime = STR_TO_DATE(LEFT(REPLACE(published_at, 'T', ' '), 19), '%Y-%m-%d %H:%i:%s') " +
+            "WHERE news_id BETWEEN ? AND ? AND published_datetime IS NULL " +
+            "AND published_at REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}[ T][0-9]{2}:[0-9]{2}:[0-9]{2}'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${news.published-at-backfill.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${news.published-at-backfill.pause-ms:50}")
+    private long pauseMs;
+
+    // 이미 처리한 구간 (파싱 불가 행을 매 주기 다시 훑지 않도록)
+    private volatile long highWaterMark;
+
+    @Scheduled(fixedDelayString = "${news.published-at-backfill.interval-ms:300000}", initialDelay = 10000)
+    public void backfill() {
+        try {
+            long[] range = jdbcTemplate.queryForObject(RANGE_SQL,
+                    (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, highWaterMark);
+            if (range == null || range[1] == 0L) {
+                return;
+            }
+
+            long startedAt = System.currentTimeMillis();
+            long updated = 0L;
+            for (long from = range[0]; from <= range[1]; from += chunkSize) {
+                long to = Math.min(from + chunkSize - 1, range[1]);
+                updated += jdbcTemplate.update(BACKFILL_SQL, from, to);
+                highWaterMark = to;
+                if (pauseMs > 0) {
+                    Thread.sleep(pauseMs);
+                }
+            }
+            log.info("published_datetime 백필 완료: updated={}, newsId={}~{}, elapsedMs={}",
+                    updated, range[0], range[1], System.currentTimeMillis() - startedAt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("published_datetime 백필 실패: highWaterMark={}", highWaterMark, e);
+        }
+    }
+}
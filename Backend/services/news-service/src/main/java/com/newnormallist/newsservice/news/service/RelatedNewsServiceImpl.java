@@ -207,8 +207,8 @@ public class RelatedNewsServiceImpl implements RelatedNewsService {
 
             List<News> sameDayCategoryNews = newsRepository.findByCategoryNameAndPublishedAtBetweenAndNewsIdNotIn(
                     news.getCategoryName(),
-                    startOfDay.format(DB_DATETIME_FORMATTER),
-                    endOfDay.format(DB_DATETIME_FORMATTER),
+                    startOfDay,
+                    endOfDay,
                     excludeNewsIds);
 
             // 오전/오후 시간대 필터링
@@ -247,8 +247,8 @@ public class RelatedNewsServiceImpl implements RelatedNewsService {
 
         List<News> recentCategoryNews = newsRepository.findByCategoryNameAndPublishedAtBetweenAndNewsIdNotIn(
                 news.getCategoryName(),
-                threeDaysAgo.format(DB_DATETIME_FORMATTER),
-                now.format(DB_DATETIME_FORMATTER),
+                threeDaysAgo,
+                now,
                 excludeNewsIds);
 
         Collections.shuffle(recentCategoryNews);
@@ -0,0 +1,444 @@
+package com.newnormallist.newsservice.news.service;
+
+import com.newnormallist.newsservice.news.dto.TrendingKeywordDto;
+import com.newnormallist.newsservice.news.entity.Category;
+import com.newnormallist.newsservice.news.entity.PublishedAtParser;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 증분 트렌딩 키워드 집계 엔진.
+ *
+ * 신규 적재 기사(news_id > 마지막 처리 ID)의 제목을 한 번만 토큰화해
+ * 시간(1시간) 버킷 × 카테고리별 카운터에 더하고, 설정된 집계 구간(1h, 6h, 24h ...)별 합계를
+ * 버킷이 들어오고 나갈 때마다 증감으로 유지한다. 구간별 상위 키워드는 변경 시점에 미리 계산해 두므로
+ * 조회는 캐시된 목록을 잘라 반환만 한다 (요청마다 DB 재조회/재집계 없음).
+ *
+ * 버킷 카운터는 Redis 해시(trending:kw:{epochHour}:{category})에 함께 기록해
+ * 재기동 시 DB 재스캔 없이 복원한다. 배치 카운터와 마지막 처리 ID는 Lua 스크립트 하나로 기록하고,
+ * Redis의 마지막 처리 ID가 배치 시작 ID와 같을 때만 더하므로 재시도해도 두 번 세지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingKeywordEngine {
+
+    static final String ALL_CATEGORIES = "ALL";
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final String KEY_PREFIX = "trending:kw:";
+    private static final String WATERMARK_KEY = KEY_PREFIX + "last-news-id";
+
+    // KEYS[1]=마지막 처리 ID, KEYS[2..]=버킷 해시
+    // ARGV: 배치 시작 ID, 배치 마지막 ID, TTL(초), 이후 버킷마다 [필드 수, 키워드, 증분, ...]
+    // 반환: 1=반영, 0=이미 반영된 배치, -1=다른 인스턴스가 먼저 진행함
+    private static final RedisScript<Long> PERSIST_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current == ARGV[2] then return 0 end
+            if current and current ~= ARGV[1] then return -1 end
+            local i = 4
+            for k = 2, #KEYS do
+              local n = tonumber(ARGV[i])
+              i = i + 1
+              for j = 1, n do
+                redis.call('HINCRBY', KEYS[k], ARGV[i], ARGV[i + 1])
+                i = i + 2
+              end
+              redis.call('EXPIRE', KEYS[k], ARGV[3])
+            end
+            redis.call('SET', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final NewsRepository newsRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final KeywordTokenizer keywordTokenizer;
+
+    @Value("${news.trending.windows-hours:1,6,12,24,72,168}")
+    private List<Integer> windowsHours;
+
+    @Value("${news.trending.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${news.trending.max-batches-per-sync:20}")
+    private int maxBatchesPerSync;
+
+    @Value("${news.trending.top-k-capacity:50}")
+    private int topKCapacity;
+
+    // 버킷 시각 기준 (테스트에서 시각을 옮길 수 있게 분리)
+    private Clock clock = Clock.system(ZONE);
+
+    // 상태 변경(동기화/버킷 이동)은 한 번에 하나만 수행
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // epochHour → category → keyword → count
+    private final NavigableMap<Long, Map<String, Map<String, Long>>> buckets = new TreeMap<>();
+    // window(hours) → category(ALL 포함) → keyword → count
+    private final Map<Integer, Map<String, Map<String, Long>>> windowCounts = new HashMap<>();
+
+    // 조회용 스냅샷: window → category → 상위 키워드 (불변)
+    private volatile Map<Integer, Map<String, List<TrendingKeywordDto>>> topKeywords = Map.of();
+
+    private int[] windows;
+    private int retentionHours;
+    private long currentHour;
+    private volatile long lastNewsId;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        initialize();
+        sync();
+    }
+
+    /**
+     * Redis에 남아 있는 버킷을 복원한다. 처음 기동이면 보존 구간의 기사부터 다시 집계한다.
+     * 실패하면 다음 동기화 주기에 다시 시도한다.
+     */
+    private void initialize() {
+        lock.lock();
+        try {
+            windows = windowsHours.stream().mapToInt(Integer::intValue).filter(h -> h > 0).distinct().sorted().toArray();
+            if (windows.length == 0) {
+                windows = new int[]{24};
+            }
+            retentionHours = windows[windows.length - 1];
+            currentHour = toEpochHour(clock.instant());
+            buckets.clear();
+            windowCounts.clear();
+            for (int window : windows) {
+                windowCounts.put(window, new HashMap<>());
+            }
+
+            String watermark = redisTemplate.opsForValue().get(WATERMARK_KEY);
+            if (watermark != null) {
+                lastNewsId = Long.parseLong(watermark);
+                int restored = restoreBuckets();
+                log.info("트렌딩 키워드 버킷 복원 완료: buckets={}, lastNewsId={}", restored, lastNewsId);
+            } else {
+                LocalDateTime since = LocalDateTime.now(clock).minusHours(retentionHours);
+                Long firstId = newsRepository.findMinNewsIdPublishedSince(since);
+                Long maxId = newsRepository.findMaxNewsId();
+                lastNewsId = firstId != null ? firstId - 1 : (maxId != null ? maxId : 0L);
+                log.info("트렌딩 키워드 초기 집계 시작: fromNewsId={}, retentionHours={}", lastNewsId, retentionHours);
+            }
+            refreshTopKeywords();
+            ready = true;
+        } catch (Exception e) {
+            log.error("트렌딩 키워드 엔진 초기화 실패", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 신규 적재 기사의 제목 키워드를 버킷에 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${news.trending.sync-interval-ms:30000}", initialDelayString = "${news.trending.sync-interval-ms:30000}")
+    public void sync() {
+        if (!lock.tryLock()) {
+            return;
+        }
+        boolean changed = false;
+        try {
+            if (!ready) {
+                // 잠금을 잡은 채로 초기화해 진행 중인 집계/버킷 이동과 겹치지 않게 함
+                initialize();
+                if (!ready) {
+                    return;
+                }
+            }
+            changed = advanceTo(toEpochHour(clock.instant()));
+            int processed = 0;
+            for (int i = 0; i < maxBatchesPerSync; i++) {
+                List<Object[]> rows = newsRepository.findKeywordSourcesAfter(lastNewsId, PageRequest.of(0, batchSize));
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                // 배치 단위 증분: epochHour → category → keyword → count
+                Map<Long, Map<String, Map<String, Long>>> increments = new HashMap<>();
+                long batchLastId = lastNewsId;
+                for (Object[] row : rows) {
+                    batchLastId = (Long) row[0];
+                    Long bucket = bucketOf((LocalDateTime) row[3], (String) row[4]);
+                    if (bucket == null || row[2] == null) {
+                        continue;
+                    }
+                    Map<String, Long> counts = increments
+                            .computeIfAbsent(bucket, b -> new HashMap<>())
+                            .computeIfAbsent(((Category) row[2]).name(), c -> new HashMap<>());
+                    keywordTokenizer.forEachKeyword((String) row[1], keyword -> counts.merge(keyword, 1L, Long::sum));
+                }
+
+                // Redis에 먼저 기록한 뒤 메모리에 반영 (실패 시 같은 배치를 다음 주기에 재시도)
+                if (!persist(increments, lastNewsId, batchLastId)) {
+                    // 다른 인스턴스가 먼저 반영했으면 다음 주기에 Redis 상태로 다시 초기화
+                    log.warn("트렌딩 키워드 마지막 처리 ID가 Redis와 달라 다시 초기화합니다: lastNewsId={}", lastNewsId);
+                    ready = false;
+                    break;
+                }
+                increments.forEach((bucket, byCategory) ->
+                        byCategory.forEach((category, counts) ->
+                                counts.forEach((keyword, count) -> add(bucket, category, keyword, count))));
+                lastNewsId = batchLastId;
+                processed += rows.size();
+                changed |= !increments.isEmpty();
+
+                if (rows.size() < batchSize) {
+                    break;
+                }
+            }
+
+            if (processed > 0) {
+                log.debug("트렌딩 키워드 증분 집계 완료: articles={}, lastNewsId={}", processed, lastNewsId);
+            }
+        } catch (Exception e) {
+            log.error("트렌딩 키워드 증분 집계 실패: lastNewsId={}", lastNewsId, e);
+        } finally {
+            // 중간 배치에서 실패해도 이미 반영된 배치는 조회 스냅샷에 포함
+            if (changed) {
+                refreshTopKeywords();
+            }
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 정시가 지나면 구간 밖으로 나간 버킷을 합계에서 뺀다.
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void rotate() {
+        if (!ready || !lock.tryLock()) {
+            return;
+        }
+        try {
+            if (advanceTo(toEpochHour(clock.instant()))) {
+                refreshTopKeywords();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 최근 hours 시간 상위 키워드. hours는 설정된 집계 구간 중 이를 포함하는 가장 작은 구간으로 올림한다.
+     *
+     * @param category null이면 전체 카테고리
+     */
+    public List<TrendingKeywordDto> getTopKeywords(int hours, Category category, int limit) {
+        int window = windowFor(hours);
+        String scope = category == null ? ALL_CATEGORIES : category.name();
+        List<TrendingKeywordDto> top = topKeywords.getOrDefault(window, Map.of()).getOrDefault(scope, List.of());
+        return top.size() <= limit ? top : top.subList(0, limit);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("ready", ready);
+        status.put("lastNewsId", lastNewsId);
+        status.put("windowsHours", windows == null ? List.of() : Arrays.stream(windows).boxed().toList());
+        status.put("topKeywords24h", getTopKeywords(24, null, 10));
+        return status;
+    }
+
+    private int windowFor(int hours) {
+        int[] current = windows;
+        if (current == null || current.length == 0) {
+            return hours;
+        }
+        for (int window : current) {
+            if (window >= hours) {
+                return window;
+            }
+        }
+        return current[current.length - 1];
+    }
+
+    /**
+     * 현재 시각 버킷을 targetHour까지 옮기며 각 구간에서 빠지는 버킷을 차감한다.
+     */
+    private boolean advanceTo(long targetHour) {
+        if (targetHour <= currentHour) {
+            return false;
+        }
+        if (targetHour - currentHour >= retentionHours) {
+            // 보존 구간 이상 비어 있었으면 전부 만료
+            buckets.clear();
+            windowCounts.values().forEach(Map::clear);
+            currentHour = targetHour;
+            return true;
+        }
+        while (currentHour < targetHour) {
+            currentHour++;
+            for (int window : windows) {
+                Map<String, Map<String, Long>> leaving = buckets.get(currentHour - window);
+                if (leaving != null) {
+                    Map<String, Map<String, Long>> totals = windowCounts.get(window);
+                    leaving.forEach((category, counts) -> counts.forEach((keyword, count) -> {
+                        decrement(totals, category, keyword, count);
+                        decrement(totals, ALL_CATEGORIES, keyword, count);
+                    }));
+                }
+            }
+        }
+        buckets.headMap(currentHour - retentionHours, true).clear();
+        return true;
+    }
+
+    private void add(long bucket, String category, String keyword, long count) {
+        buckets.computeIfAbsent(bucket, b -> new HashMap<>())
+                .computeIfAbsent(category, c -> new HashMap<>())
+                .merge(keyword, count, Long::sum);
+        for (int window : windows) {
+            if (bucket > currentHour - window) {
+                Map<String, Map<String, Long>> totals = windowCounts.get(window);
+                totals.computeIfAbsent(category, c -> new HashMap<>()).merge(keyword, count, Long::sum);
+                totals.computeIfAbsent(ALL_CATEGORIES, c -> new HashMap<>()).merge(keyword, count, Long::sum);
+            }
+        }
+    }
+
+    private void decrement(Map<String, Map<String, Long>> totals, String category, String keyword, long count) {
+        Map<String, Long> counts = totals.get(category);
+        if (counts != null) {
+            counts.computeIfPresent(keyword, (k, v) -> v - count > 0 ? v - count : null);
+        }
+    }
+
+    /**
+     * 구간 × 카테고리별 상위 키워드를 다시 계산해 조회용 스냅샷을 교체한다.
+     */
+    private void refreshTopKeywords() {
+        Map<Integer, Map<String, List<TrendingKeywordDto>>> snapshot = new HashMap<>();
+        windowCounts.forEach((window, byCategory) -> {
+            Map<String, List<TrendingKeywordDto>> top = new HashMap<>();
+            byCategory.forEach((category, counts) -> top.put(category, topOf(counts)));
+            snapshot.put(window, top);
+        });
+        topKeywords = snapshot;
+    }
+
+    private List<TrendingKeywordDto> topOf(Map<String, Long> counts) {
+        PriorityQueue<Map.Entry<String, Long>> heap = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            if (heap.size() < topKCapacity) {
+                heap.offer(entry);
+            } else if (entry.getValue() > heap.peek().getValue()) {
+                heap.poll();
+                heap.offer(entry);
+            }
+        }
+        List<TrendingKeywordDto> top = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            Map.Entry<String, Long> entry = heap.poll();
+            top.add(TrendingKeywordDto.builder()
+                    .keyword(entry.getKey())
+                    .count(entry.getValue())
+                    .trendScore(entry.getValue().doubleValue())
+                    .build());
+        }
+        Collections.reverse(top);
+        return List.copyOf(top);
+    }
+
+    /**
+     * 발행 시각의 버킷. 보존 구간보다 오래된 기사는 null, 미래 시각은 현재 버킷으로 본다.
+     */
+    private Long bucketOf(LocalDateTime publishedDateTime, String publishedAt) {
+        LocalDateTime published = publishedDateTime != null ? publishedDateTime : PublishedAtParser.parse(publishedAt);
+        if (published == null) {
+            return null;
+        }
+        long bucket = Math.min(toEpochHour(published.atZone(ZONE).toInstant()), currentHour);
+        return bucket > currentHour - retentionHours ? bucket : null;
+    }
+
+    private static long toEpochHour(Instant instant) {
+        return instant.getEpochSecond() / 3600;
+    }
+
+    private static String bucketKey(long bucket, String category) {
+        return KEY_PREFIX + bucket + ":" + category;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 배치 증분과 마지막 처리 ID를 한 번에 기록한다. Redis의 처리 ID가 fromId가 아니면(다른 인스턴스가 진행) false.
+     */
+    private boolean persist(Map<Long, Map<String, Map<String, Long>>> increments, long fromId, long batchLastId) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        keys.add(WATERMARK_KEY);
+        args.add(String.valueOf(fromId));
+        args.add(String.valueOf(batchLastId));
+        args.add(String.valueOf((retentionHours + 1) * 3600L));
+        increments.forEach((bucket, byCategory) -> byCategory.forEach((category, counts) -> {
+            keys.add(bucketKey(bucket, category));
+            args.add(String.valueOf(counts.size()));
+            counts.forEach((keyword, count) -> {
+                args.add(keyword);
+                args.add(String.valueOf(count));
+            });
+        }));
+        Long result = redisTemplate.execute(PERSIST_SCRIPT, keys, args.toArray());
+        return result != null && result >= 0;
+    }
+
+    private int restoreBuckets() {
+        List<Long> slotBuckets = new ArrayList<>();
+        List<String> slotCategories = new ArrayList<>();
+        for (long bucket = currentHour - retentionHours + 1; bucket <= currentHour; bucket++) {
+            for (Category category : Category.values()) {
+                slotBuckets.add(bucket);
+                slotCategories.add(category.name());
+            }
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < slotBuckets.size(); i++) {
+                connection.hashCommands().hGetAll(bytes(bucketKey(slotBuckets.get(i), slotCategories.get(i))));
+            }
+            return null;
+        });
+
+        Set<Long> restored = new HashSet<>();
+        for (int i = 0; i < results.size(); i++) {
+            if (!(results.get(i) instanceof Map<?, ?> hash) || hash.isEmpty()) {
+                continue;
+            }
+            long bucket = slotBuckets.get(i);
+            String category = slotCategories.get(i);
+            hash.forEach((keyword, count) -> add(bucket, category, String.valueOf(keyword), Long.parseLong(String.valueOf(count))));
+            restored.add(bucket);
+        }
+        return restored.size();
+    }
+}
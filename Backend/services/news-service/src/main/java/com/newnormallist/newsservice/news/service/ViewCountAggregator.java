@@ -0,0 +1,204 @@
+package com.newnormallist.newsservice.news.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회수 write-behind 집계기.
+ *
+ * 조회 1건마다 DB를 갱신하는 대신 뉴스별 LongAdder(스트라이프 카운터)에 증분을 모아두고,
+ * 주기적으로 "view_count = view_count + ?" 배치 UPDATE 한 번으로 DB에 반영한다.
+ * 실시간 조회수는 기존과 같이 Redis 카운터에서 읽고, DB 값은 내구성용 누적치로 사용한다.
+ */
+@Slf4j
+@Component
+public class ViewCountAggregator {
+
+    private static final String FLUSH_SQL = "UPDATE news SET view_count = view_count + ? WHERE news_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 뉴스 ID별 미반영 증분
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // 플러시는 한 번에 하나만 수행
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // 지난 주기에 맵에서 뺀 카운터 (빼기 직전에 참조를 가져간 record()의 증분을 다음 주기에 거둠, flushLock 안에서만 접근)
+    private List<Retired> retired = new ArrayList<>();
+
+    // 마지막 플러시 이후 처음 들어온 증분 시각 (0 = 미반영 증분 없음)
+    private final AtomicLong oldestPendingAt = new AtomicLong();
+    private volatile long lastFlushAt = System.currentTimeMillis();
+
+    private final Counter droppedCounter;
+    private final Counter flushedCounter;
+    private final Timer flushTimer;
+
+    @Value("${news.view-count.max-pending-keys:100000}")
+    private int maxPendingKeys;
+
+    @Value("${news.view-count.batch-size:500}")
+    private int batchSize;
+
+    public ViewCountAggregator(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.droppedCounter = Counter.builder("news.viewcount.dropped")
+                .description("보류 버퍼가 가득 차 버려진 조회수 증분")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("news.viewcount.flushed")
+                .description("DB에 반영된 조회수 증분")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("news.viewcount.flush")
+                .description("조회수 배치 UPDATE 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("news.viewcount.pending", this, ViewCountAggregator::getPendingIncrements)
+                .description("아직 DB에 반영되지 않은 조회수 증분")
+                .register(meterRegistry);
+        Gauge.builder("news.viewcount.pending.keys", pending, Map::size)
+                .description("미반영 증분이 있는 뉴스 수")
+                .register(meterRegistry);
+        Gauge.builder("news.viewcount.flush.lag", this, ViewCountAggregator::getFlushLagSeconds)
+                .description("가장 오래된 미반영 증분의 대기 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가를 기록한다. DB 접근 없이 메모리 카운터만 갱신한다.
+     */
+    public void record(Long newsId) {
+        LongAdder adder = pending.get(newsId);
+        if (adder == null) {
+            if (pending.size() >= maxPendingKeys) {
+                droppedCounter.increment();
+                return;
+            }
+            adder = pending.computeIfAbsent(newsId, id -> new LongAdder());
+        }
+        adder.increment();
+        oldestPendingAt.compareAndSet(0L, System.currentTimeMillis());
+    }
+
+    /**
+     * 모아둔 증분을 배치 UPDATE로 DB에 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${news.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            long drainStartedAt = System.currentTimeMillis();
+            List<long[]> deltas = drain();
+            // 드레인 중에 들어온 증분이 남아 있으면 드레인 시작 시각부터 대기한 것으로 봄
+            oldestPendingAt.set(0L);
+            if (getPendingIncrements() > 0) {
+                oldestPendingAt.compareAndSet(0L, drainStartedAt);
+            }
+            if (deltas.isEmpty()) {
+                lastFlushAt = System.currentTimeMillis();
+                return;
+            }
+
+            try {
+                flushTimer.record(() -> jdbcTemplate.batchUpdate(FLUSH_SQL, deltas, batchSize, (ps, delta) -> {
+                    ps.setLong(1, delta[1]);
+                    ps.setLong(2, delta[0]);
+                }));
+                long flushed = deltas.stream().mapToLong(delta -> delta[1]).sum();
+                flushedCounter.increment(flushed);
+                lastFlushAt = System.currentTimeMillis();
+                log.debug("조회수 배치 반영 완료: articles={}, increments={}", deltas.size(), flushed);
+            } catch (Exception e) {
+                log.error("조회수 배치 반영 실패, 다음 주기에 재시도합니다: articles={}", deltas.size(), e);
+                restore(deltas);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public long getPendingIncrements() {
+        return pending.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public double getFlushLagSeconds() {
+        long oldest = oldestPendingAt.get();
+        return oldest == 0L ? 0.0 : (System.currentTimeMillis() - oldest) / 1000.0;
+    }
+
+    /**
+     * 증분이 있는 카운터는 0으로 리셋하고, 한 주기 동안 증분이 없던 카운터는 맵에서 제거한다.
+     *
+     * 제거는 computeIfPresent 안에서 합이 여전히 0일 때만 한다. 그래도 record()가 제거 직전에 카운터 참조를
+     * 가져가 제거 후에 더할 수 있으므로, 제거한 카운터는 한 주기 더 보관했다가 늦게 들어온 증분을 거둔다.
+     */
+    private List<long[]> drain() {
+        Map<Long, Long> merged = new LinkedHashMap<>();
+        for (Retired late : retired) {
+            long delta = late.adder().sum();
+            if (delta > 0) {
+                merged.merge(late.newsId(), delta, Long::sum);
+            }
+        }
+        retired = new ArrayList<>();
+
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            LongAdder adder = entry.getValue();
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                merged.merge(entry.getKey(), delta, Long::sum);
+            } else {
+                pending.computeIfPresent(entry.getKey(), (id, current) -> {
+                    if (current != adder || current.sum() != 0) {
+                        return current;
+                    }
+                    retired.add(new Retired(id, current));
+                    return null;
+                });
+            }
+        }
+
+        List<long[]> deltas = new ArrayList<>(merged.size());
+        merged.forEach((newsId, delta) -> deltas.add(new long[]{newsId, delta}));
+        return deltas;
+    }
+
+    private void restore(List<long[]> deltas) {
+        for (long[] delta : deltas) {
+            LongAdder adder = pending.get(delta[0]);
+            if (adder == null && pending.size() >= maxPendingKeys) {
+                droppedCounter.increment(delta[1]);
+                continue;
+            }
+            pending.computeIfAbsent(delta[0], id -> new LongAdder()).add(delta[1]);
+        }
+        oldestPendingAt.compareAndSet(0L, lastFlushAt);
+    }
+
+    private record Retired(Long newsId, LongAdder adder) {
+    }
+}
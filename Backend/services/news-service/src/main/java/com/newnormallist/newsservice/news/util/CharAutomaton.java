@@ -0,0 +1,161 @@
+package com.newnormallist.newsservice.news.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 불변 문자 트라이 + Aho-Corasick 실패 링크.
+ *
+ * 노드별 자식은 정렬된 char 배열로 보관해 이진 탐색하므로 조회 시 박싱/할당이 없다.
+ * - {@link #matchesExactly}: 트라이 정확 일치 (불용어 사전 조회)
+ * - {@link #containsAny}: 등록된 패턴 중 하나라도 부분 문자열로 포함하는지 (한 번의 선형 스캔)
+ * 문자열을 잘라내지 않고 원본 CharSequence의 [start, end) 구간을 그대로 검사한다.
+ */
+public final class CharAutomaton {
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final int[] NO_TARGETS = new int[0];
+
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+    private final boolean[] terminal;
+    // 자신 또는 실패 링크 경로상에 끝나는 패턴이 있는지
+    private final boolean[] output;
+
+    private CharAutomaton(char[][] labels, int[][] targets, int[] fail, boolean[] terminal, boolean[] output) {
+        this.labels = labels;
+        this.targets = targets;
+        this.fail = fail;
+        this.terminal = terminal;
+        this.output = output;
+    }
+
+    public static CharAutomaton of(Collection<String> words) {
+        List<TreeMap<Character, Integer>> edges = new ArrayList<>();
+        List<Boolean> ends = new ArrayList<>();
+        edges.add(new TreeMap<>());
+        ends.add(false);
+
+        for (String word : words) {
+            if (word == null || word.isEmpty()) {
+                continue;
+            }
+            int node = 0;
+            for (int i = 0; i < word.length(); i++) {
+                Integer next = edges.get(node).get(word.charAt(i));
+                if (next == null) {
+                    next = edges.size();
+                    edges.add(new TreeMap<>());
+                    ends.add(false);
+                    edges.get(node).put(word.charAt(i), next);
+                }
+                node = next;
+            }
+            ends.set(node, true);
+        }
+
+        int size = edges.size();
+        char[][] labels = new char[size][];
+        int[][] targets = new int[size][];
+        boolean[] terminal = new boolean[size];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> children = edges.get(node);
+            labels[node] = children.isEmpty() ? NO_LABELS : new char[children.size()];
+            targets[node] = children.isEmpty() ? NO_TARGETS : new int[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> child : children.entrySet()) {
+                labels[node][i] = child.getKey();
+                targets[node][i] = child.getValue();
+                i++;
+            }
+            terminal[node] = ends.get(node);
+        }
+
+        // BFS로 실패 링크 계산
+        int[] fail = new int[size];
+        boolean[] output = terminal.clone();
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            queue.add(child);
+        }
+        CharAutomaton automaton = new CharAutomaton(labels, targets, fail, terminal, output);
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < labels[node].length; i++) {
+                char c = labels[node][i];
+                int child = targets[node][i];
+                int f = fail[node];
+                while (f != 0 && automaton.child(f, c) < 0) {
+                    f = fail[f];
+                }
+                int candidate = automaton.child(f, c);
+                fail[child] = (candidate >= 0 && candidate != child) ? candidate : 0;
+                output[child] = output[child] || output[fail[child]];
+                queue.add(child);
+            }
+        }
+        return automaton;
+    }
+
+    /**
+     * text[start, end)가 등록된 단어와 정확히 일치하는지
+     */
+    public boolean matchesExactly(CharSequence text, int start, int end) {
+        int node = 0;
+        for (int i = start; i < end; i++) {
+            node = child(node, text.charAt(i));
+            if (node < 0) {
+                return false;
+            }
+        }
+        return terminal[node];
+    }
+
+    /**
+     * text[start, end)가 등록된 패턴 중 하나라도 포함하는지
+     */
+    public boolean containsAny(CharSequence text, int start, int end) {
+        int state = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            int next = child(state, c);
+            while (next < 0 && state != 0) {
+                state = fail[state];
+                next = child(state, c);
+            }
+            state = next < 0 ? 0 : next;
+            if (output[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return labels.length;
+    }
+
+    private int child(int node, char c) {
+        char[] keys = labels[node];
+        int low = 0;
+        int high = keys.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char key = keys[mid];
+            if (key < c) {
+                low = mid + 1;
+            } else if (key > c) {
+                high = mid - 1;
+            } else {
+                return targets[node][mid];
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,228 @@
+package com.newnormallist.newsservice.recommendation.cache;
+
+import com.newnormallist.newsservice.recommendation.dto.FeedItemDto;
+import com.newnormallist.newsservice.recommendation.entity.NewsEntity;
+import com.newnormallist.newsservice.recommendation.entity.RecommendationCategory;
+import com.newnormallist.newsservice.recommendation.mapper.FeedMapper;
+import com.newnormallist.newsservice.recommendation.repository.RecommendationNewsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카테고리별 최신 기사 핫셋 (피드 조립용 인메모리 캐시).
+ *
+ * 카테고리마다 (published_datetime DESC, news_id DESC) 기준 최신 capacity건을 FeedItemDto로 들고 있다.
+ * 모든 사용자가 같은 9개 카테고리의 최신 기사를 읽으므로, 요청마다 카테고리 ID 조회 + IN 조회를 반복하는 대신
+ * 여기서 잘라 쓴다.
+ *
+ * - 갱신: 짧은 주기로 MAX(news_id)를 확인해 새로 적재된 행만 읽어 해당 카테고리 목록에 병합하고 capacity로 자른다
+ *   (고정 크기 링 버퍼처럼 가장 오래된 기사가 밀려남). 수정/삭제 반영을 위해 더 긴 주기로 전체를 다시 적재한다.
+ * - 동시성: 갱신은 새 불변 스냅샷을 만들어 volatile 참조만 교체(copy-on-write)하므로 조회는 락 없이 읽는다.
+ *   반환하는 FeedItemDto는 스냅샷끼리 공유되므로 읽기 전용으로 써야 한다.
+ * - 미스: 아직 적재 전이거나 갱신이 max-staleness-ms 이상 실패한 경우, 또는 요청 건수가 capacity를 넘으면
+ *   null을 반환하고 호출 측이 DB로 조회한다.
+ */
+@Slf4j
+@Component
+public class CategoryHotSet {
+
+    private static final Comparator<Entry> LATEST_FIRST = Comparator
+            .comparing(Entry::publishedDateTime, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparingLong(Entry::newsId)
+            .reversed();
+
+    private final RecommendationNewsRepository newsRepository;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Value("${reco.hot-set.capacity:50}")
+    private int capacity;
+
+    @Value("${reco.hot-set.full-reload-interval-ms:300000}")
+    private long fullReloadIntervalMs;
+
+    @Value("${reco.hot-set.max-staleness-ms:60000}")
+    private long maxStalenessMs;
+
+    @Value("${reco.hot-set.max-ingest-rows:2000}")
+    private int maxIngestRows;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public CategoryHotSet(RecommendationNewsRepository newsRepository, MeterRegistry meterRegistry) {
+        this.newsRepository = newsRepository;
+        this.hitCounter = Counter.builder("reco.feed.hotset.hit")
+                .description("인메모리 핫셋으로 조립한 카테고리 조회")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("reco.feed.hotset.miss")
+                .description("핫셋을 쓰지 못해 DB로 조회한 카테고리 조회")
+                .register(meterRegistry);
+        Gauge.builder("reco.feed.hotset.staleness", this, CategoryHotSet::getStalenessSeconds)
+                .description("마지막으로 DB와 맞춰 본 뒤 지난 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("reco.feed.hotset.items", this, self -> self.snapshot.size())
+                .description("핫셋에 적재된 기사 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * 신규 적재분을 병합한다. 전체 재적재 주기가 지났으면 전체를 다시 읽는다.
+     * 크롤러 적재 직후 즉시 반영이 필요하면 관리자 API로 호출한다.
+     */
+    @Scheduled(fixedDelayString = "${reco.hot-set.refresh-interval-ms:3000}", initialDelayString = "${reco.hot-set.refresh-interval-ms:3000}")
+    public void refresh() {
+        if (!refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            Snapshot current = snapshot;
+            long now = System.currentTimeMillis();
+            if (!current.loaded() || now - current.loadedAt() >= fullReloadIntervalMs) {
+                snapshot = reload(now);
+                return;
+            }
+
+            Long maxId = newsRepository.findMaxNewsId();
+            if (maxId == null || maxId <= current.maxNewsId()) {
+                snapshot = current.verifiedAt(now);
+                return;
+            }
+            List<NewsEntity> ingested = newsRepository.findIngestedAfter(current.maxNewsId(), PageRequest.of(0, maxIngestRows));
+            if (ingested.size() >= maxIngestRows) {
+                // 한 번에 너무 많이 들어왔으면 병합 대신 전체 재적재
+                snapshot = reload(now);
+                return;
+            }
+            snapshot = merge(current, ingested, now);
+        } catch (Exception e) {
+            log.warn("피드 핫셋 갱신 실패 (이전 스냅샷 유지): {}", e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 카테고리 최신 limit건. 핫셋으로 답할 수 없으면 null (호출 측에서 DB 조회).
+     */
+    public List<FeedItemDto> latest(RecommendationCategory category, int limit) {
+        Snapshot current = snapshot;
+        List<Entry> entries = current.byCategory().get(category);
+        if (!current.loaded() || entries == null || limit > capacity
+                || System.currentTimeMillis() - current.verifiedAt() > maxStalenessMs) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        int size = Math.min(limit, entries.size());
+        List<FeedItemDto> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(entries.get(i).item());
+        }
+        return items;
+    }
+
+    public Map<String, Object> getStatus() {
+        Snapshot current = snapshot;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("loaded", current.loaded());
+        status.put("maxNewsId", current.maxNewsId());
+        status.put("items", current.size());
+        status.put("capacity", capacity);
+        status.put("stalenessSeconds", getStalenessSeconds());
+        status.put("hits", (long) hitCounter.count());
+        status.put("misses", (long) missCounter.count());
+        Map<String, Integer> perCategory = new LinkedHashMap<>();
+        current.byCategory().forEach((category, entries) -> perCategory.put(category.name(), entries.size()));
+        status.put("categories", perCategory);
+        return status;
+    }
+
+    private double getStalenessSeconds() {
+        Snapshot current = snapshot;
+        return current.loaded() ? (System.currentTimeMillis() - current.verifiedAt()) / 1000.0 : -1.0;
+    }
+
+    private Snapshot reload(long now) {
+        // MAX(news_id)를 먼저 읽어, 적재 중 들어온 행은 다음 증분에서 다시 병합되도록 한다 (중복은 news_id로 제거)
+        Long maxId = newsRepository.findMaxNewsId();
+        Map<RecommendationCategory, List<Entry>> byCategory = new EnumMap<>(RecommendationCategory.class);
+        for (RecommendationCategory category : RecommendationCategory.values()) {
+            List<Entry> entries = new ArrayList<>();
+            for (NewsEntity news : newsRepository.findLatestByCategory(category, PageRequest.of(0, capacity))) {
+                entries.add(Entry.of(news));
+            }
+            byCategory.put(category, List.copyOf(entries));
+        }
+        Snapshot reloaded = new Snapshot(byCategory, maxId != null ? maxId : 0L, now, now, true);
+        log.debug("피드 핫셋 전체 적재 완료: items={}, maxNewsId={}", reloaded.size(), reloaded.maxNewsId());
+        return reloaded;
+    }
+
+    private Snapshot merge(Snapshot current, List<NewsEntity> ingested, long now) {
+        Map<RecommendationCategory, List<Entry>> added = new EnumMap<>(RecommendationCategory.class);
+        long maxId = current.maxNewsId();
+        for (NewsEntity news : ingested) {
+            maxId = Math.max(maxId, news.getNewsId());
+            if (news.getCategoryName() != null) {
+                added.computeIfAbsent(news.getCategoryName(), c -> new ArrayList<>()).add(Entry.of(news));
+            }
+        }
+
+        // 바뀐 카테고리만 새 목록을 만들고 나머지는 기존 불변 목록을 그대로 공유
+        Map<RecommendationCategory, List<Entry>> byCategory = new EnumMap<>(current.byCategory());
+        added.forEach((category, entries) -> {
+            Map<Long, Entry> merged = new HashMap<>();
+            for (Entry entry : byCategory.getOrDefault(category, List.of())) {
+                merged.put(entry.newsId(), entry);
+            }
+            for (Entry entry : entries) {
+                merged.put(entry.newsId(), entry);
+            }
+            List<Entry> sorted = new ArrayList<>(merged.values());
+            sorted.sort(LATEST_FIRST);
+            byCategory.put(category, List.copyOf(sorted.subList(0, Math.min(capacity, sorted.size()))));
+        });
+        return new Snapshot(byCategory, maxId, current.loadedAt(), now, true);
+    }
+
+    private record Entry(LocalDateTime publishedDateTime, long newsId, FeedItemDto item) {
+        static Entry of(NewsEntity news) {
+            return new Entry(news.getPublishedDateTime(), news.getNewsId(), FeedMapper.toDto(news));
+        }
+    }
+
+    private record Snapshot(Map<RecommendationCategory, List<Entry>> byCategory, long maxNewsId,
+                            long loadedAt, long verifiedAt, boolean loaded) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), 0L, 0L, 0L, false);
+
+        Snapshot verifiedAt(long now) {
+            return new Snapshot(byCategory, maxNewsId, loadedAt, now, loaded);
+        }
+
+        int size() {
+            return byCategory.values().stream().mapToInt(List::size).sum();
+        }
+    }
+}
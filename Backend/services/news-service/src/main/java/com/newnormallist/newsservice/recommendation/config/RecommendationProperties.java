@@ -24,4 +24,21 @@ public class RecommendationProperties {
     private double case2Demo, case2Pref, case2Read, case2Scrap;
     private double case3Demo, case3Pref, case3Read, case3Scrap;
     private double case4Demo, case4Pref, case4Read, case4Scrap;
+
+    // 벡터 배치 재계산 (reco.vector-update.*)
+    private VectorUpdate vectorUpdate = new VectorUpdate();
+
+    @Data
+    public static class VectorUpdate {
+        private int chunkSize = 500;        // 집계 쿼리 1회에 묶는 사용자 수
+        private int parallelism = Math.min(4, Runtime.getRuntime().availableProcessors()); // 동시 처리 청크 수
+        private int writeBatchSize = 900;   // 업서트 배치 행 수 (사용자당 9행)
+        private int initialLookbackHours = 24; // 워터마크가 없을 때 활동 사용자 조회 구간
+        private int refreshThreads = 2;     // 피드 경로 밖 단건 갱신 동시 실행 수
+        private int refreshQueueCapacity = 1000; // 단건 갱신 대기열 크기
+        private int staleMinutes = 10;      // 마지막 계산 후 이 시간이 지나면 stale
+        private int activityThreshold = 5;  // 마지막 계산 후 조회(스크랩) 수가 이 이상이면 stale
+        private int activityMaxUsers = 100000; // 활동 카운터를 두는 최대 사용자 수 (넘으면 주기 배치에 맡김)
+        private int activityIdleMinutes = 30; // 이 시간 동안 활동이 없는 카운터는 버림 (주기 배치가 이미 반영)
+    }
 }
@@ -51,6 +51,28 @@ public class FeedController {
                 .build();
     }
 
+    /**
+     * 인증된 사용자의 개인화 피드 조회 (커서 기반 무한 스크롤)
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "개인화 뉴스 피드 조회 (커서)", description = "첫 요청은 개인화 추천을, 이후 요청은 nextCursor 기준 최신순 뉴스를 반환합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public FeedResponseDto getUserFeedByCursor(
+            @AuthenticationPrincipal String userIdStr,
+            @Parameter(description = "이전 응답의 nextCursor (첫 요청은 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "21")
+            @RequestParam(defaultValue = "21") int size) {
+        Long userId = Long.parseLong(userIdStr);
+        return recommendationService.getFeedByCursor(userId, cursor, size);
+    }
+
     /**
      * 관리자용: 특정 사용자의 피드 조회 (개발/테스트/관리 목적)
      */
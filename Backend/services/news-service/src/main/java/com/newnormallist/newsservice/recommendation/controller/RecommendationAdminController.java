@@ -0,0 +1,69 @@
+package com.newnormallist.newsservice.recommendation.controller;
+
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import lombok.RequiredArgsConstructor;
+import com.newnormallist.newsservice.recommendation.cache.CategoryHotSet;
+import com.newnormallist.newsservice.recommendation.scheduler.VectorUpdateScheduler;
+import com.newnormallist.newsservice.recommendation.service.VectorBatchService;
+import java.util.List;
+import java.util.Map;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+// 추천 모듈 운영 API
+// - 사용자 벡터 배치 재계산 트리거 (처리 건수 / 초당 사용자 수 반환)
+// - 피드 핫셋 즉시 갱신(크롤러 적재 직후 호출) / 상태 조회
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/recommendation")
+@Tag(name = "Admin", description = "관리자 전용 뉴스 관리")
+@SecurityRequirement(name = "bearerAuth")
+public class RecommendationAdminController {
+
+    private final VectorBatchService vectorBatchService;
+    private final VectorUpdateScheduler vectorUpdateScheduler;
+    private final CategoryHotSet categoryHotSet;
+
+    /**
+     * 관리자용: 사용자 벡터 배치 재계산
+     */
+    @PostMapping("/vectors/recompute")
+    @Operation(summary = "사용자 벡터 배치 재계산", description = "userIds를 주면 해당 사용자만, 생략하면 전체 ACTIVE 사용자의 선호 벡터를 재계산합니다.")
+    @ApiResponse(responseCode = "200", description = "재계산 완료")
+    public Map<String, Object> recompute(
+            @Parameter(description = "재계산할 사용자 ID 목록 (생략 시 전체)")
+            @RequestParam(required = false) List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return vectorUpdateScheduler.recomputeAll();
+        }
+        return vectorBatchService.recompute(userIds);
+    }
+
+    /**
+     * 관리자용: 피드 핫셋 즉시 갱신
+     */
+    @PostMapping("/hot-set/refresh")
+    @Operation(summary = "피드 핫셋 갱신", description = "새로 적재된 기사를 카테고리별 인메모리 핫셋에 바로 반영하고 상태를 반환합니다.")
+    @ApiResponse(responseCode = "200", description = "갱신 완료")
+    public Map<String, Object> refreshHotSet() {
+        categoryHotSet.refresh();
+        return categoryHotSet.getStatus();
+    }
+
+    /**
+     * 관리자용: 피드 핫셋 상태 조회
+     */
+    @GetMapping("/hot-set/status")
+    @Operation(summary = "피드 핫셋 상태", description = "카테고리별 적재 건수, 마지막 반영 뉴스 ID, 경과 시간, 히트/미스 수를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "상태 조회 성공")
+    public Map<String, Object> hotSetStatus() {
+        return categoryHotSet.getStatus();
+    }
+}
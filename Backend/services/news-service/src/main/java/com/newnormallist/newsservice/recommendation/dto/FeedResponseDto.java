@@ -1,6 +1,7 @@
 package com.newnormallist.newsservice.recommendation.dto;
 
 import java.util.List;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,4 +17,8 @@ import lombok.Setter;
 @Builder
 public class FeedResponseDto {
     private List<FeedItemDto> content;
+
+    // 커서 기반 피드에서만 사용 (다음 요청의 cursor, 마지막 페이지면 null)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 }
@@ -7,14 +7,16 @@ import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
+import com.newnormallist.newsservice.news.entity.PublishedAtParser;
+
 
 // 뉴스 마스터 테이블 매핑
-// 핵심 인덱스 : (category, published_at DESC) -> 카테고리별 최신 기사 추출\
+// 핵심 인덱스 : (category, published_datetime DESC) -> 카테고리별 최신 기사 추출\
 @Entity
 @Table(name = "news", indexes = {
-    @Index(name = "idx_news_cat_pub", columnList = "category_name, published_at")
+    @Index(name = "idx_news_cat_pubdt", columnList = "category_name, published_datetime")
 })
-// WHERE category_name = ? ORDER BY published_at DESC 같은 쿼리에서 효율적으로 최신 기사를 뽑을 수 있음
+// WHERE category_name = ? ORDER BY published_datetime DESC 같은 쿼리에서 효율적으로 최신 기사를 뽑을 수 있음
 @Getter
 @Setter
 @NoArgsConstructor
@@ -42,6 +44,9 @@ public class NewsEntity {
     @Column(name = "published_at", length = 100)
     private String publishedAt;
 
+    @Column(name = "published_datetime", columnDefinition = "DATETIME")
+    private LocalDateTime publishedDateTime;
+
     @Column(name = "reporter", nullable = false, columnDefinition = "TEXT")
     private String reporter;
 
@@ -69,4 +74,11 @@ public class NewsEntity {
 
     @Column(name = "oid_aid")
     private String oidAid;
+
+    @PrePersist
+    @PreUpdate
+    private void syncPublishedDateTime() {
+        // published_at이 바뀌면 정렬 컬럼도 같이 바뀌어야 하므로 항상 다시 계산
+        publishedDateTime = PublishedAtParser.parse(publishedAt);
+    }
 }
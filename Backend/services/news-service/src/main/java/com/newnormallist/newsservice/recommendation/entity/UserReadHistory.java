@@ -12,7 +12,11 @@ import java.time.LocalDateTime;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "user_read_history",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "news_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "news_id"}),
+        indexes = {
+                @Index(name = "idx_urh_user_created", columnList = "user_id, created_at"),
+                @Index(name = "idx_urh_updated", columnList = "updated_at")
+        })
 public class UserReadHistory {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
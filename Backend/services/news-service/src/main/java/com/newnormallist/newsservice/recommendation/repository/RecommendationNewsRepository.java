@@ -4,9 +4,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import java.util.List;
 import java.util.Collection;
+import java.time.LocalDateTime;
 
 import com.newnormallist.newsservice.recommendation.entity.NewsEntity;
 import com.newnormallist.newsservice.recommendation.entity.RecommendationCategory;
@@ -17,20 +18,38 @@ import com.newnormallist.newsservice.recommendation.entity.RecommendationCategor
 // findCategoryById(id) : 조회 로그 저장 시 newsId → category 팝업용.
 public interface RecommendationNewsRepository extends JpaRepository<NewsEntity, Long> {
 
-    @Query("SELECT n.newsId FROM NewsEntity n WHERE n.categoryName = :cat ORDER BY " +
-           "CASE WHEN n.publishedAt LIKE '%T%' THEN STR_TO_DATE(n.publishedAt, '%Y-%m-%dT%H:%i:%s') " +
-           "ELSE STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') END DESC")
+    @Query("SELECT n.newsId FROM NewsEntity n WHERE n.categoryName = :cat ORDER BY n.publishedDateTime DESC, n.newsId DESC")
     List<Long> findLatestIdsByCategory(@Param("cat") RecommendationCategory category, Pageable pageable);
 
+    // 카테고리 최신 N건 (인메모리 핫셋 전체 적재용)
+    @Query("SELECT n FROM NewsEntity n WHERE n.categoryName = :cat ORDER BY n.publishedDateTime DESC, n.newsId DESC")
+    List<NewsEntity> findLatestByCategory(@Param("cat") RecommendationCategory category, Pageable pageable);
+
+    // 마지막으로 본 news_id 이후 적재분 (인메모리 핫셋 증분 반영용)
+    @Query("SELECT n FROM NewsEntity n WHERE n.newsId > :afterId ORDER BY n.newsId ASC")
+    List<NewsEntity> findIngestedAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT MAX(n.newsId) FROM NewsEntity n")
+    Long findMaxNewsId();
+
     @Query("SELECT n FROM NewsEntity n WHERE n.newsId IN :ids")
     List<NewsEntity> findByIdIn(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT n.categoryName FROM NewsEntity n WHERE n.newsId = :id")
     RecommendationCategory findCategoryById(@Param("id") Long id);
     
-    // published_at 기준 최신순 정렬 (전체 뉴스 피드용)
-    @Query("SELECT n FROM NewsEntity n ORDER BY " +
-           "CASE WHEN n.publishedAt LIKE '%T%' THEN STR_TO_DATE(n.publishedAt, '%Y-%m-%dT%H:%i:%s') " +
-           "ELSE STR_TO_DATE(n.publishedAt, '%Y-%m-%d %H:%i:%s') END DESC")
-    Page<NewsEntity> findAllByOrderByPublishedAtDesc(Pageable pageable);
+    // 커서 기반 최신순 피드: (published_datetime, news_id)보다 오래된 행 (COUNT 없음)
+    @Query("SELECT n FROM NewsEntity n WHERE n.publishedDateTime < :publishedAt " +
+           "OR (n.publishedDateTime = :publishedAt AND n.newsId < :newsId) " +
+           "ORDER BY n.publishedDateTime DESC, n.newsId DESC")
+    List<NewsEntity> findLatestBefore(@Param("publishedAt") LocalDateTime publishedAt,
+                                      @Param("newsId") Long newsId,
+                                      Pageable pageable);
+
+    @Query("SELECT n FROM NewsEntity n WHERE n.publishedDateTime IS NULL AND n.newsId < :newsId ORDER BY n.newsId DESC")
+    List<NewsEntity> findUndatedBefore(@Param("newsId") Long newsId, Pageable pageable);
+
+    // published_at 기준 최신순 정렬 (전체 뉴스 피드용, Slice라 COUNT 쿼리 없음)
+    @Query("SELECT n FROM NewsEntity n ORDER BY n.publishedDateTime DESC, n.newsId DESC")
+    Slice<NewsEntity> findAllByOrderByPublishedAtDesc(Pageable pageable);
 }
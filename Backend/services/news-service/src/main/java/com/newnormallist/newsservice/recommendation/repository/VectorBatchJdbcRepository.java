@@ -0,0 +1,180 @@
+package com.newnormallist.newsservice.recommendation.repository;
+
+import com.newnormallist.newsservice.recommendation.entity.RecommendationCategory;
+import com.newnormallist.newsservice.recommendation.entity.UserPrefVector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 사용자 벡터 배치 재계산용 집합 조회/업서트 (JDBC)
+// 유저 청크 단위로 조회·스크랩을 (user, category, 경과일) 그룹 집계해 가져오고,
+// 9행 벡터는 INSERT ... ON DUPLICATE KEY UPDATE 배치로 덮어쓴다 (delete + insert 없음).
+@Repository
+@RequiredArgsConstructor
+public class VectorBatchJdbcRepository {
+
+    private static final String USERS_SQL =
+            "SELECT id, birth_year, gender FROM users WHERE id IN (:ids) AND user_status = 'ACTIVE'";
+
+    private static final String CATEGORIES_SQL =
+            "SELECT user_id, category FROM user_categories WHERE user_id IN (:ids)";
+
+    // 경과일은 Duration.toDays()와 같이 내림 (TIMESTAMPDIFF DAY)
+    private static final String READ_GROUPS_SQL =
+            "SELECT user_id, category_name, TIMESTAMPDIFF(DAY, created_at, :now) AS days, COUNT(*) AS cnt " +
+            "FROM user_read_history WHERE user_id IN (:ids) AND created_at > :since " +
+            "GROUP BY user_id, category_name, days";
+
+    private static final String SCRAP_GROUPS_SQL =
+            "SELECT ss.user_id, n.category_name, TIMESTAMPDIFF(DAY, ns.created_at, :now) AS days, COUNT(*) AS cnt " +
+            "FROM news_scrap ns " +
+            "JOIN scrap_storage ss ON ns.storage_id = ss.storage_id " +
+            "JOIN news n ON ns.news_id = n.news_id " +
+            "WHERE ss.user_id IN (:ids) AND ns.created_at >= :since " +
+            "GROUP BY ss.user_id, n.category_name, days";
+
+    // 마지막 실행 이후 조회/스크랩/회원정보 변경이 있었거나 아직 벡터가 없는 사용자 (ID 순 페이지)
+    private static final String ACTIVE_SINCE_PAGE_SQL =
+            "SELECT user_id FROM (" +
+            "SELECT user_id FROM user_read_history WHERE updated_at >= :since AND user_id > :afterId " +
+            "UNION SELECT ss.user_id FROM news_scrap ns JOIN scrap_storage ss ON ns.storage_id = ss.storage_id " +
+            "WHERE ns.created_at >= :since AND ss.user_id > :afterId " +
+            "UNION SELECT id FROM users WHERE updated_at >= :since AND id > :afterId " +
+            "UNION SELECT u.id FROM users u WHERE u.user_status = 'ACTIVE' AND u.id > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM user_pref_vector v WHERE v.user_id = u.id)" +
+            ") active ORDER BY user_id LIMIT :limit";
+
+    private static final String ACTIVE_PAGE_SQL =
+            "SELECT id FROM users WHERE user_status = 'ACTIVE' AND id > :afterId ORDER BY id LIMIT :limit";
+
+    // 단건 갱신 stale 판단용: 마지막 계산 시각 (9행이 같은 시각에 업서트됨)
+    private static final String VECTOR_UPDATED_AT_SQL =
+            "SELECT MAX(updated_at) FROM user_pref_vector WHERE user_id = :userId";
+
+    private static final String ACTIVITY_SINCE_SQL =
+            "SELECT (SELECT COUNT(*) FROM user_read_history WHERE user_id = :userId AND created_at > :since), " +
+            "(SELECT COUNT(*) FROM news_scrap ns JOIN scrap_storage ss ON ns.storage_id = ss.storage_id " +
+            "WHERE ss.user_id = :userId AND ns.created_at > :since)";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO user_pref_vector (user_id, category, score, w_demo, w_pref, w_read, w_scrap, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, NOW(6), NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE score = VALUES(score), w_demo = VALUES(w_demo), w_pref = VALUES(w_pref), " +
+            "w_read = VALUES(w_read), w_scrap = VALUES(w_scrap), updated_at = VALUES(updated_at)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 벡터 계산에 필요한 사용자 메타 (ACTIVE 사용자만)
+     */
+    public List<UserRow> findActiveUsers(Collection<Long> userIds) {
+        return jdbcTemplate.query(USERS_SQL, new MapSqlParameterSource("ids", userIds),
+                (rs, rowNum) -> new UserRow(rs.getLong(1), (Integer) rs.getObject(2), rs.getString(3)));
+    }
+
+    /**
+     * 사용자별 선호 카테고리
+     */
+    public Map<Long, List<RecommendationCategory>> findPreferredCategories(Collection<Long> userIds) {
+        Map<Long, List<RecommendationCategory>> result = new HashMap<>();
+        jdbcTemplate.query(CATEGORIES_SQL, new MapSqlParameterSource("ids", userIds), rs -> {
+            RecommendationCategory category = toCategory(rs.getString(2));
+            if (category != null) {
+                result.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(category);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * since 이후 조회 기록을 (user, category, 경과일) 단위 건수로 집계
+     */
+    public List<DecayGroup> aggregateReads(Collection<Long> userIds, LocalDateTime since, LocalDateTime now) {
+        return queryGroups(READ_GROUPS_SQL, userIds, since, now);
+    }
+
+    /**
+     * since 이후 스크랩 기록을 (user, category, 경과일) 단위 건수로 집계
+     */
+    public List<DecayGroup> aggregateScraps(Collection<Long> userIds, LocalDateTime since, LocalDateTime now) {
+        return queryGroups(SCRAP_GROUPS_SQL, userIds, since, now);
+    }
+
+    /**
+     * since 이후 활동했거나 벡터가 없는 사용자를 afterId 다음부터 ID 순으로 limit명
+     */
+    public List<Long> findActiveUserIdsSince(LocalDateTime since, long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("since", since)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        return jdbcTemplate.queryForList(ACTIVE_SINCE_PAGE_SQL, params, Long.class);
+    }
+
+    public List<Long> findActiveUserIdsAfter(long afterId, int limit) {
+        return jdbcTemplate.queryForList(ACTIVE_PAGE_SQL,
+                new MapSqlParameterSource("afterId", afterId).addValue("limit", limit), Long.class);
+    }
+
+    /**
+     * 사용자 벡터의 마지막 계산 시각 (벡터가 없으면 null)
+     */
+    public LocalDateTime findVectorUpdatedAt(long userId) {
+        return jdbcTemplate.queryForObject(VECTOR_UPDATED_AT_SQL, new MapSqlParameterSource("userId", userId),
+                (rs, rowNum) -> rs.getObject(1, LocalDateTime.class));
+    }
+
+    /**
+     * since 이후 사용자의 조회/스크랩 건수
+     */
+    public ActivityCount countActivitySince(long userId, LocalDateTime since) {
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", userId).addValue("since", since);
+        return jdbcTemplate.queryForObject(ACTIVITY_SINCE_SQL, params,
+                (rs, rowNum) -> new ActivityCount(rs.getLong(1), rs.getLong(2)));
+    }
+
+    public void upsertAll(List<UserPrefVector> vectors, int batchSize) {
+        jdbcTemplate.getJdbcTemplate().batchUpdate(UPSERT_SQL, vectors, batchSize, (ps, v) -> {
+            ps.setLong(1, v.getUserId());
+            ps.setString(2, v.getCategory().name());
+            ps.setDouble(3, v.getScore());
+            ps.setDouble(4, v.getWDemo());
+            ps.setDouble(5, v.getWPref());
+            ps.setDouble(6, v.getWRead());
+            ps.setDouble(7, v.getWScrap());
+        });
+    }
+
+    private List<DecayGroup> queryGroups(String sql, Collection<Long> userIds, LocalDateTime since, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", userIds)
+                .addValue("since", since)
+                .addValue("now", now);
+        return jdbcTemplate.query(sql, params, (rs, rowNum) ->
+                new DecayGroup(rs.getLong(1), toCategory(rs.getString(2)), rs.getLong(3), rs.getLong(4)));
+    }
+
+    private static RecommendationCategory toCategory(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return RecommendationCategory.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public record UserRow(long id, Integer birthYear, String gender) { }
+
+    public record ActivityCount(long reads, long scraps) { }
+
+    // category가 null이면 합계(비율화 분모)에만 포함된다
+    public record DecayGroup(long userId, RecommendationCategory category, long days, long count) { }
+}
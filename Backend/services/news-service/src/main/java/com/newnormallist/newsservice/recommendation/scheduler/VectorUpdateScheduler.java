@@ -1,72 +1,152 @@
-// package com.newnormallist.newsservice.recommendation.scheduler;
-
-// import org.springframework.scheduling.annotation.Scheduled;
-// import org.springframework.stereotype.Component;
-// import lombok.RequiredArgsConstructor;
-// import lombok.extern.slf4j.Slf4j;
-
-// import com.newnormallist.newsservice.recommendation.service.VectorBatchService;
-// import com.newnormallist.newsservice.recommendation.repository.UserRepository;
-// import com.newnormallist.newsservice.recommendation.entity.User;
-
-// import java.util.List;
-
-// // 사용자 벡터 주기적 업데이트 스케줄러
-// @Component
-// @RequiredArgsConstructor
-// @Slf4j
-// public class VectorUpdateScheduler {
-
-//     private final VectorBatchService vectorBatchService;
-//     private final UserRepository userRepository;
-
-//     // 매일 새벽 2시에 모든 활성 사용자의 벡터 업데이트
-//     @Scheduled(cron = "0 0 2 * * ?")
-//     public void updateAllUserVectors() {
-//         log.info("Starting daily vector update for all active users");
-        
-//         try {
-//             List<User> activeUsers = userRepository.findAll(); // TODO: ACTIVE 상태 필터링 추가
-            
-//             int updatedCount = 0;
-//             for (User user : activeUsers) {
-//                 try {
-//                     vectorBatchService.upsert(user.getId());
-//                     updatedCount++;
-//                 } catch (Exception e) {
-//                     log.error("Failed to update vector for user {}: {}", user.getId(), e.getMessage());
-//                 }
-//             }
-            
-//             log.info("Daily vector update completed. Updated {} users out of {}", updatedCount, activeUsers.size());
-            
-//         } catch (Exception e) {
-//             log.error("Daily vector update failed: {}", e.getMessage(), e);
-//         }
-//     }
-
-//     // 매시간 정각에 오래된 벡터 업데이트 (10분 이상 경과)
-//     @Scheduled(cron = "0 0 * * * ?")
-//     public void updateStaleVectors() {
-//         log.info("Starting hourly stale vector update");
-        
-//         try {
-//             List<User> activeUsers = userRepository.findAll(); // TODO: ACTIVE 상태 필터링 추가
-            
-//             int updatedCount = 0;
-//             for (User user : activeUsers) {
-//                 try {
-//                     vectorBatchService.upsert(user.getId());
-//                     updatedCount++;
-//                 } catch (Exception e) {
-//                     log.error("Failed to update stale vector for user {}: {}", user.getId(), e.getMessage());
-//                 }
-//             }
-            
-//             log.info("Hourly stale vector update completed. Updated {} users out of {}", updatedCount, activeUsers.size());
-            
-//         } catch (Exception e) {
-//             log.error("Hourly stale vector update failed: {}", e.getMessage(), e);
-//         }
-//     }
-// }
+package com.newnormallist.newsservice.recommendation.scheduler;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.newnormallist.newsservice.recommendation.config.RecommendationProperties;
+import com.newnormallist.newsservice.recommendation.repository.VectorBatchJdbcRepository;
+import com.newnormallist.newsservice.recommendation.service.VectorBatchService;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 사용자 벡터 주기적 업데이트 스케줄러
+// - 주기 실행: 마지막 실행 이후 조회/스크랩/회원정보 변경이 있었던 사용자(+ 벡터 없는 사용자)만 ID 순 페이지로 재계산
+// - 일 1회: 활동이 없어도 감쇠 가중치가 바뀌므로 전체 ACTIVE 사용자 재계산
+// 마지막 실행 시각은 Redis에 저장해 재기동 후에도 이어서 처리한다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VectorUpdateScheduler {
+
+    private static final String WATERMARK_KEY = "reco:vector:last-active-run";
+
+    private final VectorBatchService vectorBatchService;
+    private final VectorBatchJdbcRepository vectorBatchJdbcRepository;
+    private final RecommendationProperties properties;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 주기 실행과 전체 실행이 겹치지 않도록
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Redis 장애 시에도 같은 프로세스 안에서는 이어서 처리
+    private volatile LocalDateTime lastActiveRunAt;
+
+    @Scheduled(fixedDelayString = "${reco.vector-update.active-interval-ms:600000}", initialDelay = 60000)
+    public void updateActiveUserVectors() {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            // 조회 시작 전 시각을 다음 워터마크로 사용 (실행 중 들어온 활동은 다음 주기에 다시 포함)
+            LocalDateTime startedAt = LocalDateTime.now();
+            LocalDateTime since = loadWatermark();
+            PagedRun run = recomputeInPages((afterId, limit) ->
+                    vectorBatchJdbcRepository.findActiveUserIdsSince(since, afterId, limit));
+            if (run.users() > 0) {
+                log.info("활동 사용자 벡터 재계산 완료: since={}, users={}, failedChunks={}",
+                        since, run.users(), run.failedChunks());
+            }
+            if (run.failedChunks() > 0) {
+                return; // 워터마크를 유지해 다음 주기에 같은 구간을 다시 처리
+            }
+            saveWatermark(startedAt);
+        } catch (Exception e) {
+            log.error("활동 사용자 벡터 재계산 실패: {}", e.getMessage(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 매일 새벽 2시에 모든 활성 사용자의 벡터 업데이트
+    @Scheduled(cron = "${reco.vector-update.full-cron:0 0 2 * * ?}")
+    public void updateAllUserVectors() {
+        try {
+            recomputeAll();
+        } catch (Exception e) {
+            log.error("전체 사용자 벡터 재계산 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 전체 ACTIVE 사용자를 ID 순 페이지로 나눠 재계산한다. 다른 실행이 진행 중이면 끝날 때까지 기다린다.
+     */
+    public Map<String, Object> recomputeAll() {
+        lock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            PagedRun run = recomputeInPages(vectorBatchJdbcRepository::findActiveUserIdsAfter);
+
+            long elapsedMs = Math.max(1L, System.currentTimeMillis() - startedAt);
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("users", run.users());
+            result.put("failedChunks", run.failedChunks());
+            result.put("elapsedMs", elapsedMs);
+            result.put("usersPerSecond", Math.round(run.users() * 10000.0 / elapsedMs) / 10.0);
+            log.info("전체 사용자 벡터 재계산 완료: {}", result);
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 사용자 ID 순 페이지(afterId 다음부터 limit명)를 끝까지 읽으며 재계산
+    private PagedRun recomputeInPages(PageLoader pageLoader) {
+        RecommendationProperties.VectorUpdate config = properties.getVectorUpdate();
+        int pageSize = Math.max(1, config.getChunkSize()) * Math.max(1, config.getParallelism());
+        long afterId = 0L;
+        long users = 0L;
+        long failedChunks = 0L;
+        while (true) {
+            List<Long> page = pageLoader.load(afterId, pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            Map<String, Object> stats = vectorBatchService.recompute(page);
+            users += ((Number) stats.get("users")).longValue();
+            failedChunks += ((Number) stats.get("failedChunks")).longValue();
+            afterId = page.get(page.size() - 1);
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+        return new PagedRun(users, failedChunks);
+    }
+
+    private LocalDateTime loadWatermark() {
+        if (lastActiveRunAt != null) {
+            return lastActiveRunAt;
+        }
+        try {
+            String stored = redisTemplate.opsForValue().get(WATERMARK_KEY);
+            if (stored != null) {
+                return LocalDateTime.parse(stored);
+            }
+        } catch (Exception e) {
+            log.warn("벡터 재계산 워터마크 조회 실패, 기본 구간으로 진행: {}", e.getMessage());
+        }
+        return LocalDateTime.now().minusHours(properties.getVectorUpdate().getInitialLookbackHours());
+    }
+
+    private void saveWatermark(LocalDateTime startedAt) {
+        lastActiveRunAt = startedAt;
+        try {
+            redisTemplate.opsForValue().set(WATERMARK_KEY, startedAt.toString());
+        } catch (Exception e) {
+            log.warn("벡터 재계산 워터마크 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface PageLoader {
+        List<Long> load(long afterId, int limit);
+    }
+
+    private record PagedRun(long users, long failedChunks) { }
+}
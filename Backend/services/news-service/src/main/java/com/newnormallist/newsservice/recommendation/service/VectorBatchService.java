@@ -1,15 +1,23 @@
 package com.newnormallist.newsservice.recommendation.service;
 
+import java.util.List;
+import java.util.Map;
+
 /* 
     벡터 저장/갱신 orchestrator 인터페이스.
 
     구현체(예: VectorBatchServiceImpl)는:
 
-    스케줄러/로그인 트리거/운영 호출 등에서 VectorBuilder 호출 →
-    UserPrefVectorRepository.upsertBatch(userId, 9행) 저장.
+    스케줄러/비동기 갱신(VectorRefreshService)/운영 호출 등에서 VectorBuilder 호출 →
+    user_pref_vector 9행 업서트.
+
+    stale 정책(최종 업데이트 10분 경과, 마지막 계산 이후 조회≥5 등)은 VectorRefreshService에서 관리.
 
-    stale 정책(최종 업데이트 10분 경과, 마지막 계산 이후 조회≥5 등) 관리.
+    recompute: 스케줄러용 집합 재계산. 사용자 청크별로 그룹 집계 쿼리 →
+    병렬 계산 → JDBC 배치 업서트, 처리 건수/초당 사용자 수 반환.
 */
 public interface VectorBatchService {
-    void upsert(Long userId); // stale 판단/일괄 갱신은 구현에서
+    void upsert(Long userId); // stale일 때만 즉시 재계산 (피드 요청 경로에서는 벡터 없는 신규 사용자만)
+
+    Map<String, Object> recompute(List<Long> userIds); // stale 판단 없이 전부 재계산
 }
\ No newline at end of file
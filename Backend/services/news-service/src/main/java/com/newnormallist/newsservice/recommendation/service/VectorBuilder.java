@@ -1,7 +1,9 @@
 package com.newnormallist.newsservice.recommendation.service;
 
 import java.util.List;
+import java.util.Map;
 
+import com.newnormallist.newsservice.recommendation.entity.RecommendationCategory;
 import com.newnormallist.newsservice.recommendation.entity.UserEntity;
 import com.newnormallist.newsservice.recommendation.entity.UserPrefVector;
 
@@ -19,4 +21,10 @@ import com.newnormallist.newsservice.recommendation.entity.UserPrefVector;
 */
 public interface VectorBuilder {
     List<UserPrefVector> recomputeForUser(UserEntity userEntity);
+
+    // 이미 집계된 P/R/S(각각 비율화된 분포)로 9행 계산 (배치 재계산에서 DB 조회 없이 사용)
+    List<UserPrefVector> compose(Long userId, Integer birthYear, String gender,
+                                 Map<RecommendationCategory, Double> P,
+                                 Map<RecommendationCategory, Double> R,
+                                 Map<RecommendationCategory, Double> S);
 }
@@ -0,0 +1,22 @@
+package com.newnormallist.newsservice.recommendation.service;
+
+import java.time.LocalDateTime;
+
+/*
+    사용자 벡터 비동기 갱신 트리거.
+
+    조회/스크랩 기록 시점에 사용자별 활동 카운터를 올리고, 임계값을 넘으면 갱신을 예약한다.
+    피드 요청은 현재 저장된 벡터로 바로 응답하고, 벡터가 오래됐으면(stale) 갱신만 예약한다.
+    같은 사용자의 갱신은 대기/실행 중 하나로 합쳐지고, 동시 실행 수는 고정 스레드 수로 제한된다.
+*/
+public interface VectorRefreshService {
+    void recordRead(Long userId);
+
+    void recordScrap(Long userId);
+
+    // 피드 응답 시 현재 벡터의 갱신 시각으로 stale 여부 판단 (DB 조회 없음)
+    void onFeedServed(Long userId, LocalDateTime vectorUpdatedAt);
+
+    // 중복 제거 후 백그라운드 갱신 예약 (대기열이 가득 차면 false, 주기 배치에서 처리됨)
+    boolean requestRefresh(Long userId);
+}
@@ -4,22 +4,29 @@ import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 import com.newnormallist.newsservice.recommendation.service.RecommendationService;
 import com.newnormallist.newsservice.recommendation.service.VectorBatchService;
+import com.newnormallist.newsservice.recommendation.service.VectorRefreshService;
 import com.newnormallist.newsservice.recommendation.entity.*;
+import com.newnormallist.newsservice.news.dto.NewsCursor;
 import com.newnormallist.newsservice.recommendation.dto.FeedItemDto;
+import com.newnormallist.newsservice.recommendation.dto.FeedResponseDto;
 import com.newnormallist.newsservice.recommendation.repository.*;
 import com.newnormallist.newsservice.recommendation.mapper.FeedMapper;
 import com.newnormallist.newsservice.recommendation.config.RecommendationProperties;
-
+import com.newnormallist.newsservice.recommendation.cache.CategoryHotSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 
 import java.util.*;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 // 피드 조립 서비스 구현체.
 // UserPrefVectorRepository.findTop3ByUserId(userId)로 top3 카테고리 확보
-// 각 카테고리에서 최신 7/5/3 ID 수집
-// findByIds로 뉴스 메타 일괄 조회
+// (벡터 갱신은 요청 경로 밖에서: stale이면 VectorRefreshService에 예약만 하고 현재 벡터로 응답)
+// 각 카테고리에서 최신 7/5/3건을 인메모리 핫셋(CategoryHotSet)에서 잘라 조립
+// (핫셋 미스 시에만 카테고리 최신 ID 조회 + findByIds로 뉴스 메타 일괄 조회)
 // DTO로 매핑해 반환
 @Service
 @RequiredArgsConstructor
@@ -29,6 +36,21 @@ public class RecommendationServiceImpl implements RecommendationService {
     private final UserPrefVectorRepository userPrefVectorRepository;
     private final RecommendationNewsRepository newsRepository;
     private final RecommendationProperties properties;
+    private final VectorRefreshService vectorRefreshService;
+    private final CategoryHotSet categoryHotSet;
+    private final MeterRegistry meterRegistry;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    private Timer personalizedFeedTimer;
+
+    @PostConstruct
+    void initMetrics() {
+        personalizedFeedTimer = Timer.builder("reco.feed.personalized")
+                .description("개인화 피드(첫 페이지) 조립 소요 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
 
     @Override
     public List<FeedItemDto> getFeed(Long id) {
@@ -46,59 +68,105 @@ public class RecommendationServiceImpl implements RecommendationService {
         // 두 번째 페이지부터: 전체 뉴스 최신순
         return getLatestNewsFeed(page, size);
     }
+
+    @Override
+    public FeedResponseDto getFeedByCursor(Long id, String cursor, int size) {
+        // 첫 요청: 개인화 추천 + 최신순 피드 시작 커서
+        if (cursor == null || cursor.isBlank()) {
+            return FeedResponseDto.builder()
+                .content(getPersonalizedFeed(id))
+                .nextCursor(NewsCursor.first().encode())
+                .build();
+        }
+
+        // 이후 요청: 커서 기준 최신순 (OFFSET / COUNT 없음)
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        List<NewsEntity> rows = NewsCursor.decode(cursor).seek(limit + 1,
+            (c, n) -> newsRepository.findLatestBefore(c.getPublishedAt(), c.getNewsId(), PageRequest.of(0, n)),
+            (beforeId, n) -> newsRepository.findUndatedBefore(beforeId, PageRequest.of(0, n)));
+
+        boolean hasNext = rows.size() > limit;
+        List<NewsEntity> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            // 섞기 전 DB 정렬 기준 마지막 행으로 커서 생성
+            NewsEntity last = page.get(page.size() - 1);
+            nextCursor = NewsCursor.of(null, last.getPublishedDateTime(), last.getNewsId()).encode();
+        }
+
+        return FeedResponseDto.builder()
+            .content(interleaveByCategory(page))
+            .nextCursor(nextCursor)
+            .build();
+    }
     
     private List<FeedItemDto> getPersonalizedFeed(Long id) {
-        // 1. 사용자 벡터 업데이트 (필요시)
-        vectorBatchService.upsert(id);
-        
-        // 2. 상위 3개 카테고리 조회
+        return personalizedFeedTimer.record(() -> assemblePersonalizedFeed(id));
+    }
+
+    private List<FeedItemDto> assemblePersonalizedFeed(Long id) {
+        // 1. 상위 3개 카테고리 조회 (현재 저장된 벡터 기준)
         List<UserPrefVector> top3Vectors = userPrefVectorRepository
             .findTopByUserIdOrderByScoreDesc(id, PageRequest.of(0, 3));
         
         if (top3Vectors.isEmpty()) {
-            return Collections.emptyList();
+            // 벡터가 아직 없는 신규 사용자만 요청 경로에서 1회 계산
+            vectorBatchService.upsert(id);
+            top3Vectors = userPrefVectorRepository
+                .findTopByUserIdOrderByScoreDesc(id, PageRequest.of(0, 3));
+            if (top3Vectors.isEmpty()) {
+                return Collections.emptyList();
+            }
+        } else {
+            // 2. stale이면 백그라운드 갱신만 예약 (9행은 같은 시각에 업서트되므로 1행의 갱신 시각으로 판단)
+            vectorRefreshService.onFeedServed(id, top3Vectors.get(0).getUpdatedAt());
         }
         
-        // 3. 각 카테고리별 최신 뉴스 ID 수집
-        List<Long> newsIds = new ArrayList<>();
+        // 3. 카테고리별 최신 뉴스: 인메모리 핫셋에서 잘라 붙임 (핫셋 미스인 카테고리만 DB 조회)
+        List<FeedItemDto> feedItems = new ArrayList<>();
         List<Integer> quotas = properties.getQuotas();
         
         for (int i = 0; i < top3Vectors.size() && i < quotas.size(); i++) {
             RecommendationCategory category = top3Vectors.get(i).getCategory();
             int quota = quotas.get(i);
             
-            List<Long> categoryNewsIds = newsRepository.findLatestIdsByCategory(
-                category, PageRequest.of(0, quota)
-            );
-            newsIds.addAll(categoryNewsIds);
+            List<FeedItemDto> cached = categoryHotSet.latest(category, quota);
+            feedItems.addAll(cached != null ? cached : loadLatestByCategory(category, quota));
         }
         
+        return feedItems;
+    }
+
+    private List<FeedItemDto> loadLatestByCategory(RecommendationCategory category, int quota) {
+        // 1. 카테고리 최신 뉴스 ID 수집
+        List<Long> newsIds = newsRepository.findLatestIdsByCategory(category, PageRequest.of(0, quota));
         if (newsIds.isEmpty()) {
             return Collections.emptyList();
         }
         
-        // 4. 뉴스 메타 정보 일괄 조회
+        // 2. 뉴스 메타 정보 일괄 조회
         List<NewsEntity> newsList = newsRepository.findByIdIn(newsIds);
         
-        // 5. ID 순서대로 정렬 (원래 요청 순서 유지)
+        // 3. ID 순서대로 정렬 (원래 요청 순서 유지)
         Map<Long, NewsEntity> newsMap = newsList.stream()
             .collect(Collectors.toMap(NewsEntity::getNewsId, news -> news));
         
-        List<FeedItemDto> feedItems = newsIds.stream()
-            .map(newsId -> newsMap.get(newsId))
+        return newsIds.stream()
+            .map(newsMap::get)
             .filter(Objects::nonNull)
             .map(FeedMapper::toDto)
             .collect(Collectors.toList());
-        
-        return feedItems;
     }
     
     private List<FeedItemDto> getLatestNewsFeed(int page, int size) {
         // 1. 전체 뉴스를 최신순으로 조회 (published_at DESC)
-        Page<NewsEntity> newsPage = newsRepository.findAllByOrderByPublishedAtDesc(PageRequest.of(page, size));
-        
+        Slice<NewsEntity> newsPage = newsRepository.findAllByOrderByPublishedAtDesc(PageRequest.of(page, size));
+        return interleaveByCategory(newsPage.getContent());
+    }
+
+    private List<FeedItemDto> interleaveByCategory(List<NewsEntity> newsList) {
         // 2. 카테고리별로 그룹화
-        Map<RecommendationCategory, List<NewsEntity>> categoryGroups = newsPage.getContent().stream()
+        Map<RecommendationCategory, List<NewsEntity>> categoryGroups = newsList.stream()
             .collect(Collectors.groupingBy(NewsEntity::getCategoryName));
         
         // 3. 카테고리를 랜덤하게 섞기
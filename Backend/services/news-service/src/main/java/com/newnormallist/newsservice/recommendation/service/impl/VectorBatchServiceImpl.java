@@ -1,90 +1,211 @@
 package com.newnormallist.newsservice.recommendation.service.impl;
 
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import com.newnormallist.newsservice.recommendation.config.RecommendationProperties;
 import com.newnormallist.newsservice.recommendation.service.VectorBatchService;
 import com.newnormallist.newsservice.recommendation.service.VectorBuilder;
 import com.newnormallist.newsservice.recommendation.entity.*;
-import com.newnormallist.newsservice.recommendation.repository.*;
+import com.newnormallist.newsservice.recommendation.repository.VectorBatchJdbcRepository;
+import com.newnormallist.newsservice.recommendation.repository.VectorBatchJdbcRepository.ActivityCount;
+import com.newnormallist.newsservice.recommendation.repository.VectorBatchJdbcRepository.DecayGroup;
+import com.newnormallist.newsservice.recommendation.repository.VectorBatchJdbcRepository.UserRow;
+import com.newnormallist.newsservice.recommendation.util.MathUtils;
+import com.newnormallist.newsservice.recommendation.util.PrefVectorHelper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /* 
     벡터 저장/갱신 orchestrator 구현체.
 
-    스케줄러/로그인 트리거/운영 호출 등에서 VectorBuilder 호출 →
-    UserPrefVectorRepository.upsertBatch(userId, 9행) 저장.
+    스케줄러/비동기 갱신(VectorRefreshService)/운영 호출에서 호출되어
+    사용자 9행 벡터를 계산해 업서트한다. 갱신 예약 여부는 호출 측(VectorRefreshService)이 정하고,
+    단건 upsert는 실행 시점에 다시 stale인지 확인한다 (벡터 없음 / stale-minutes 경과 /
+    마지막 계산 이후 조회 activity-threshold 이상 또는 스크랩).
 
-    stale 정책(최종 업데이트 10분 경과, 마지막 계산 이후 조회≥5 등) 관리.
+    recompute(배치): 사용자 청크마다 사용자/선호 카테고리/조회·스크랩 (user, category, 경과일) 그룹 집계를
+    쿼리 4번으로 가져와 메모리에서 감쇠 가중합 → VectorBuilder.compose로 9행 계산 → 배치 업서트.
+    청크는 고정 크기 풀에서 병렬로 처리한다 (DB 커넥션 점유 수 = parallelism).
 */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class VectorBatchServiceImpl implements VectorBatchService {
 
     private final VectorBuilder vectorBuilder;
-    private final UserPrefVectorRepository userPrefVectorRepository;
-    private final UserRepository userRepository;
-    private final UserReadHistoryRepository userReadHistoryRepository;
+    private final VectorBatchJdbcRepository vectorBatchJdbcRepository;
+    private final PrefVectorHelper prefVectorHelper;
+    private final RecommendationProperties properties;
+    private final MeterRegistry meterRegistry;
     
-    private static final int STALE_MINUTES = 10; // 10분 경과시 stale
-    private static final int READ_THRESHOLD_FOR_UPDATE = 5; // 조회 5회 이상시 업데이트
+    private static final int READ_WINDOW_DAYS = 7; // R(c) 집계 구간
+    private static final int SCRAP_WINDOW_DAYS = 30; // S(c) 집계 구간
+
+    private ExecutorService recomputeExecutor;
+    private Counter recomputedCounter;
+    private Timer chunkTimer;
+    private volatile double lastUsersPerSecond;
+
+    @PostConstruct
+    void init() {
+        int parallelism = Math.max(1, properties.getVectorUpdate().getParallelism());
+        recomputeExecutor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("vector-recompute-"));
+        recomputedCounter = Counter.builder("reco.vector.recomputed")
+                .description("배치 재계산으로 갱신된 사용자 벡터 수")
+                .register(meterRegistry);
+        chunkTimer = Timer.builder("reco.vector.recompute.chunk")
+                .description("사용자 청크 1개 집계/계산/업서트 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("reco.vector.recompute.users-per-second", this, self -> self.lastUsersPerSecond)
+                .description("마지막 배치 재계산의 초당 처리 사용자 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        recomputeExecutor.shutdownNow();
+    }
 
     @Override
     public void upsert(Long userId) {
-        
-        // 1. 사용자 존재 확인
-        Optional<UserEntity> userOpt = userRepository.findById(userId);
-        if (userOpt.isEmpty()) {
-            return; // 사용자가 존재하지 않으면 무시
+        if (!isStale(userId)) {
+            return;
+        }
+        // 단건도 배치와 같은 집합 쿼리 경로로 계산 (전체 조회 이력 로딩 / delete + insert 없음)
+        recomputeChunk(List.of(userId));
+    }
+
+    @Override
+    public Map<String, Object> recompute(List<Long> userIds) {
+        long startedAt = System.nanoTime();
+        int chunkSize = Math.max(1, properties.getVectorUpdate().getChunkSize());
+
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int from = 0; from < userIds.size(); from += chunkSize) {
+            List<Long> chunk = List.copyOf(userIds.subList(from, Math.min(from + chunkSize, userIds.size())));
+            futures.add(recomputeExecutor.submit(() -> chunkTimer.recordCallable(() -> recomputeChunk(chunk))));
+        }
+
+        int users = 0;
+        int failedChunks = 0;
+        for (Future<Integer> future : futures) {
+            try {
+                users += future.get();
+            } catch (ExecutionException e) {
+                failedChunks++;
+                log.error("사용자 벡터 청크 재계산 실패", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                break;
+            }
         }
-        UserEntity userEntity = userOpt.get();
-        
-        // 2. 현재 벡터 조회
-        List<UserPrefVector> currentVectors = userPrefVectorRepository
-            .findAllByUserIdOrderByScoreDesc(userId);
-        
-        // 3. stale 판단
-        if (!isStale(currentVectors, userId)) {
-            return; // stale하지 않으면 업데이트하지 않음
+
+        long elapsedMs = Math.max(1L, (System.nanoTime() - startedAt) / 1_000_000L);
+        double usersPerSecond = users * 1000.0 / elapsedMs;
+        lastUsersPerSecond = usersPerSecond;
+        recomputedCounter.increment(users);
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requested", userIds.size());
+        stats.put("users", users);
+        stats.put("chunks", futures.size());
+        stats.put("failedChunks", failedChunks);
+        stats.put("elapsedMs", elapsedMs);
+        stats.put("usersPerSecond", Math.round(usersPerSecond * 10) / 10.0);
+        return stats;
+    }
+
+    /**
+     * 사용자 청크 하나를 집합 쿼리로 집계해 벡터를 계산하고 업서트한다.
+     *
+     * @return 갱신한 사용자 수 (ACTIVE가 아닌 사용자와 계산에 실패한 사용자는 제외)
+     */
+    private int recomputeChunk(List<Long> chunk) {
+        List<UserRow> users = vectorBatchJdbcRepository.findActiveUsers(chunk);
+        if (users.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = users.stream().map(UserRow::id).toList();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<Long, List<RecommendationCategory>> preferred = vectorBatchJdbcRepository.findPreferredCategories(ids);
+        Map<Long, Map<RecommendationCategory, Double>> reads = decayRatios(
+                vectorBatchJdbcRepository.aggregateReads(ids, now.minusDays(READ_WINDOW_DAYS), now),
+                properties.getReadHalfLifeDays());
+        Map<Long, Map<RecommendationCategory, Double>> scraps = decayRatios(
+                vectorBatchJdbcRepository.aggregateScraps(ids, now.minusDays(SCRAP_WINDOW_DAYS), now),
+                properties.getScrapHalfLifeDays());
+
+        List<UserPrefVector> vectors = new ArrayList<>(users.size() * RecommendationCategory.values().length);
+        int computed = 0;
+        for (UserRow user : users) {
+            // 사용자 한 명의 데이터 문제(출생연도 누락 등)로 청크 전체가 실패하지 않도록 해당 사용자만 건너뜀
+            try {
+                vectors.addAll(vectorBuilder.compose(user.id(), user.birthYear(), user.gender(),
+                        prefVectorHelper.buildP(preferred.get(user.id())),
+                        reads.getOrDefault(user.id(), Map.of()),
+                        scraps.getOrDefault(user.id(), Map.of())));
+                computed++;
+            } catch (RuntimeException e) {
+                log.warn("사용자 벡터 계산 실패로 건너뜀: userId={}, birthYear={}", user.id(), user.birthYear(), e);
+            }
         }
-        
-        // 4. 새로운 벡터 계산
-        List<UserPrefVector> newVectors = vectorBuilder.recomputeForUser(userEntity);
-        
-        // 5. 기존 벡터 삭제 후 새로운 벡터 저장
-        if (!currentVectors.isEmpty()) {
-            userPrefVectorRepository.deleteAll(currentVectors);
+        if (!vectors.isEmpty()) {
+            vectorBatchJdbcRepository.upsertAll(vectors, Math.max(1, properties.getVectorUpdate().getWriteBatchSize()));
         }
-        userPrefVectorRepository.saveAll(newVectors);
+        return computed;
     }
-    
-    private boolean isStale(List<UserPrefVector> currentVectors, Long userId) {
-        
-        // 벡터가 없으면 stale
-        if (currentVectors.isEmpty()) {
+
+    private boolean isStale(Long userId) {
+        RecommendationProperties.VectorUpdate config = properties.getVectorUpdate();
+        LocalDateTime lastUpdate = vectorBatchJdbcRepository.findVectorUpdatedAt(userId);
+        if (lastUpdate == null || lastUpdate.isBefore(LocalDateTime.now().minusMinutes(config.getStaleMinutes()))) {
             return true;
         }
-        
-        // 최신 벡터의 업데이트 시간 확인
-        UserPrefVector latestVector = currentVectors.get(0);
-        LocalDateTime lastUpdate = latestVector.getUpdatedAt();
-        LocalDateTime staleThreshold = LocalDateTime.now().minusMinutes(STALE_MINUTES);
-        
-        // 10분 경과시 stale
-        if (lastUpdate.isBefore(staleThreshold)) {
-            return true;
+        ActivityCount activity = vectorBatchJdbcRepository.countActivitySince(userId, lastUpdate);
+        return activity.scraps() > 0 || activity.reads() >= config.getActivityThreshold();
+    }
+
+    /**
+     * (user, category, 경과일) 건수 → 사용자별 감쇠 가중합 비율.
+     * 단건 계산(VectorBuilderImpl)과 같이 카테고리가 없는 기록도 분모에는 포함한다.
+     */
+    private Map<Long, Map<RecommendationCategory, Double>> decayRatios(List<DecayGroup> groups, double halfLifeDays) {
+        Map<Long, Map<RecommendationCategory, Double>> weights = new HashMap<>();
+        Map<Long, Double> totals = new HashMap<>();
+        for (DecayGroup group : groups) {
+            double weight = group.count() * MathUtils.dayWeight(group.days(), halfLifeDays);
+            totals.merge(group.userId(), weight, Double::sum);
+            if (group.category() != null) {
+                weights.computeIfAbsent(group.userId(), id -> new EnumMap<>(RecommendationCategory.class))
+                        .merge(group.category(), weight, Double::sum);
+            }
         }
-        
-        // 마지막 업데이트 이후 조회 기록 확인
-        LocalDateTime readCountSince = lastUpdate;
-        long readCount = userReadHistoryRepository.findByUserId(userId)
-            .stream()
-            .filter(history -> history.getCreatedAt().isAfter(readCountSince))
-            .count();
-        
-        // 조회 5회 이상시 stale
-        return readCount >= READ_THRESHOLD_FOR_UPDATE;
+        weights.forEach((userId, byCategory) -> {
+            double total = totals.get(userId);
+            if (total > 0) {
+                byCategory.replaceAll((category, weight) -> weight / total);
+            }
+        });
+        return weights;
     }
 }
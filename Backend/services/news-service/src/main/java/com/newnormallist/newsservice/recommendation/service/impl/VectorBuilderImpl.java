@@ -45,27 +45,33 @@ public class VectorBuilderImpl implements VectorBuilder {
     @Override
     public List<UserPrefVector> recomputeForUser(UserEntity userEntity) {
         
-        // 1. 사용자 연령/성별 정보 추출
-        AgeBucket ageBucket = calculateAgeBucket(userEntity.getBirthYear());
-        
-        // 2. D(c) - 인구통계학적 기본 분포
-        Map<RecommendationCategory, Double> D = demoBaseProvider.getBase(ageBucket, userEntity.getGender());
-        
-        // 3. P(c) - 사용자 선호 카테고리 분포
+        // 1. P(c) - 사용자 선호 카테고리 분포
         Map<RecommendationCategory, Double> P = prefVectorHelper.buildP(userEntity.getId());
         
-        // 4. R(c) - 최근 7일 조회 기록
+        // 2. R(c) - 최근 7일 조회 기록
         Map<RecommendationCategory, Double> R = buildReadVector(userEntity.getId());
         
-        // 5. S(c) - 최근 30일 스크랩 기록
+        // 3. S(c) - 최근 30일 스크랩 기록
         Map<RecommendationCategory, Double> S = buildScrapVector(userEntity.getId());
         
-        // 6. 가중치 선택
+        return compose(userEntity.getId(), userEntity.getBirthYear(), userEntity.getGender(), P, R, S);
+    }
+
+    @Override
+    public List<UserPrefVector> compose(Long userId, Integer birthYear, String gender,
+                                        Map<RecommendationCategory, Double> P,
+                                        Map<RecommendationCategory, Double> R,
+                                        Map<RecommendationCategory, Double> S) {
+        
+        // 1. D(c) - 인구통계학적 기본 분포 (연령/성별)
+        Map<RecommendationCategory, Double> D = demoBaseProvider.getBase(calculateAgeBucket(birthYear), gender);
+        
+        // 2. 가중치 선택
         int readCount = (int) R.values().stream().mapToDouble(Double::doubleValue).sum();
         int scrapCount = (int) S.values().stream().mapToDouble(Double::doubleValue).sum();
         var weights = weightSelector.choose(readCount, scrapCount);
         
-        // 7. 최종 점수 계산 및 UserPrefVector 생성
+        // 3. 최종 점수 계산 및 UserPrefVector 생성
         List<UserPrefVector> vectors = new ArrayList<>();
         for (RecommendationCategory category : RecommendationCategory.values()) {
             double score = weights.getWDemo() * D.getOrDefault(category, 0.0) +
@@ -74,7 +80,7 @@ public class VectorBuilderImpl implements VectorBuilder {
                          weights.getWScrap() * S.getOrDefault(category, 0.0);
             
             vectors.add(UserPrefVector.builder()
-                .userId(userEntity.getId())
+                .userId(userId)
                 .category(category)
                 .score(score)
                 .wDemo(weights.getWDemo())
@@ -84,7 +90,7 @@ public class VectorBuilderImpl implements VectorBuilder {
                 .build());
         }
         
-        // 8. 정규화 (합이 1이 되도록)
+        // 4. 정규화 (합이 1이 되도록)
         double totalScore = vectors.stream().mapToDouble(UserPrefVector::getScore).sum();
         if (totalScore > 0) {
             vectors.forEach(vector -> vector.setScore(vector.getScore() / totalScore));
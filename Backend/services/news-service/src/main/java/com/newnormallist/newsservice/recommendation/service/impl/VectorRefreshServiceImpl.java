@@ -0,0 +1,197 @@
+package com.newnormallist.newsservice.recommendation.service.impl;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import com.newnormallist.newsservice.recommendation.config.RecommendationProperties;
+import com.newnormallist.newsservice.recommendation.service.VectorBatchService;
+import com.newnormallist.newsservice.recommendation.service.VectorRefreshService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/*
+    사용자 벡터 비동기 갱신 구현체.
+
+    - 활동 카운터: userId → 마지막 계산 이후 조회 수 (스크랩은 바로 임계값만큼 올려 즉시 갱신)
+      카운터는 맵의 compute/merge로만 바꿔 갱신 시작과 겹친 조회도 잃지 않고, 최대 사용자 수와
+      유휴 시간으로 크기를 제한함 (빠진 사용자는 주기 배치가 반영)
+    - 중복 제거: 대기 중인 userId 집합에 이미 있으면 다시 넣지 않음 (실행 시작 시 집합에서 빠지므로
+      계산 도중 들어온 활동은 다음 갱신으로 이어짐)
+    - 동시성 제한: 고정 스레드 + 유한 대기열, 가득 차면 버리고 주기 배치(VectorUpdateScheduler)에 맡김
+*/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VectorRefreshServiceImpl implements VectorRefreshService {
+
+    private final VectorBatchService vectorBatchService;
+    private final RecommendationProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, Activity> activity = new ConcurrentHashMap<>();
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    private ThreadPoolExecutor refreshExecutor;
+    private Counter requestedCounter;
+    private Counter dedupedCounter;
+    private Counter rejectedCounter;
+    private Timer refreshTimer;
+
+    @PostConstruct
+    void init() {
+        RecommendationProperties.VectorUpdate config = properties.getVectorUpdate();
+        int threads = Math.max(1, config.getRefreshThreads());
+        refreshExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getRefreshQueueCapacity())),
+                new CustomizableThreadFactory("vector-refresh-"));
+
+        requestedCounter = Counter.builder("reco.vector.refresh.requested")
+                .description("예약된 사용자 벡터 갱신")
+                .register(meterRegistry);
+        dedupedCounter = Counter.builder("reco.vector.refresh.deduplicated")
+                .description("이미 대기 중이라 합쳐진 갱신 요청")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("reco.vector.refresh.rejected")
+                .description("대기열이 가득 차 주기 배치로 넘긴 갱신 요청")
+                .register(meterRegistry);
+        refreshTimer = Timer.builder("reco.vector.refresh")
+                .description("사용자 벡터 단건 갱신 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("reco.vector.refresh.pending", queued, Set::size)
+                .description("대기/실행 중인 사용자 벡터 갱신")
+                .register(meterRegistry);
+        Gauge.builder("reco.vector.refresh.tracked-users", activity, Map::size)
+                .description("활동 카운터를 두고 있는 사용자 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @Override
+    public void recordRead(Long userId) {
+        addActivity(userId, 1);
+    }
+
+    @Override
+    public void recordScrap(Long userId) {
+        addActivity(userId, properties.getVectorUpdate().getActivityThreshold());
+    }
+
+    @Override
+    public void onFeedServed(Long userId, LocalDateTime vectorUpdatedAt) {
+        LocalDateTime staleThreshold = LocalDateTime.now().minusMinutes(properties.getVectorUpdate().getStaleMinutes());
+        if (vectorUpdatedAt == null || vectorUpdatedAt.isBefore(staleThreshold)) {
+            requestRefresh(userId);
+        }
+    }
+
+    @Override
+    public boolean requestRefresh(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        if (!queued.add(userId)) {
+            dedupedCounter.increment();
+            return true;
+        }
+        try {
+            refreshExecutor.execute(() -> refresh(userId));
+            requestedCounter.increment();
+            return true;
+        } catch (RejectedExecutionException e) {
+            queued.remove(userId);
+            rejectedCounter.increment();
+            return false;
+        }
+    }
+
+    private void addActivity(Long userId, int weight) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 기록 트랜잭션이 커밋된 뒤에 반영해야 갱신 시 새 기록이 보인다
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    countActivity(userId, weight);
+                }
+            });
+            return;
+        }
+        countActivity(userId, weight);
+    }
+
+    private void countActivity(Long userId, int weight) {
+        RecommendationProperties.VectorUpdate config = properties.getVectorUpdate();
+        long now = System.currentTimeMillis();
+        Activity counted = activity.compute(userId, (id, current) -> {
+            if (current != null) {
+                return current.plus(weight, now);
+            }
+            // 카운터가 가득 차면 새 사용자는 세지 않음 (주기 배치가 마지막 실행 이후 활동으로 반영)
+            return activity.size() < config.getActivityMaxUsers() ? new Activity(weight, now) : null;
+        });
+        if (counted != null && counted.count() >= config.getActivityThreshold()) {
+            requestRefresh(userId);
+        }
+    }
+
+    /**
+     * 오래 활동이 없는 카운터 정리. 주기 배치가 그 사이 활동을 이미 반영했으므로 버려도 된다.
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    void evictIdleActivity() {
+        long idleBefore = System.currentTimeMillis() - properties.getVectorUpdate().getActivityIdleMinutes() * 60_000L;
+        for (Long userId : activity.keySet()) {
+            activity.computeIfPresent(userId, (id, current) -> current.lastAt() < idleBefore ? null : current);
+        }
+    }
+
+    private void refresh(Long userId) {
+        // 계산 전에 대기 표시/카운터를 비워, 계산 중 들어온 활동은 다음 갱신으로 넘긴다
+        queued.remove(userId);
+        Activity taken = activity.remove(userId);
+        try {
+            refreshTimer.record(() -> vectorBatchService.upsert(userId));
+        } catch (Exception e) {
+            // 가져간 카운트를 되돌려 다음 조회에서 다시 임계값을 넘도록 함
+            if (taken != null) {
+                activity.merge(userId, taken, Activity::merge);
+            }
+            log.warn("사용자 벡터 갱신 실패: userId={}, {}", userId, e.getMessage());
+        }
+    }
+
+    // 마지막 계산 이후 활동 수와 마지막 활동 시각 (불변, 맵의 compute/merge 안에서만 교체)
+    private record Activity(int count, long lastAt) {
+
+        Activity plus(int weight, long at) {
+            return new Activity(count + weight, Math.max(lastAt, at));
+        }
+
+        Activity merge(Activity other) {
+            return plus(other.count, other.lastAt);
+        }
+    }
+}
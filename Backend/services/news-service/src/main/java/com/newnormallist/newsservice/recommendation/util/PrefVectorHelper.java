@@ -17,9 +17,15 @@ public class PrefVectorHelper {
      * 선호 카테고리 분포 P(c) 생성: 선택된 카테고리만 1/k, 나머지는 0
      */
     public Map<RecommendationCategory, Double> buildP(Long userId) {
-        List<RecommendationCategory> cats = userCategoryRepository.findCategoriesByUserId(userId);
+        return buildP(userCategoryRepository.findCategoriesByUserId(userId));
+    }
+
+    /**
+     * 이미 조회한 선호 카테고리 목록으로 P(c) 생성 (배치 재계산용)
+     */
+    public Map<RecommendationCategory, Double> buildP(List<RecommendationCategory> cats) {
         Map<RecommendationCategory, Double> P = new EnumMap<>(RecommendationCategory.class);
-        int k = cats.size();
+        int k = cats == null ? 0 : cats.size();
         if (k == 0) return P; // 빈 맵(모두 0) 반환
         double w = 1.0 / k;
         for (RecommendationCategory c : cats) P.put(c, w);
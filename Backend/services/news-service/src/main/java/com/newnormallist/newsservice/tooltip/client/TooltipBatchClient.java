@@ -0,0 +1,55 @@
+package com.newnormallist.newsservice.tooltip.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newnormallist.newsservice.tooltip.dto.BatchProcessResult;
+import com.newnormallist.newsservice.tooltip.dto.ProcessContentRequest;
+import feign.Response;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 툴팁 서비스 일괄 마크업 호출.
+ *
+ * 응답은 기사 하나당 한 줄(NDJSON)이 끝난 순서대로 오므로, 전체를 기다리지 않고
+ * 읽는 대로 consumer에 넘긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TooltipBatchClient {
+
+    private final TooltipServiceClient tooltipServiceClient;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return 끝까지 받았으면 true. 호출 실패나 중간 끊김이면 false (그 전에 넘긴 결과는 유효)
+     */
+    public boolean processBatch(List<ProcessContentRequest> requests, Consumer<BatchProcessResult> consumer) {
+        try (Response response = tooltipServiceClient.processBatch(requests)) {
+            if (response == null || response.status() != 200 || response.body() == null) {
+                log.warn("⚠️ 툴팁 서비스 일괄 호출 실패: status={}", response != null ? response.status() : "-");
+                return false;
+            }
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(response.body().asInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        consumer.accept(objectMapper.readValue(line, BatchProcessResult.class));
+                    }
+                }
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("⚠️ 툴팁 서비스 일괄 호출 중 에러: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.newnormallist.newsservice.tooltip.client;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 툴팁 서비스가 현재 사용 중인 사전 버전.
+ *
+ * news_content에 저장한 툴팁 마크업은 만들 때의 사전 버전을 함께 기록하고, 이 값과 같을 때만 그대로 내려준다.
+ * 주기적으로 툴팁 서비스에 물어 갱신하며, 조회에 실패하면 마지막으로 확인한 버전을 유지한다
+ * (아직 한 번도 확인하지 못했으면 null → 저장된 마크업을 쓰지 않고 실시간 호출).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TooltipDictionaryVersion {
+
+    private final TooltipServiceClient tooltipServiceClient;
+
+    private volatile String current;
+
+    @Scheduled(fixedDelayString = "${news.tooltip.version-check-interval-ms:60000}", initialDelay = 5000)
+    public void refresh() {
+        try {
+            String version = tooltipServiceClient.getDictionaryVersion();
+            if (version == null || version.isBlank()) {
+                return;
+            }
+            version = version.trim();
+            if (!version.equals(current)) {
+                log.info("툴팁 사전 버전 변경: {} → {}", current != null ? current : "-", version);
+                current = version;
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 툴팁 사전 버전 확인 실패 (마지막 버전 {} 유지): {}", current, e.getMessage());
+        }
+    }
+
+    /**
+     * @return 마지막으로 확인한 사전 버전 (확인 전이면 null)
+     */
+    public String current() {
+        return current;
+    }
+
+    /**
+     * 저장된 마크업을 그대로 내려줘도 되는지 (현재 버전을 알고 있고 그 버전으로 만든 경우만)
+     */
+    public boolean isCurrent(String version) {
+        String known = current;
+        return known != null && known.equals(version);
+    }
+}
@@ -2,10 +2,14 @@ package com.newnormallist.newsservice.tooltip.client;
 
 import com.newnormallist.newsservice.tooltip.dto.ProcessContentRequest;
 import com.newnormallist.newsservice.tooltip.dto.ProcessContentResponse;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
+
 @FeignClient(
     name = "tooltip-service",
     fallback = TooltipServiceFallback.class
@@ -14,4 +18,12 @@ public interface TooltipServiceClient {
     
     @PostMapping("/api/news/analysis/process")
     ProcessContentResponse processContent(@RequestBody ProcessContentRequest request);
+
+    // 결과가 NDJSON으로 스트리밍되므로 본문은 TooltipBatchClient에서 줄 단위로 읽음
+    @PostMapping("/api/news/analysis/process/batch")
+    Response processBatch(@RequestBody List<ProcessContentRequest> requests);
+
+    // 저장해 둔 툴팁 마크업이 최신 사전으로 만든 것인지 확인할 때 사용
+    @GetMapping("/api/news/analysis/dictionary/version")
+    String getDictionaryVersion();
 }
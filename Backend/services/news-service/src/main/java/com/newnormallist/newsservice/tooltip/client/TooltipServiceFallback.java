@@ -2,9 +2,12 @@ package com.newnormallist.newsservice.tooltip.client;
 
 import com.newnormallist.newsservice.tooltip.dto.ProcessContentRequest;
 import com.newnormallist.newsservice.tooltip.dto.ProcessContentResponse;
+import feign.Response;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 public class TooltipServiceFallback implements TooltipServiceClient {
@@ -14,6 +17,20 @@ public class TooltipServiceFallback implements TooltipServiceClient {
         log.warn("⚠️ 툴팁 서비스 호출 실패! 뉴스 ID: {}, 원본 텍스트로 폴백합니다.", request.newsId());
         
         // 툴팁 서비스 장애 시 원본 텍스트 그대로 반환
-        return new ProcessContentResponse(request.originalContent());
+        return new ProcessContentResponse(request.originalContent(), null);
+    }
+
+    @Override
+    public Response processBatch(List<ProcessContentRequest> requests) {
+        log.warn("⚠️ 툴팁 서비스 일괄 호출 실패! {}건, 단건 호출로 폴백합니다.", requests.size());
+
+        // null이면 TooltipBatchClient가 실패로 처리
+        return null;
+    }
+
+    @Override
+    public String getDictionaryVersion() {
+        log.warn("⚠️ 툴팁 사전 버전 조회 실패! 마지막으로 확인한 버전을 유지합니다.");
+        return null;
     }
 }
@@ -1,6 +1,8 @@
 package com.newnormallist.newsservice.tooltip.dto;
 
+// dictionaryVersion: 마크업에 쓴 툴팁 사전 버전 (툴팁 서비스가 원본을 그대로 돌려준 경우 null)
 public record ProcessContentResponse(
-    String processedContent
+    String processedContent,
+    String dictionaryVersion
 ) {
 }
@@ -0,0 +1,110 @@
+package com.newnormallist.newsservice.news.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NewsCursorTest {
+
+    private static final LocalDateTime PUBLISHED_AT = LocalDateTime.of(2025, 8, 19, 14, 30, 5);
+
+    @Test
+    void roundTripsThroughOpaqueToken() {
+        NewsCursor trending = NewsCursor.decode(NewsCursor.of(Boolean.FALSE, PUBLISHED_AT, 42L).encode());
+        assertThat(trending.getTier()).isFalse();
+        assertThat(trending.getPublishedAt()).isEqualTo(PUBLISHED_AT);
+        assertThat(trending.getNewsId()).isEqualTo(42L);
+
+        // 발행일 없는 구간의 커서도 그대로 되돌아옴
+        NewsCursor undated = NewsCursor.decode(NewsCursor.of(null, null, 7L).encode());
+        assertThat(undated.getTier()).isNull();
+        assertThat(undated.getPublishedAt()).isNull();
+        assertThat(undated.getNewsId()).isEqualTo(7L);
+
+        // URL에 그대로 넣을 수 있는 문자만 사용
+        assertThat(NewsCursor.of(Boolean.TRUE, PUBLISHED_AT, Long.MAX_VALUE).encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void emptyTokenStartsFromFirstPage() {
+        for (String token : new String[]{null, "", "  "}) {
+            NewsCursor cursor = NewsCursor.decode(token);
+            assertThat(cursor.getTier()).isNull();
+            assertThat(cursor.getPublishedAt()).isEqualTo(NewsCursor.first().getPublishedAt());
+            assertThat(cursor.getNewsId()).isEqualTo(Long.MAX_VALUE);
+        }
+    }
+
+    @Test
+    void rejectsMalformedOrOtherVersionTokens() {
+        for (String raw : new String[]{
+                "v2|T|2025-08-19T14:30:05|42",
+                "v1|X|2025-08-19T14:30:05|42",
+                "v1|T|2025-08-19 14:30|42",
+                "v1|T|2025-08-19T14:30:05|abc",
+                "v1|T|42"}) {
+            assertThatThrownBy(() -> NewsCursor.decode(token(raw)))
+                    .as(raw)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThatThrownBy(() -> NewsCursor.decode("not a cursor!"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void seeksDatedRowsThenUndatedTail() {
+        List<String> calls = new ArrayList<>();
+        List<String> rows = NewsCursor.of(null, PUBLISHED_AT, 42L).seek(5,
+                (cursor, n) -> {
+                    calls.add("dated " + cursor.getNewsId() + " " + n);
+                    return List.of("d1", "d2");
+                },
+                (beforeId, n) -> {
+                    calls.add("undated " + beforeId + " " + n);
+                    return List.of("u1", "u2", "u3");
+                });
+
+        // 발행일 구간이 모자라면 발행일 없는 구간을 처음(news_id 최대)부터 이어 붙임
+        assertThat(rows).containsExactly("d1", "d2", "u1", "u2", "u3");
+        assertThat(calls).containsExactly("dated 42 5", "undated " + Long.MAX_VALUE + " 3");
+    }
+
+    @Test
+    void undatedCursorSkipsDatedSection() {
+        List<String> calls = new ArrayList<>();
+        List<String> rows = NewsCursor.of(null, null, 9L).seek(3,
+                (cursor, n) -> {
+                    calls.add("dated");
+                    return List.of();
+                },
+                (beforeId, n) -> {
+                    calls.add("undated " + beforeId + " " + n);
+                    return List.of("u1");
+                });
+
+        assertThat(rows).containsExactly("u1");
+        assertThat(calls).containsExactly("undated 9 3");
+    }
+
+    @Test
+    void fullDatedPageDoesNotTouchUndatedSection() {
+        List<String> rows = NewsCursor.first().seek(2,
+                (cursor, n) -> List.of("d1", "d2"),
+                (beforeId, n) -> {
+                    throw new AssertionError("발행일 없는 구간은 조회하지 않아야 함");
+                });
+
+        assertThat(rows).containsExactly("d1", "d2");
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,27 @@
+package com.newnormallist.newsservice.news.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublishedAtParserTest {
+
+    @Test
+    void parsesCrawlerFormats() {
+        LocalDateTime expected = LocalDateTime.of(2025, 8, 19, 14, 30, 5);
+
+        assertThat(PublishedAtParser.parse("2025-08-19 14:30:05")).isEqualTo(expected);
+        assertThat(PublishedAtParser.parse("2025-08-19T14:30:05")).isEqualTo(expected);
+        assertThat(PublishedAtParser.parse(" 2025-08-19 14:30:05.123456 ")).isEqualTo(expected);
+    }
+
+    @Test
+    void returnsNullWhereBackfillSqlLeavesNull() {
+        assertThat(PublishedAtParser.parse(null)).isNull();
+        assertThat(PublishedAtParser.parse(" ")).isNull();
+        assertThat(PublishedAtParser.parse("2025-08-19")).isNull();
+        assertThat(PublishedAtParser.parse("2025.08.19. 오후 2:30")).isNull();
+    }
+}
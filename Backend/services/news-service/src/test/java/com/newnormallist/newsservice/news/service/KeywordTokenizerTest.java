@@ -0,0 +1,121 @@
+package com.newnormallist.newsservice.news.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키워드 추출 규칙과 기존 정규식 토크나이저와의 결과 일치 테스트.
+ * 처리량 비교는 -Dnews.benchmark=true 일 때만 실행한다 (-Dnews.benchmark.texts, .iterations로 조정).
+ */
+class KeywordTokenizerTest {
+
+    private static final String ALPHABET = "삼성전자반도체금리하영화의관련된있는정부 AIHBMab0123 !?,.·…\t\n#@()";
+
+    private final KeywordTokenizer tokenizer = new KeywordTokenizer();
+
+    @Test
+    void keepsMeaningfulTokensInOrder() {
+        assertThat(tokenizer.extractKeywords("[속보] 삼성전자, 2024년 HBM 출하 확대…하하하 AI"))
+                .containsExactly("삼성전자", "2024년", "HBM", "출하", "확대");
+    }
+
+    @Test
+    void dropsStopwordsNumbersAndMeaninglessCombinations() {
+        assertThat(tokenizer.extractKeywords("관련된 발표가 있는 정부 2025 aaa")).containsExactly("발표가");
+        assertThat(tokenizer.extractKeywords(null)).isEmpty();
+        assertThat(tokenizer.forEachKeyword("   ", keyword -> { })).isZero();
+    }
+
+    @Test
+    void agreesWithRegexTokenizer() {
+        for (String text : corpus(2000, 200)) {
+            assertThat(tokenizer.extractKeywords(text)).as(text).isEqualTo(LegacyTokenizer.extractKeywords(text));
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "news.benchmark", matches = "true")
+    void measureAgainstRegexTokenizer() {
+        List<String> corpus = corpus(Integer.getInteger("news.benchmark.texts", 2000), 2000);
+        int iterations = Integer.getInteger("news.benchmark.iterations", 10);
+        long chars = corpus.stream().mapToLong(String::length).sum();
+
+        double legacyMs = millisPerPass(corpus, iterations, LegacyTokenizer::extractKeywords);
+        double tokenizerMs = millisPerPass(corpus, iterations, tokenizer::extractKeywords);
+        System.out.printf("키워드 토크나이저 %d건(%d자): 정규식 %.1fms, 현재 %.1fms (%.1f배)%n",
+                corpus.size(), chars, legacyMs, tokenizerMs, legacyMs / Math.max(0.001, tokenizerMs));
+    }
+
+    private static List<String> corpus(int texts, int maxLength) {
+        Random random = new Random(42);
+        List<String> corpus = new ArrayList<>();
+        for (int t = 0; t < texts; t++) {
+            StringBuilder text = new StringBuilder();
+            int length = 1 + random.nextInt(maxLength);
+            for (int i = 0; i < length; i++) {
+                text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            corpus.add(text.toString());
+        }
+        return corpus;
+    }
+
+    // warmup 5회 후 iterations회 평균
+    private static double millisPerPass(List<String> corpus, int iterations, Function<String, List<String>> extract) {
+        long tokens = 0L;
+        for (int i = 0; i < 5; i++) {
+            for (String text : corpus) {
+                tokens += extract.apply(text).size();
+            }
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (String text : corpus) {
+                tokens += extract.apply(text).size();
+            }
+        }
+        assertThat(tokens).isPositive();
+        return (System.nanoTime() - start) / 1_000_000.0 / Math.max(1, iterations);
+    }
+
+    /**
+     * 비교 기준: 기존 TrendingService의 정규식 기반 토크나이저/필터
+     */
+    private static final class LegacyTokenizer {
+
+        static List<String> extractKeywords(String text) {
+            if (text == null || text.isBlank()) return List.of();
+            String cleaned = text
+                    .replaceAll("[^가-힣0-9A-Za-z\\s]", " ")
+                    .replaceAll("\\s+", " ")
+                    .trim();
+            if (cleaned.isEmpty()) return List.of();
+            List<String> keywords = new ArrayList<>();
+            for (String word : cleaned.split(" ")) {
+                if (isValidKeyword(word)) {
+                    keywords.add(word);
+                }
+            }
+            return keywords;
+        }
+
+        private static boolean isValidKeyword(String word) {
+            if (word == null || word.length() < 2) return false;
+            if (KeywordTokenizer.STOPWORDS.contains(word)) return false;
+            if (word.matches("^\\d+$")) return false;
+            if (word.matches("^[A-Za-z]{1,2}$")) return false;
+            if (word.matches("(.)\\1{2,}")) return false;
+            for (String pattern : KeywordTokenizer.MEANINGLESS_PATTERNS) {
+                if (word.contains(pattern)) return false;
+            }
+            return true;
+        }
+    }
+}
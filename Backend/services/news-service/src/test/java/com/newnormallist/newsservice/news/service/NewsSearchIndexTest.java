@@ -0,0 +1,304 @@
+package com.newnormallist.newsservice.news.service;
+
+import com.newnormallist.newsservice.news.entity.Category;
+import com.newnormallist.newsservice.news.entity.News;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 임시 디렉터리의 검색 인덱스를 메모리 news 테이블(mock 리포지토리)로 채워 증분 색인, 삭제, 정렬 기본값을 확인한다.
+ * LIKE 검색과의 지연 시간 비교는 -Dnews.benchmark=true 일 때만 실행한다.
+ */
+class NewsSearchIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.now().minusDays(1).withNano(0);
+
+    @TempDir
+    Path indexDir;
+
+    // news 테이블 대신 쓰는 행 목록 (news_id -> 행)
+    private final Map<Long, News> rows = new ConcurrentHashMap<>();
+    private NewsSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        NewsRepository repository = mock(NewsRepository.class);
+        when(repository.findByNewsIdGreaterThanOrderByNewsIdAsc(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long fromId = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            return rows.values().stream()
+                    .filter(news -> news.getNewsId() > fromId)
+                    .sorted(Comparator.comparing(News::getNewsId))
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+        when(repository.findUpdatedAfter(any(LocalDateTime.class), anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            LocalDateTime since = invocation.getArgument(0);
+            long afterId = invocation.getArgument(1);
+            Pageable pageable = invocation.getArgument(2);
+            return rows.values().stream()
+                    .filter(news -> news.getUpdatedAt() != null)
+                    .filter(news -> news.getUpdatedAt().isAfter(since)
+                            || (news.getUpdatedAt().isEqual(since) && news.getNewsId() > afterId))
+                    .sorted(Comparator.comparing(News::getUpdatedAt).thenComparing(News::getNewsId))
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+
+        rows.put(1L, news(1L, "반도체 수출 회복", "메모리 반도체 수출이 석 달째 늘었다.", BASE.plusHours(3), BASE.minusHours(2)));
+        rows.put(2L, news(2L, "반도체 투자 확대", "정부가 반도체 설비 투자 세액공제를 늘린다.", BASE.plusHours(1), BASE.minusHours(1)));
+        rows.put(3L, news(3L, "기준금리 동결", "한국은행이 기준금리를 동결했다.", BASE.plusHours(2), BASE));
+
+        index = new NewsSearchIndex(repository);
+        ReflectionTestUtils.setField(index, "indexPath", indexDir.toString());
+        ReflectionTestUtils.setField(index, "batchSize", 2);
+        ReflectionTestUtils.setField(index, "maxBatchesPerSync", 20);
+        index.open();
+        index.rebuildAsync();
+        for (int i = 0; i < 200 && !index.isReady(); i++) {
+            Thread.sleep(25);
+        }
+        assertThat(index.isReady()).isTrue();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.close();
+    }
+
+    @Test
+    void reindexesEditedArticlesByUpdatedAt() {
+        assertThat(search("반도체", null, null).getTotalElements()).isEqualTo(2);
+
+        News edited = rows.get(2L);
+        edited.setTitle("배터리 투자 확대");
+        edited.setContent("정부가 배터리 설비 투자 세액공제를 늘린다.");
+        edited.setUpdatedAt(LocalDateTime.now());
+        rows.put(4L, news(4L, "반도체 장비 국산화", "장비 업체들이 반도체 장비 국산화에 나섰다.", BASE.plusHours(4), BASE.plusHours(1)));
+        index.syncChanges();
+
+        assertThat(search("반도체", null, null).getContent()).containsExactlyInAnyOrder(1L, 4L);
+        assertThat(search("배터리", null, null).getContent()).containsExactly(2L);
+    }
+
+    @Test
+    void deletedArticlesLeaveResultsAndTotals() {
+        rows.remove(1L);
+
+        assertThat(index.delete(List.of(1L))).isTrue();
+
+        Page<Long> page = search("반도체", null, null);
+        assertThat(page.getContent()).containsExactly(2L);
+        assertThat(page.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsLikeSearchDefaults() {
+        // 정렬 기준이 없으면 발행일 내림차순
+        assertThat(search("반도체", null, null).getContent()).containsExactly(1L, 2L);
+        // 날짜 정렬은 created_at 기준, 방향 기본값은 오름차순
+        assertThat(search("반도체", "date", null).getContent()).containsExactly(1L, 2L);
+        assertThat(search("반도체", "date", "desc").getContent()).containsExactly(2L, 1L);
+        assertThat(search("반도체", "title", null).getContent()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void filtersPeriodByCreatedAt() {
+        LocalDate day = BASE.toLocalDate();
+        rows.put(4L, news(4L, "반도체 장비 국산화", "장비 업체들이 반도체 장비 국산화에 나섰다.", BASE, BASE.minusDays(3)));
+        index.syncChanges();
+
+        Page<Long> page = index.search("반도체", Category.ECONOMY, null, day.minusDays(1), day.plusDays(1),
+                null, null, PageRequest.of(0, 10)).orElseThrow();
+
+        assertThat(page.getContent()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    /**
+     * 같은 말뭉치로 검색 인덱스 경로와 LIKE 경로(searchByKeyword와 같은 조건/정렬, 메모리 H2)의 지연 시간 비교.
+     * 인덱스 경로는 서비스처럼 검색 결과 id로 행을 다시 읽는 시간까지 포함한다.
+     * 오래 걸리므로 -Dnews.benchmark=true 일 때만 실행한다 (-Dnews.benchmark.articles, .iterations로 조정).
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "news.benchmark", matches = "true")
+    void compareSearchLatencyWithLikePath() throws Exception {
+        int articles = Integer.getInteger("news.benchmark.articles", 20000);
+        int iterations = Integer.getInteger("news.benchmark.iterations", 50);
+        String[] keywords = {"반도체", "기준금리", "배터리", "부동산", "환율"};
+        String[] subjects = {"반도체", "기준금리", "배터리", "부동산", "환율", "수출", "고용", "물가", "관광", "전기차"};
+        String[] predicates = {"회복세를 보였다", "전망이 엇갈린다", "정부가 지원을 늘린다", "업계가 대응에 나섰다", "시장이 주목한다"};
+
+        Random random = new Random(42);
+        for (long id = 4; id < articles + 4; id++) {
+            String subject = subjects[random.nextInt(subjects.length)];
+            StringBuilder content = new StringBuilder();
+            for (int s = 0; s < 12; s++) {
+                content.append(subjects[random.nextInt(subjects.length)]).append(' ')
+                        .append(predicates[random.nextInt(predicates.length)]).append(". ");
+            }
+            rows.put(id, news(id, subject + " " + predicates[random.nextInt(predicates.length)], content.toString(),
+                    BASE.minusMinutes(id), BASE.minusMinutes(id)));
+        }
+        ReflectionTestUtils.setField(index, "batchSize", 1000);
+        ReflectionTestUtils.setField(index, "maxBatchesPerSync", articles / 1000 + 2);
+        index.syncChanges();
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:")) {
+            loadNewsTable(connection);
+            PageRequest pageable = PageRequest.of(0, 20);
+            for (String keyword : keywords) {
+                long[] like = measure(iterations, () -> likeSearch(connection, keyword, pageable.getPageSize()));
+                long[] indexed = measure(iterations, () -> {
+                    Page<Long> page = index.search(keyword, null, null, null, null, null, null, pageable).orElseThrow();
+                    findAllById(connection, page.getContent());
+                    return page.getTotalElements();
+                });
+                System.out.printf("검색어 '%s' (기사 %d건, %d회): LIKE p50 %.2fms p95 %.2fms / 인덱스 p50 %.2fms p95 %.2fms%n",
+                        keyword, articles, iterations, percentileMs(like, 0.50), percentileMs(like, 0.95),
+                        percentileMs(indexed, 0.50), percentileMs(indexed, 0.95));
+            }
+        }
+        assertThat(index.isReady()).isTrue();
+    }
+
+    private interface SearchRun {
+        long run() throws Exception;
+    }
+
+    // warmup 후 iterations회 실행한 지연 시간(ns, 오름차순)
+    private static long[] measure(int iterations, SearchRun search) throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertThat(search.run()).isPositive();
+        }
+        long[] latencies = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            search.run();
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private void loadNewsTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE news (news_id BIGINT PRIMARY KEY, title VARCHAR(500), content CLOB, "
+                    + "published_datetime TIMESTAMP)");
+            statement.execute("CREATE INDEX idx_news_pubdt ON news (published_datetime)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO news (news_id, title, content, published_datetime) VALUES (?, ?, ?, ?)")) {
+            int pending = 0;
+            for (News news : rows.values()) {
+                insert.setLong(1, news.getNewsId());
+                insert.setString(2, news.getTitle());
+                insert.setString(3, news.getContent());
+                insert.setTimestamp(4, Timestamp.valueOf(news.getPublishedDateTime()));
+                insert.addBatch();
+                if (++pending % 1000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    // searchByKeyword의 페이지 조회 + 전체 건수 조회
+    private static long likeSearch(Connection connection, String keyword, int size) throws SQLException {
+        String pattern = "%" + keyword + "%";
+        try (PreparedStatement select = connection.prepareStatement("SELECT news_id, title, content FROM news "
+                + "WHERE title LIKE ? OR content LIKE ? ORDER BY published_datetime DESC, news_id DESC LIMIT ?")) {
+            select.setString(1, pattern);
+            select.setString(2, pattern);
+            select.setInt(3, size);
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    rs.getString(3);
+                }
+            }
+        }
+        try (PreparedStatement count = connection.prepareStatement(
+                "SELECT COUNT(*) FROM news WHERE title LIKE ? OR content LIKE ?")) {
+            count.setString(1, pattern);
+            count.setString(2, pattern);
+            try (ResultSet rs = count.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private static void findAllById(Connection connection, List<Long> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<String> marks = new ArrayList<>();
+        ids.forEach(id -> marks.add("?"));
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT news_id, title, content FROM news WHERE news_id IN (" + String.join(",", marks) + ")")) {
+            for (int i = 0; i < ids.size(); i++) {
+                select.setLong(i + 1, ids.get(i));
+            }
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    rs.getString(3);
+                }
+            }
+        }
+    }
+
+    private Page<Long> search(String keyword, String sortBy, String sortOrder) {
+        return index.search(keyword, null, null, null, null, sortBy, sortOrder, PageRequest.of(0, 10)).orElseThrow();
+    }
+
+    private static News news(Long newsId, String title, String content, LocalDateTime publishedAt, LocalDateTime createdAt) {
+        return News.builder()
+                .newsId(newsId)
+                .title(title)
+                .content(content)
+                .categoryName(Category.ECONOMY)
+                .press("테스트일보")
+                .reporter("기자")
+                .link("https://news.example/" + newsId)
+                .publishedDateTime(publishedAt)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,199 @@
+package com.newnormallist.newsservice.news.service;
+
+import com.newnormallist.newsservice.news.dto.CursorPageResponse;
+import com.newnormallist.newsservice.news.dto.NewsCursor;
+import com.newnormallist.newsservice.news.dto.NewsListResponse;
+import com.newnormallist.newsservice.news.entity.Category;
+import com.newnormallist.newsservice.news.entity.DedupState;
+import com.newnormallist.newsservice.news.entity.News;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 커서 목록 조회를 메모리 news 테이블(mock 리포지토리, 쿼리와 같은 조건/정렬)로 확인한다.
+ * 끝까지 넘겨 본 결과가 OFFSET 목록의 정렬(발행일 내림차순 → 발행일 없는 행은 news_id 내림차순)과 같아야 한다.
+ */
+class NewsServiceImplTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 8, 19, 12, 0);
+
+    private final List<News> rows = new ArrayList<>();
+    private NewsRepository newsRepository;
+    private NewsServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        // 같은 발행일(1, 2, 5)과 발행일 없는 행(3, 6, 7)을 섞음
+        rows.add(news(1L, BASE, true));
+        rows.add(news(2L, BASE, false));
+        rows.add(news(3L, null, true));
+        rows.add(news(4L, BASE.minusHours(1), true));
+        rows.add(news(5L, BASE, true));
+        rows.add(news(6L, null, false));
+        rows.add(news(7L, null, true));
+        rows.add(news(8L, BASE.plusHours(1), false));
+
+        newsRepository = mock(NewsRepository.class);
+        when(newsRepository.findLatestBefore(any(), anyLong(), any(Pageable.class))).thenAnswer(invocation ->
+                datedBefore(invocation.getArgument(0), invocation.getArgument(1), news -> true, invocation.getArgument(2)));
+        when(newsRepository.findUndatedBefore(anyLong(), any(Pageable.class))).thenAnswer(invocation ->
+                undatedBefore(invocation.getArgument(0), news -> true, invocation.getArgument(1)));
+        when(newsRepository.findByTrustedBefore(anyBoolean(), any(), anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            Boolean trusted = invocation.getArgument(0);
+            return datedBefore(invocation.getArgument(1), invocation.getArgument(2), news -> trusted.equals(news.getTrusted()),
+                    invocation.getArgument(3));
+        });
+        when(newsRepository.findUndatedByTrustedBefore(anyBoolean(), anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            Boolean trusted = invocation.getArgument(0);
+            return undatedBefore(invocation.getArgument(1), news -> trusted.equals(news.getTrusted()), invocation.getArgument(2));
+        });
+
+        @SuppressWarnings("unchecked")
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenReturn(null);
+
+        service = new NewsServiceImpl();
+        ReflectionTestUtils.setField(service, "newsRepository", newsRepository);
+        ReflectionTestUtils.setField(service, "redisTemplate", redisTemplate);
+    }
+
+    @Test
+    void fetchesOneExtraRowToDecideNextCursor() {
+        CursorPageResponse<NewsListResponse> page = service.getLatestNewsByCursor(null, 3);
+
+        assertThat(ids(page)).containsExactly(8L, 5L, 2L);
+        assertThat(page.isHasNext()).isTrue();
+        NewsCursor next = NewsCursor.decode(page.getNextCursor());
+        assertThat(next.getPublishedAt()).isEqualTo(BASE);
+        assertThat(next.getNewsId()).isEqualTo(2L);
+        assertThat(next.getTier()).isNull();
+        verify(newsRepository).findLatestBefore(any(), anyLong(), eq(PageRequest.of(0, 4)));
+
+        // 남은 행이 정확히 size개면 마지막 페이지
+        CursorPageResponse<NewsListResponse> all = service.getLatestNewsByCursor(null, rows.size());
+        assertThat(all.isHasNext()).isFalse();
+        assertThat(all.getNextCursor()).isNull();
+    }
+
+    @Test
+    void continuesFromDatedRowsIntoUndatedTail() {
+        CursorPageResponse<NewsListResponse> first = service.getLatestNewsByCursor(null, 5);
+        assertThat(ids(first)).containsExactly(8L, 5L, 2L, 1L, 4L);
+
+        CursorPageResponse<NewsListResponse> second = service.getLatestNewsByCursor(first.getNextCursor(), 2);
+        // 발행일 구간이 끝나 발행일 없는 행을 news_id 내림차순으로 이어 받음
+        assertThat(ids(second)).containsExactly(7L, 6L);
+        NewsCursor next = NewsCursor.decode(second.getNextCursor());
+        assertThat(next.getPublishedAt()).isNull();
+        assertThat(next.getNewsId()).isEqualTo(6L);
+
+        CursorPageResponse<NewsListResponse> last = service.getLatestNewsByCursor(second.getNextCursor(), 2);
+        assertThat(ids(last)).containsExactly(3L);
+        assertThat(last.isHasNext()).isFalse();
+    }
+
+    @Test
+    void pagesThroughEveryRowOnceInListOrder() {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponse<NewsListResponse> page = service.getLatestNewsByCursor(cursor, 2);
+            seen.addAll(ids(page));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).containsExactly(8L, 5L, 2L, 1L, 4L, 7L, 6L, 3L);
+    }
+
+    @Test
+    void trendingMovesFromTrustedToUntrustedTier() {
+        CursorPageResponse<NewsListResponse> first = service.getTrendingNewsByCursor(null, 4);
+        // trusted=true: 발행일 순(5, 1, 4) → 발행일 없는 행(7, 3)
+        assertThat(ids(first)).containsExactly(5L, 1L, 4L, 7L);
+        assertThat(NewsCursor.decode(first.getNextCursor()).getTier()).isTrue();
+
+        CursorPageResponse<NewsListResponse> second = service.getTrendingNewsByCursor(first.getNextCursor(), 3);
+        // trusted=true 구간을 다 읽으면 trusted=false 구간을 처음부터 이어 받음
+        assertThat(ids(second)).containsExactly(3L, 8L, 2L);
+        NewsCursor next = NewsCursor.decode(second.getNextCursor());
+        assertThat(next.getTier()).isFalse();
+        assertThat(next.getNewsId()).isEqualTo(2L);
+
+        clearInvocations(newsRepository);
+        CursorPageResponse<NewsListResponse> last = service.getTrendingNewsByCursor(second.getNextCursor(), 3);
+        assertThat(ids(last)).containsExactly(6L);
+        assertThat(last.isHasNext()).isFalse();
+        // trusted=false 커서로 이어 받을 때는 trusted=true 구간을 다시 조회하지 않음
+        verify(newsRepository, never()).findByTrustedBefore(eq(Boolean.TRUE), any(), anyLong(), any(Pageable.class));
+        verify(newsRepository, never()).findUndatedByTrustedBefore(eq(Boolean.TRUE), anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> service.getLatestNewsByCursor("broken!", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 쿼리와 같은 조건: (published_datetime, news_id) < 커서, 발행일 내림차순 → news_id 내림차순
+    private List<News> datedBefore(LocalDateTime publishedAt, Long newsId, Predicate<News> filter, Pageable pageable) {
+        return select(news -> news.getPublishedDateTime() != null && filter.test(news)
+                        && (news.getPublishedDateTime().isBefore(publishedAt)
+                        || (news.getPublishedDateTime().isEqual(publishedAt) && news.getNewsId() < newsId)),
+                Comparator.comparing(News::getPublishedDateTime).thenComparing(News::getNewsId).reversed(), pageable);
+    }
+
+    private List<News> undatedBefore(Long newsId, Predicate<News> filter, Pageable pageable) {
+        return select(news -> news.getPublishedDateTime() == null && filter.test(news) && news.getNewsId() < newsId,
+                Comparator.comparing(News::getNewsId).reversed(), pageable);
+    }
+
+    private List<News> select(Predicate<News> where, Comparator<News> orderBy, Pageable pageable) {
+        return rows.stream().filter(where).sorted(orderBy).limit(pageable.getPageSize()).toList();
+    }
+
+    private static List<Long> ids(CursorPageResponse<NewsListResponse> page) {
+        return page.getContent().stream().map(NewsListResponse::getNewsId).toList();
+    }
+
+    private static News news(Long newsId, LocalDateTime publishedAt, boolean trusted) {
+        return News.builder()
+                .newsId(newsId)
+                .title("뉴스 " + newsId)
+                .content("본문")
+                .press("테스트일보")
+                .categoryName(Category.ECONOMY)
+                .dedupState(DedupState.KEPT)
+                .trusted(trusted)
+                .publishedDateTime(publishedAt)
+                .createdAt(BASE)
+                .build();
+    }
+}
@@ -0,0 +1,313 @@
+package com.newnormallist.newsservice.news.service;
+
+import com.newnormallist.newsservice.news.dto.TrendingKeywordDto;
+import com.newnormallist.newsservice.news.entity.Category;
+import com.newnormallist.newsservice.news.repository.NewsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 증분 트렌딩 집계를 메모리 news 테이블(mock 리포지토리)과 메모리 Redis(값/해시, 반영 스크립트와 같은 규칙)로 확인한다.
+ * 집계 구간은 1h, 6h (보존 6시간)로 두고 시각은 테스트 시계로 옮긴다.
+ */
+class TrendingKeywordEngineTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 8, 19, 12, 30);
+    private static final String WATERMARK_KEY = "trending:kw:last-news-id";
+
+    // [newsId, title, categoryName, publishedDateTime, publishedAt]
+    private final List<Object[]> articles = new ArrayList<>();
+    private final Map<String, String> redisValues = new HashMap<>();
+    private final Map<String, Map<String, Long>> redisHashes = new HashMap<>();
+    private final MutableClock clock = new MutableClock(NOW.atZone(ZONE).toInstant());
+
+    private NewsRepository newsRepository;
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        newsRepository = mock(NewsRepository.class);
+        when(newsRepository.findKeywordSourcesAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long after = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            return articles.stream()
+                    .filter(article -> (Long) article[0] > after)
+                    .sorted(Comparator.comparing(article -> (Long) article[0]))
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+        when(newsRepository.findMinNewsIdPublishedSince(any())).thenAnswer(invocation -> {
+            LocalDateTime since = invocation.getArgument(0);
+            return articles.stream()
+                    .filter(article -> article[3] != null && !((LocalDateTime) article[3]).isBefore(since))
+                    .map(article -> (Long) article[0])
+                    .min(Long::compare)
+                    .orElse(null);
+        });
+        when(newsRepository.findMaxNewsId()).thenAnswer(invocation ->
+                articles.stream().map(article -> (Long) article[0]).max(Long::compare).orElse(null));
+
+        redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> redisValues.get((String) invocation.getArgument(0)));
+        doAnswer(invocation -> persistScript(invocation.getArguments()))
+                .when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation ->
+                hGetAllPipelined(invocation.getArgument(0)));
+    }
+
+    @Test
+    void rollsBucketsOutOfEachWindow() {
+        article(1L, "삼성전자 반도체 출하 확대", Category.ECONOMY, NOW.minusMinutes(20));
+        article(2L, "반도체 수출 회복", Category.ECONOMY, NOW.minusHours(3));
+        TrendingKeywordEngine engine = newEngine();
+        engine.onApplicationReady();
+
+        assertThat(counts(engine, 1, null)).containsOnly(
+                Map.entry("삼성전자", 1L), Map.entry("반도체", 1L), Map.entry("출하", 1L), Map.entry("확대", 1L));
+        assertThat(counts(engine, 6, null)).containsEntry("반도체", 2L).containsEntry("수출", 1L);
+        // 설정에 없는 구간은 이를 포함하는 가장 작은 구간으로 올림
+        assertThat(counts(engine, 3, null)).isEqualTo(counts(engine, 6, null));
+
+        // 정시가 지나면 1h 구간에서 12시 버킷이 빠짐
+        clock.advance(Duration.ofHours(1));
+        engine.rotate();
+        assertThat(counts(engine, 1, null)).isEmpty();
+        assertThat(counts(engine, 6, null)).containsEntry("반도체", 2L);
+
+        // 새 버킷에 들어온 기사는 모든 구간에 더해짐
+        article(3L, "AI 반도체 투자", Category.ECONOMY, NOW.plusMinutes(35));
+        engine.sync();
+        assertThat(counts(engine, 1, null)).containsOnly(Map.entry("반도체", 1L), Map.entry("투자", 1L));
+        assertThat(counts(engine, 6, null)).containsEntry("반도체", 3L);
+
+        // 15시가 되면 9시 버킷이 6h 구간에서 빠짐
+        clock.advance(Duration.ofHours(2));
+        engine.rotate();
+        assertThat(counts(engine, 6, null)).containsEntry("반도체", 2L).doesNotContainKeys("수출", "회복");
+
+        // 보존 구간 이상 지나면 전부 만료
+        clock.advance(Duration.ofHours(7));
+        engine.rotate();
+        assertThat(counts(engine, 6, null)).isEmpty();
+    }
+
+    @Test
+    void keepsTopKeywordsPerCategory() {
+        article(1L, "금리 인하 기대", Category.ECONOMY, NOW.minusMinutes(30));
+        article(2L, "금리 동결", Category.ECONOMY, NOW.minusMinutes(25));
+        article(3L, "금리 인하", Category.ECONOMY, NOW.minusMinutes(20));
+        article(4L, "삼성전자 반도체 출하 확대", Category.ECONOMY, NOW.minusMinutes(15));
+        article(5L, "AI 반도체 투자", Category.IT_SCIENCE, NOW.minusMinutes(10));
+        article(6L, "반도체 수출 회복", Category.IT_SCIENCE, NOW.minusMinutes(5));
+        article(7L, "반도체 HBM 투자", Category.IT_SCIENCE, NOW.minusMinutes(1));
+        TrendingKeywordEngine engine = newEngine();
+        ReflectionTestUtils.setField(engine, "topKCapacity", 2);
+        engine.onApplicationReady();
+
+        assertThat(engine.getTopKeywords(24, Category.ECONOMY, 10))
+                .extracting(TrendingKeywordDto::getKeyword, TrendingKeywordDto::getCount)
+                .containsExactly(tuple("금리", 3L), tuple("인하", 2L));
+        assertThat(engine.getTopKeywords(24, Category.IT_SCIENCE, 10))
+                .extracting(TrendingKeywordDto::getKeyword, TrendingKeywordDto::getCount)
+                .containsExactly(tuple("반도체", 3L), tuple("투자", 2L));
+        // 전체는 카테고리를 합친 카운트로 순위를 매김
+        assertThat(engine.getTopKeywords(24, null, 10))
+                .extracting(TrendingKeywordDto::getKeyword, TrendingKeywordDto::getCount)
+                .containsExactly(tuple("반도체", 4L), tuple("금리", 3L));
+        assertThat(engine.getTopKeywords(24, null, 1)).extracting(TrendingKeywordDto::getKeyword).containsExactly("반도체");
+        assertThat(engine.getTopKeywords(24, Category.SOCIETY, 10)).isEmpty();
+    }
+
+    @Test
+    void restoresBucketsFromRedisWithoutCountingAgain() {
+        article(1L, "삼성전자 반도체 출하 확대", Category.ECONOMY, NOW.minusMinutes(20));
+        article(2L, "반도체 수출 회복", Category.ECONOMY, NOW.minusHours(3));
+        TrendingKeywordEngine first = newEngine();
+        first.onApplicationReady();
+        assertThat(redisValues).containsEntry(WATERMARK_KEY, "2");
+
+        // 재기동: DB 재스캔 없이 Redis 버킷과 마지막 처리 ID로 복원
+        TrendingKeywordEngine restarted = newEngine();
+        restarted.onApplicationReady();
+        assertThat(counts(restarted, 1, null)).isEqualTo(counts(first, 1, null));
+        assertThat(counts(restarted, 6, null)).isEqualTo(counts(first, 6, null)).containsEntry("반도체", 2L);
+        assertThat(restarted.getStatus()).containsEntry("lastNewsId", 2L);
+
+        article(3L, "AI 반도체 투자", Category.ECONOMY, NOW.minusMinutes(5));
+        restarted.sync();
+        assertThat(counts(restarted, 6, null)).containsEntry("반도체", 3L);
+        assertThat(redisHashes.get(bucketKey(NOW, Category.ECONOMY))).containsEntry("반도체", 2L);
+    }
+
+    @Test
+    void replayedOrStaleBatchIsNotCountedTwice() {
+        article(1L, "반도체 수출 회복", Category.ECONOMY, NOW.minusMinutes(30));
+        article(2L, "삼성전자 반도체 출하 확대", Category.ECONOMY, NOW.minusMinutes(25));
+        TrendingKeywordEngine a = newEngine();
+        TrendingKeywordEngine b = newEngine();
+        ReflectionTestUtils.invokeMethod(a, "initialize");
+        ReflectionTestUtils.invokeMethod(b, "initialize");
+
+        a.sync();
+        // 같은 배치(1~2)를 다른 인스턴스가 다시 반영해도 Redis 카운터는 그대로, 메모리만 따라잡음
+        b.sync();
+        assertThat(redisValues).containsEntry(WATERMARK_KEY, "2");
+        assertThat(redisHashes.get(bucketKey(NOW, Category.ECONOMY))).containsEntry("반도체", 2L);
+        assertThat(counts(b, 1, null)).isEqualTo(counts(a, 1, null));
+
+        // a가 3까지 진행한 뒤 b가 2부터 3~4를 한 배치로 반영하려 하면 거절되고 Redis 상태로 다시 초기화
+        article(3L, "AI 반도체 투자", Category.ECONOMY, NOW.minusMinutes(20));
+        a.sync();
+        article(4L, "반도체 HBM 투자", Category.ECONOMY, NOW.minusMinutes(15));
+        b.sync();
+        assertThat(b.isReady()).isFalse();
+        assertThat(counts(b, 1, null)).containsEntry("반도체", 2L);
+        assertThat(redisValues).containsEntry(WATERMARK_KEY, "3");
+
+        b.sync();
+        a.sync();
+        assertThat(b.isReady()).isTrue();
+        assertThat(redisValues).containsEntry(WATERMARK_KEY, "4");
+        assertThat(redisHashes.get(bucketKey(NOW, Category.ECONOMY)))
+                .containsEntry("반도체", 4L).containsEntry("투자", 2L);
+        assertThat(counts(b, 1, null)).containsEntry("반도체", 4L).containsEntry("투자", 2L);
+        assertThat(counts(a, 1, null)).isEqualTo(counts(b, 1, null));
+    }
+
+    private TrendingKeywordEngine newEngine() {
+        TrendingKeywordEngine engine = new TrendingKeywordEngine(newsRepository, redisTemplate, new KeywordTokenizer());
+        ReflectionTestUtils.setField(engine, "windowsHours", List.of(1, 6));
+        ReflectionTestUtils.setField(engine, "batchSize", 100);
+        ReflectionTestUtils.setField(engine, "maxBatchesPerSync", 20);
+        ReflectionTestUtils.setField(engine, "topKCapacity", 50);
+        ReflectionTestUtils.setField(engine, "clock", clock);
+        return engine;
+    }
+
+    private void article(Long newsId, String title, Category category, LocalDateTime publishedAt) {
+        articles.add(new Object[]{newsId, title, category, publishedAt, null});
+    }
+
+    private static Map<String, Long> counts(TrendingKeywordEngine engine, int hours, Category category) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        engine.getTopKeywords(hours, category, Integer.MAX_VALUE)
+                .forEach(keyword -> counts.put(keyword.getKeyword(), keyword.getCount()));
+        return counts;
+    }
+
+    private static String bucketKey(LocalDateTime publishedAt, Category category) {
+        return "trending:kw:" + publishedAt.atZone(ZONE).toEpochSecond() / 3600 + ":" + category.name();
+    }
+
+    // 반영 스크립트와 같은 규칙: 처리 ID가 배치 마지막 ID면 0, 배치 시작 ID가 아니면 -1, 아니면 증분 기록 후 1
+    private Long persistScript(Object[] arguments) {
+        @SuppressWarnings("unchecked")
+        List<String> keys = (List<String>) arguments[1];
+        Object[] args = arguments.length == 3 && arguments[2] instanceof Object[] varargs
+                ? varargs : Arrays.copyOfRange(arguments, 2, arguments.length);
+
+        String current = redisValues.get(keys.get(0));
+        if (Objects.equals(current, args[1])) {
+            return 0L;
+        }
+        if (current != null && !current.equals(args[0])) {
+            return -1L;
+        }
+        int i = 3;
+        for (String key : keys.subList(1, keys.size())) {
+            int fields = Integer.parseInt((String) args[i++]);
+            Map<String, Long> hash = redisHashes.computeIfAbsent(key, k -> new HashMap<>());
+            for (int j = 0; j < fields; j++) {
+                hash.merge((String) args[i], Long.parseLong((String) args[i + 1]), Long::sum);
+                i += 2;
+            }
+        }
+        redisValues.put(keys.get(0), (String) args[1]);
+        return 1L;
+    }
+
+    private List<Object> hGetAllPipelined(RedisCallback<?> callback) {
+        List<String> keys = new ArrayList<>();
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisHashCommands hashCommands = mock(RedisHashCommands.class);
+        when(connection.hashCommands()).thenReturn(hashCommands);
+        when(hashCommands.hGetAll(any())).thenAnswer(invocation -> {
+            keys.add(new String((byte[]) invocation.getArgument(0), StandardCharsets.UTF_8));
+            return null;
+        });
+        callback.doInRedis(connection);
+
+        List<Object> results = new ArrayList<>();
+        for (String key : keys) {
+            Map<String, String> hash = new HashMap<>();
+            redisHashes.getOrDefault(key, Map.of()).forEach((field, value) -> hash.put(field, String.valueOf(value)));
+            results.add(hash);
+        }
+        return results;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.newnormallist.newsservice.news.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ViewCountAggregatorTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ViewCountAggregator aggregator;
+    // DB에 반영된 뉴스별 증분 합계
+    private final Map<Long, Long> flushed = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        doAnswer(invocation -> {
+            Collection<long[]> deltas = invocation.getArgument(1);
+            deltas.forEach(delta -> flushed.merge(delta[0], delta[1], Long::sum));
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+
+        aggregator = new ViewCountAggregator(jdbcTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(aggregator, "maxPendingKeys", 1000);
+        ReflectionTestUtils.setField(aggregator, "batchSize", 500);
+    }
+
+    @Test
+    void flushesAccumulatedIncrementsInOneBatch() {
+        aggregator.record(1L);
+        aggregator.record(1L);
+        aggregator.record(2L);
+
+        aggregator.flush();
+
+        assertThat(flushed).containsEntry(1L, 2L).containsEntry(2L, 1L);
+        assertThat(aggregator.getPendingIncrements()).isZero();
+        assertThat(aggregator.getFlushLagSeconds()).isZero();
+    }
+
+    @Test
+    void skipsDatabaseWhenNothingIsPending() {
+        aggregator.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void keepsIncrementsWhenBatchUpdateFails() {
+        aggregator.record(1L);
+        doThrow(new DataAccessResourceFailureException("down"))
+                .when(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+
+        aggregator.flush();
+
+        assertThat(aggregator.getPendingIncrements()).isEqualTo(1L);
+        assertThat(aggregator.getFlushLagSeconds()).isGreaterThanOrEqualTo(0.0);
+    }
+
+    @Test
+    void doesNotLoseIncrementsRecordedWhileFlushing() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        long[] ids = {1L, 2L, 3L, 4L};
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean recording = new AtomicBoolean(true);
+        try {
+            List<Future<?>> recorders = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                recorders.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        aggregator.record(ids[(i + offset) % ids.length]);
+                        // 가끔 양보해 플러시 사이에 증분이 없는 뉴스가 생기도록 함 (카운터 제거 경로)
+                        if (i % 1000 == 0) {
+                            Thread.yield();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            Future<?> flusher = executor.submit(() -> {
+                start.await();
+                while (recording.get()) {
+                    aggregator.flush();
+                    Thread.sleep(2);
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> recorder : recorders) {
+                recorder.get();
+            }
+            recording.set(false);
+            flusher.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        // 남은 증분과 지난 주기에 뺀 카운터까지 거둠
+        aggregator.flush();
+        aggregator.flush();
+
+        long total = flushed.values().stream().mapToLong(Long::longValue).sum();
+        assertThat(total).isEqualTo((long) threads * perThread);
+    }
+}
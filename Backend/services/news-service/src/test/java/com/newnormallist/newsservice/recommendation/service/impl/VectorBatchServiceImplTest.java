@@ -0,0 +1,116 @@
+package com.newnormallist.newsservice.recommendation.service.impl;
+
+import com.newnormallist.newsservice.recommendation.config.RecommendationProperties;
+import com.newnormallist.newsservice.recommendation.entity.RecommendationCategory;
+import com.newnormallist.newsservice.recommendation.entity.UserPrefVector;
+import com.newnormallist.newsservice.recommendation.repository.VectorBatchJdbcRepository;
+import com.newnormallist.newsservice.recommendation.repository.VectorBatchJdbcRepository.ActivityCount;
+import com.newnormallist.newsservice.recommendation.repository.VectorBatchJdbcRepository.UserRow;
+import com.newnormallist.newsservice.recommendation.service.VectorBuilder;
+import com.newnormallist.newsservice.recommendation.util.PrefVectorHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 단건 upsert가 예전 경로와 같은 stale 기준으로만 재계산하는지,
+ * 배치 재계산이 계산에 실패한 사용자만 건너뛰는지 확인한다.
+ */
+class VectorBatchServiceImplTest {
+
+    private final VectorBatchJdbcRepository repository = mock(VectorBatchJdbcRepository.class);
+    private final VectorBuilder vectorBuilder = mock(VectorBuilder.class);
+    private final RecommendationProperties properties = new RecommendationProperties();
+    private VectorBatchServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        properties.getVectorUpdate().setStaleMinutes(10);
+        properties.getVectorUpdate().setActivityThreshold(5);
+        when(repository.findActiveUsers(any())).thenReturn(List.of());
+        service = new VectorBatchServiceImpl(vectorBuilder, repository, mock(PrefVectorHelper.class),
+                properties, new SimpleMeterRegistry());
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void skipsFreshVectorWithFewReads() {
+        when(repository.findVectorUpdatedAt(1L)).thenReturn(LocalDateTime.now().minusMinutes(1));
+        when(repository.countActivitySince(anyLong(), any())).thenReturn(new ActivityCount(4, 0));
+
+        service.upsert(1L);
+
+        verify(repository, never()).findActiveUsers(any());
+    }
+
+    @Test
+    void recomputesWhenVectorIsMissingOldOrActive() {
+        when(repository.findVectorUpdatedAt(1L)).thenReturn(null);
+        when(repository.findVectorUpdatedAt(2L)).thenReturn(LocalDateTime.now().minusMinutes(30));
+        when(repository.findVectorUpdatedAt(3L)).thenReturn(LocalDateTime.now().minusMinutes(1));
+        when(repository.findVectorUpdatedAt(4L)).thenReturn(LocalDateTime.now().minusMinutes(1));
+        when(repository.countActivitySince(anyLong(), any())).thenAnswer(invocation ->
+                (long) invocation.getArgument(0) == 3L ? new ActivityCount(5, 0) : new ActivityCount(0, 1));
+
+        for (long userId = 1L; userId <= 4L; userId++) {
+            service.upsert(userId);
+            verify(repository).findActiveUsers(List.of(userId));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void skipsOnlyUserWhoseVectorCannotBeComputed() {
+        when(repository.findActiveUsers(any())).thenReturn(List.of(
+                new UserRow(1L, 1990, "MALE"), new UserRow(2L, null, "FEMALE"), new UserRow(3L, 1985, null)));
+        // 실제 VectorBuilderImpl처럼 출생연도가 없으면 연령대 계산에서 NPE
+        when(vectorBuilder.compose(anyLong(), any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            Integer birthYear = invocation.getArgument(1);
+            int age = 2025 - birthYear;
+            return List.of(UserPrefVector.builder()
+                    .userId(invocation.getArgument(0))
+                    .category(RecommendationCategory.POLITICS)
+                    .score(age)
+                    .build());
+        });
+
+        Map<String, Object> stats = service.recompute(List.of(1L, 2L, 3L));
+
+        ArgumentCaptor<List<UserPrefVector>> upserted = ArgumentCaptor.forClass(List.class);
+        verify(repository).upsertAll(upserted.capture(), anyInt());
+        assertThat(upserted.getValue()).extracting(UserPrefVector::getUserId).containsExactly(1L, 3L);
+        assertThat(stats).containsEntry("users", 2).containsEntry("failedChunks", 0);
+    }
+
+    @Test
+    void skipsUpsertWhenNoUserCouldBeComputed() {
+        when(repository.findActiveUsers(any())).thenReturn(List.of(new UserRow(2L, null, "FEMALE")));
+        when(vectorBuilder.compose(eq(2L), any(), any(), any(), any(), any())).thenThrow(new NullPointerException());
+
+        Map<String, Object> stats = service.recompute(List.of(2L));
+
+        verify(repository, never()).upsertAll(any(), anyInt());
+        assertThat(stats).containsEntry("users", 0).containsEntry("failedChunks", 0);
+    }
+}
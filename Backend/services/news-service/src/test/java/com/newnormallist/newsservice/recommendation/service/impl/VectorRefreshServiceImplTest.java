@@ -0,0 +1,72 @@
+package com.newnormallist.newsservice.recommendation.service.impl;
+
+import com.newnormallist.newsservice.recommendation.config.RecommendationProperties;
+import com.newnormallist.newsservice.recommendation.service.VectorBatchService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class VectorRefreshServiceImplTest {
+
+    private final VectorBatchService vectorBatchService = mock(VectorBatchService.class);
+    private final RecommendationProperties properties = new RecommendationProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private VectorRefreshServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        properties.getVectorUpdate().setRefreshThreads(1);
+        properties.getVectorUpdate().setActivityThreshold(5);
+        service = new VectorRefreshServiceImpl(vectorBatchService, properties, meterRegistry);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void keepsActivityWhenRefreshFails() throws Exception {
+        doThrow(new IllegalStateException("db down")).doNothing().when(vectorBatchService).upsert(1L);
+
+        service.recordScrap(1L);
+        verify(vectorBatchService, timeout(2000)).upsert(1L);
+        for (int i = 0; i < 200 && trackedUsers() == 0; i++) {
+            Thread.sleep(10);
+        }
+
+        // 실패한 갱신이 가져간 카운트가 되돌아와 조회 한 번으로 다시 임계값을 넘음
+        service.recordRead(1L);
+        verify(vectorBatchService, timeout(2000).times(2)).upsert(1L);
+    }
+
+    @Test
+    void boundsAndAgesActivityCounters() throws Exception {
+        properties.getVectorUpdate().setActivityThreshold(100);
+        properties.getVectorUpdate().setActivityMaxUsers(2);
+
+        service.recordRead(1L);
+        service.recordRead(2L);
+        service.recordRead(3L);
+        assertThat(trackedUsers()).isEqualTo(2.0);
+
+        properties.getVectorUpdate().setActivityIdleMinutes(0);
+        Thread.sleep(5);
+        service.evictIdleActivity();
+        assertThat(trackedUsers()).isZero();
+        verify(vectorBatchService, never()).upsert(3L);
+    }
+
+    private double trackedUsers() {
+        return meterRegistry.get("reco.vector.refresh.tracked-users").gauge().value();
+    }
+}
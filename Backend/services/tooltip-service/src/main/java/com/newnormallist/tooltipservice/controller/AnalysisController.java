@@ -1,10 +1,14 @@
 package com.newnormallist.tooltipservice.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.newnormallist.tooltipservice.dto.ProcessContentRequest;
 import com.newnormallist.tooltipservice.dto.ProcessContentResponse;
 import com.newnormallist.tooltipservice.dto.TermDefinitionResponseDto;
 import com.newnormallist.tooltipservice.dto.TermDetailResponseDto;
+import com.newnormallist.tooltipservice.exception.AnalysisOverloadedException;
+import com.newnormallist.tooltipservice.service.BatchAnalysisService;
 import com.newnormallist.tooltipservice.service.NewsAnalysisService;
+import com.newnormallist.tooltipservice.util.KomoranPool;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,10 +16,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 @Tag(name = "News Analysis", description = "뉴스 본문 분석 및 단어 정의 조회 API")
@@ -26,6 +35,9 @@ import java.util.NoSuchElementException;
 public class AnalysisController {
 
     private final NewsAnalysisService newsAnalysisService;
+    private final KomoranPool komoranPool;
+    private final BatchAnalysisService batchAnalysisService;
+    private final ObjectMapper objectMapper;
 
     @Operation(
             summary = "뉴스 본문 분석 및 마크업", 
@@ -41,14 +53,45 @@ public class AnalysisController {
         try {
             ProcessContentResponse response = newsAnalysisService.processContent(request);
             return ResponseEntity.ok(response);
+        } catch (AnalysisOverloadedException e) {
+            // 분석기 포화: 원본을 돌려주고 캐시하지 않음 (다음 요청에서 다시 분석)
+            log.warn("뉴스 ID {} 분석 거절 (부하 차단), 원본 내용을 반환합니다: {}", request.newsId(), e.getMessage());
+            return ResponseEntity.ok(ProcessContentResponse.original(request.originalContent()));
         } catch (Exception e) {
             log.error("뉴스 ID {} 분석 중 에러 발생. 원본 내용을 반환합니다.", request.newsId(), e);
-            ProcessContentResponse fallbackResponse = new ProcessContentResponse(request.originalContent());
+            ProcessContentResponse fallbackResponse = ProcessContentResponse.original(request.originalContent());
             return ResponseEntity.ok(fallbackResponse);
         }
     }
 
 
+    @Operation(
+            summary = "뉴스 본문 일괄 분석 및 마크업",
+            description = "여러 기사의 (뉴스 ID, 원본 내용)을 병렬로 마크업하고 끝난 순서대로 한 줄에 하나씩(NDJSON) 돌려줍니다. " +
+                          "status가 SHED(분석기 포화)인 기사는 원본이 담겨 있으니 나중에 다시 요청하세요."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 결과 스트림"),
+            @ApiResponse(responseCode = "400", description = "요청 건수 초과")
+    })
+    @PostMapping(value = "/process/batch", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> processNewsContentBatch(
+            @Parameter(description = "뉴스 ID와 원본 내용 목록", required = true) @RequestBody List<ProcessContentRequest> requests) {
+        if (requests.size() > batchAnalysisService.getMaxItems()) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = out -> batchAnalysisService.process(requests, result -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(result));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson")).body(body);
+    }
+
     @Operation(
             summary = "단어 정의 조회", 
             description = "특정 단어의 모든 정의를 displayOrder 순으로 조회합니다. 정확 일치 후 부분 일치로 검색합니다."
@@ -73,7 +116,7 @@ public class AnalysisController {
      */
     @PostMapping("/admin/refresh-cache")
     @Operation(summary = "어려운 단어 캐시 갱신", 
-               description = "Redis에 캐시된 어려운 단어 목록을 강제로 갱신합니다. DB에 새로운 단어가 추가되었을 때 사용하세요.")
+               description = "Redis에 캐시된 어려운 단어 목록을 비우고 메모리 사전(단어 + 정의)을 DB에서 다시 읽어 교체합니다. DB에 새로운 단어가 추가되었을 때 사용하세요. 요청을 받은 인스턴스는 바로, 나머지 인스턴스는 tooltip.dictionary.check-interval-ms 안에 교체됩니다.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "캐시 갱신 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
@@ -82,4 +125,44 @@ public class AnalysisController {
         newsAnalysisService.refreshDifficultWordsCache();
         return ResponseEntity.ok("어려운 단어 캐시가 성공적으로 갱신되었습니다.");
     }
-}
\ No newline at end of file
+
+    /**
+     * 메모리 사전 상태 조회 API (관리자용)
+     */
+    @GetMapping("/admin/dictionary")
+    @Operation(summary = "어려운 단어 사전 상태",
+               description = "메모리에 올라간 어려운 단어 사전의 버전, 단어 수, 정의 수, 로드 시각을 조회합니다.")
+    public ResponseEntity<Map<String, Object>> dictionaryStatus() {
+        return ResponseEntity.ok(newsAnalysisService.getDictionaryStatus());
+    }
+
+    /**
+     * 현재 사전 버전 조회 API (news-service가 저장해 둔 마크업이 최신인지 확인할 때 사용)
+     */
+    @GetMapping("/dictionary/version")
+    @Operation(summary = "어려운 단어 사전 버전",
+               description = "마크업에 사용 중인 사전 버전을 반환합니다. 마크업 응답의 dictionaryVersion과 같은 값입니다.")
+    public ResponseEntity<String> dictionaryVersion() {
+        return ResponseEntity.ok(newsAnalysisService.getDictionaryVersion());
+    }
+
+    /**
+     * 마크업 결과 캐시 상태 조회 API (관리자용)
+     */
+    @GetMapping("/admin/processed-cache")
+    @Operation(summary = "마크업 결과 캐시 상태",
+               description = "로컬 캐시/Redis 적중 수, 새로 계산한 수, 동시 요청이 합쳐진 수, 로컬 캐시 항목 수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> processedCacheStatus() {
+        return ResponseEntity.ok(newsAnalysisService.getProcessedCacheStats());
+    }
+
+    /**
+     * 형태소 분석기 풀 상태 조회 API (관리자용)
+     */
+    @GetMapping("/admin/analyzer-pool")
+    @Operation(summary = "형태소 분석기 풀 상태",
+               description = "Komoran 분석기 풀 크기, 사용 가능 수, 대기 수, 누적 분석 수, 부하 차단(거절) 건수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> analyzerPoolStatus() {
+        return ResponseEntity.ok(komoranPool.getStats());
+    }
+}
@@ -0,0 +1,10 @@
+package com.newnormallist.tooltipservice.dto;
+
+// 일괄 처리 결과 한 건 (NDJSON 한 줄, status가 PROCESSED가 아니면 processedContent는 원본이고 dictionaryVersion은 null)
+public record BatchProcessResult(Long newsId, String processedContent, String status, String dictionaryVersion) {
+
+    public static final String PROCESSED = "PROCESSED";
+    // 분석기 포화로 거절됨 (나중에 다시 요청)
+    public static final String SHED = "SHED";
+    public static final String FAILED = "FAILED";
+}
@@ -1,5 +1,10 @@
 package com.newnormallist.tooltipservice.dto;
 
 // 응답 본문을 위한 DTO (record 타입)
-public record ProcessContentResponse(String processedContent) {
+// dictionaryVersion: 마크업에 쓴 사전 버전 (원본을 그대로 돌려준 경우 null)
+public record ProcessContentResponse(String processedContent, String dictionaryVersion) {
+
+    public static ProcessContentResponse original(String originalContent) {
+        return new ProcessContentResponse(originalContent, null);
+    }
 }
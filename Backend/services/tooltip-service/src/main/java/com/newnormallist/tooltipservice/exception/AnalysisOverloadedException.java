@@ -0,0 +1,12 @@
+package com.newnormallist.tooltipservice.exception;
+
+/**
+ * 형태소 분석기가 모두 사용 중이고 대기열도 가득 차 분석을 포기한 경우.
+ * 호출 측은 원본 본문을 그대로 돌려주고, 이 결과는 캐시하지 않는다.
+ */
+public class AnalysisOverloadedException extends RuntimeException {
+
+    public AnalysisOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -13,6 +14,10 @@ public interface VocabularyTermRepository extends JpaRepository<VocabularyTerm,L
     @Query("SELECT vt.term FROM VocabularyTerm vt")
     Set<String> findAllTerms();
 
+    // 단어와 정의를 한 번에 조회 (메모리 사전 생성용)
+    @Query("SELECT DISTINCT vt FROM VocabularyTerm vt LEFT JOIN FETCH vt.definitions")
+    List<VocabularyTerm> findAllWithDefinitions();
+
     // 단어(term) 문자열로 VocabularyTerm 엔티티를 찾는 메소드 (정확 일치)
     Optional<VocabularyTerm> findByTerm(String term);
     
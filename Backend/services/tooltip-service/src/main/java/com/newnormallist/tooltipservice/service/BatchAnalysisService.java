@@ -0,0 +1,107 @@
+package com.newnormallist.tooltipservice.service;
+
+import com.newnormallist.tooltipservice.dto.BatchProcessResult;
+import com.newnormallist.tooltipservice.dto.ProcessContentRequest;
+import com.newnormallist.tooltipservice.dto.ProcessContentResponse;
+import com.newnormallist.tooltipservice.exception.AnalysisOverloadedException;
+import com.newnormallist.tooltipservice.util.KomoranPool;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * 여러 기사 일괄 마크업 (적재 직후 사전 계산 / 백필용).
+ *
+ * 기사마다 단건 처리와 같은 {@link NewsAnalysisService#processContent} 경로를 타므로 결과가
+ * 마크업 캐시에도 채워진다. 작업 스레드 수는 기본적으로 분석기 풀의 절반이라
+ * 일괄 처리 중에도 독자 요청이 쓸 분석기가 남는다.
+ *
+ * 결과는 끝난 순서대로 sink에 넘긴다 (sink는 호출 스레드에서만 호출됨).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchAnalysisService {
+
+    private final NewsAnalysisService newsAnalysisService;
+    private final KomoranPool komoranPool;
+
+    // 0이면 분석기 풀 크기의 절반 (최소 1)
+    @Value("${tooltip.batch.parallelism:0}")
+    private int parallelism;
+
+    @Value("${tooltip.batch.max-items:500}")
+    private int maxItems;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        if (parallelism <= 0) {
+            parallelism = Math.max(1, komoranPool.getPoolSize() / 2);
+        }
+        executor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("tooltip-batch-"));
+        log.info("일괄 마크업 작업 스레드 {}개, 요청당 최대 {}건", parallelism, maxItems);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    public void process(List<ProcessContentRequest> requests, Consumer<BatchProcessResult> sink) {
+        long startedAt = System.currentTimeMillis();
+        CompletionService<BatchProcessResult> completion = new ExecutorCompletionService<>(executor);
+        for (ProcessContentRequest request : requests) {
+            completion.submit(() -> processOne(request));
+        }
+
+        int shed = 0;
+        int failed = 0;
+        try {
+            for (int i = 0; i < requests.size(); i++) {
+                BatchProcessResult result = completion.take().get();
+                if (BatchProcessResult.SHED.equals(result.status())) {
+                    shed++;
+                } else if (BatchProcessResult.FAILED.equals(result.status())) {
+                    failed++;
+                }
+                sink.accept(result);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("일괄 마크업 중단 (인터럽트)");
+            return;
+        } catch (ExecutionException e) {
+            // processOne이 예외를 결과로 바꾸므로 여기까지 오지 않음
+            throw new IllegalStateException("일괄 마크업 실패", e.getCause());
+        }
+        log.info("일괄 마크업 완료: {}건 (거절 {}건, 실패 {}건), {}ms",
+                requests.size(), shed, failed, System.currentTimeMillis() - startedAt);
+    }
+
+    private BatchProcessResult processOne(ProcessContentRequest request) {
+        try {
+            ProcessContentResponse response = newsAnalysisService.processContent(request);
+            return new BatchProcessResult(request.newsId(), response.processedContent(), BatchProcessResult.PROCESSED,
+                    response.dictionaryVersion());
+        } catch (AnalysisOverloadedException e) {
+            return new BatchProcessResult(request.newsId(), request.originalContent(), BatchProcessResult.SHED, null);
+        } catch (Exception e) {
+            log.warn("뉴스 ID {} 일괄 마크업 실패: {}", request.newsId(), e.getMessage());
+            return new BatchProcessResult(request.newsId(), request.originalContent(), BatchProcessResult.FAILED, null);
+        }
+    }
+}
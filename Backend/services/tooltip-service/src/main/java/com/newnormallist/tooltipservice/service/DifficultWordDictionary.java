@@ -0,0 +1,198 @@
+package com.newnormallist.tooltipservice.service;
+
+import com.newnormallist.tooltipservice.entity.TermDefinition;
+import com.newnormallist.tooltipservice.entity.VocabularyTerm;
+import com.newnormallist.tooltipservice.repository.VocabularyTermRepository;
+import com.newnormallist.tooltipservice.util.DifficultWordMatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 어려운 단어 사전 (메모리 보관).
+ *
+ * 단어와 정의를 DB에서 한 번에 읽어(JOIN FETCH 한 번) 매처와 기본형별 정의 JSON을 담은
+ * 불변 스냅샷을 만든다. 정의 JSON은 정렬/이스케이프까지 끝낸 문자열로 저장해 두므로
+ * 기사 마크업 중에는 DB를 조회하지 않는다.
+ *
+ * 갱신 시 새 스냅샷을 만든 뒤 참조만 바꿔 끼운다 (마크업 중인 요청은 이전 스냅샷을 끝까지 사용).
+ * 스냅샷 버전은 단어/정의 내용의 해시라 같은 DB를 읽은 인스턴스끼리 같은 값을 가진다.
+ * 갱신 API는 요청을 받은 인스턴스만 바꾸므로, 나머지 인스턴스는 {@link #rebuildIfChanged()}로 주기적으로 따라간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DifficultWordDictionary {
+
+    private final VocabularyTermRepository vocabularyTermRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    // 첫 요청이 사전 로드 비용을 내지 않도록 기동 시 미리 로드
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        try {
+            current();
+        } catch (Exception e) {
+            log.warn("⚠️ 어려운 단어 사전 미리 로드 실패 (첫 요청 때 다시 시도): {}", e.getMessage());
+        }
+    }
+
+    public Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot.get();
+            if (current == null) {
+                current = load();
+                snapshot.set(current);
+            }
+            return current;
+        }
+    }
+
+    /**
+     * DB를 다시 읽어 스냅샷 교체
+     */
+    public synchronized Snapshot rebuild() {
+        Snapshot rebuilt = load();
+        Snapshot previous = snapshot.getAndSet(rebuilt);
+        log.info("어려운 단어 사전 교체: {} → {}", previous != null ? previous.version() : "-", rebuilt.version());
+        return rebuilt;
+    }
+
+    /**
+     * DB를 다시 읽어 버전이 달라졌을 때만 스냅샷 교체 (다른 인스턴스의 갱신, DB 직접 수정 반영)
+     *
+     * @return 교체했으면 true
+     */
+    public synchronized boolean rebuildIfChanged() {
+        Snapshot loaded = load();
+        Snapshot previous = snapshot.get();
+        if (previous != null && previous.version().equals(loaded.version())) {
+            return false;
+        }
+        snapshot.set(loaded);
+        log.info("어려운 단어 사전 변경 감지, 교체: {} → {}", previous != null ? previous.version() : "-", loaded.version());
+        return true;
+    }
+
+    private Snapshot load() {
+        long startedAt = System.currentTimeMillis();
+        List<VocabularyTerm> terms = vocabularyTermRepository.findAllWithDefinitions();
+        if (terms.isEmpty()) {
+            log.warn("⚠️ DB에 vocabulary_term 데이터가 없습니다!");
+        }
+
+        // 기본형 → 정의를 보여줄 단어 (기존 조회와 같이 정확 일치 우선, 없으면 가장 짧은 단어)
+        Map<String, VocabularyTerm> representatives = new HashMap<>();
+        for (VocabularyTerm term : terms) {
+            String base = DifficultWordMatcher.baseWord(term.getTerm());
+            if (base.isEmpty()) {
+                continue;
+            }
+            representatives.merge(DifficultWordMatcher.normalize(base), term,
+                    (current, candidate) -> preferred(base, current, candidate));
+        }
+
+        Map<String, String> definitionsJson = new HashMap<>();
+        representatives.forEach((normalized, term) -> {
+            String json = toDefinitionsJson(term.getDefinitions());
+            if (!json.isEmpty()) {
+                definitionsJson.put(normalized, json);
+            }
+        });
+
+        DifficultWordMatcher matcher = DifficultWordMatcher.of(
+                terms.stream().map(VocabularyTerm::getTerm).collect(Collectors.toList()));
+        Snapshot loaded = new Snapshot(version(terms), matcher, Collections.unmodifiableMap(definitionsJson),
+                terms.size(), LocalDateTime.now());
+        log.info("어려운 단어 사전 로드: 단어 {}개 → 기본형 {}개, 정의 {}개, 버전 {}, {}ms", terms.size(), matcher.size(),
+                definitionsJson.size(), loaded.version(), System.currentTimeMillis() - startedAt);
+        return loaded;
+    }
+
+    private static VocabularyTerm preferred(String base, VocabularyTerm current, VocabularyTerm candidate) {
+        boolean currentExact = current.getTerm().equals(base);
+        boolean candidateExact = candidate.getTerm().equals(base);
+        if (currentExact != candidateExact) {
+            return currentExact ? current : candidate;
+        }
+        return candidate.getTerm().length() < current.getTerm().length() ? candidate : current;
+    }
+
+    // displayOrder 순서대로 [{"def":"...","order":n},...] (정의가 없으면 빈 문자열)
+    private static String toDefinitionsJson(List<TermDefinition> definitions) {
+        if (definitions == null || definitions.isEmpty()) {
+            return "";
+        }
+        return definitions.stream()
+                .sorted(Comparator.comparing(def -> def.getDisplayOrder() != null ? def.getDisplayOrder() : Integer.MAX_VALUE))
+                .map(def -> "{\"def\":\"" + escapeJson(def.getDefinition()) + "\",\"order\":"
+                        + (def.getDisplayOrder() != null ? def.getDisplayOrder() : 999) + "}")
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static String escapeJson(String text) {
+        if (text == null) return "";
+        return text.replace("\\", "\\\\")
+                   .replace("\"", "\\\"")
+                   .replace("\n", "\\n")
+                   .replace("\r", "\\r")
+                   .replace("\t", "\\t");
+    }
+
+    // 단어/정의 내용 해시 앞 16자리
+    private static String version(List<VocabularyTerm> terms) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            terms.stream()
+                    .sorted(Comparator.comparing(VocabularyTerm::getTerm))
+                    .forEach(term -> {
+                        digest.update(term.getTerm().getBytes(StandardCharsets.UTF_8));
+                        digest.update((byte) 0);
+                        digest.update(toDefinitionsJson(term.getDefinitions()).getBytes(StandardCharsets.UTF_8));
+                        digest.update((byte) '\n');
+                    });
+            return HexFormat.of().formatHex(digest.digest()).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없음", e);
+        }
+    }
+
+    /**
+     * 사전 스냅샷 (불변)
+     */
+    public record Snapshot(String version, DifficultWordMatcher matcher, Map<String, String> definitions,
+                           int termCount, LocalDateTime loadedAt) {
+
+        /**
+         * 기본형의 정의 JSON (없으면 빈 문자열)
+         */
+        public String definitionsJson(String baseWord) {
+            return definitions.getOrDefault(DifficultWordMatcher.normalize(baseWord), "");
+        }
+
+        public Map<String, Object> summary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("version", version);
+            summary.put("terms", termCount);
+            summary.put("baseWords", matcher.size());
+            summary.put("withDefinitions", definitions.size());
+            summary.put("loadedAt", loadedAt);
+            return summary;
+        }
+    }
+}
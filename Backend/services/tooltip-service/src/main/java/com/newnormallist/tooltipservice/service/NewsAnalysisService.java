@@ -5,10 +5,10 @@ import com.newnormallist.tooltipservice.dto.ProcessContentResponse;
 import com.newnormallist.tooltipservice.dto.TermDetailResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -17,25 +17,23 @@ public class NewsAnalysisService {
 
     private final AnalysisCacheService analysisCacheService;
     private final NlpService nlpService;
-
-    // Redis 캐시로 변경됨 - 메모리 캐시 제거
+    private final DifficultWordDictionary difficultWordDictionary;
+    private final ProcessedContentCache processedContentCache;
 
     /**
      * 뉴스 본문을 분석하여 어려운 단어에 마크업을 추가합니다.
+     * 결과는 (본문 해시, 사전 버전) 키로 캐시되어 본문이나 사전이 바뀌면 다시 계산됩니다.
      */
-    @Cacheable(value = "processedContent", key = "#request.newsId()")
     public ProcessContentResponse processContent(ProcessContentRequest request) {
-        log.info("뉴스 ID {}의 본문 분석을 시작합니다.", request.newsId());
-
-        // Redis 캐시에서 어려운 단어 목록을 가져와서 마크업 처리
-        log.info("🟡 어려운 단어 목록 조회를 시작합니다...");
-        Set<String> difficultWords = analysisCacheService.getDifficultWordsFromCache();
-        log.info("🟢 어려운 단어 목록 조회 완료! 총 {}개 (Redis에서 가져왔다면 위 🔴 로그가 없을 것입니다)", difficultWords.size());
-        
-        // NlpService를 직접 호출하여 마크업 처리
-        String analyzedContent = nlpService.markupDifficultWords(request.originalContent(), difficultWords);
+        // 메모리 사전(매처 + 정의 JSON)으로 마크업 처리
+        DifficultWordDictionary.Snapshot dictionary = difficultWordDictionary.current();
+        String key = processedContentCache.key(request.originalContent(), dictionary.version());
+        String analyzedContent = processedContentCache.get(key, () -> {
+            log.info("뉴스 ID {}의 본문 분석을 시작합니다.", request.newsId());
+            return nlpService.markupDifficultWords(request.originalContent(), dictionary);
+        });
 
-        return new ProcessContentResponse(analyzedContent);
+        return new ProcessContentResponse(analyzedContent, dictionary.version());
     }
 
     // --- Delegations for controller compatibility ---
@@ -45,6 +43,36 @@ public class NewsAnalysisService {
 
     public void refreshDifficultWordsCache() {
         analysisCacheService.refreshDifficultWordsCache();
+        difficultWordDictionary.rebuild();
+        processedContentCache.clearNear();
+    }
+
+    /**
+     * 다른 인스턴스에서 사전을 갱신했거나 DB가 바뀐 경우 이 인스턴스의 사전도 교체합니다.
+     * 버전이 바뀌면 마크업 캐시 키도 바뀌므로, 모든 인스턴스가 늦어도 한 주기 안에 같은 버전으로 마크업합니다.
+     */
+    @Scheduled(fixedDelayString = "${tooltip.dictionary.check-interval-ms:300000}",
+            initialDelayString = "${tooltip.dictionary.check-interval-ms:300000}")
+    public void syncDictionary() {
+        try {
+            if (difficultWordDictionary.rebuildIfChanged()) {
+                processedContentCache.clearNear();
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 어려운 단어 사전 버전 확인 실패 (현재 사전 유지): {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getProcessedCacheStats() {
+        return processedContentCache.getStats();
+    }
+
+    public String getDictionaryVersion() {
+        return difficultWordDictionary.current().version();
+    }
+
+    public Map<String, Object> getDictionaryStatus() {
+        return difficultWordDictionary.current().summary();
     }
 
     /**
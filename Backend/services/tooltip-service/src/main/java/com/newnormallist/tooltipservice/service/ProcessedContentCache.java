@@ -0,0 +1,181 @@
+package com.newnormallist.tooltipservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 마크업 결과 캐시.
+ *
+ * 키는 (본문 SHA-256, 사전 버전)이라 본문이 바뀌거나 사전이 갱신되면 자연히 새로 계산한다
+ * (예전 키는 Redis TTL로 만료). 조회 순서는
+ * 1. 로컬 near cache (최근 조회 기사 near-size개, near-ttl-seconds 동안) - Redis 왕복 없음
+ * 2. Redis (processedContent 캐시)
+ * 3. 계산 - 같은 키를 동시에 요청하면 한 요청만 계산하고 나머지는 그 결과를 기다림 (single-flight)
+ *
+ * 계산 중 예외(부하 차단 등)는 기다리던 요청에도 그대로 전달되고 캐시하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProcessedContentCache {
+
+    private static final String CACHE_NAME = "processedContent";
+
+    private final CacheManager cacheManager;
+
+    @Value("${tooltip.cache.near-size:256}")
+    private int nearSize;
+
+    @Value("${tooltip.cache.near-ttl-seconds:300}")
+    private long nearTtlSeconds;
+
+    private final Map<String, NearEntry> near = new LinkedHashMap<>(64, 0.75f, true);
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong nearHits = new AtomicLong();
+    private final AtomicLong redisHits = new AtomicLong();
+    private final AtomicLong computed = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * 본문 + 사전 버전으로 캐시 키 생성
+     */
+    public String key(String content, String dictionaryVersion) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((content != null ? content : "").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash) + ":" + dictionaryVersion;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없음", e);
+        }
+    }
+
+    public String get(String key, Supplier<String> loader) {
+        String cached = getNear(key);
+        if (cached != null) {
+            nearHits.incrementAndGet();
+            return cached;
+        }
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return join(existing);
+        }
+
+        try {
+            String value = getRemote(key);
+            if (value != null) {
+                redisHits.incrementAndGet();
+            } else {
+                value = loader.get();
+                computed.incrementAndGet();
+                putRemote(key, value);
+            }
+            putNear(key, value);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 로컬 near cache 비우기 (사전 교체 시 이전 버전 결과가 메모리를 차지하지 않도록)
+     */
+    public synchronized void clearNear() {
+        near.clear();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("nearHits", nearHits.get());
+        stats.put("redisHits", redisHits.get());
+        stats.put("computed", computed.get());
+        stats.put("coalesced", coalesced.get());
+        synchronized (this) {
+            stats.put("nearEntries", near.size());
+        }
+        stats.put("nearSize", nearSize);
+        stats.put("inFlight", inFlight.size());
+        return stats;
+    }
+
+    private static String join(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private synchronized String getNear(String key) {
+        NearEntry entry = near.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            near.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    private synchronized void putNear(String key, String value) {
+        if (nearSize <= 0) {
+            return;
+        }
+        near.put(key, new NearEntry(value, System.currentTimeMillis() + nearTtlSeconds * 1000));
+        while (near.size() > nearSize) {
+            near.remove(near.keySet().iterator().next());
+        }
+    }
+
+    // Redis 장애 시에는 캐시 없이 계산
+    private String getRemote(String key) {
+        try {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            return cache != null ? cache.get(key, String.class) : null;
+        } catch (RuntimeException e) {
+            log.warn("마크업 캐시 조회 실패 ({}): {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(String key, String value) {
+        try {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null && value != null) {
+                cache.put(key, value);
+            }
+        } catch (RuntimeException e) {
+            log.warn("마크업 캐시 저장 실패 ({}): {}", key, e.getMessage());
+        }
+    }
+
+    private record NearEntry(String value, long expiresAt) {
+    }
+}
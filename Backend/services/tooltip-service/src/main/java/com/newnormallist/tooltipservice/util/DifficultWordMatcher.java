@@ -0,0 +1,210 @@
+package com.newnormallist.tooltipservice.util;
+
+import java.util.*;
+
+/**
+ * 어려운 단어 사전을 한 번 컴파일해 둔 불변 매처.
+ *
+ * DB에는 "예산 (豫算)", "예산 (Budget)"처럼 한자/영어 표기가 붙은 형태로 저장돼 있어
+ * 기존에는 명사 토큰마다 전체 단어 목록을 돌며 substring/indexOf로 기본형을 다시 잘라 비교했다.
+ * 여기서는 사전을 만들 때 기본형을 한 번만 뽑아 두고
+ * - {@link #match}: 형태소 하나 → 기본형 해시 조회 (정규화: 앞뒤 공백 제거, 연속 공백 하나로, 소문자)
+ * - {@link #forEachMatch}: 여러 형태소로 쪼개지는 단어(예: 기준금리 → 기준 + 금리)를 찾기 위한
+ *   Aho-Corasick 오토마톤 (본문을 한 번만 훑어 모든 기본형 등장 위치를 보고)
+ * 를 제공한다. 사전이 바뀌면 새 인스턴스를 만들어 통째로 교체한다.
+ */
+public final class DifficultWordMatcher {
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final int[] NO_TARGETS = new int[0];
+
+    public static final DifficultWordMatcher EMPTY = of(List.of());
+
+    // 정규화한 기본형 → 표시용 기본형
+    private final Map<String, String> baseWords;
+    private final String[] patterns;
+
+    // Aho-Corasick (노드별 자식은 정렬된 char 배열)
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+    // 이 노드에서 끝나는 패턴 번호 (-1: 없음)
+    private final int[] patternAt;
+    // 실패 링크를 따라가며 처음 만나는 패턴 노드 (-1: 없음)
+    private final int[] outputLink;
+
+    private DifficultWordMatcher(Map<String, String> baseWords, String[] patterns, char[][] labels, int[][] targets,
+                                 int[] fail, int[] patternAt, int[] outputLink) {
+        this.baseWords = baseWords;
+        this.patterns = patterns;
+        this.labels = labels;
+        this.targets = targets;
+        this.fail = fail;
+        this.patternAt = patternAt;
+        this.outputLink = outputLink;
+    }
+
+    /**
+     * DB 단어 목록으로 매처 생성
+     */
+    public static DifficultWordMatcher of(Collection<String> dbTerms) {
+        Map<String, String> baseWords = new HashMap<>();
+        for (String dbTerm : dbTerms) {
+            String base = baseWord(dbTerm);
+            if (!base.isEmpty()) {
+                baseWords.putIfAbsent(normalize(base), base);
+            }
+        }
+        String[] patterns = baseWords.keySet().toArray(new String[0]);
+        Arrays.sort(patterns);
+
+        List<TreeMap<Character, Integer>> edges = new ArrayList<>();
+        List<Integer> ends = new ArrayList<>();
+        edges.add(new TreeMap<>());
+        ends.add(-1);
+        for (int p = 0; p < patterns.length; p++) {
+            String pattern = patterns[p];
+            int node = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer next = edges.get(node).get(pattern.charAt(i));
+                if (next == null) {
+                    next = edges.size();
+                    edges.add(new TreeMap<>());
+                    ends.add(-1);
+                    edges.get(node).put(pattern.charAt(i), next);
+                }
+                node = next;
+            }
+            ends.set(node, p);
+        }
+
+        int size = edges.size();
+        char[][] labels = new char[size][];
+        int[][] targets = new int[size][];
+        int[] patternAt = new int[size];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> children = edges.get(node);
+            labels[node] = children.isEmpty() ? NO_LABELS : new char[children.size()];
+            targets[node] = children.isEmpty() ? NO_TARGETS : new int[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> child : children.entrySet()) {
+                labels[node][i] = child.getKey();
+                targets[node][i] = child.getValue();
+                i++;
+            }
+            patternAt[node] = ends.get(node);
+        }
+
+        // BFS로 실패 링크 / 출력 링크 계산
+        int[] fail = new int[size];
+        int[] outputLink = new int[size];
+        Arrays.fill(outputLink, -1);
+        DifficultWordMatcher matcher = new DifficultWordMatcher(Collections.unmodifiableMap(baseWords), patterns,
+                labels, targets, fail, patternAt, outputLink);
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < labels[node].length; i++) {
+                char c = labels[node][i];
+                int child = targets[node][i];
+                int f = fail[node];
+                while (f != 0 && matcher.child(f, c) < 0) {
+                    f = fail[f];
+                }
+                int candidate = matcher.child(f, c);
+                fail[child] = (candidate >= 0 && candidate != child) ? candidate : 0;
+                outputLink[child] = patternAt[fail[child]] >= 0 ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+        return matcher;
+    }
+
+    /**
+     * "예산 (豫算)" → "예산". 괄호 표기가 없으면 그대로
+     */
+    public static String baseWord(String dbTerm) {
+        if (dbTerm == null) {
+            return "";
+        }
+        int paren = dbTerm.indexOf(" (");
+        if (paren > 0 && dbTerm.endsWith(")")) {
+            return dbTerm.substring(0, paren).trim();
+        }
+        return dbTerm.trim();
+    }
+
+    public static String normalize(String word) {
+        return word.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 형태소가 어려운 단어의 기본형이면 표시용 기본형, 아니면 null
+     */
+    public String match(String morph) {
+        if (morph == null || morph.isEmpty() || baseWords.isEmpty()) {
+            return null;
+        }
+        return baseWords.get(normalize(morph));
+    }
+
+    /**
+     * text에 등장하는 모든 기본형 위치를 sink로 넘김 (한 번의 선형 스캔, 대소문자 무시)
+     */
+    public void forEachMatch(CharSequence text, MatchSink sink) {
+        if (patterns.length == 0 || text == null) {
+            return;
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next = child(state, c);
+            while (next < 0 && state != 0) {
+                state = fail[state];
+                next = child(state, c);
+            }
+            state = next < 0 ? 0 : next;
+            for (int node = patternAt[state] >= 0 ? state : outputLink[state]; node >= 0; node = outputLink[node]) {
+                String pattern = patterns[patternAt[node]];
+                sink.accept(i + 1 - pattern.length(), i + 1, baseWords.get(pattern));
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return patterns.length == 0;
+    }
+
+    /**
+     * 기본형 수
+     */
+    public int size() {
+        return patterns.length;
+    }
+
+    private int child(int node, char c) {
+        char[] keys = labels[node];
+        int low = 0;
+        int high = keys.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char key = keys[mid];
+            if (key < c) {
+                low = mid + 1;
+            } else if (key > c) {
+                high = mid - 1;
+            } else {
+                return targets[node][mid];
+            }
+        }
+        return -1;
+    }
+
+    @FunctionalInterface
+    public interface MatchSink {
+        void accept(int start, int end, String baseWord);
+    }
+}
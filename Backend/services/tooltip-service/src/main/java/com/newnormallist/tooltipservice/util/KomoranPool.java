@@ -0,0 +1,127 @@
+package com.newnormallist.tooltipservice.util;
+
+import com.newnormallist.tooltipservice.exception.AnalysisOverloadedException;
+import jakarta.annotation.PostConstruct;
+import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
+import kr.co.shineware.nlp.komoran.core.Komoran;
+import kr.co.shineware.nlp.komoran.model.Token;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Komoran 형태소 분석기 풀
+ *
+ * 역할:
+ * - 분석기 인스턴스를 여러 개 만들어 두고 요청마다 하나씩 빌려 씀 (인스턴스 하나를 여러 스레드가 공유하지 않음)
+ * - 동시에 분석하는 요청 수를 풀 크기로 제한해 CPU를 넘겨 받지 않도록 함
+ *
+ * 기능:
+ * - 대기열 제한: 분석기를 기다리는 요청이 max-waiting개를 넘으면 바로 거절
+ * - 대기 시간 제한: acquire-timeout-ms 안에 분석기를 못 받으면 거절
+ * - 거절 시 {@link AnalysisOverloadedException} → 호출 측에서 원본 본문 반환 (부하 차단)
+ */
+@Slf4j
+@Component
+public class KomoranPool {
+
+    // 0이면 CPU 코어 수 (최대 4개, 인스턴스마다 사전 모델을 메모리에 올림)
+    @Value("${tooltip.komoran.pool-size:0}")
+    private int poolSize;
+
+    @Value("${tooltip.komoran.max-waiting:32}")
+    private int maxWaiting;
+
+    @Value("${tooltip.komoran.acquire-timeout-ms:2000}")
+    private long acquireTimeoutMs;
+
+    private Semaphore permits;
+    private final Deque<Komoran> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private final AtomicLong analyzed = new AtomicLong();
+    private final AtomicLong shedQueueFull = new AtomicLong();
+    private final AtomicLong shedTimeout = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        if (poolSize <= 0) {
+            poolSize = Math.min(4, Runtime.getRuntime().availableProcessors());
+        }
+        long startedAt = System.currentTimeMillis();
+        for (int i = 0; i < poolSize; i++) {
+            // 모델은 경량화된 LIGHT 모델을 사용합니다. 더 높은 정확도가 필요하면 DEFAULT_MODEL.FULL을 사용할 수 있습니다.
+            idle.add(new Komoran(DEFAULT_MODEL.LIGHT));
+        }
+        permits = new Semaphore(poolSize, true);
+        log.info("Komoran 형태소 분석기 풀 초기화 완료: {}개, 대기 최대 {}개, {}ms",
+                poolSize, maxWaiting, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 분석기를 하나 빌려 형태소 분석
+     *
+     * @throws AnalysisOverloadedException 대기열이 가득 찼거나 대기 시간 안에 분석기를 받지 못한 경우
+     */
+    public List<Token> analyze(String text) {
+        acquire();
+        Komoran komoran = idle.pollFirst();
+        try {
+            List<Token> tokens = komoran.analyze(text).getTokenList();
+            analyzed.incrementAndGet();
+            return tokens;
+        } finally {
+            idle.addFirst(komoran);
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            shedQueueFull.incrementAndGet();
+            throw new AnalysisOverloadedException("형태소 분석 대기열 가득 참 (" + maxWaiting + ")");
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                shedTimeout.incrementAndGet();
+                throw new AnalysisOverloadedException("형태소 분석기 대기 시간 초과 (" + acquireTimeoutMs + "ms)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AnalysisOverloadedException("형태소 분석기 대기 중 인터럽트");
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("poolSize", poolSize);
+        stats.put("available", permits.availablePermits());
+        stats.put("waiting", waiting.get());
+        stats.put("maxWaiting", maxWaiting);
+        stats.put("acquireTimeoutMs", acquireTimeoutMs);
+        stats.put("analyzed", analyzed.get());
+        stats.put("shedQueueFull", shedQueueFull.get());
+        stats.put("shedTimeout", shedTimeout.get());
+        return stats;
+    }
+}
@@ -0,0 +1,66 @@
+package com.newnormallist.tooltipservice.service;
+
+import com.newnormallist.tooltipservice.entity.TermDefinition;
+import com.newnormallist.tooltipservice.entity.VocabularyTerm;
+import com.newnormallist.tooltipservice.repository.VocabularyTermRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DifficultWordDictionaryTest {
+
+    private final VocabularyTermRepository repository = mock(VocabularyTermRepository.class);
+    private final DifficultWordDictionary dictionary = new DifficultWordDictionary(repository);
+
+    @Test
+    void keepsSnapshotWhenDatabaseIsUnchanged() {
+        when(repository.findAllWithDefinitions()).thenReturn(List.of(term("예산 (豫算)", "국가의 수입과 지출 계획")));
+        DifficultWordDictionary.Snapshot loaded = dictionary.current();
+
+        when(repository.findAllWithDefinitions()).thenReturn(List.of(term("예산 (豫算)", "국가의 수입과 지출 계획")));
+
+        assertThat(dictionary.rebuildIfChanged()).isFalse();
+        assertThat(dictionary.current()).isSameAs(loaded);
+    }
+
+    @Test
+    void swapsSnapshotWhenDefinitionChanges() {
+        when(repository.findAllWithDefinitions()).thenReturn(List.of(term("예산 (豫算)", "국가의 수입과 지출 계획")));
+        DifficultWordDictionary.Snapshot loaded = dictionary.current();
+
+        when(repository.findAllWithDefinitions()).thenReturn(List.of(term("예산 (豫算)", "한 회계 연도의 세입·세출 계획")));
+
+        assertThat(dictionary.rebuildIfChanged()).isTrue();
+        assertThat(dictionary.current().version()).isNotEqualTo(loaded.version());
+        assertThat(dictionary.current().definitionsJson("예산")).contains("세입·세출");
+    }
+
+    @Test
+    void sameContentGivesSameVersionOnEveryInstance() {
+        when(repository.findAllWithDefinitions()).thenReturn(List.of(
+                term("예산 (豫算)", "국가의 수입과 지출 계획"), term("기준금리", "정책 금리")));
+        String first = dictionary.current().version();
+
+        DifficultWordDictionary other = new DifficultWordDictionary(repository);
+        when(repository.findAllWithDefinitions()).thenReturn(List.of(
+                term("기준금리", "정책 금리"), term("예산 (豫算)", "국가의 수입과 지출 계획")));
+
+        assertThat(other.current().version()).isEqualTo(first);
+    }
+
+    private static VocabularyTerm term(String text, String definition) {
+        VocabularyTerm term = new VocabularyTerm();
+        ReflectionTestUtils.setField(term, "term", text);
+        TermDefinition def = new TermDefinition();
+        ReflectionTestUtils.setField(def, "definition", definition);
+        ReflectionTestUtils.setField(def, "displayOrder", 1);
+        ReflectionTestUtils.setField(def, "vocabularyTerm", term);
+        term.getDefinitions().add(def);
+        return term;
+    }
+}
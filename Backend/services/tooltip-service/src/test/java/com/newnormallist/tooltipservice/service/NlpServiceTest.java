@@ -0,0 +1,145 @@
+package com.newnormallist.tooltipservice.service;
+
+import com.newnormallist.tooltipservice.exception.AnalysisOverloadedException;
+import com.newnormallist.tooltipservice.service.DifficultWordDictionary.Snapshot;
+import com.newnormallist.tooltipservice.util.DifficultWordMatcher;
+import com.newnormallist.tooltipservice.util.KomoranPool;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 형태소 분석 + 어려운 단어 마크업 테스트.
+ * 동시 부하(p50/p95/p99) 측정은 운영 분석기 풀을 쓰지 않도록 여기서 별도 풀로만 한다.
+ */
+class NlpServiceTest {
+
+    private static final String ARTICLE =
+            "<p>한국은행 금융통화위원회는 기준금리를 연 3.50%로 동결했다. 물가 상승률이 둔화하고 있지만 " +
+            "가계부채 증가세와 환율 변동성이 여전히 크다는 판단이다.</p><p>정부는 내년도 예산안에서 " +
+            "재정건전성 기조를 유지하되 민생 안정을 위한 지출은 늘리기로 했다. 국회 예산결산특별위원회는 " +
+            "다음 달부터 본격적인 심사에 들어간다.</p><p>시장에서는 연내 금리 인하 가능성을 점치는 " +
+            "의견과 경기 둔화 우려가 엇갈리고 있으며, 채권 금리는 소폭 하락했다.</p>";
+
+    private static KomoranPool komoranPool;
+    private static NlpService nlpService;
+    private static Snapshot dictionary;
+
+    @BeforeAll
+    static void setUp() {
+        komoranPool = new KomoranPool();
+        ReflectionTestUtils.setField(komoranPool, "poolSize", 2);
+        ReflectionTestUtils.setField(komoranPool, "maxWaiting", 64);
+        ReflectionTestUtils.setField(komoranPool, "acquireTimeoutMs", 30000L);
+        ReflectionTestUtils.invokeMethod(komoranPool, "init");
+        nlpService = new NlpService(komoranPool);
+
+        DifficultWordMatcher matcher = DifficultWordMatcher.of(List.of("기준금리", "가계부채 (household debt)", "환율 (換率)", "class"));
+        dictionary = new Snapshot("test", matcher, Map.of(
+                "기준금리", "[{\"def\":\"중앙은행이 정하는 정책 금리\",\"order\":1}]",
+                "환율", "[{\"def\":\"두 나라 화폐의 교환 비율\",\"order\":1}]"), 4, LocalDateTime.now());
+    }
+
+    @Test
+    void wrapsDifficultNounsAndKeepsTheRestOfTheText() {
+        String marked = nlpService.markupDifficultWords(ARTICLE, dictionary);
+
+        assertThat(marked).contains("data-term=\"기준금리\"");
+        assertThat(marked).contains("data-term=\"환율\"");
+        assertThat(marked).contains("data-definitions=\"[{\"def\":\"두 나라 화폐의 교환 비율\",\"order\":1}]\">환율</span>");
+        // span 태그를 빼면 원문과 같아야 함
+        assertThat(marked.replaceAll("<span class=\"tooltip-word\"[^>]*>|</span>", "")).isEqualTo(ARTICLE);
+    }
+
+    @Test
+    void doesNotMarkUpInsideTagsOrEntities() {
+        String html = "<p class=\"class\">환율&amp;금리</p>";
+
+        String marked = nlpService.markupDifficultWords(html, dictionary);
+
+        assertThat(marked).startsWith("<p class=\"class\">");
+        assertThat(marked).contains("&amp;");
+        assertThat(marked).doesNotContain("data-term=\"class\"");
+    }
+
+    @Test
+    void returnsOriginalWhenDictionaryIsEmpty() {
+        Snapshot empty = new Snapshot("empty", DifficultWordMatcher.EMPTY, Map.of(), 0, LocalDateTime.now());
+
+        assertThat(nlpService.markupDifficultWords(ARTICLE, empty)).isSameAs(ARTICLE);
+        assertThat(NlpService.maskMarkup("<b>가&lt;나</b>")).isEqualTo("   가    나    ");
+    }
+
+    /**
+     * 동시 기사 분석 처리량과 지연 시간 분포.
+     * 오래 걸리므로 -Dtooltip.load-test=true 일 때만 실행한다 (-Dtooltip.load-test.concurrency, .requests로 조정).
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "tooltip.load-test", matches = "true")
+    void measureConcurrentMarkupLatency() throws Exception {
+        int threads = Integer.getInteger("tooltip.load-test.concurrency", 8);
+        int total = Integer.getInteger("tooltip.load-test.requests", 200);
+
+        // warmup (JIT, 분석기 사전 로딩)
+        for (int i = 0; i < komoranPool.getPoolSize() * 2; i++) {
+            nlpService.markupDifficultWords(ARTICLE, dictionary);
+        }
+
+        long[] latencies = new long[total];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger shed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long startedAt = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < total; i = next.getAndIncrement()) {
+                        long start = System.nanoTime();
+                        try {
+                            nlpService.markupDifficultWords(ARTICLE, dictionary);
+                            latencies[i] = System.nanoTime() - start;
+                        } catch (AnalysisOverloadedException e) {
+                            latencies[i] = -1L;
+                            shed.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        double elapsedSec = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        long[] served = Arrays.stream(latencies).filter(latency -> latency > 0).sorted().toArray();
+        System.out.printf("동시 분석 %d스레드 × %d건: %.1f 기사/초, p50 %.1fms, p95 %.1fms, p99 %.1fms, max %.1fms, 거절 %d건, 풀 %s%n",
+                threads, total, served.length / elapsedSec,
+                percentileMs(served, 0.50), percentileMs(served, 0.95), percentileMs(served, 0.99),
+                served.length > 0 ? served[served.length - 1] / 1_000_000.0 : 0.0, shed.get(), komoranPool.getStats());
+        assertThat(served.length + shed.get()).isEqualTo(total);
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
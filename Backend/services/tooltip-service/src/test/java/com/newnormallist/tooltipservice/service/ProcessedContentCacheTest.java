@@ -0,0 +1,144 @@
+package com.newnormallist.tooltipservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 near cache → Redis(여기서는 메모리 CacheManager) → 계산 순서와 single-flight 동작을 확인한다.
+ */
+class ProcessedContentCacheTest {
+
+    private ProcessedContentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = newCache(new ConcurrentMapCacheManager("processedContent"));
+    }
+
+    @Test
+    void concurrentMissesComputeOnce() throws Exception {
+        int threads = 8;
+        String key = cache.key("<p>기준금리 동결</p>", "v1");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> cache.get(key, () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "marked";
+                })));
+            }
+            // 나머지 요청이 모두 계산 중인 요청에 합류한 뒤 계산을 끝냄
+            waitUntil(() -> coalesced() == threads - 1);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("marked");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getStats()).containsEntry("computed", 1L).containsEntry("inFlight", 0);
+    }
+
+    @Test
+    void failureReachesWaitersAndIsNotCached() throws Exception {
+        String key = cache.key("<p>환율</p>", "v1");
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> cache.get(key, () -> {
+                await(release);
+                throw new IllegalStateException("분석기 포화");
+            }));
+            waitUntil(() -> cache.getStats().get("inFlight").equals(1));
+            Future<String> waiter = executor.submit(() -> cache.get(key, () -> "unused"));
+            waitUntil(() -> coalesced() == 1);
+            release.countDown();
+
+            for (Future<String> result : List.of(first, waiter)) {
+                assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("분석기 포화");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(cache.get(key, () -> "retried")).isEqualTo("retried");
+    }
+
+    @Test
+    void keyFollowsContentAndDictionaryVersion() {
+        String key = cache.key("<p>예산</p>", "v1");
+
+        assertThat(cache.key("<p>예산</p>", "v1")).isEqualTo(key);
+        assertThat(cache.key("<p>예산</p>", "v2")).isNotEqualTo(key);
+        assertThat(cache.key("<p>예산안</p>", "v1")).isNotEqualTo(key);
+
+        cache.get(key, () -> "marked");
+        assertThat(cache.get(key, () -> "again")).isEqualTo("marked");
+        cache.clearNear();
+        assertThat(cache.get(key, () -> "again")).isEqualTo("marked");
+        assertThat(cache.getStats())
+                .containsEntry("nearHits", 1L)
+                .containsEntry("redisHits", 1L)
+                .containsEntry("computed", 1L);
+    }
+
+    @Test
+    void computesWithoutCacheWhenRedisFails() {
+        CacheManager broken = mock(CacheManager.class);
+        when(broken.getCache(anyString())).thenThrow(new IllegalStateException("redis down"));
+        ProcessedContentCache degraded = newCache(broken);
+
+        assertThat(degraded.get(degraded.key("본문", "v1"), () -> "marked")).isEqualTo("marked");
+        assertThat(degraded.getStats()).containsEntry("computed", 1L);
+    }
+
+    private static ProcessedContentCache newCache(CacheManager cacheManager) {
+        ProcessedContentCache cache = new ProcessedContentCache(cacheManager);
+        ReflectionTestUtils.setField(cache, "nearSize", 16);
+        ReflectionTestUtils.setField(cache, "nearTtlSeconds", 300L);
+        return cache;
+    }
+
+    private long coalesced() {
+        return (Long) cache.getStats().get("coalesced");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 500 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,151 @@
+package com.newnormallist.tooltipservice.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기본형 조회와 본문 스캔 매칭 테스트.
+ * 기존 선형 스캔 매칭과의 사전 크기별 속도 비교는 -Dtooltip.benchmark=true 일 때만 실행한다.
+ */
+class DifficultWordMatcherTest {
+
+    @Test
+    void matchesBaseWordOfAnnotatedTerms() {
+        DifficultWordMatcher matcher = DifficultWordMatcher.of(List.of("예산 (豫算)", "예산 (Budget)", "GDP"));
+
+        assertThat(matcher.size()).isEqualTo(2);
+        assertThat(matcher.match("예산")).isEqualTo("예산");
+        assertThat(matcher.match(" gdp ")).isEqualTo("GDP");
+        assertThat(matcher.match("예")).isNull();
+        assertThat(matcher.match("예산 (豫算)")).isNull();
+    }
+
+    @Test
+    void scansOverlappingAndMultiMorphemeWords() {
+        DifficultWordMatcher matcher = DifficultWordMatcher.of(List.of("기준금리", "금리", "리스크", "ESG  경영"));
+        List<String> found = new ArrayList<>();
+
+        matcher.forEachMatch("기준금리와 금리 리스크, esg 경영", (start, end, baseWord) -> found.add(start + ":" + end + ":" + baseWord));
+
+        assertThat(found).containsExactly("0:4:기준금리", "2:4:금리", "6:8:금리", "9:12:리스크", "14:20:ESG  경영");
+    }
+
+    @Test
+    void emptyDictionaryMatchesNothing() {
+        List<String> found = new ArrayList<>();
+        DifficultWordMatcher.EMPTY.forEachMatch("기준금리", (start, end, baseWord) -> found.add(baseWord));
+
+        assertThat(DifficultWordMatcher.EMPTY.isEmpty()).isTrue();
+        assertThat(DifficultWordMatcher.EMPTY.match("기준금리")).isNull();
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    void agreesWithLinearScan() {
+        Set<String> vocabulary = vocabulary(2000);
+        DifficultWordMatcher matcher = DifficultWordMatcher.of(vocabulary);
+
+        for (String[] tokens : corpus(vocabulary.size(), 3, 300)) {
+            for (String token : tokens) {
+                assertThat(matcher.match(token) != null).as(token).isEqualTo(linearMatches(token, vocabulary));
+            }
+        }
+    }
+
+    /**
+     * 사전 크기별 사전 생성 시간과 기사당 매칭 시간 (형태소 분석 비용 제외).
+     * -Dtooltip.benchmark.sizes=1000,10000,100000 -Dtooltip.benchmark.iterations=3 으로 조정.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "tooltip.benchmark", matches = "true")
+    void measureAgainstLinearScan() {
+        int iterations = Integer.getInteger("tooltip.benchmark.iterations", 3);
+        for (String size : System.getProperty("tooltip.benchmark.sizes", "1000,10000,100000").split(",")) {
+            Set<String> vocabulary = vocabulary(Integer.parseInt(size.trim()));
+            List<String[]> corpus = corpus(vocabulary.size(), 5, 300);
+
+            long buildStart = System.nanoTime();
+            DifficultWordMatcher matcher = DifficultWordMatcher.of(vocabulary);
+            double buildMs = (System.nanoTime() - buildStart) / 1_000_000.0;
+
+            List<String> texts = corpus.stream().map(tokens -> String.join(" ", tokens)).toList();
+            long[] hits = new long[1];
+            double scanMicros = micros(iterations, texts.size(),
+                    () -> texts.forEach(text -> matcher.forEachMatch(text, (start, end, baseWord) -> hits[0]++)));
+
+            System.out.printf("사전 %s개: 생성 %.1fms, 기사당 선형 스캔 %.1fµs, 해시 조회 %.1fµs, 본문 스캔 %.1fµs%n",
+                    size.trim(), buildMs,
+                    micros(iterations, corpus.size(), () -> pass(corpus, token -> linearMatches(token, vocabulary))),
+                    micros(iterations, corpus.size(), () -> pass(corpus, token -> matcher.match(token) != null)),
+                    scanMicros);
+        }
+    }
+
+    private static Set<String> vocabulary(int size) {
+        Set<String> vocabulary = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            vocabulary.add(i % 2 == 0 ? "용어" + i + " (漢字" + i + ")" : "용어" + i);
+        }
+        return vocabulary;
+    }
+
+    // 기사 1건 = tokensPerArticle개 명사, 10%는 사전 단어
+    private static List<String[]> corpus(int vocabularySize, int articles, int tokensPerArticle) {
+        Random random = new Random(vocabularySize);
+        List<String[]> corpus = new ArrayList<>();
+        for (int a = 0; a < articles; a++) {
+            String[] tokens = new String[tokensPerArticle];
+            Arrays.setAll(tokens, t -> random.nextInt(10) == 0
+                    ? "용어" + random.nextInt(vocabularySize) : "일반명사" + random.nextInt(5000));
+            corpus.add(tokens);
+        }
+        return corpus;
+    }
+
+    // 비교 기준: 기존 NlpService의 정확 일치 + 전체 단어 선형 스캔
+    private static boolean linearMatches(String extractedTerm, Set<String> difficultWords) {
+        if (difficultWords.contains(extractedTerm)) {
+            return true;
+        }
+        return difficultWords.stream().anyMatch(dbTerm -> {
+            if (dbTerm.contains(" (") && dbTerm.endsWith(")")) {
+                return extractedTerm.equals(dbTerm.substring(0, dbTerm.indexOf(" (")).trim());
+            }
+            return extractedTerm.equals(dbTerm);
+        });
+    }
+
+    private static long pass(List<String[]> corpus, Predicate<String> matches) {
+        long hits = 0L;
+        for (String[] tokens : corpus) {
+            for (String token : tokens) {
+                if (matches.test(token)) {
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    // warmup 3회 후 iterations회 평균, 기사당 µs
+    private static double micros(int iterations, int articles, Runnable run) {
+        for (int i = 0; i < 3; i++) {
+            run.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            run.run();
+        }
+        return (System.nanoTime() - start) / 1000.0 / ((long) Math.max(1, iterations) * articles);
+    }
+}